@@ -0,0 +1,121 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.badge.BadgeEngine;
+import com.fiap.check.health.badge.BadgeFacts;
+import com.fiap.check.health.badge.BadgeMetric;
+import com.fiap.check.health.badge.BadgeProperties;
+import com.fiap.check.health.badge.BadgeRule;
+import com.fiap.check.health.badge.BadgeTrigger;
+import com.fiap.check.health.model.GoalCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Avaliação de badges em um evento de progresso e em uma conclusão, com milhares de regras: o
+ * {@link BadgeEngine} (regras agrupadas por evento e categoria) contra a varredura de todas as regras.
+ * Use o profiler de GC para conferir que a avaliação não aloca:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="BadgeEngineBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BadgeEngineBenchmark {
+
+    @Param({"1000", "10000"})
+    private int ruleCount;
+
+    @Param({"PROGRESS", "COMPLETED"})
+    private BadgeTrigger trigger;
+
+    private BadgeEngine engine;
+    private List<BadgeRule> rules;
+    private BadgeFacts facts;
+    private Consumer<BadgeRule> sink;
+    private int awarded;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        BadgeMetric[] metrics = BadgeMetric.values();
+        GoalCategory[] categories = GoalCategory.values();
+        List<BadgeProperties.Rule> configured = new ArrayList<>(ruleCount);
+        rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            BadgeProperties.Rule rule = new BadgeProperties.Rule();
+            rule.setId("rule-" + i);
+            rule.setMetric(metrics[random.nextInt(metrics.length)]);
+            rule.setCategory(random.nextInt(10) == 0 ? null : categories[random.nextInt(categories.length)]);
+            rule.setThreshold(1 + random.nextInt(100));
+            configured.add(rule);
+            rules.add(new BadgeRule(rule.getId(), rule.getId(), rule.getMetric(), rule.getCategory(),
+                    rule.getThreshold()));
+        }
+        BadgeProperties properties = new BadgeProperties();
+        properties.setRules(configured);
+        engine = new BadgeEngine(properties);
+
+        // Usuário que já atingiu parte dos thresholds e tem alguns badges
+        Set<String> owned = new HashSet<>();
+        for (int i = 0; i < ruleCount / 20; i++) {
+            owned.add("rule-" + random.nextInt(ruleCount));
+        }
+        facts = new BadgeFacts() {
+            @Override
+            public long value(BadgeMetric metric, GoalCategory category) {
+                return switch (metric) {
+                    case COMPLETED_GOALS -> category == null ? 12 : 3;
+                    case CURRENT_STREAK -> 5;
+                    case POINTS -> 40;
+                };
+            }
+
+            @Override
+            public boolean owns(String badgeId) {
+                return owned.contains(badgeId);
+            }
+        };
+        sink = rule -> awarded++;
+    }
+
+    @Benchmark
+    public int indexed() {
+        return engine.evaluate(trigger, GoalCategory.SONO, facts, sink);
+    }
+
+    @Benchmark
+    public int fullScan() {
+        int count = 0;
+        for (BadgeRule rule : rules) {
+            if (rule.metric().triggers().contains(trigger)
+                    && (rule.category() == null || rule.category() == GoalCategory.SONO)
+                    && facts.value(rule.metric(), rule.category()) >= rule.threshold()
+                    && !facts.owns(rule.id())) {
+                sink.accept(rule);
+                count++;
+            }
+        }
+        return count;
+    }
+}
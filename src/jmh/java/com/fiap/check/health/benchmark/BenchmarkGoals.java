@@ -0,0 +1,62 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalResponseGamification;
+import com.fiap.check.health.api.model.GoalResponseProgress;
+import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.dto.Quiz;
+import com.fiap.check.health.dto.Recommendation;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Metas realistas, com artigo, quizzes e recomendações, compartilhadas pelos benchmarks de payload.
+ */
+final class BenchmarkGoals {
+
+    private BenchmarkGoals() {
+    }
+
+    static GoalResponse goalWithArticle(long id) {
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            quizzes.add(Quiz.builder()
+                    .question("Quantos minutos de caminhada por dia são recomendados para adultos? (" + i + ")")
+                    .options(List.of("10 minutos", "20 minutos", "30 minutos", "60 minutos"))
+                    .correctAnswer("30 minutos")
+                    .build());
+        }
+        List<Recommendation> recommendations = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            recommendations.add(Recommendation.builder()
+                    .category("Atividade física " + i)
+                    .description("Comece com caminhadas leves e aumente a intensidade de forma gradual ao longo das semanas.")
+                    .tips(List.of("Use calçados confortáveis", "Hidrate-se antes e depois", "Prefira horários frescos"))
+                    .build());
+        }
+
+        return GoalResponse.builder()
+                .goalId(String.valueOf(id))
+                .userId("user123")
+                .title("Caminhar 30 minutos diariamente")
+                .status("active")
+                .createdAt(OffsetDateTime.of(2026, 2, 9, 14, 30, 0, 0, ZoneOffset.UTC))
+                .progress(GoalResponseProgress.builder().completed(15).total(30).unit("days").build())
+                .gamification(GoalResponseGamification.builder().pointsEarned(50).badge("walker").userLevel(1).build())
+                .message("Progress updated! You completed 15 of 30 days and earned 50 points.")
+                .article(ArticleResponse.builder()
+                        .title("Benefícios da caminhada diária")
+                        .introduction("A caminhada é uma das atividades mais acessíveis e traz benefícios "
+                                + "cardiovasculares, metabólicos e para a saúde mental. ".repeat(4))
+                        .conclusion("Manter a regularidade é mais importante do que a intensidade. ".repeat(3))
+                        .sourceLink("https://www.who.int/news-room/fact-sheets/detail/physical-activity")
+                        .timestamp("2026-02-09T14:30:00Z")
+                        .quizzes(quizzes)
+                        .recommendations(recommendations)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.check.health.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CPU por resposta comprimida em cada nível de gzip, para uma meta ({@code GET /goals/{id}}) e uma
+ * página de 20 metas com artigo. Os bytes na rede de cada combinação são impressos no setup.
+ * Nível 6 é o padrão do Tomcat ({@code server.compression}); o cache de corpos usa 9 porque comprime uma vez.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CompressionBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"1", "6", "9"})
+    private int level;
+
+    @Param({"1", "20"})
+    private int goals;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = Config.configure(new ObjectMapper());
+        List<GoalResponse> page = new ArrayList<>(goals);
+        for (long id = 1; id <= goals; id++) {
+            page.add(BenchmarkGoals.goalWithArticle(id));
+        }
+        body = goals == 1 ? mapper.writeValueAsBytes(page.get(0)) : mapper.writeValueAsBytes(page);
+        System.out.printf("%ngzip nível %d, %d meta(s): %d -> %d bytes%n", level, goals, body.length, gzip().length);
+    }
+
+    @Benchmark
+    public byte[] gzip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
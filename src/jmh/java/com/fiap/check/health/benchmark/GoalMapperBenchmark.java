@@ -0,0 +1,73 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.model.Reward;
+import com.fiap.check.health.persistence.entity.ArticleEntity;
+import com.fiap.check.health.persistence.entity.Goal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por meta mapeada em {@code GoalMapper.toResponse}. Use o profiler de GC para ver
+ * os bytes alocados por meta ({@code gc.alloc.rate.norm}):
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="GoalMapperBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GoalMapperBenchmark {
+
+    @Param({"false", "true"})
+    private boolean withArticle;
+
+    private GoalMapper goalMapper;
+    private Goal goal;
+
+    @Setup
+    public void setUp() {
+        goalMapper = new GoalMapper(userId -> 1);
+        goal = Goal.builder()
+                .goalId(42L)
+                .userId("user123")
+                .title("Caminhar 30 minutos diariamente")
+                .status("active")
+                .createdAt(LocalDateTime.of(2026, 2, 9, 14, 30))
+                .progress(Progress.builder().completed(15).total(30).unit("days").build())
+                .reward(Reward.builder().points(50).badge("walker").build())
+                .build();
+        if (withArticle) {
+            goal.setArticleResponse(ArticleEntity.builder()
+                    .title("Caminhada")
+                    .introduction("Introdução")
+                    .conclusion("Conclusão")
+                    .sourceLink("https://example.com")
+                    .recommendationsJson("[{\"category\":\"Hidratação\",\"description\":\"Beba água\",\"tips\":[\"Leve uma garrafa\"]}]")
+                    .quizzesJson("[{\"question\":\"Quantos minutos?\",\"options\":[\"10\",\"30\"],\"correctAnswer\":\"30\"}]")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public GoalResponse toResponse() throws Exception {
+        return goalMapper.toResponse(goal);
+    }
+}
@@ -0,0 +1,92 @@
+package com.fiap.check.health.benchmark;
+
+import com.fiap.check.health.security.JwtKeys;
+import com.nimbusds.jose.jwk.JWK;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de assinatura e verificação por algoritmo, usando o mesmo encoder/decoder da aplicação
+ * (sem o {@code CachingJwtDecoder}).
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="JwtSignatureBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSignatureBenchmark {
+
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        SignatureAlgorithm signatureAlgorithm = JwtKeys.algorithm(algorithm);
+        KeyPair keyPair = keyPair(signatureAlgorithm);
+        JWK jwk = JwtKeys.toJwk(signatureAlgorithm, "bench", keyPair.getPublic(), keyPair.getPrivate());
+
+        encoder = JwtKeys.newEncoder(jwk, signatureAlgorithm);
+        decoder = JwtKeys.newDecoder(List.of(jwk.toPublicJWK()));
+
+        Instant now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .subject("user123")
+                .claim("scope", "goals")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .build());
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt sign() {
+        return encoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+
+    private static KeyPair keyPair(SignatureAlgorithm algorithm) throws Exception {
+        if (algorithm == SignatureAlgorithm.ES256) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        }
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fiap.check.health.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de escrita e leitura de uma página de metas com artigo em JSON, CBOR e Smile, usando a mesma
+ * configuração dos conversores HTTP. O tamanho do payload de cada formato é impresso no setup.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="SerializationFormatBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<GoalResponse> goals;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> Config.configure(new CBORMapper());
+            case "smile" -> Config.configure(new SmileMapper());
+            default -> Config.configure(new ObjectMapper());
+        };
+        writer = mapper.writerFor(new TypeReference<List<GoalResponse>>() {});
+        reader = mapper.readerFor(new TypeReference<List<GoalResponse>>() {});
+
+        goals = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            goals.add(BenchmarkGoals.goalWithArticle(id));
+        }
+        payload = writer.writeValueAsBytes(goals);
+        System.out.printf("%n%s: %d bytes por página de %d metas (%d bytes por meta)%n",
+                format, payload.length, PAGE_SIZE, payload.length / PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(goals);
+    }
+
+    @Benchmark
+    public List<GoalResponse> deserialize() throws Exception {
+        return reader.readValue(payload);
+    }
+}
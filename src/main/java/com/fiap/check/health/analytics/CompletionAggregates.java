@@ -0,0 +1,98 @@
+package com.fiap.check.health.analytics;
+
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Contadores de metas criadas e concluídas por mês de criação (coorte), categoria, tipo e dificuldade.
+ * <p>
+ * São poucas células por mês (categorias x tipos x dificuldades), então uma consulta percorre só os meses do
+ * intervalo e agrupa em memória. Thread-safe: os incrementos usam {@link LongAdder} e podem vir de várias
+ * threads, inclusive durante uma consulta.
+ */
+public final class CompletionAggregates {
+
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<Cell> CELL_ORDER = Comparator.comparing(Cell::month)
+            .thenComparing(Cell::category, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Cell::type, NULLS_FIRST)
+            .thenComparing(Cell::difficulty, NULLS_FIRST);
+
+    public enum Dimension {
+        CATEGORY,
+        TYPE,
+        DIFFICULTY
+    }
+
+    /**
+     * Célula dos agregados; nos resultados, as dimensões fora do agrupamento vêm nulas.
+     */
+    public record Cell(YearMonth month, GoalCategory category, String type, String difficulty) {
+
+        private Cell project(Set<Dimension> groupBy) {
+            return new Cell(month,
+                    groupBy.contains(Dimension.CATEGORY) ? category : null,
+                    groupBy.contains(Dimension.TYPE) ? type : null,
+                    groupBy.contains(Dimension.DIFFICULTY) ? difficulty : null);
+        }
+    }
+
+    public record Row(Cell cell, long goals, long completed) {
+    }
+
+    private final ConcurrentSkipListMap<YearMonth, ConcurrentMap<Cell, Counters>> months =
+            new ConcurrentSkipListMap<>();
+
+    public void add(Cell cell, long goals, long completed) {
+        Counters counters = months.computeIfAbsent(cell.month(), month -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cell, key -> new Counters());
+        if (goals != 0) {
+            counters.goals.add(goals);
+        }
+        if (completed != 0) {
+            counters.completed.add(completed);
+        }
+    }
+
+    /**
+     * Totais dos meses de {@code from} a {@code to} (inclusive) que passam pelo filtro, agrupados por mês e
+     * pelas dimensões pedidas; em ordem de mês e dimensões.
+     */
+    public List<Row> query(YearMonth from, YearMonth to, Set<Dimension> groupBy, Predicate<Cell> filter) {
+        Map<Cell, long[]> totals = new HashMap<>();
+        for (Map<Cell, Counters> cells : months.subMap(from, true, to, true).values()) {
+            cells.forEach((cell, counters) -> {
+                if (filter.test(cell)) {
+                    long[] total = totals.computeIfAbsent(cell.project(groupBy), key -> new long[2]);
+                    total[0] += counters.goals.sum();
+                    total[1] += counters.completed.sum();
+                }
+            });
+        }
+        return totals.entrySet().stream()
+                .map(entry -> new Row(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .sorted(Comparator.comparing(Row::cell, CELL_ORDER))
+                .toList();
+    }
+
+    public int cellCount() {
+        return months.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static final class Counters {
+
+        private final LongAdder goals = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+    }
+}
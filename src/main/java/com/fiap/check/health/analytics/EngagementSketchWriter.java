@@ -0,0 +1,125 @@
+package com.fiap.check.health.analytics;
+
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.repository.AnalyticsSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sketches de engajamento desta instância por dia e categoria: {@link HyperLogLog} dos usuários ativos e
+ * {@link TDigest} dos tempos até a conclusão. São atualizados em memória e gravados a cada
+ * {@code goals.analytics.sketches.flush-interval} em {@code analytics_sketches}, na linha desta instância.
+ * <p>
+ * Cada gravação regrava o sketch inteiro do dia, e por isso uma gravação que falhou é simplesmente repetida
+ * no ciclo seguinte. Só os dias ainda em aberto (hoje e ontem) ficam em memória depois de gravados.
+ */
+@Slf4j
+@Component
+public class EngagementSketchWriter {
+
+    private record Slot(SketchKind kind, LocalDate day, GoalCategory category) {
+    }
+
+    private record Pending(Slot slot, byte[] data) {
+    }
+
+    // Protege os sketches e as pendências; as atualizações são O(1) e curtas
+    private final Object lock = new Object();
+    private final Map<Slot, HyperLogLog> activeUsers = new HashMap<>();
+    private final Map<Slot, TDigest> completionTimes = new HashMap<>();
+    private final Set<Slot> dirty = new LinkedHashSet<>();
+    private final AnalyticsSketchRepository analyticsSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final ScheduledExecutorService flusher;
+
+    public EngagementSketchWriter(AnalyticsSketchRepository analyticsSketchRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  JobLock jobLock,
+                                  @Value("${goals.analytics.sketches.flush-interval:30s}") Duration flushInterval) {
+        this.analyticsSketchRepository = analyticsSketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.instanceId = jobLock.owner();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sketch-writer-"));
+        long interval = flushInterval.toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordActivity(LocalDate day, GoalCategory category, String userId) {
+        Slot slot = new Slot(SketchKind.ACTIVE_USERS, day, category);
+        synchronized (lock) {
+            activeUsers.computeIfAbsent(slot, key -> new HyperLogLog()).add(userId);
+            dirty.add(slot);
+        }
+    }
+
+    public void recordCompletion(LocalDate day, GoalCategory category, double seconds) {
+        Slot slot = new Slot(SketchKind.COMPLETION_TIME, day, category);
+        synchronized (lock) {
+            completionTimes.computeIfAbsent(slot, key -> new TDigest()).add(seconds);
+            dirty.add(slot);
+        }
+    }
+
+    /**
+     * Grava os sketches alterados desde a última gravação; chamado pela thread de gravação e no encerramento.
+     */
+    void flush() {
+        List<Pending> batch = new ArrayList<>();
+        synchronized (lock) {
+            for (Slot slot : dirty) {
+                batch.add(new Pending(slot, slot.kind() == SketchKind.ACTIVE_USERS
+                        ? activeUsers.get(slot).encode() : completionTimes.get(slot).encode()));
+            }
+            dirty.clear();
+        }
+        if (!batch.isEmpty()) {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(pending ->
+                        analyticsSketchRepository.upsert(pending.slot().kind(), pending.slot().day(),
+                                pending.slot().category(), instanceId, pending.data(), now)));
+            } catch (RuntimeException e) {
+                // Voltam a ficar pendentes; a próxima gravação leva o sketch atualizado
+                log.warn("Erro ao gravar {} sketches de engajamento; nova tentativa no próximo ciclo", batch.size(),
+                        e);
+                synchronized (lock) {
+                    batch.forEach(pending -> dirty.add(pending.slot()));
+                }
+                return;
+            }
+        }
+        evictClosedDays(LocalDate.now().minusDays(1));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    private void evictClosedDays(LocalDate oldestOpen) {
+        synchronized (lock) {
+            activeUsers.keySet().removeIf(slot -> slot.day().isBefore(oldestOpen) && !dirty.contains(slot));
+            completionTimes.keySet().removeIf(slot -> slot.day().isBefore(oldestOpen) && !dirty.contains(slot));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fiap.check.health.analytics;
+
+/**
+ * Tipo de sketch gravado em {@code analytics_sketches}.
+ */
+public enum SketchKind {
+    // HyperLogLog dos usuários com progresso ou conclusão no dia
+    ACTIVE_USERS,
+    // TDigest das durações, em segundos, entre a criação e a conclusão das metas concluídas no dia
+    COMPLETION_TIME
+}
@@ -0,0 +1,211 @@
+package com.fiap.check.health.analytics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * t-digest (variante "merging" de Dunning) para percentis aproximados, como o tempo até concluir uma meta.
+ * <p>
+ * Os valores são agrupados em centróides (média e peso) ordenados; a função de escala k1 limita o tamanho
+ * dos centróides de forma que os das caudas fiquem pequenos, e por isso p95/p99 são mais precisos que a
+ * mediana. Com {@code compression} 100 são no máximo algumas centenas de centróides, independente do
+ * número de valores. Dois digests se unem juntando os centróides e recomprimindo, o que permite somar
+ * réplicas e dias. Não é thread-safe.
+ */
+public final class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+    // Valores ainda não incorporados aos centróides
+    private double[] buffer;
+    private int buffered;
+    private long totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Compressão menor que 10: " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * Math.PI / 2) + 1;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.buffer = new double[5 * capacity];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Valor inválido: NaN");
+        }
+        if (buffered == buffer.length) {
+            compress();
+        }
+        buffer[buffered++] = value;
+        totalWeight++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Une {@code other} a este digest.
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        if (other.centroids == 0) {
+            return;
+        }
+        compress();
+        double[] mergedMeans = Arrays.copyOf(means, centroids + other.centroids);
+        long[] mergedWeights = Arrays.copyOf(weights, centroids + other.centroids);
+        System.arraycopy(other.means, 0, mergedMeans, centroids, other.centroids);
+        System.arraycopy(other.weights, 0, mergedWeights, centroids, other.centroids);
+        totalWeight += other.totalWeight;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        rebuild(mergedMeans, mergedWeights, centroids + other.centroids);
+    }
+
+    public long count() {
+        return totalWeight;
+    }
+
+    /**
+     * Valor estimado do quantil {@code q} (0 a 1); {@code NaN} sem valores.
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantil fora de 0..1: " + q);
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        // Cada centróide representa seu peso em torno da média; interpola entre as médias vizinhas
+        double index = q * totalWeight;
+        if (index < weights[0] / 2.0) {
+            return min + (means[0] - min) * index / (weights[0] / 2.0);
+        }
+        double cumulative = weights[0] / 2.0;
+        for (int i = 0; i < centroids - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (cumulative + gap > index) {
+                return means[i] + (means[i + 1] - means[i]) * (index - cumulative) / gap;
+            }
+            cumulative += gap;
+        }
+        int last = centroids - 1;
+        double tail = weights[last] / 2.0;
+        return means[last] + (max - means[last]) * Math.min(1, (index - cumulative) / tail);
+    }
+
+    public byte[] encode() {
+        compress();
+        ByteBuffer data = ByteBuffer.allocate(8 + 8 + 8 + 4 + centroids * 16)
+                .putDouble(compression)
+                .putDouble(min)
+                .putDouble(max)
+                .putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            data.putDouble(means[i]).putLong(weights[i]);
+        }
+        return data.array();
+    }
+
+    public static TDigest decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        TDigest digest = new TDigest(buffer.getDouble());
+        digest.min = buffer.getDouble();
+        digest.max = buffer.getDouble();
+        int centroids = buffer.getInt();
+        double[] means = new double[centroids];
+        long[] weights = new long[centroids];
+        for (int i = 0; i < centroids; i++) {
+            means[i] = buffer.getDouble();
+            weights[i] = buffer.getLong();
+            digest.totalWeight += weights[i];
+        }
+        digest.rebuild(means, weights, centroids);
+        return digest;
+    }
+
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        double[] mergedMeans = Arrays.copyOf(means, centroids + buffered);
+        long[] mergedWeights = Arrays.copyOf(weights, centroids + buffered);
+        System.arraycopy(buffer, 0, mergedMeans, centroids, buffered);
+        Arrays.fill(mergedWeights, centroids, centroids + buffered, 1);
+        int count = centroids + buffered;
+        buffered = 0;
+        rebuild(mergedMeans, mergedWeights, count);
+    }
+
+    /**
+     * Ordena os centróides pela média e funde vizinhos enquanto o centróide resultante couber em uma unidade
+     * da escala k1.
+     */
+    private void rebuild(double[] inputMeans, long[] inputWeights, int count) {
+        if (count == 0) {
+            centroids = 0;
+            return;
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(inputMeans[a], inputMeans[b]));
+
+        double[] outMeans = new double[Math.max(means.length, 1)];
+        long[] outWeights = new long[outMeans.length];
+        int out = 0;
+        double mean = inputMeans[order[0]];
+        long weight = inputWeights[order[0]];
+        long before = 0;
+        double limit = k(0);
+        for (int i = 1; i < count; i++) {
+            int next = order[i];
+            long proposed = weight + inputWeights[next];
+            if (k((double) (before + proposed) / totalWeight) - limit <= 1) {
+                mean += (inputMeans[next] - mean) * inputWeights[next] / proposed;
+                weight = proposed;
+            } else {
+                if (out == outMeans.length) {
+                    outMeans = Arrays.copyOf(outMeans, out * 2);
+                    outWeights = Arrays.copyOf(outWeights, out * 2);
+                }
+                outMeans[out] = mean;
+                outWeights[out++] = weight;
+                before += weight;
+                limit = k((double) before / totalWeight);
+                mean = inputMeans[next];
+                weight = inputWeights[next];
+            }
+        }
+        if (out == outMeans.length) {
+            outMeans = Arrays.copyOf(outMeans, out + 1);
+            outWeights = Arrays.copyOf(outWeights, out + 1);
+        }
+        outMeans[out] = mean;
+        outWeights[out++] = weight;
+        means = outMeans;
+        weights = outWeights;
+        centroids = out;
+    }
+
+    private double k(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+}
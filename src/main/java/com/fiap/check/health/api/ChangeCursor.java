@@ -0,0 +1,42 @@
+package com.fiap.check.health.api;
+
+import com.fiap.check.health.exception.InvalidRequestException;
+
+/**
+ * Cursor do delta sync ({@code GET /goals/changes?since=}): a última alteração entregue ao cliente,
+ * no formato {@code <change_seq>.<goal_id>}. O goal_id desempata metas alteradas na mesma transação.
+ */
+public record ChangeCursor(long changeSeq, long goalId) {
+
+    public static final String PARAM = "since";
+
+    public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+    /**
+     * Cursor nulo para parâmetro ausente (sincronização completa).
+     */
+    public static ChangeCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        int separator = cursor.indexOf('.');
+        try {
+            if (separator > 0) {
+                ChangeCursor parsed = new ChangeCursor(Long.parseLong(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+                if (parsed.changeSeq >= 0 && parsed.goalId >= 0) {
+                    return parsed;
+                }
+            }
+        } catch (NumberFormatException e) {
+            // tratado abaixo
+        }
+        throw new InvalidRequestException("Cursor inválido em " + PARAM + ": " + cursor);
+    }
+
+    @Override
+    public String toString() {
+        return changeSeq + "." + goalId;
+    }
+}
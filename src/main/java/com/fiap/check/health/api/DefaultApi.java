@@ -1,8 +1,23 @@
 package com.fiap.check.health.api;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fiap.check.health.api.model.BadgeResponse;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupRequest;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +31,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -34,16 +52,301 @@ public interface DefaultApi {
 
     @Operation(
             operationId = "goalsGet",
-            summary = "List all goals",
+            summary = "List the authenticated user's goals",
+            description = "The owner is taken from the JWT subject. Results are paginated; "
+                    + "the total number of goals is returned in the X-Total-Count header.",
             security = { @SecurityRequirement(name = "bearerAuth") },
             responses = {
                     @ApiResponse(responseCode = "200", description = "List of goals",
                             content = @Content(mediaType = "application/json",
-                                    array = @ArraySchema(schema = @Schema(implementation = GoalResponse.class))))
+                                    array = @ArraySchema(schema = @Schema(implementation = GoalResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "Unknown property in fields")
             }
     )
-    @RequestMapping(method = RequestMethod.GET, value = "/goals", produces = { "application/json" })
-    ResponseEntity<List<GoalResponse>> goalsGet() throws JsonProcessingException;
+    @RequestMapping(method = RequestMethod.GET, value = "/goals",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<List<GoalResponse>> goalsGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "status", in = ParameterIn.QUERY)
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(name = "page", in = ParameterIn.QUERY)
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(name = "size", in = ParameterIn.QUERY)
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(name = "fields", in = ParameterIn.QUERY,
+                    description = "Comma-separated response properties, e.g. goal_id,title,status,progress. "
+                            + "The article is only loaded when requested.")
+            @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+            operationId = "goalsGetByIds",
+            summary = "Fetch specific goals of the authenticated user by ID",
+            description = "Loads every requested goal with one query. Goals are returned in the requested order; "
+                    + "IDs that do not exist or belong to another user are listed in missing.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Goals found and missing IDs",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalLookupResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid or more than 100 IDs, "
+                            + "or unknown property in fields")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals", params = "ids",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<GoalLookupResponse> goalsGetByIds(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "ids", in = ParameterIn.QUERY, required = true,
+                    description = "Comma-separated goal IDs, at most 100")
+            @RequestParam(value = "ids") String ids,
+            @Parameter(name = "fields", in = ParameterIn.QUERY)
+            @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+            operationId = "goalsLookupPost",
+            summary = "Fetch specific goals of the authenticated user by ID (request body variant)",
+            description = "Same as GET /goals?ids= for ID lists that do not fit in a query string.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Goals found and missing IDs",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalLookupResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty or more than 1000 IDs, "
+                            + "or unknown property in fields")
+            }
+    )
+    @RequestMapping(method = RequestMethod.POST, value = "/goals/lookup",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<GoalLookupResponse> goalsLookupPost(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "GoalLookupRequest", required = true)
+            @Valid @RequestBody GoalLookupRequest goalLookupRequest,
+            @Parameter(name = "fields", in = ParameterIn.QUERY)
+            @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+            operationId = "goalsBulkPost",
+            summary = "Delete or archive many goals with one statement",
+            description = "Affects the goals of user_id (default: the caller), restricted to goal_ids when given. "
+                    + "Without goal_ids every goal of the user is affected and user_id must be explicit. "
+                    + "Acting on another user's goals requires the admin scope.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Number of goals affected",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BulkGoalResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Neither user_id nor goal_ids, "
+                            + "or more than 1000 IDs"),
+                    @ApiResponse(responseCode = "403", description = "Caller is not the owner nor an admin")
+            }
+    )
+    @RequestMapping(method = RequestMethod.POST, value = "/goals/bulk",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<BulkGoalResponse> goalsBulkPost(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "BulkGoalRequest", required = true)
+            @Valid @RequestBody BulkGoalRequest bulkGoalRequest
+    );
+
+    @Operation(
+            operationId = "goalsChangesGet",
+            summary = "List the authenticated user's goals changed after a sync cursor",
+            description = "Returns the goals created or changed and the IDs deleted after since, oldest change first. "
+                    + "Without since every goal is returned (full sync). Keep the returned cursor for the next call "
+                    + "and repeat right away while has_more is true.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Changes after the cursor",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalChangesResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or unknown property in fields"),
+                    @ApiResponse(responseCode = "410", description = "Cursor older than the retained deletions; "
+                            + "repeat without since (full sync)")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/changes",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<GoalChangesResponse> goalsChangesGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "since", in = ParameterIn.QUERY,
+                    description = "Cursor returned by the previous sync; omit for a full sync")
+            @RequestParam(value = "since", required = false) String since,
+            @Parameter(name = "limit", in = ParameterIn.QUERY, description = "Maximum changes per call, at most 100")
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @Parameter(name = "fields", in = ParameterIn.QUERY)
+            @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+            operationId = "goalsStreamGet",
+            summary = "Stream changes on the authenticated user's goals (Server-Sent Events)",
+            description = "Emits progress, completed and article events, each with the goal as JSON. The sync "
+                    + "cursor is sent as the id of the heartbeat once it is settled. On reconnection with "
+                    + "Last-Event-ID the missed changes are sent first as a single changes event (same body as "
+                    + "GET /goals/changes); continue with that endpoint while has_more is true. When Last-Event-ID "
+                    + "is older than the retained deletions, a resync event clears the id instead and the client "
+                    + "must run a full sync. Comment lines are sent as heartbeat.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream",
+                            content = @Content(mediaType = "text/event-stream")),
+                    @ApiResponse(responseCode = "400", description = "Invalid Last-Event-ID")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/stream", produces = { "text/event-stream" })
+    SseEmitter goalsStreamGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "Last-Event-ID", in = ParameterIn.HEADER,
+                    description = "Id of the last event received, sent by the client on reconnection")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    );
+
+    @Operation(
+            operationId = "goalsSummaryGet",
+            summary = "List compact summaries of the authenticated user's goals",
+            description = "Served from a per-user cache kept up to date on every write; newest goals first.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Goal summaries",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = GoalSummaryResponse.class))))
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/summary",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<List<GoalSummaryResponse>> goalsSummaryGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt
+    );
+
+    @Operation(
+            operationId = "leaderboardGet",
+            summary = "Rank users by the points of their completed goals",
+            description = "Returns the top users and the caller's own position, overall or for one goal category, "
+                    + "all time or in the current week (starting on Monday). Served from in-memory rankings updated "
+                    + "as goals are completed.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Leaderboard",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = LeaderboardResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown period or category")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/leaderboard",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<LeaderboardResponse> leaderboardGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "period", in = ParameterIn.QUERY, description = "ALL_TIME or WEEK")
+            @RequestParam(value = "period", defaultValue = "ALL_TIME") String period,
+            @Parameter(name = "category", in = ParameterIn.QUERY,
+                    description = "Goal category; omit for the overall leaderboard")
+            @RequestParam(value = "category", required = false) String category,
+            @Parameter(name = "limit", in = ParameterIn.QUERY, description = "Number of top users, at most 100")
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    );
+
+    @Operation(
+            operationId = "badgesGet",
+            summary = "List the badges earned by the caller",
+            description = "Badges are awarded by the rules configured in goals.badges.rules when goals progress, "
+                    + "are completed or receive check-ins. Awards are written in batches and may take up to "
+                    + "goals.badges.flush-interval to show up.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Badges, most recent first",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = BadgeResponse.class))))
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/badges",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<List<BadgeResponse>> badgesGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt
+    );
+
+    @Operation(
+            operationId = "analyticsCompletionGet",
+            summary = "Completion rates per goal creation month (admin only)",
+            description = "Goals created and completed per month, grouped by category, type and/or difficulty. "
+                    + "Served from in-memory aggregates updated as goals are created and completed and fully "
+                    + "recomputed from the goals table on goals.analytics.recompute.cron. Without from, returns "
+                    + "the last 12 months up to to (default the current month).",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Completion rates",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = CompletionAnalyticsResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown dimension or category, invalid "
+                            + "months or more than 120 months"),
+                    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/analytics/completion",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<CompletionAnalyticsResponse> analyticsCompletionGet(
+            @Parameter(name = "group_by", in = ParameterIn.QUERY,
+                    description = "Comma-separated dimensions: CATEGORY, TYPE, DIFFICULTY; empty for month totals")
+            @RequestParam(value = "group_by", defaultValue = "CATEGORY") String groupBy,
+            @Parameter(name = "from", in = ParameterIn.QUERY, description = "First month as yyyy-MM")
+            @RequestParam(value = "from", required = false) String from,
+            @Parameter(name = "to", in = ParameterIn.QUERY, description = "Last month as yyyy-MM")
+            @RequestParam(value = "to", required = false) String to,
+            @Parameter(name = "category", in = ParameterIn.QUERY, description = "Only goals of this category")
+            @RequestParam(value = "category", required = false) String category,
+            @Parameter(name = "type", in = ParameterIn.QUERY, description = "Only goals of this type, e.g. weekly")
+            @RequestParam(value = "type", required = false) String type,
+            @Parameter(name = "difficulty", in = ParameterIn.QUERY,
+                    description = "Only goals of this difficulty, e.g. hard")
+            @RequestParam(value = "difficulty", required = false) String difficulty
+    );
+
+    @Operation(
+            operationId = "analyticsEngagementGet",
+            summary = "Approximate daily active users and time to complete goals (admin only)",
+            description = "Estimated from HyperLogLog sketches of the users with progress per day and category "
+                    + "and t-digest sketches of the time from creation to completion, written by every replica "
+                    + "every goals.analytics.sketches.flush-interval and merged on read. Without from, returns "
+                    + "the last 30 days up to to (default today).",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Engagement estimates",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = EngagementAnalyticsResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown category, invalid dates or more than "
+                            + "366 days"),
+                    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/analytics/engagement",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<EngagementAnalyticsResponse> analyticsEngagementGet(
+            @Parameter(name = "from", in = ParameterIn.QUERY, description = "First day as yyyy-MM-dd")
+            @RequestParam(value = "from", required = false) String from,
+            @Parameter(name = "to", in = ParameterIn.QUERY, description = "Last day as yyyy-MM-dd")
+            @RequestParam(value = "to", required = false) String to,
+            @Parameter(name = "category", in = ParameterIn.QUERY, description = "Only goals of this category")
+            @RequestParam(value = "category", required = false) String category
+    );
+
+    @Operation(
+            operationId = "goalsAllGet",
+            summary = "List the goals of every user (admin only)",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "List of goals",
+                            content = @Content(mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = GoalResponse.class)))),
+                    @ApiResponse(responseCode = "403", description = "Caller is not an admin")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/all",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<List<GoalResponse>> goalsAllGet() throws JsonProcessingException;
 
     @Operation(
             operationId = "goalsPost",
@@ -56,7 +359,8 @@ public interface DefaultApi {
             }
     )
     @RequestMapping(method = RequestMethod.POST, value = "/goals",
-            produces = { "application/json" }, consumes = { "application/json" })
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
     ResponseEntity<GoalResponse> goalsPost(
             @Parameter(name = "GoalRequest", required = true)
             @Valid @RequestBody GoalRequest goalRequest
@@ -70,13 +374,18 @@ public interface DefaultApi {
                     @ApiResponse(responseCode = "200", description = "Goal details",
                             content = @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = GoalResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown property in fields"),
                     @ApiResponse(responseCode = "404", description = "Goal not found")
             }
     )
-    @RequestMapping(method = RequestMethod.GET, value = "/goals/{goal_id}", produces = { "application/json" })
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/{goal_id}",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
     ResponseEntity<GoalResponse> goalsGoalIdGet(
             @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
-            @PathVariable("goal_id") String goalId
+            @PathVariable("goal_id") String goalId,
+            @Parameter(name = "fields", in = ParameterIn.QUERY,
+                    description = "Comma-separated response properties; the article is only loaded when requested.")
+            @RequestParam(value = "fields", required = false) String fields
     );
 
     @Operation(
@@ -91,7 +400,8 @@ public interface DefaultApi {
             }
     )
     @RequestMapping(method = RequestMethod.PUT, value = "/goals/{goal_id}",
-            produces = { "application/json" }, consumes = { "application/json" })
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
     ResponseEntity<GoalResponse> goalsGoalIdPut(
             @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
             @PathVariable("goal_id") String goalId,
@@ -99,6 +409,31 @@ public interface DefaultApi {
             @Valid @RequestBody GoalRequest goalRequest
     );
 
+    @Operation(
+            operationId = "goalsGoalIdPatch",
+            summary = "Partially update a goal with a JSON Merge Patch",
+            description = "Only the properties present in the body are changed; null removes an optional property "
+                    + "and nested objects (frequency, reward) are merged. The result must be a valid goal.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Goal updated successfully",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Patch is not an object or leaves the goal invalid"),
+                    @ApiResponse(responseCode = "404", description = "Goal not found")
+            }
+    )
+    @RequestMapping(method = RequestMethod.PATCH, value = "/goals/{goal_id}",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = JsonMergePatch.MEDIA_TYPE)
+    ResponseEntity<GoalResponse> goalsGoalIdPatch(
+            @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
+            @PathVariable("goal_id") String goalId,
+            @Parameter(name = "mergePatch", required = true,
+                    schema = @Schema(implementation = GoalRequest.class))
+            @RequestBody JsonNode mergePatch
+    );
+
     @Operation(
             operationId = "goalsGoalIdDelete",
             summary = "Delete a goal",
@@ -127,11 +462,108 @@ public interface DefaultApi {
             }
     )
     @RequestMapping(method = RequestMethod.PATCH, value = "/goals/{goal_id}/progress",
-            produces = { "application/json" }, consumes = { "application/json" })
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
     ResponseEntity<GoalResponse> goalsGoalIdProgressPatch(
             @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
             @PathVariable("goal_id") String goalId,
             @Parameter(name = "ProgressRequest", required = true)
             @Valid @RequestBody ProgressRequest progressRequest
     );
-}
\ No newline at end of file
+
+    @Operation(
+            operationId = "goalsGoalIdCheckInsDatePut",
+            summary = "Record the check-in of a daily goal on a day",
+            description = "Idempotent: checking in again on the same day changes nothing. The day must be within the "
+                    + "goal period and not in the future. Returns the current and longest streaks.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Check-in recorded",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalStreakResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Not a daily goal, invalid date or date "
+                            + "outside the goal period"),
+                    @ApiResponse(responseCode = "404", description = "Goal not found")
+            }
+    )
+    @RequestMapping(method = RequestMethod.PUT, value = "/goals/{goal_id}/check-ins/{date}",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<GoalStreakResponse> goalsGoalIdCheckInsDatePut(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
+            @PathVariable("goal_id") String goalId,
+            @Parameter(name = "date", required = true, in = ParameterIn.PATH, description = "Day as yyyy-MM-dd")
+            @PathVariable("date") String date
+    );
+
+    @Operation(
+            operationId = "goalsGoalIdCheckInsGet",
+            summary = "Get the check-in streaks of a daily goal",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Current and longest streaks",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = GoalStreakResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Goal not found")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/{goal_id}/check-ins",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<GoalStreakResponse> goalsGoalIdCheckInsGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
+            @PathVariable("goal_id") String goalId
+    );
+
+    @Operation(
+            operationId = "goalsGoalIdProgressHistoryGet",
+            summary = "Get the progress history of a goal per day or per week",
+            description = "Read from daily and weekly rollups maintained on every progress update. Without from, "
+                    + "returns the last 30 days or the last 12 weeks up to to (default today).",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Progress per bucket",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = ProgressHistoryResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unknown period, invalid dates or more than "
+                            + "366 buckets"),
+                    @ApiResponse(responseCode = "404", description = "Goal not found")
+            }
+    )
+    @RequestMapping(method = RequestMethod.GET, value = "/goals/{goal_id}/progress/history",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<ProgressHistoryResponse> goalsGoalIdProgressHistoryGet(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "goal_id", required = true, in = ParameterIn.PATH)
+            @PathVariable("goal_id") String goalId,
+            @Parameter(name = "period", in = ParameterIn.QUERY, description = "DAY or WEEK")
+            @RequestParam(value = "period", defaultValue = "DAY") String period,
+            @Parameter(name = "from", in = ParameterIn.QUERY, description = "First day as yyyy-MM-dd")
+            @RequestParam(value = "from", required = false) String from,
+            @Parameter(name = "to", in = ParameterIn.QUERY, description = "Last day as yyyy-MM-dd")
+            @RequestParam(value = "to", required = false) String to
+    );
+
+    @Operation(
+            operationId = "goalsProgressBatchPatch",
+            summary = "Update the progress of many goals at once",
+            description = "Applies every increment in one transaction with batched updates. Items are "
+                    + "independent: unknown goals, goals of other users and incomplete items are reported "
+                    + "per item without failing the others.",
+            security = { @SecurityRequirement(name = "bearerAuth") },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Per-item results, in request order",
+                            content = @Content(mediaType = "application/json",
+                                    schema = @Schema(implementation = BatchProgressResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Empty batch or more than 500 items")
+            }
+    )
+    @RequestMapping(method = RequestMethod.PATCH, value = "/goals/progress:batch",
+            produces = { "application/json", "application/cbor", "application/x-jackson-smile" },
+            consumes = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    ResponseEntity<BatchProgressResponse> goalsProgressBatchPatch(
+            @Parameter(hidden = true) @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "BatchProgressRequest", required = true)
+            @Valid @RequestBody BatchProgressRequest batchProgressRequest
+    );
+}
@@ -0,0 +1,64 @@
+package com.fiap.check.health.api;
+
+import com.fiap.check.health.exception.InvalidRequestException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset das leituras de metas ({@code ?fields=goal_id,title,status,progress}).
+ * Define as propriedades que o Jackson escreve e se o artigo precisa ser carregado do banco.
+ */
+public final class GoalFields {
+
+    public static final String PARAM = "fields";
+    public static final String FILTER_ID = "goalFields";
+    public static final String ARTICLE = "article";
+
+    public static final List<String> NAMES = List.of(
+            "goal_id", "user_id", "title", "status", "created_at", "progress", "gamification", "message", ARTICLE);
+
+    public static final GoalFields ALL = new GoalFields(Set.copyOf(NAMES));
+
+    private final Set<String> names;
+
+    private GoalFields(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Parâmetro ausente ou vazio equivale a todos os campos; nomes desconhecidos geram 400.
+     */
+    public static GoalFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!NAMES.contains(trimmed)) {
+                throw new InvalidRequestException("Campo desconhecido em fields: " + trimmed
+                        + ". Valores aceitos: " + String.join(",", NAMES));
+            }
+            names.add(trimmed);
+        }
+        return names.isEmpty() ? ALL : new GoalFields(Set.copyOf(names));
+    }
+
+    public boolean includesArticle() {
+        return names.contains(ARTICLE);
+    }
+
+    public boolean includesAll() {
+        return names.size() == NAMES.size();
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+}
@@ -0,0 +1,33 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Badge earned by the user")
+public class BadgeResponse {
+
+    @Schema(description = "Badge rule id", example = "streak-7")
+    @JsonProperty("badge_id")
+    private String badgeId;
+
+    @Schema(example = "7 dias seguidos")
+    @JsonProperty("name")
+    private String name;
+
+    @Schema(description = "Goal whose event awarded the badge", example = "1")
+    @JsonProperty("goal_id")
+    private Long goalId;
+
+    @JsonProperty("awarded_at")
+    private LocalDateTime awardedAt;
+}
@@ -0,0 +1,27 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress increments for many goals, applied in one transaction")
+public class BatchProgressRequest {
+
+    public static final int MAX_ITEMS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_ITEMS)
+    @JsonProperty("items")
+    private List<BatchProgressRequestItem> items;
+}
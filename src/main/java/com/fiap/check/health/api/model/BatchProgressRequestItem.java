@@ -0,0 +1,25 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Os itens não são validados em bloco: um item inválido é rejeitado sozinho no resultado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress increment for one goal")
+public class BatchProgressRequestItem {
+
+    @JsonProperty("goal_id")
+    private Long goalId;
+
+    @JsonProperty("increment")
+    private Integer increment;
+}
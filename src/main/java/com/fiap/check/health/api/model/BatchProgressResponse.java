@@ -0,0 +1,27 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Per-item results of a batch progress update, in request order")
+public class BatchProgressResponse {
+
+    @JsonProperty("updated")
+    private Integer updated;
+
+    @JsonProperty("failed")
+    private Integer failed;
+
+    @JsonProperty("results")
+    private List<BatchProgressResponseItem> results;
+}
@@ -0,0 +1,39 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of one item of a batch progress update")
+public class BatchProgressResponseItem {
+
+    @JsonProperty("goal_id")
+    private Long goalId;
+
+    @JsonProperty("result")
+    private Result result;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("progress")
+    private GoalResponseProgress progress;
+
+    @JsonProperty("error")
+    private String error;
+
+    public enum Result {
+        UPDATED,
+        NOT_FOUND,
+        INVALID
+    }
+}
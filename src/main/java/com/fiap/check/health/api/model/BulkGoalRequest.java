@@ -0,0 +1,41 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Set-based delete or archive of the goals of one user, optionally restricted to some IDs")
+public class BulkGoalRequest {
+
+    public static final int MAX_GOAL_IDS = 1000;
+
+    @NotNull
+    @JsonProperty("action")
+    private ActionEnum action;
+
+    @Schema(description = "Owner of the goals; defaults to the caller. Other users require the admin scope.")
+    @JsonProperty("user_id")
+    private String userId;
+
+    @Size(max = MAX_GOAL_IDS)
+    @Schema(description = "Restricts the operation to these goals; when absent, user_id is required and "
+            + "every goal of that user is affected")
+    @JsonProperty("goal_ids")
+    private List<Long> goalIds;
+
+    public enum ActionEnum {
+        DELETE,
+        ARCHIVE
+    }
+}
@@ -0,0 +1,23 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk delete or archive")
+public class BulkGoalResponse {
+
+    @JsonProperty("action")
+    private BulkGoalRequest.ActionEnum action;
+
+    @Schema(description = "Number of goals deleted or archived")
+    @JsonProperty("affected")
+    private Integer affected;
+}
@@ -0,0 +1,39 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.model.GoalCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Active users and time to complete goals of one category, or of all when category is absent")
+public class CategoryEngagement {
+
+    @JsonProperty("category")
+    private GoalCategory category;
+
+    @Schema(description = "Distinct users with progress in the range", example = "1200")
+    @JsonProperty("active_users")
+    private Long activeUsers;
+
+    @Schema(description = "Goals completed in the range", example = "340")
+    @JsonProperty("completions")
+    private Long completions;
+
+    @Schema(description = "Median time from creation to completion, in hours (t-digest); absent without completions",
+            example = "52.5")
+    @JsonProperty("completion_hours_p50")
+    private Double completionHoursP50;
+
+    @Schema(description = "95th percentile of the time from creation to completion, in hours", example = "310.2")
+    @JsonProperty("completion_hours_p95")
+    private Double completionHoursP95;
+}
@@ -0,0 +1,40 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.analytics.CompletionAggregates;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Goal completion rates per creation month, grouped by category, type and/or difficulty")
+public class CompletionAnalyticsResponse {
+
+    @Schema(description = "First creation month (yyyy-MM)", example = "2025-11")
+    @JsonProperty("from")
+    private YearMonth from;
+
+    @Schema(description = "Last creation month (yyyy-MM)", example = "2026-10")
+    @JsonProperty("to")
+    private YearMonth to;
+
+    @JsonProperty("group_by")
+    private List<CompletionAggregates.Dimension> groupBy;
+
+    @Schema(description = "When the aggregates were last fully recomputed from the goals table")
+    @JsonProperty("recomputed_at")
+    private LocalDateTime recomputedAt;
+
+    @Schema(description = "One row per month and group with goals, oldest month first; empty groups are omitted")
+    @JsonProperty("rows")
+    private List<CompletionAnalyticsRow> rows;
+}
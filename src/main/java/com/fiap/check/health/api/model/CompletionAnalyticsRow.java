@@ -0,0 +1,48 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.model.GoalCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Goals created in one month and group; dimensions outside group_by are omitted")
+public class CompletionAnalyticsRow {
+
+    @Schema(description = "Creation month (yyyy-MM)", example = "2026-02")
+    @JsonProperty("month")
+    private YearMonth month;
+
+    @JsonProperty("category")
+    private GoalCategory category;
+
+    @Schema(example = "weekly")
+    @JsonProperty("type")
+    private String type;
+
+    @Schema(example = "medium")
+    @JsonProperty("difficulty")
+    private String difficulty;
+
+    @Schema(description = "Goals created in the month", example = "120")
+    @JsonProperty("goals")
+    private Long goals;
+
+    @Schema(description = "Goals created in the month that are completed", example = "45")
+    @JsonProperty("completed")
+    private Long completed;
+
+    @Schema(description = "completed / goals", example = "0.375")
+    @JsonProperty("completion_rate")
+    private Double completionRate;
+}
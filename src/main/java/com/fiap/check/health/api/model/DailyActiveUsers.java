@@ -0,0 +1,26 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Approximate distinct users with progress in one day")
+public class DailyActiveUsers {
+
+    @Schema(example = "2026-02-16")
+    @JsonProperty("day")
+    private LocalDate day;
+
+    @Schema(example = "812")
+    @JsonProperty("active_users")
+    private Long activeUsers;
+}
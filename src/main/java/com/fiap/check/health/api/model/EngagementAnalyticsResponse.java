@@ -0,0 +1,42 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.model.GoalCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Approximate active users and time to complete goals, estimated from sketches")
+public class EngagementAnalyticsResponse {
+
+    @JsonProperty("from")
+    private LocalDate from;
+
+    @JsonProperty("to")
+    private LocalDate to;
+
+    @Schema(description = "Category filter; absent for all categories")
+    @JsonProperty("category")
+    private GoalCategory category;
+
+    @Schema(description = "Distinct users with progress per day, oldest first (HyperLogLog, about 1.6% error)")
+    @JsonProperty("daily_active_users")
+    private List<DailyActiveUsers> dailyActiveUsers;
+
+    @Schema(description = "Totals of the range; active users are counted once across days and categories")
+    @JsonProperty("total")
+    private CategoryEngagement total;
+
+    @Schema(description = "Active users and completion times per category, in category order")
+    @JsonProperty("categories")
+    private List<CategoryEngagement> categories;
+}
@@ -0,0 +1,34 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Goals created, changed or deleted after a sync cursor")
+public class GoalChangesResponse {
+
+    @Schema(description = "Current state of the goals created or changed after the cursor")
+    @JsonProperty("goals")
+    private List<GoalResponse> goals;
+
+    @Schema(description = "IDs of the goals deleted after the cursor")
+    @JsonProperty("deleted")
+    private List<Long> deleted;
+
+    @Schema(description = "Cursor to send as since on the next sync", example = "1042.77")
+    @JsonProperty("cursor")
+    private String cursor;
+
+    @Schema(description = "True when more changes are available right away with the returned cursor")
+    @JsonProperty("has_more")
+    private Boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Goals found, in the requested order, and the IDs that were not found")
+public class GoalLookupResponse {
+
+    @JsonProperty("goals")
+    private List<GoalResponse> goals;
+
+    @JsonProperty("missing")
+    private List<Long> missing;
+}
@@ -64,6 +64,10 @@ public class GoalRequest {
     @JsonProperty("notifications")
     private Boolean notifications;
 
+    // Ao fim do período (end_date), a meta do período seguinte é criada automaticamente
+    @JsonProperty("recurring")
+    private Boolean recurring;
+
     public enum CategoryEnum {
         SAUDE_FISICA("SAUDE_FISICA"),
         SAUDE_MENTAL("SAUDE_MENTAL"), 
@@ -118,7 +122,9 @@ public class GoalRequest {
     public enum StatusEnum {
         active("active"),
         completed("completed"),
-        archived("archived");
+        archived("archived"),
+        // Atribuído pelo GoalExpirationJob quando o endDate passa sem a meta ser concluída
+        expired("expired");
 
         private final String value;
 
@@ -1,6 +1,8 @@
 package com.fiap.check.health.api.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.api.GoalFields;
 import com.fiap.check.health.dto.ArticleResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -16,6 +18,7 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Goal response with full information")
+@JsonFilter(GoalFields.FILTER_ID)
 public class GoalResponse {
     
     @JsonProperty("goal_id")
@@ -0,0 +1,41 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Daily check-in history of a goal")
+public class GoalStreakResponse {
+
+    @JsonProperty("goal_id")
+    private Long goalId;
+
+    @Schema(description = "Consecutive days with a check-in ending today, or yesterday while today is still open",
+            example = "5")
+    @JsonProperty("current_streak")
+    private Integer currentStreak;
+
+    @Schema(example = "12")
+    @JsonProperty("longest_streak")
+    private Integer longestStreak;
+
+    @Schema(description = "Number of days with a check-in", example = "20")
+    @JsonProperty("check_ins")
+    private Integer checkIns;
+
+    @Schema(description = "Past days of the goal without a check-in", example = "3")
+    @JsonProperty("missed_days")
+    private Integer missedDays;
+
+    @JsonProperty("last_check_in")
+    private LocalDate lastCheckIn;
+}
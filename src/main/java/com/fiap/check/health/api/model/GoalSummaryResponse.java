@@ -0,0 +1,34 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Compact goal information for list screens")
+public class GoalSummaryResponse {
+
+    @JsonProperty("goal_id")
+    private String goalId;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("progress")
+    private GoalResponseProgress progress;
+
+    @JsonProperty("points")
+    private Integer points;
+
+    @JsonProperty("badge")
+    private String badge;
+}
@@ -0,0 +1,27 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Position of a user in a leaderboard")
+public class LeaderboardEntry {
+
+    @Schema(description = "Position starting at 1; ties are ordered by user_id", example = "1")
+    @JsonProperty("rank")
+    private Integer rank;
+
+    @JsonProperty("user_id")
+    private String userId;
+
+    @Schema(description = "Points earned in the period", example = "350")
+    @JsonProperty("points")
+    private Long points;
+}
@@ -0,0 +1,42 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.model.GoalCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Top users by points earned and the caller's own position")
+public class LeaderboardResponse {
+
+    @JsonProperty("period")
+    private PeriodEnum period;
+
+    @Schema(description = "Category of the ranked goals; absent for the overall leaderboard")
+    @JsonProperty("category")
+    private GoalCategory category;
+
+    @Schema(description = "Number of users with points in the leaderboard")
+    @JsonProperty("total_users")
+    private Integer totalUsers;
+
+    @JsonProperty("entries")
+    private List<LeaderboardEntry> entries;
+
+    @Schema(description = "The caller's position; absent when the caller has no points in the leaderboard")
+    @JsonProperty("me")
+    private LeaderboardEntry me;
+
+    public enum PeriodEnum {
+        ALL_TIME,
+        WEEK
+    }
+}
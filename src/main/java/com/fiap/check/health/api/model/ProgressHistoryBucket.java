@@ -0,0 +1,34 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress recorded for a goal in one day or week")
+public class ProgressHistoryBucket {
+
+    @Schema(description = "First day of the bucket; weeks start on Monday", example = "2026-02-16")
+    @JsonProperty("bucket_start")
+    private LocalDate bucketStart;
+
+    @Schema(description = "Sum of the progress increments in the bucket", example = "3")
+    @JsonProperty("increment")
+    private Long increment;
+
+    @Schema(description = "Number of progress updates in the bucket", example = "2")
+    @JsonProperty("entries")
+    private Integer entries;
+
+    @Schema(description = "Completed progress at the end of the bucket", example = "12")
+    @JsonProperty("completed")
+    private Integer completed;
+}
@@ -0,0 +1,36 @@
+package com.fiap.check.health.api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fiap.check.health.model.ProgressPeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress history of a goal, per day or per week")
+public class ProgressHistoryResponse {
+
+    @JsonProperty("goal_id")
+    private Long goalId;
+
+    @JsonProperty("period")
+    private ProgressPeriod period;
+
+    @JsonProperty("from")
+    private LocalDate from;
+
+    @JsonProperty("to")
+    private LocalDate to;
+
+    @Schema(description = "Buckets with progress, oldest first; buckets without updates are omitted")
+    @JsonProperty("buckets")
+    private List<ProgressHistoryBucket> buckets;
+}
@@ -0,0 +1,144 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.persistence.entity.UserBadge;
+import com.fiap.check.health.persistence.repository.UserBadgeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acumula as concessões de badges e as grava em lote: a cada {@code goals.badges.flush-interval} ou assim
+ * que {@code goals.badges.batch-size} concessões estiverem pendentes, em uma transação própria e fora da
+ * requisição que as disparou.
+ * <p>
+ * Uma concessão fica pendente até ser gravada, para que eventos seguintes do mesmo usuário não a repitam.
+ * As gravações saem de uma única thread; se o lote falhar porque outra instância gravou o mesmo badge entre
+ * a consulta e o insert, as linhas são regravadas uma a uma com {@code on conflict do nothing}.
+ * <p>
+ * Com as gravações falhando, as pendências ficam limitadas a {@code goals.badges.max-pending}: acima disso a
+ * concessão é descartada e contada em {@code badges.awards.dropped}. Um badge descartado não fica perdido,
+ * já que o usuário não o possui e a regra volta a concedê-lo no próximo evento que a avalie.
+ */
+@Slf4j
+@Component
+public class BadgeAwardWriter {
+
+    private final Map<UserBadge.Key, UserBadge> pending = new LinkedHashMap<>();
+    private final UserBadgeRepository userBadgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxPending;
+    private final Counter dropped;
+    private final ScheduledExecutorService flusher;
+
+    public BadgeAwardWriter(UserBadgeRepository userBadgeRepository,
+                            TransactionTemplate transactionTemplate,
+                            BadgeProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.userBadgeRepository = userBadgeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = properties.getBatchSize();
+        this.maxPending = properties.getMaxPending();
+        this.dropped = Counter.builder("badges.awards.dropped")
+                .description("Concessões de badges descartadas com a fila de gravação cheia")
+                .register(meterRegistry);
+        Gauge.builder("badges.awards.pending", this, BadgeAwardWriter::pendingCount)
+                .description("Concessões de badges aguardando gravação")
+                .register(meterRegistry);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("badge-writer-"));
+        long interval = properties.getFlushInterval().toMillis();
+        this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Enfileira a concessão; {@code false} quando o mesmo badge já está pendente para o usuário ou quando a
+     * fila está no limite e a concessão foi descartada.
+     */
+    public boolean add(UserBadge badge) {
+        boolean full;
+        synchronized (pending) {
+            if (pending.size() >= maxPending) {
+                dropped.increment();
+                log.debug("Fila de badges cheia ({}); concessão {} do usuário {} descartada", maxPending,
+                        badge.getBadgeId(), badge.getUserId());
+                return false;
+            }
+            if (pending.putIfAbsent(new UserBadge.Key(badge.getUserId(), badge.getBadgeId()), badge) != null) {
+                return false;
+            }
+            full = pending.size() >= batchSize;
+        }
+        if (full) {
+            flusher.execute(this::flush);
+        }
+        return true;
+    }
+
+    public boolean isPending(String userId, String badgeId) {
+        synchronized (pending) {
+            return pending.containsKey(new UserBadge.Key(userId, badgeId));
+        }
+    }
+
+    int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Grava as concessões pendentes; chamado pela thread de gravação e no encerramento.
+     */
+    void flush() {
+        List<UserBadge> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+        }
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            // Continuam pendentes e são regravadas no próximo ciclo
+            log.warn("Erro ao gravar {} badges; nova tentativa no próximo ciclo", batch.size(), e);
+            return;
+        }
+        synchronized (pending) {
+            batch.forEach(badge -> pending.remove(new UserBadge.Key(badge.getUserId(), badge.getBadgeId())));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    private void write(List<UserBadge> batch) {
+        Integer inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> userBadgeRepository.insertAllIfAbsent(batch));
+        } catch (DataIntegrityViolationException e) {
+            inserted = transactionTemplate.execute(status -> batch.stream()
+                    .mapToInt(badge -> userBadgeRepository.insertIfAbsent(badge.getUserId(), badge.getBadgeId(),
+                            badge.getGoalId(), badge.getAwardedAt()))
+                    .sum());
+        }
+        log.debug("{} de {} badges gravados", inserted, batch.size());
+    }
+}
@@ -0,0 +1,87 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Avalia as regras de badges configuradas em {@code goals.badges.rules}.
+ * <p>
+ * Cada evento percorre só o grupo de regras do seu tipo e da categoria da meta ({@link BadgeRuleIndex}),
+ * não o conjunto inteiro. A avaliação não aloca: o grupo é um array pronto, cada valor vem do
+ * {@link BadgeFacts} (que o carrega uma vez) e as regras atingidas são entregues ao {@code sink}.
+ */
+@Component
+@EnableConfigurationProperties(BadgeProperties.class)
+public class BadgeEngine {
+
+    private final BadgeRuleIndex index;
+    private final Map<String, BadgeRule> rulesById = new HashMap<>();
+
+    public BadgeEngine(BadgeProperties properties) {
+        List<BadgeRule> rules = rules(properties.getRules());
+        rules.forEach(rule -> rulesById.put(rule.id(), rule));
+        this.index = new BadgeRuleIndex(rules);
+    }
+
+    /**
+     * Entrega ao {@code sink} as regras atingidas cujo badge o usuário ainda não tem e retorna quantas foram.
+     */
+    public int evaluate(BadgeTrigger trigger, GoalCategory category, BadgeFacts facts, Consumer<BadgeRule> sink) {
+        BadgeRuleIndex.Slice slice = index.slice(trigger, category);
+        BadgeRule[] rules = slice.rules();
+        int[] segmentEnd = slice.segmentEnd();
+
+        int awarded = 0;
+        int i = 0;
+        while (i < rules.length) {
+            BadgeRule rule = rules[i];
+            if (facts.value(rule.metric(), rule.category()) < rule.threshold()) {
+                // Thresholds crescentes: nenhuma regra restante do segmento é atingida
+                i = segmentEnd[i];
+                continue;
+            }
+            if (!facts.owns(rule.id())) {
+                sink.accept(rule);
+                awarded++;
+            }
+            i++;
+        }
+        return awarded;
+    }
+
+    public int ruleCount() {
+        return index.size();
+    }
+
+    /**
+     * Regra do badge, ou {@code null} se ela saiu da configuração depois da concessão.
+     */
+    public BadgeRule rule(String badgeId) {
+        return rulesById.get(badgeId);
+    }
+
+    private static List<BadgeRule> rules(List<BadgeProperties.Rule> configured) {
+        List<BadgeRule> rules = new ArrayList<>(configured.size());
+        Set<String> ids = new HashSet<>();
+        for (BadgeProperties.Rule rule : configured) {
+            if (rule.getId() == null || rule.getId().isBlank() || rule.getMetric() == null) {
+                throw new IllegalStateException("Regra de badge sem id ou metric: " + rule);
+            }
+            if (!ids.add(rule.getId())) {
+                throw new IllegalStateException("Regra de badge duplicada: " + rule.getId());
+            }
+            rules.add(new BadgeRule(rule.getId(), rule.getName() != null ? rule.getName() : rule.getId(),
+                    rule.getMetric(), rule.getCategory(), rule.getThreshold()));
+        }
+        return rules;
+    }
+}
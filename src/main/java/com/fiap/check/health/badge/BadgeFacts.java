@@ -0,0 +1,17 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+
+/**
+ * Dados do usuário consultados pelo {@link BadgeEngine}. As implementações carregam cada valor só quando
+ * uma regra pede e o reaproveitam nas regras seguintes.
+ */
+public interface BadgeFacts {
+
+    /**
+     * Valor da métrica; {@code category} nula é o valor em todas as categorias.
+     */
+    long value(BadgeMetric metric, GoalCategory category);
+
+    boolean owns(String badgeId);
+}
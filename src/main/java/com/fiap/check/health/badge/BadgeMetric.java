@@ -0,0 +1,29 @@
+package com.fiap.check.health.badge;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Valor comparado com o {@code threshold} de uma regra, com os eventos que podem alterá-lo: uma regra só
+ * é avaliada nesses eventos.
+ */
+public enum BadgeMetric {
+
+    // Metas concluídas pelo usuário, na categoria da regra ou em todas
+    COMPLETED_GOALS(EnumSet.of(BadgeTrigger.COMPLETED)),
+    // Dias seguidos com check-in na meta do evento; progresso em meta diária, inclusive o que a conclui,
+    // também faz check-in
+    CURRENT_STREAK(EnumSet.of(BadgeTrigger.CHECK_IN, BadgeTrigger.PROGRESS, BadgeTrigger.COMPLETED)),
+    // Total de pontos do usuário, que só muda quando uma meta é concluída
+    POINTS(EnumSet.of(BadgeTrigger.COMPLETED));
+
+    private final Set<BadgeTrigger> triggers;
+
+    BadgeMetric(Set<BadgeTrigger> triggers) {
+        this.triggers = triggers;
+    }
+
+    public Set<BadgeTrigger> triggers() {
+        return triggers;
+    }
+}
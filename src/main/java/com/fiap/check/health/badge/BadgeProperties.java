@@ -0,0 +1,49 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regras de badges ({@code goals.badges.rules}) e o lote de gravação das concessões.
+ */
+@Data
+@ConfigurationProperties(prefix = "goals.badges")
+public class BadgeProperties {
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Concessões acumuladas antes de uma gravação imediata.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Intervalo máximo entre gravações das concessões pendentes.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Limite de concessões pendentes; acima dele (ex.: banco fora do ar) as novas são descartadas e contadas
+     * em {@code badges.awards.dropped}.
+     */
+    private int maxPending = 10_000;
+
+    @Data
+    public static class Rule {
+
+        private String id;
+
+        private String name;
+
+        private BadgeMetric metric;
+
+        private GoalCategory category;
+
+        private long threshold = 1;
+    }
+}
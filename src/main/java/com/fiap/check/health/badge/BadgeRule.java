@@ -0,0 +1,10 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+
+/**
+ * Regra de concessão: o badge {@code id} é concedido quando {@code metric} atinge {@code threshold}.
+ * Sem {@code category} a regra vale para metas de qualquer categoria.
+ */
+public record BadgeRule(String id, String name, BadgeMetric metric, GoalCategory category, long threshold) {
+}
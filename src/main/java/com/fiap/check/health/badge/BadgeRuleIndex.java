@@ -0,0 +1,83 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Regras pré-agrupadas por evento e categoria da meta: cada grupo tem as regras da categoria mais as
+ * regras sem categoria cuja métrica o evento altera, montado uma vez na inicialização.
+ * <p>
+ * Dentro do grupo as regras ficam ordenadas por (métrica, categoria, threshold). Regras consecutivas com a
+ * mesma métrica e categoria formam um segmento que compara o mesmo valor; {@code segmentEnd} aponta o fim
+ * do segmento, então o primeiro threshold não atingido descarta o resto dele sem olhar regra por regra.
+ */
+final class BadgeRuleIndex {
+
+    private static final Comparator<BadgeRule> ORDER = Comparator
+            .comparing(BadgeRule::metric)
+            .thenComparing(BadgeRule::category, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(BadgeRule::threshold);
+
+    static final Slice EMPTY = new Slice(new BadgeRule[0], new int[0]);
+
+    // [evento][0 = meta sem categoria, 1 + ordinal da categoria]
+    private final Slice[][] slices;
+    private final int size;
+
+    BadgeRuleIndex(List<BadgeRule> rules) {
+        BadgeTrigger[] triggers = BadgeTrigger.values();
+        GoalCategory[] categories = GoalCategory.values();
+        this.slices = new Slice[triggers.length][categories.length + 1];
+        this.size = rules.size();
+
+        for (BadgeTrigger trigger : triggers) {
+            slices[trigger.ordinal()][0] = slice(rules, trigger, null);
+            for (GoalCategory category : categories) {
+                slices[trigger.ordinal()][category.ordinal() + 1] = slice(rules, trigger, category);
+            }
+        }
+    }
+
+    Slice slice(BadgeTrigger trigger, GoalCategory category) {
+        return slices[trigger.ordinal()][category != null ? category.ordinal() + 1 : 0];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static Slice slice(List<BadgeRule> rules, BadgeTrigger trigger, GoalCategory category) {
+        List<BadgeRule> matching = new ArrayList<>();
+        for (BadgeRule rule : rules) {
+            if (rule.metric().triggers().contains(trigger)
+                    && (rule.category() == null || rule.category() == category)) {
+                matching.add(rule);
+            }
+        }
+        if (matching.isEmpty()) {
+            return EMPTY;
+        }
+        matching.sort(ORDER);
+
+        BadgeRule[] sorted = matching.toArray(BadgeRule[]::new);
+        int[] segmentEnd = new int[sorted.length];
+        int end = sorted.length;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            if (i < sorted.length - 1 && !sameSegment(sorted[i], sorted[i + 1])) {
+                end = i + 1;
+            }
+            segmentEnd[i] = end;
+        }
+        return new Slice(sorted, segmentEnd);
+    }
+
+    private static boolean sameSegment(BadgeRule a, BadgeRule b) {
+        return a.metric() == b.metric() && a.category() == b.category();
+    }
+
+    record Slice(BadgeRule[] rules, int[] segmentEnd) {
+    }
+}
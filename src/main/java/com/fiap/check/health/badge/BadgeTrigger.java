@@ -0,0 +1,10 @@
+package com.fiap.check.health.badge;
+
+/**
+ * Eventos de meta que disparam a avaliação de badges.
+ */
+public enum BadgeTrigger {
+    PROGRESS,
+    COMPLETED,
+    CHECK_IN
+}
@@ -0,0 +1,59 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.api.model.GoalResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Camada de single-flight para as leituras de metas mais disputadas
+ * (ex.: milhares de clientes abrindo a mesma meta após uma notificação push).
+ * <p>
+ * As leituras por id levam a geração do {@link GoalResponseBodyCache} em que o leader começou a carregar:
+ * uma thread agrupada recebe esse resultado, talvez anterior a uma escrita que ela já viu, e o corpo só pode
+ * ser guardado como carregado naquela geração.
+ */
+@Component
+public class GoalReadCoalescer {
+
+    private final SingleFlight<GoalKey, LoadedGoal> byId;
+    private final SingleFlight<UserGoalsKey, Page<GoalResponse>> byUser;
+    private final GoalResponseBodyCache bodyCache;
+
+    public GoalReadCoalescer(MeterRegistry meterRegistry, GoalResponseBodyCache bodyCache) {
+        this.bodyCache = bodyCache;
+        this.byId = new SingleFlight<>("goal-by-id", meterRegistry);
+        this.byUser = new SingleFlight<>("goals-by-user", meterRegistry);
+    }
+
+    public Optional<GoalResponse> findById(GoalKey key, Supplier<Optional<GoalResponse>> loader) {
+        LoadedGoal loaded = byId.execute(key, () -> {
+            long loadedAt = bodyCache.generation();
+            return new LoadedGoal(loader.get(), loadedAt);
+        });
+        bodyCache.markRead(loaded.loadedAt(), loaded.goal().map(GoalResponse::getUserId).orElse(null));
+        return loaded.goal();
+    }
+
+    public Page<GoalResponse> listByUser(UserGoalsKey key, Supplier<Page<GoalResponse>> loader) {
+        return byUser.execute(key, loader);
+    }
+
+    private record LoadedGoal(Optional<GoalResponse> goal, long loadedAt) {
+    }
+
+    /**
+     * Leituras com e sem artigo carregam colunas diferentes e não são agrupadas entre si.
+     */
+    public record GoalKey(Long goalId, boolean withArticle) {
+    }
+
+    /**
+     * Identifica uma página da listagem de um usuário; só consultas idênticas são agrupadas.
+     */
+    public record UserGoalsKey(String userId, String status, int page, int size, boolean withArticle) {
+    }
+}
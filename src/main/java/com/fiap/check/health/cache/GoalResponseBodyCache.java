@@ -0,0 +1,163 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo JSON já serializado de {@code GET /goals/{id}}, guardado junto com a variante gzip.
+ * A compressão é feita uma única vez, no nível máximo, e reaproveitada em todos os hits.
+ * Corpos abaixo de {@code server.compression.min-response-size} não ganham variante gzip.
+ * O corpo inclui o {@code gamification.user_level} do dono, então os pontos lançados ao usuário
+ * também descartam as suas metas.
+ */
+@Component
+public class GoalResponseBodyCache {
+
+    static final String CACHE_NAME = "goal.bodies";
+
+    private final Cache<Long, CachedBody> cache;
+    private final int minCompressSize;
+    private final int gzipLevel;
+    // Incrementado a cada invalidação; um carregamento só é gravado se nada mudou enquanto ele rodava
+    private final AtomicLong generation = new AtomicLong();
+    // Última leitura por id desta thread (ver GoalReadCoalescer)
+    private final ThreadLocal<Read> lastRead = new ThreadLocal<>();
+
+    public GoalResponseBodyCache(MeterRegistry meterRegistry,
+                                 @Value("${goals.body-cache.maximum-size:64MB}") DataSize maximumSize,
+                                 @Value("${goals.body-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                                 @Value("${goals.body-cache.gzip-level:9}") int gzipLevel,
+                                 @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((Long goalId, CachedBody body) -> body.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.minCompressSize = (int) minCompressSize.toBytes();
+        this.gzipLevel = gzipLevel;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedBody get(Long goalId) {
+        return cache.getIfPresent(goalId);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Registra a geração em que começou o carregamento que atendeu a leitura da thread atual e o dono da meta
+     * lida ({@code null} se não encontrada). Numa leitura agrupada, a geração é a do leader, que pode ter lido
+     * o banco antes de uma escrita que a thread já viu.
+     */
+    public void markRead(long loadedAt, String userId) {
+        lastRead.set(new Read(loadedAt, userId));
+    }
+
+    /**
+     * Leitura registrada por {@link #markRead} desde a última chamada, ou {@code null} se nenhuma leitura foi
+     * registrada; limpa o registro.
+     */
+    public Read takeRead() {
+        Read read = lastRead.get();
+        lastRead.remove();
+        return read;
+    }
+
+    /**
+     * Grava o corpo carregado em {@code loadedAt}; descartado se houve escrita de metas desde então.
+     * Sem o dono ({@code userId} nulo), o corpo é descartado no próximo lançamento de pontos de qualquer usuário.
+     */
+    public CachedBody put(Long goalId, String userId, byte[] body, long loadedAt) {
+        CachedBody cached = new CachedBody(body, body.length >= minCompressSize ? gzip(body, gzipLevel) : null,
+                userId);
+        if (generation.get() == loadedAt) {
+            cache.put(goalId, cached);
+            if (generation.get() != loadedAt) {
+                cache.invalidate(goalId);
+            }
+        }
+        return cached;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidate(event.goalId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsBulkChanged(GoalsBulkChangedEvent event) {
+        generation.incrementAndGet();
+        // O cache não é indexado por usuário; sem a lista de ids (exclusão de conta, rara) descarta tudo
+        if (event.goalIds() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.goalIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsExpired(GoalsExpiredEvent event) {
+        generation.incrementAndGet();
+        event.goalIdsByUser().values().forEach(cache::invalidateAll);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPointsAwarded(PointsAwardedEvent event) {
+        generation.incrementAndGet();
+        // O cache não é indexado por usuário: percorre as entradas, o que só acontece na conclusão de uma meta
+        cache.asMap().values().removeIf(body -> body.userId() == null
+                || Objects.equals(body.userId(), event.userId()));
+    }
+
+    static byte[] gzip(byte[] body, int level) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Geração do carregamento e dono da meta lida por id.
+     */
+    public record Read(long loadedAt, String userId) {
+    }
+
+    /**
+     * {@code gzip} é nulo quando o corpo é pequeno demais para compensar a compressão.
+     */
+    public record CachedBody(byte[] identity, byte[] gzip, String userId) {
+
+        int size() {
+            return identity.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fiap.check.health.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa chamadas concorrentes para a mesma chave em uma única execução.
+ * A primeira thread (leader) executa o carregamento; as demais (shared) aguardam
+ * e recebem o mesmo resultado. Nada é guardado após a conclusão: isto não é um cache.
+ */
+public class SingleFlight<K, V> {
+
+    static final String METRIC_NAME = "check.health.read.coalescing";
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter sharedCalls;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.leaderCalls = Counter.builder(METRIC_NAME)
+                .description("Leituras que executaram a consulta ao banco")
+                .tag("operation", operation)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.sharedCalls = Counter.builder(METRIC_NAME)
+                .description("Leituras atendidas por uma consulta já em andamento")
+                .tag("operation", operation)
+                .tag("role", "shared")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".inflight", inFlight, Map::size)
+                .description("Chaves com carregamento em andamento")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // Propaga para as threads em espera a mesma exceção lançada pelo leader
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
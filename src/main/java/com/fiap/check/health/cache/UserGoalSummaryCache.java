@@ -0,0 +1,146 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.api.model.GoalSummaryResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Near-cache das listas resumidas de metas por usuário (tela inicial do app).
+ * <p>
+ * As escritas do serviço chegam como {@link GoalChangedEvent} após o commit e alteram apenas a
+ * entrada afetada da lista (write-through), sem descartar a lista inteira. As listas são imutáveis:
+ * cada alteração gera uma cópia trocada atomicamente via {@code asMap().computeIfPresent}, que também
+ * aguarda um carregamento em andamento para a mesma chave.
+ * <p>
+ * O peso de cada entrada é o tamanho da lista, então o limite de memória vale em número de resumos
+ * e não em número de usuários. O TTL limita a defasagem quando outra instância altera as metas.
+ */
+@Slf4j
+@Component
+public class UserGoalSummaryCache {
+
+    static final String CACHE_NAME = "goal.summaries";
+
+    private final Cache<String, List<GoalSummaryResponse>> cache;
+    // Índice reverso goalId -> userId, usado quando a remoção não informa o dono; só tem metas de listas em
+    // cache, para que o tamanho acompanhe o limite do cache
+    private final Map<Long, String> ownerByGoalId = new ConcurrentHashMap<>();
+    private final GoalMapper goalMapper;
+
+    public UserGoalSummaryCache(GoalMapper goalMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${goals.summary-cache.maximum-weight:200000}") long maximumWeight,
+                                @Value("${goals.summary-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.goalMapper = goalMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String userId, List<GoalSummaryResponse> summaries) -> 1 + summaries.size())
+                .expireAfterWrite(expireAfterWrite)
+                .removalListener((String userId, List<GoalSummaryResponse> summaries, RemovalCause cause) -> {
+                    if (summaries != null && cause.wasEvicted()) {
+                        summaries.forEach(summary -> ownerByGoalId.remove(Long.valueOf(summary.getGoalId()), userId));
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public List<GoalSummaryResponse> get(String userId, Function<String, List<GoalSummaryResponse>> loader) {
+        return cache.get(userId, key -> {
+            List<GoalSummaryResponse> summaries = List.copyOf(loader.apply(key));
+            summaries.forEach(summary -> ownerByGoalId.put(Long.valueOf(summary.getGoalId()), key));
+            return summaries;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        switch (event.type()) {
+            case DELETED -> remove(event.goalId(), event.userId());
+            default -> upsert(event.userId(), goalMapper.toSummaryResponse(event.goal()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsBulkChanged(GoalsBulkChangedEvent event) {
+        // Alterações em massa não trazem as metas: o resumo do usuário é recarregado na próxima leitura
+        List<GoalSummaryResponse> summaries = cache.asMap().remove(event.userId());
+        if (summaries != null) {
+            summaries.forEach(summary -> ownerByGoalId.remove(Long.valueOf(summary.getGoalId()), event.userId()));
+        }
+        if (event.goalIds() != null) {
+            event.goalIds().forEach(ownerByGoalId::remove);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsExpired(GoalsExpiredEvent event) {
+        event.goalIdsByUser().forEach((userId, goalIds) ->
+                onGoalsBulkChanged(new GoalsBulkChangedEvent(userId, goalIds)));
+    }
+
+    void upsert(String userId, GoalSummaryResponse summary) {
+        if (userId == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(userId, (key, summaries) -> {
+            ownerByGoalId.put(Long.valueOf(summary.getGoalId()), key);
+            List<GoalSummaryResponse> patched = new ArrayList<>(summaries.size() + 1);
+            boolean replaced = false;
+            for (GoalSummaryResponse current : summaries) {
+                if (current.getGoalId().equals(summary.getGoalId())) {
+                    patched.add(summary);
+                    replaced = true;
+                } else {
+                    patched.add(current);
+                }
+            }
+            if (!replaced) {
+                // Metas novas têm o maior id e a lista é ordenada do mais recente para o mais antigo
+                patched.add(0, summary);
+            }
+            return List.copyOf(patched);
+        });
+    }
+
+    void remove(Long goalId, String userId) {
+        String owner = userId != null ? userId : ownerByGoalId.get(goalId);
+        ownerByGoalId.remove(goalId);
+        if (owner == null) {
+            return;
+        }
+        String id = goalId.toString();
+        cache.asMap().computeIfPresent(owner, (key, summaries) -> summaries.stream()
+                .filter(summary -> !Objects.equals(summary.getGoalId(), id))
+                .toList());
+    }
+
+    int indexedGoals() {
+        return ownerByGoalId.size();
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
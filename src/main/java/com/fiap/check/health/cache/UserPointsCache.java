@@ -0,0 +1,78 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.mapper.UserLevelResolver;
+import com.fiap.check.health.persistence.repository.UserPointsRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Total de pontos por usuário em memória, para que o nível de cada resposta seja uma leitura O(1).
+ * <p>
+ * O valor é carregado da tabela {@code user_points} e descartado a cada {@link PointsAwardedEvent}
+ * após o commit, então a leitura seguinte recarrega o total já gravado. O TTL limita a defasagem
+ * quando outra instância lança os pontos.
+ */
+@Component
+public class UserPointsCache implements UserLevelResolver {
+
+    static final String CACHE_NAME = "user.points";
+
+    private final Cache<String, Long> cache;
+    private final UserPointsRepository userPointsRepository;
+    private final long pointsPerLevel;
+
+    public UserPointsCache(UserPointsRepository userPointsRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${goals.points.cache.maximum-size:100000}") long maximumSize,
+                           @Value("${goals.points.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                           @Value("${goals.points.points-per-level:100}") long pointsPerLevel) {
+        this.userPointsRepository = userPointsRepository;
+        this.pointsPerLevel = pointsPerLevel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long points(String userId) {
+        return cache.get(userId, this::load);
+    }
+
+    @Override
+    public int levelOf(String userId) {
+        return userId != null ? level(points(userId), pointsPerLevel) : 1;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPointsAwarded(PointsAwardedEvent event) {
+        // Somar os pontos à entrada contaria o lançamento duas vezes quando ela foi carregada depois do commit e
+        // antes deste listener; descartá-la aguarda um carregamento em andamento e força a releitura do total
+        cache.invalidate(event.userId());
+    }
+
+    /**
+     * Descarta os totais reescritos pela reconciliação; a próxima leitura recarrega do banco.
+     */
+    public void invalidate(Collection<String> userIds) {
+        cache.invalidateAll(userIds);
+    }
+
+    static int level(long points, long pointsPerLevel) {
+        return (int) Math.min(Integer.MAX_VALUE, 1 + Math.max(points, 0) / pointsPerLevel);
+    }
+
+    private Long load(String userId) {
+        return userPointsRepository.findPointsByUserId(userId).orElse(0L);
+    }
+}
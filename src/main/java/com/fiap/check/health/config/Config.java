@@ -2,18 +2,47 @@ package com.fiap.check.health.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fiap.check.health.api.GoalFields;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @Configuration
 public class Config {
     
     @Bean
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configure(new ObjectMapper());
+    }
+
+    // Formatos binários para chamadas entre serviços (Accept/Content-Type application/cbor ou
+    // application/x-jackson-smile); JSON continua sendo o padrão. Os mappers não são beans para não
+    // competir com o ObjectMapper JSON na injeção por tipo.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(configure(new CBORMapper()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(configure(new SmileMapper()));
+    }
+
+    /**
+     * Configuração comum a todos os formatos, para que JSON, CBOR e Smile escrevam os mesmos DTOs.
+     */
+    public static <T extends ObjectMapper> T configure(T mapper) {
         mapper.registerModule(new JavaTimeModule());
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // Sem ?fields= o GoalResponse é escrito por completo; o filtro por requisição vem do GoalFieldsResponseBodyAdvice
+        mapper.setFilterProvider(new SimpleFilterProvider()
+                .addFilter(GoalFields.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
         return mapper;
     }
 }
@@ -2,15 +2,17 @@ package com.fiap.check.health.config;
 
 import com.fiap.check.health.exception.JwtAccessDeniedHandler;
 import com.fiap.check.health.exception.JwtAuthenticationEntryPoint;
+import com.fiap.check.health.security.CachingJwtDecoder;
+import com.fiap.check.health.security.JwtKeyProperties;
+import com.fiap.check.health.security.JwtKeys;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -18,71 +20,99 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(JwtKeyProperties.class)
 public class SecurityConfig {
 
     @Value("${jwt.public.key}")
-    private RSAPublicKey key;
+    private Resource key;
 
     @Value("${jwt.private.key}")
-    private RSAPrivateKey priv;
+    private Resource priv;
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
+    @Value("${jwt.cache.expiry-skew:30s}")
+    private Duration jwtCacheExpirySkew;
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final JwtKeyProperties jwtKeyProperties;
 
     public SecurityConfig(JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-                          JwtAccessDeniedHandler jwtAccessDeniedHandler) {
+                          JwtAccessDeniedHandler jwtAccessDeniedHandler,
+                          JwtKeyProperties jwtKeyProperties) {
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
+        this.jwtKeyProperties = jwtKeyProperties;
     }
 
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource,
+                                    JwtDecoder jwtDecoder) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        // Todos os endpoints de metas exigem autenticação
-                        .requestMatchers("/goals/**").authenticated()
+                        // O dispatch assíncrono só encerra respostas já autorizadas (ex.: fim do stream SSE)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
-                        // Qualquer outro endpoint também exige autenticação
+                        // Endpoints de metas, ranking, badges e análises exigem autenticação: todos leem o
+                        // usuário do token
+                        .requestMatchers("/goals/**", "/leaderboard", "/badges", "/analytics/**").authenticated()
+
+                        // Demais endpoints (raiz, actuator, documentação) são públicos
                         .anyRequest().permitAll()
                 )
                 .exceptionHandling(exceptions -> exceptions
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .oauth2ResourceServer(conf -> conf.jwt(jwt -> jwt.decoder(jwtDecoder())));
+                .oauth2ResourceServer(conf -> conf.jwt(jwt -> jwt.decoder(jwtDecoder)));
 
         return http.build();
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(this.key).build();
+    JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        // Chave ativa + chaves de rollover, selecionadas pelo kid do token
+        List<JWK> verificationKeys = new ArrayList<>();
+        SignatureAlgorithm algorithm = JwtKeys.algorithm(jwtKeyProperties.getAlgorithm());
+        verificationKeys.add(JwtKeys.toJwk(algorithm, jwtKeyProperties.getKeyId(),
+                JwtKeys.readPublicKey(this.key, algorithm), null));
+        for (JwtKeyProperties.RolloverKey rolloverKey : jwtKeyProperties.getRollover()) {
+            SignatureAlgorithm rolloverAlgorithm = JwtKeys.algorithm(rolloverKey.getAlgorithm());
+            verificationKeys.add(JwtKeys.toJwk(rolloverAlgorithm, rolloverKey.getKeyId(),
+                    JwtKeys.readPublicKey(rolloverKey.getPublicKey(), rolloverAlgorithm), null));
+        }
+
+        // Tokens reutilizados pelos clientes não passam novamente pela verificação de assinatura
+        JwtDecoder nimbusDecoder = JwtKeys.newDecoder(verificationKeys);
+        return new CachingJwtDecoder(nimbusDecoder, jwtCacheMaximumSize, jwtCacheExpirySkew, meterRegistry);
     }
 
     @Bean
     JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.key).privateKey(this.priv).build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        SignatureAlgorithm algorithm = JwtKeys.algorithm(jwtKeyProperties.getAlgorithm());
+        JWK jwk = JwtKeys.toJwk(algorithm, jwtKeyProperties.getKeyId(),
+                JwtKeys.readPublicKey(this.key, algorithm), JwtKeys.readPrivateKey(this.priv, algorithm));
+        return JwtKeys.newEncoder(jwk, algorithm);
     }
 
     @Bean
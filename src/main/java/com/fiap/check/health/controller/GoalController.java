@@ -1,25 +1,84 @@
 package com.fiap.check.health.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fiap.check.health.analytics.CompletionAggregates;
 import com.fiap.check.health.api.DefaultApi;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.BadgeResponse;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupRequest;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.service.BadgeService;
+import com.fiap.check.health.service.CompletionAnalyticsService;
+import com.fiap.check.health.service.EngagementAnalyticsService;
 import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.LeaderboardService;
+import com.fiap.check.health.service.ProgressHistoryService;
+import com.fiap.check.health.stream.GoalEventStream;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @RestController
 public class GoalController implements DefaultApi {
 
+    static final int MAX_PAGE_SIZE = 100;
+    // Limite de GET /goals?ids=; POST /goals/lookup aceita até GoalLookupRequest.MAX_IDS
+    static final int MAX_QUERY_IDS = 100;
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final GoalService goalService;
+    private final GoalEventStream goalEventStream;
+    private final LeaderboardService leaderboardService;
+    private final BadgeService badgeService;
+    private final ProgressHistoryService progressHistoryService;
+    private final CompletionAnalyticsService completionAnalyticsService;
+    private final EngagementAnalyticsService engagementAnalyticsService;
 
-    public GoalController(GoalService goalService) {
+    public GoalController(GoalService goalService, GoalEventStream goalEventStream,
+                          LeaderboardService leaderboardService, BadgeService badgeService,
+                          ProgressHistoryService progressHistoryService,
+                          CompletionAnalyticsService completionAnalyticsService,
+                          EngagementAnalyticsService engagementAnalyticsService) {
         this.goalService = goalService;
+        this.goalEventStream = goalEventStream;
+        this.leaderboardService = leaderboardService;
+        this.badgeService = badgeService;
+        this.progressHistoryService = progressHistoryService;
+        this.completionAnalyticsService = completionAnalyticsService;
+        this.engagementAnalyticsService = engagementAnalyticsService;
     }
 
     @Override
@@ -29,14 +88,114 @@ public class GoalController implements DefaultApi {
     }
 
     @Override
-    public ResponseEntity<List<GoalResponse>> goalsGet() throws JsonProcessingException {
+    public ResponseEntity<List<GoalResponse>> goalsGet(Jwt jwt, String status, int page, int size, String fields) {
+        // O dono das metas é sempre o subject do token; o cliente não escolhe o userId
+        Page<GoalResponse> goals = goalService.listGoalsByUser(jwt.getSubject(), status,
+                Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE), GoalFields.parse(fields));
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(goals.getTotalElements()))
+                .body(goals.getContent());
+    }
+
+    @Override
+    public ResponseEntity<GoalLookupResponse> goalsGetByIds(Jwt jwt, String ids, String fields) {
+        return ResponseEntity.ok(goalService.findByIds(jwt.getSubject(), parseIds(ids), GoalFields.parse(fields)));
+    }
+
+    @Override
+    public ResponseEntity<GoalLookupResponse> goalsLookupPost(Jwt jwt, @Valid GoalLookupRequest goalLookupRequest,
+                                                              String fields) {
+        return ResponseEntity.ok(goalService.findByIds(jwt.getSubject(), goalLookupRequest.getIds(),
+                GoalFields.parse(fields)));
+    }
+
+    @Override
+    public ResponseEntity<GoalChangesResponse> goalsChangesGet(Jwt jwt, String since, int limit, String fields) {
+        return ResponseEntity.ok(goalService.listChanges(jwt.getSubject(), ChangeCursor.parse(since),
+                Math.min(Math.max(limit, 1), MAX_PAGE_SIZE), GoalFields.parse(fields)));
+    }
+
+    @Override
+    public SseEmitter goalsStreamGet(Jwt jwt, String lastEventId) {
+        // O Last-Event-ID é o cursor do delta sync enviado como id de cada evento
+        return goalEventStream.subscribe(jwt.getSubject(), ChangeCursor.parse(lastEventId));
+    }
+
+    @Override
+    public ResponseEntity<List<GoalSummaryResponse>> goalsSummaryGet(Jwt jwt) {
+        return ResponseEntity.ok(goalService.listGoalSummaries(jwt.getSubject()));
+    }
+
+    @Override
+    public ResponseEntity<GoalStreakResponse> goalsGoalIdCheckInsDatePut(Jwt jwt, String goalId, String date) {
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Data inválida, use yyyy-MM-dd: " + date);
+        }
+        return ResponseEntity.ok(goalService.checkIn(jwt.getSubject(), Long.parseLong(goalId), day));
+    }
+
+    @Override
+    public ResponseEntity<GoalStreakResponse> goalsGoalIdCheckInsGet(Jwt jwt, String goalId) {
+        return ResponseEntity.ok(goalService.getStreak(jwt.getSubject(), Long.parseLong(goalId)));
+    }
+
+    @Override
+    public ResponseEntity<ProgressHistoryResponse> goalsGoalIdProgressHistoryGet(Jwt jwt, String goalId, String period,
+                                                                                  String from, String to) {
+        return ResponseEntity.ok(progressHistoryService.getHistory(jwt.getSubject(), Long.parseLong(goalId),
+                parseEnum(ProgressPeriod.class, "period", period), parseDate("from", from), parseDate("to", to)));
+    }
+
+    @Override
+    public ResponseEntity<LeaderboardResponse> leaderboardGet(Jwt jwt, String period, String category, int limit) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(jwt.getSubject(),
+                parseEnum(LeaderboardResponse.PeriodEnum.class, "period", period),
+                category != null ? parseEnum(GoalCategory.class, "category", category) : null,
+                Math.min(Math.max(limit, 1), MAX_PAGE_SIZE)));
+    }
+
+    @Override
+    public ResponseEntity<List<BadgeResponse>> badgesGet(Jwt jwt) {
+        return ResponseEntity.ok(badgeService.listBadges(jwt.getSubject()));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<CompletionAnalyticsResponse> analyticsCompletionGet(String groupBy, String from, String to,
+                                                                              String category, String type,
+                                                                              String difficulty) {
+        Set<CompletionAggregates.Dimension> dimensions = EnumSet.noneOf(CompletionAggregates.Dimension.class);
+        for (String dimension : groupBy.split(",")) {
+            if (!dimension.isBlank()) {
+                dimensions.add(parseEnum(CompletionAggregates.Dimension.class, "group_by", dimension));
+            }
+        }
+        return ResponseEntity.ok(completionAnalyticsService.getCompletion(dimensions,
+                parseMonth("from", from), parseMonth("to", to),
+                category != null ? parseEnum(GoalCategory.class, "category", category) : null, type, difficulty));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<EngagementAnalyticsResponse> analyticsEngagementGet(String from, String to,
+                                                                              String category) {
+        return ResponseEntity.ok(engagementAnalyticsService.getEngagement(parseDate("from", from),
+                parseDate("to", to), category != null ? parseEnum(GoalCategory.class, "category", category) : null));
+    }
+
+    @Override
+    @PreAuthorize("hasAuthority('SCOPE_admin')")
+    public ResponseEntity<List<GoalResponse>> goalsAllGet() throws JsonProcessingException {
         List<GoalResponse> responses = goalService.listGoals();
         return ResponseEntity.ok(responses);
     }
 
     @Override
-    public ResponseEntity<GoalResponse> goalsGoalIdGet(String goalId) {
-        return goalService.findById(Long.parseLong(goalId))
+    public ResponseEntity<GoalResponse> goalsGoalIdGet(String goalId, String fields) {
+        return goalService.findById(Long.parseLong(goalId), GoalFields.parse(fields))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -47,6 +206,23 @@ public class GoalController implements DefaultApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @PreAuthorize("#bulkGoalRequest.userId == null or #bulkGoalRequest.userId == authentication.name "
+            + "or hasAuthority('SCOPE_admin')")
+    public ResponseEntity<BulkGoalResponse> goalsBulkPost(Jwt jwt, @Valid BulkGoalRequest bulkGoalRequest) {
+        if (bulkGoalRequest.getUserId() == null && bulkGoalRequest.getGoalIds() == null) {
+            // Sem goal_ids a operação atinge todas as metas; o dono precisa ser explícito
+            throw new InvalidRequestException("Informe user_id ou goal_ids");
+        }
+        String userId = bulkGoalRequest.getUserId() != null ? bulkGoalRequest.getUserId() : jwt.getSubject();
+        return ResponseEntity.ok(goalService.bulkChange(userId, bulkGoalRequest));
+    }
+
+    @Override
+    public ResponseEntity<GoalResponse> goalsGoalIdPatch(String goalId, JsonNode mergePatch) {
+        return ResponseEntity.ok(goalService.patchGoal(Long.parseLong(goalId), mergePatch));
+    }
+
     @Override
     public ResponseEntity<Void> goalsGoalIdDelete(String goalId) {
         goalService.deleteGoal(Long.parseLong(goalId));
@@ -61,4 +237,65 @@ public class GoalController implements DefaultApi {
         );
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Override
+    public ResponseEntity<BatchProgressResponse> goalsProgressBatchPatch(Jwt jwt,
+                                                                         @Valid BatchProgressRequest batchProgressRequest) {
+        return ResponseEntity.ok(goalService.updateProgressBatch(jwt.getSubject(), batchProgressRequest));
+    }
+
+    static List<Long> parseIds(String ids) {
+        String[] parts = ids.split(",");
+        if (parts.length > MAX_QUERY_IDS) {
+            throw new InvalidRequestException("No máximo " + MAX_QUERY_IDS + " ids na query string; use POST "
+                    + "/goals/lookup, que aceita até " + GoalLookupRequest.MAX_IDS);
+        }
+
+        List<Long> goalIds = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            String trimmed = part.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                goalIds.add(Long.parseLong(trimmed));
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException("Id de meta inválido em ids: " + trimmed);
+            }
+        }
+        if (goalIds.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos um id em ids");
+        }
+        return goalIds;
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Valor inválido para " + name + ", use yyyy-MM-dd: " + value);
+        }
+    }
+
+    private static YearMonth parseMonth(String name, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Valor inválido para " + name + ", use yyyy-MM: " + value);
+        }
+    }
+
+    static <E extends Enum<E>> E parseEnum(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Valor inválido para " + name + ": " + value);
+        }
+    }
+}
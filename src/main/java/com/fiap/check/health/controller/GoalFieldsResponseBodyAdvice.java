@@ -0,0 +1,40 @@
+package com.fiap.check.health.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fiap.check.health.api.GoalFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Aplica o {@code ?fields=} das leituras de metas na serialização: só as propriedades pedidas
+ * do {@code GoalResponse} são escritas. O parâmetro já foi validado pelo controller.
+ */
+@RestControllerAdvice(assignableTypes = GoalController.class)
+public class GoalFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(GoalFields.PARAM);
+        if (fields == null) {
+            return;
+        }
+
+        GoalFields goalFields = GoalFields.parse(fields);
+        if (!goalFields.includesAll()) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(GoalFields.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(goalFields.names())));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.fiap.check.health.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalReminderEvent {
+
+    @JsonProperty("goalId")
+    private Long goalId;
+
+    @JsonProperty("userId")
+    private String userId;
+
+    @JsonProperty("title")
+    private String title;
+
+    @JsonProperty("scheduledAt")
+    private LocalDateTime scheduledAt;
+
+    @JsonProperty("nextReminderAt")
+    private LocalDateTime nextReminderAt;
+}
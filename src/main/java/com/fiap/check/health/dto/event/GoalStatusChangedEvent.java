@@ -0,0 +1,35 @@
+package com.fiap.check.health.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Metas de um usuário que mudaram de status na mesma alteração em lote, como um bloco da expiração.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalStatusChangedEvent {
+
+    @JsonProperty("userId")
+    private String userId;
+
+    @JsonProperty("goalIds")
+    private List<Long> goalIds;
+
+    @JsonProperty("previousStatus")
+    private String previousStatus;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("changedAt")
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,30 @@
+package com.fiap.check.health.event;
+
+import com.fiap.check.health.persistence.entity.Goal;
+
+/**
+ * Evento interno (Spring) publicado pelo serviço a cada alteração de meta.
+ * Os listeners usam {@code @TransactionalEventListener} e só reagem após o commit.
+ * {@code goal} é nulo para {@link ChangeType#DELETED}; {@code userId} pode ser nulo quando o
+ * dono não é conhecido no momento da remoção.
+ */
+public record GoalChangedEvent(ChangeType type, Long goalId, String userId, Goal goal) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        PROGRESS,
+        // Alteração que levou a meta ao status completed (progresso ou edição)
+        COMPLETED,
+        ARTICLE,
+        DELETED
+    }
+
+    public static GoalChangedEvent of(ChangeType type, Goal goal) {
+        return new GoalChangedEvent(type, goal.getGoalId(), goal.getUserId(), goal);
+    }
+
+    public static GoalChangedEvent deleted(Long goalId, String userId) {
+        return new GoalChangedEvent(ChangeType.DELETED, goalId, userId, null);
+    }
+}
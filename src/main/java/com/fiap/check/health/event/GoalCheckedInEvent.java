@@ -0,0 +1,11 @@
+package com.fiap.check.health.event;
+
+import com.fiap.check.health.persistence.entity.Goal;
+
+import java.time.LocalDate;
+
+/**
+ * Evento interno publicado quando um novo dia recebe check-in em {@code PUT /goals/{goal_id}/check-ins/{date}}.
+ */
+public record GoalCheckedInEvent(Goal goal, LocalDate date) {
+}
@@ -0,0 +1,10 @@
+package com.fiap.check.health.event;
+
+import java.util.Collection;
+
+/**
+ * Evento interno publicado após um DELETE/UPDATE em massa, que não passa pelas entidades.
+ * {@code goalIds} é nulo quando todas as metas do usuário foram afetadas.
+ */
+public record GoalsBulkChangedEvent(String userId, Collection<Long> goalIds) {
+}
@@ -0,0 +1,11 @@
+package com.fiap.check.health.event;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evento interno publicado uma vez por bloco da expiração, com as metas que passaram a {@code expired}
+ * agrupadas por usuário.
+ */
+public record GoalsExpiredEvent(Map<String, List<Long>> goalIdsByUser) {
+}
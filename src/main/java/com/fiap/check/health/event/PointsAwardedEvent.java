@@ -0,0 +1,12 @@
+package com.fiap.check.health.event;
+
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento interno publicado quando uma meta concluída lança pontos no ledger do usuário.
+ */
+public record PointsAwardedEvent(String userId, Long goalId, GoalCategory category, int points,
+                                 LocalDateTime awardedAt) {
+}
@@ -2,12 +2,15 @@ package com.fiap.check.health.event.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.check.health.dto.ArticleResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
 import com.fiap.check.health.model.Article;
 import com.fiap.check.health.persistence.entity.ArticleEntity;
 import com.fiap.check.health.persistence.entity.Goal;
 import com.fiap.check.health.persistence.repository.GoalRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -20,10 +23,13 @@ public class GoalEventConsumer {
 
     private final ObjectMapper objectMapper;
     private final GoalRepository goalRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public GoalEventConsumer(ObjectMapper objectMapper, GoalRepository goalRepository) {
+    public GoalEventConsumer(ObjectMapper objectMapper, GoalRepository goalRepository,
+                             ApplicationEventPublisher applicationEventPublisher) {
         this.objectMapper = objectMapper;
         this.goalRepository = goalRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @KafkaListener(topics = "goal.progress.updated", groupId = "goal-progress-consumers")
@@ -68,7 +74,9 @@ public class GoalEventConsumer {
                 goal.setArticleResponse(entityResponse);
                 goal.setTitle(dto.getTitle());
 
-                goalRepository.save(goal);
+                Goal savedGoal = goalRepository.save(goal);
+                // O título muda junto com o artigo; mantém os caches locais coerentes
+                applicationEventPublisher.publishEvent(GoalChangedEvent.of(ChangeType.ARTICLE, savedGoal));
 
                 log.info("Goal {} updated with AI response successfully.", goal.getGoalId());
             } else {
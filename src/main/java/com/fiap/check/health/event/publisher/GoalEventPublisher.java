@@ -3,12 +3,15 @@ package com.fiap.check.health.event.publisher;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fiap.check.health.dto.event.GoalCreatedEvent;
+import com.fiap.check.health.dto.event.GoalReminderEvent;
+import com.fiap.check.health.dto.event.GoalStatusChangedEvent;
 import com.fiap.check.health.persistence.entity.Goal;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -16,6 +19,8 @@ import java.util.concurrent.CompletableFuture;
 public class GoalEventPublisher {
     
     private static final String TOPIC_GOAL_CREATED = "goal.created";
+    private static final String TOPIC_GOAL_REMINDER = "goal.reminder";
+    private static final String TOPIC_GOAL_STATUS_CHANGED = "goal.status-changed";
     
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
@@ -27,13 +32,7 @@ public class GoalEventPublisher {
     
     public void publishGoalCreated(Goal goal) {
         try {
-            GoalCreatedEvent event = GoalCreatedEvent.builder()
-                    .goalId(goal.getGoalId())
-                    .userId(goal.getUserId())
-                    .category(goal.getCategory().name())
-                    .title(goal.getTitle())
-                    .description(goal.getDescription())
-                    .build();
+            GoalCreatedEvent event = toCreatedEvent(goal);
                     
             String eventJson = objectMapper.writeValueAsString(event);
             
@@ -60,4 +59,91 @@ public class GoalEventPublisher {
             throw new RuntimeException("Falha ao publicar evento goal.created", e);
         }
     }
+
+    /**
+     * Publica um lote de goal.created, como o da renovação de metas recorrentes. Os envios são assíncronos e
+     * agrupados pelo produtor em poucas requisições ao broker; falhas são apenas registradas, já que as metas
+     * foram gravadas.
+     */
+    public void publishGoalsCreated(List<Goal> goals) {
+        for (Goal goal : goals) {
+            String eventJson;
+            try {
+                eventJson = objectMapper.writeValueAsString(toCreatedEvent(goal));
+            } catch (JsonProcessingException e) {
+                log.error("Erro ao serializar evento goal.created para JSON - goalId: {}", goal.getGoalId(), e);
+                continue;
+            }
+            kafkaTemplate.send(TOPIC_GOAL_CREATED, eventJson)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("Erro ao enviar evento goal.created para o Kafka - goalId: {}",
+                                    goal.getGoalId(), ex);
+                        }
+                    });
+        }
+        log.debug("{} eventos goal.created enviados para o tópico {}", goals.size(), TOPIC_GOAL_CREATED);
+    }
+
+    /**
+     * Publica um lote de lembretes com o {@code userId} como chave, mantendo a ordem dos lembretes de cada
+     * usuário na partição. Os envios são assíncronos e agrupados pelo produtor; falhas são apenas registradas,
+     * já que o lembrete seguinte foi agendado.
+     */
+    public void publishReminders(List<GoalReminderEvent> reminders) {
+        for (GoalReminderEvent reminder : reminders) {
+            String eventJson;
+            try {
+                eventJson = objectMapper.writeValueAsString(reminder);
+            } catch (JsonProcessingException e) {
+                log.error("Erro ao serializar evento goal.reminder para JSON - goalId: {}", reminder.getGoalId(), e);
+                continue;
+            }
+            kafkaTemplate.send(TOPIC_GOAL_REMINDER, reminder.getUserId(), eventJson)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("Erro ao enviar evento goal.reminder para o Kafka - goalId: {}",
+                                    reminder.getGoalId(), ex);
+                        }
+                    });
+        }
+        log.debug("{} eventos goal.reminder enviados para o tópico {}", reminders.size(), TOPIC_GOAL_REMINDER);
+    }
+
+    /**
+     * Publica as mudanças de status de uma alteração em lote, uma mensagem por usuário com o {@code userId} como
+     * chave. Os envios são assíncronos e agrupados pelo produtor; falhas são apenas registradas, já que as metas
+     * foram gravadas e a mudança aparece no delta sync.
+     */
+    public void publishStatusChanges(List<GoalStatusChangedEvent> changes) {
+        for (GoalStatusChangedEvent change : changes) {
+            String eventJson;
+            try {
+                eventJson = objectMapper.writeValueAsString(change);
+            } catch (JsonProcessingException e) {
+                log.error("Erro ao serializar evento goal.status-changed para JSON - userId: {}",
+                        change.getUserId(), e);
+                continue;
+            }
+            kafkaTemplate.send(TOPIC_GOAL_STATUS_CHANGED, change.getUserId(), eventJson)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("Erro ao enviar evento goal.status-changed para o Kafka - userId: {}",
+                                    change.getUserId(), ex);
+                        }
+                    });
+        }
+        log.debug("{} eventos goal.status-changed enviados para o tópico {}", changes.size(),
+                TOPIC_GOAL_STATUS_CHANGED);
+    }
+
+    private static GoalCreatedEvent toCreatedEvent(Goal goal) {
+        return GoalCreatedEvent.builder()
+                .goalId(goal.getGoalId())
+                .userId(goal.getUserId())
+                .category(goal.getCategory().name())
+                .title(goal.getTitle())
+                .description(goal.getDescription())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.fiap.check.health.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
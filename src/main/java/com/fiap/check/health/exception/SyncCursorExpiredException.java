@@ -0,0 +1,8 @@
+package com.fiap.check.health.exception;
+
+public class SyncCursorExpiredException extends RuntimeException {
+
+    public SyncCursorExpiredException(String cursor) {
+        super("Cursor " + cursor + " anterior às exclusões retidas; refaça a sincronização completa sem since");
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.CompletionAnalyticsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula periodicamente os agregados de conclusão em memória a partir da tabela de metas, corrigindo a
+ * divergência dos incrementos. Cada réplica recalcula os próprios agregados, sem lease.
+ */
+@Component
+public class CompletionAnalyticsJob {
+
+    private final CompletionAnalyticsService completionAnalyticsService;
+
+    public CompletionAnalyticsJob(CompletionAnalyticsService completionAnalyticsService) {
+        this.completionAnalyticsService = completionAnalyticsService;
+    }
+
+    @Scheduled(cron = "${goals.analytics.recompute.cron:0 50 3 * * *}")
+    public void recompute() {
+        completionAnalyticsService.recompute();
+    }
+}
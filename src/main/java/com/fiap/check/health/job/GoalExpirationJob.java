@@ -0,0 +1,31 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.GoalExpirationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Expira periodicamente as metas ativas cujo {@code endDate} já passou, para que as consultas e índices de
+ * metas ativas não cresçam indefinidamente.
+ */
+@Slf4j
+@Component
+public class GoalExpirationJob {
+
+    private final GoalExpirationService goalExpirationService;
+
+    public GoalExpirationJob(GoalExpirationService goalExpirationService) {
+        this.goalExpirationService = goalExpirationService;
+    }
+
+    @Scheduled(cron = "${goals.expiration.cron:0 10 0 * * *}")
+    public void expire() {
+        long start = System.nanoTime();
+        int expired = goalExpirationService.expireOverdueGoals(LocalDate.now());
+        log.info("Expiração de metas concluída: {} metas em {} ms", expired,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,34 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.GoalRenewalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Cria periodicamente a meta do período seguinte das metas recorrentes encerradas. Executa a cada poucos
+ * minutos em vez de uma vez à meia-noite: cada execução renova um volume limitado e a virada de uma coorte
+ * grande se distribui pelas execuções seguintes.
+ */
+@Slf4j
+@Component
+public class GoalRenewalJob {
+
+    private final GoalRenewalService goalRenewalService;
+
+    public GoalRenewalJob(GoalRenewalService goalRenewalService) {
+        this.goalRenewalService = goalRenewalService;
+    }
+
+    @Scheduled(cron = "${goals.renewal.cron:0 */5 * * * *}")
+    public void renew() {
+        long start = System.nanoTime();
+        int renewed = goalRenewalService.renewDueGoals(LocalDate.now());
+        if (renewed > 0) {
+            log.info("Renovação de metas recorrentes concluída: {} metas em {} ms", renewed,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
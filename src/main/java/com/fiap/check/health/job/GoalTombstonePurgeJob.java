@@ -0,0 +1,36 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.GoalTombstoneService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Remove periodicamente os tombstones mais antigos que {@code goals.changes.tombstone-retention}. Um cliente
+ * sem sincronizar há mais tempo que isso recebe {@code 410 Gone} no delta sync e refaz a sincronização completa.
+ */
+@Slf4j
+@Component
+public class GoalTombstonePurgeJob {
+
+    private final GoalTombstoneService goalTombstoneService;
+    private final Duration retention;
+
+    public GoalTombstonePurgeJob(GoalTombstoneService goalTombstoneService,
+                                 @Value("${goals.changes.tombstone-retention:90d}") Duration retention) {
+        this.goalTombstoneService = goalTombstoneService;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${goals.changes.tombstone-purge.cron:0 45 3 * * *}")
+    public void purge() {
+        long start = System.nanoTime();
+        int deleted = goalTombstoneService.purge(LocalDateTime.now().minus(retention));
+        log.info("Remoção de tombstones concluída: {} registros em {} ms", deleted,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
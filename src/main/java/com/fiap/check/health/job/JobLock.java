@@ -0,0 +1,87 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.persistence.repository.JobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Exclusão mútua entre réplicas para jobs agendados, por lease na tabela {@code job_leases}.
+ * <p>
+ * Portável entre PostgreSQL e H2 (ao contrário de {@code pg_try_advisory_lock}) e sem conexão presa
+ * durante o job: a lease vale até {@code lockedUntil} e é renovada enquanto o job avança. Se a instância
+ * cair, outra assume o job quando a lease vencer. A duração deve ser bem maior que a diferença de relógio
+ * entre as réplicas.
+ */
+@Slf4j
+@Component
+public class JobLock {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    public JobLock(JobLeaseRepository jobLeaseRepository, TransactionTemplate transactionTemplate) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.owner = hostName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Obtém a lease do job por {@code duration}; {@code false} se outra instância a detém.
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+        Integer acquired = transactionTemplate.execute(status ->
+                jobLeaseRepository.insertIfAbsent(name, owner, until) > 0
+                        ? 1 : jobLeaseRepository.takeOver(name, owner, until, now));
+        return acquired != null && acquired > 0;
+    }
+
+    /**
+     * Estende a lease; {@code false} se ela venceu e outra instância a assumiu.
+     */
+    public boolean renew(String name, Duration duration) {
+        LocalDateTime until = LocalDateTime.now().plus(duration);
+        Integer renewed = transactionTemplate.execute(status -> jobLeaseRepository.extend(name, owner, until));
+        return renewed != null && renewed > 0;
+    }
+
+    /**
+     * Libera a lease para que a próxima execução, em qualquer instância, não espere o vencimento.
+     */
+    public void release(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.execute(status -> jobLeaseRepository.extend(name, owner, now));
+    }
+
+    /**
+     * Leases vigentes cujo nome começa com {@code prefix}, de qualquer instância.
+     */
+    public long countHeld(String prefix) {
+        return jobLeaseRepository.countByNameStartingWithAndLockedUntilAfter(prefix, LocalDateTime.now());
+    }
+
+    /**
+     * Identificador desta instância nas leases.
+     */
+    public String owner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.debug("Nome do host indisponível para o owner das leases", e);
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.LeaderboardService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remonta periodicamente os rankings em memória a partir do ledger. Cada réplica só recebe os lançamentos
+ * das próprias requisições, então os de outras réplicas entram no ranking em até um intervalo. Cada réplica
+ * remonta os próprios rankings, sem lease.
+ */
+@Component
+public class LeaderboardRebuildJob {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardRebuildJob(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Scheduled(initialDelayString = "${goals.leaderboard.rebuild-interval:5m}",
+            fixedDelayString = "${goals.leaderboard.rebuild-interval:5m}")
+    public void rebuild() {
+        leaderboardService.rebuild();
+    }
+}
@@ -0,0 +1,30 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.PointsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrói periodicamente os totais de {@code user_points} a partir do ledger, corrigindo qualquer
+ * divergência do total incremental (ex.: escrita manual no banco). Só uma réplica executa por vez
+ * ({@link JobLock}).
+ */
+@Slf4j
+@Component
+public class PointsReconciliationJob {
+
+    private final PointsService pointsService;
+
+    public PointsReconciliationJob(PointsService pointsService) {
+        this.pointsService = pointsService;
+    }
+
+    @Scheduled(cron = "${goals.points.reconciliation.cron:0 30 3 * * *}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        int users = pointsService.reconcile();
+        log.info("Reconciliação de pontos concluída: {} usuários em {} ms", users,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
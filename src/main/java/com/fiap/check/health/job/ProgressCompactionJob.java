@@ -0,0 +1,37 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.ProgressHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Remove periodicamente os registros de progresso mais antigos que {@code goals.progress-history.retention};
+ * eles já estão somados nos agregados diário e semanal, de onde o histórico é lido.
+ */
+@Slf4j
+@Component
+public class ProgressCompactionJob {
+
+    private final ProgressHistoryService progressHistoryService;
+    private final Duration retention;
+
+    public ProgressCompactionJob(ProgressHistoryService progressHistoryService,
+                                 @Value("${goals.progress-history.retention:90d}") Duration retention) {
+        this.progressHistoryService = progressHistoryService;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${goals.progress-history.compaction.cron:0 40 3 * * *}")
+    public void compact() {
+        long start = System.nanoTime();
+        // Corte à meia-noite: um dia é removido por inteiro
+        int deleted = progressHistoryService.compact(LocalDate.now().minusDays(retention.toDays()).atStartOfDay());
+        log.info("Compactação do histórico de progresso concluída: {} registros em {} ms", deleted,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
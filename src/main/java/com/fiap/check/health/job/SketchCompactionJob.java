@@ -0,0 +1,31 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.service.EngagementAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Une periodicamente os sketches de engajamento que várias instâncias gravaram para o mesmo dia e categoria.
+ * Só dias encerrados: as instâncias ainda regravam os sketches de hoje e de ontem.
+ */
+@Slf4j
+@Component
+public class SketchCompactionJob {
+
+    private final EngagementAnalyticsService engagementAnalyticsService;
+
+    public SketchCompactionJob(EngagementAnalyticsService engagementAnalyticsService) {
+        this.engagementAnalyticsService = engagementAnalyticsService;
+    }
+
+    @Scheduled(cron = "${goals.analytics.sketches.compaction.cron:0 55 3 * * *}")
+    public void compact() {
+        long start = System.nanoTime();
+        int groups = engagementAnalyticsService.compact(LocalDate.now().minusDays(1));
+        log.info("Compactação dos sketches de engajamento concluída: {} grupos em {} ms", groups,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fiap.check.health.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranking em memória de um período/categoria: o total de cada usuário e a {@link RankingTree} com as
+ * posições. Leituras simultâneas não se bloqueiam; cada lançamento reposiciona apenas o seu usuário.
+ */
+public class Leaderboard {
+
+    private final Map<String, Long> pointsByUser = new HashMap<>();
+    private final RankingTree tree = new RankingTree();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void add(String userId, long points) {
+        lock.writeLock().lock();
+        try {
+            Long previous = pointsByUser.get(userId);
+            long total = previous != null ? previous + points : points;
+            if (previous != null) {
+                tree.remove(userId, previous);
+            }
+            pointsByUser.put(userId, total);
+            tree.insert(userId, total);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.min(limit, tree.size()));
+            tree.forEachTop(limit, (node, rank) -> entries.add(new Entry(rank, node.userId, node.points)));
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Entry> entryOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Long points = pointsByUser.get(userId);
+            return points != null ? Optional.of(new Entry(tree.rankOf(userId, points), userId, points))
+                    : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return pointsByUser.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record Entry(int rank, String userId, long points) {
+    }
+}
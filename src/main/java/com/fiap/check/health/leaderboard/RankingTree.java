@@ -0,0 +1,149 @@
+package com.fiap.check.health.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Árvore de estatística de ordem (treap com tamanho das subárvores) ordenada por pontos decrescentes e,
+ * no empate, por user_id. Inserção, remoção e posição de um usuário custam O(log n) esperado; os N
+ * primeiros, O(log n + N).
+ * <p>
+ * Não é thread-safe; o acesso é coordenado por {@link Leaderboard}.
+ */
+final class RankingTree {
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(String userId, long points) {
+        Node[] parts = split(root, points, userId);
+        root = merge(merge(parts[0], new Node(userId, points)), parts[1]);
+    }
+
+    void remove(String userId, long points) {
+        root = remove(root, points, userId);
+    }
+
+    /**
+     * Posição (a partir de 1) do usuário com esta pontuação, ou 0 se ele não estiver na árvore.
+     */
+    int rankOf(String userId, long points) {
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(points, userId, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return before + size(node.left) + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Percorre em ordem os {@code limit} primeiros, informando cada um com a sua posição.
+     */
+    void forEachTop(int limit, ObjIntConsumer<Node> action) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int rank = 0;
+        while (rank < limit && (node != null || !path.isEmpty())) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            node = path.pop();
+            action.accept(node, ++rank);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Divide em (antes da chave, a partir da chave).
+     */
+    private static Node[] split(Node node, long points, String userId) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (compare(points, userId, node) > 0) {
+            Node[] parts = split(node.right, points, userId);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, points, userId);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node remove(Node node, long points, String userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(points, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, points, userId);
+        } else {
+            node.right = remove(node.right, points, userId);
+        }
+        return update(node);
+    }
+
+    // Maior pontuação primeiro; o user_id desempata para que cada usuário tenha uma posição única
+    private static int compare(long points, String userId, Node node) {
+        int byPoints = Long.compare(node.points, points);
+        return byPoints != 0 ? byPoints : userId.compareTo(node.userId);
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    static final class Node {
+
+        final String userId;
+        final long points;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(String userId, long points) {
+            this.userId = userId;
+            this.points = points;
+        }
+    }
+}
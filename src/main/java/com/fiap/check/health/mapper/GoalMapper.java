@@ -3,22 +3,52 @@ package com.fiap.check.health.mapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fiap.check.health.api.model.*;
 import com.fiap.check.health.dto.ArticleResponse;
 import com.fiap.check.health.dto.Quiz;
 import com.fiap.check.health.dto.Recommendation;
 import com.fiap.check.health.model.*;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.GoalRow;
+import com.fiap.check.health.persistence.projection.GoalSummaryRow;
 
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.Function;
 
 @Component
 public class GoalMapper {
 
+    // Readers são imutáveis e thread-safe; criar um ObjectMapper por meta custava dezenas de KB por chamada
+    private static final ObjectMapper ARTICLE_MAPPER = new ObjectMapper();
+    private static final ObjectReader QUIZZES_READER = ARTICLE_MAPPER.readerFor(new TypeReference<List<Quiz>>() {});
+    private static final ObjectReader RECOMMENDATIONS_READER =
+            ARTICLE_MAPPER.readerFor(new TypeReference<List<Recommendation>>() {});
+
+    private static final String DEFAULT_UNIT = "days";
+
+    // Compartilhados pelas respostas de metas sem recompensa, um por nível; não devem ser alterados
+    private static final GoalResponseGamification[] NO_REWARD_GAMIFICATION = new GoalResponseGamification[101];
+
+    static {
+        for (int level = 1; level < NO_REWARD_GAMIFICATION.length; level++) {
+            NO_REWARD_GAMIFICATION[level] = GoalResponseGamification.builder().userLevel(level).build();
+        }
+    }
+
+    private final UserLevelResolver userLevelResolver;
+
+    public GoalMapper(UserLevelResolver userLevelResolver) {
+        this.userLevelResolver = userLevelResolver;
+    }
+
     public Goal toEntity(GoalRequest request) {
         if (request == null) {
             return null;
@@ -37,6 +67,43 @@ public class GoalMapper {
                 .reward(toRewardEntity(request.getReward()))
                 .status(request.getStatus() != null ? request.getStatus().getValue() : null)
                 .notifications(request.getNotifications())
+                .recurring(request.getRecurring())
+                .build();
+    }
+
+    /**
+     * Estado atual da meta no formato da requisição; base para aplicar um JSON Merge Patch.
+     */
+    public GoalRequest toRequest(Goal goal) {
+        if (goal == null) {
+            return null;
+        }
+
+        return GoalRequest.builder()
+                .userId(goal.getUserId())
+                .title(goal.getTitle())
+                .description(goal.getDescription())
+                .category(goal.getCategory() != null ? GoalRequest.CategoryEnum.valueOf(goal.getCategory().name()) : null)
+                .type(fromValue(GoalRequest.TypeEnum.values(), GoalRequest.TypeEnum::getValue, goal.getType()))
+                .startDate(goal.getStartDate())
+                .endDate(goal.getEndDate())
+                .frequency(goal.getFrequency() != null
+                        ? GoalRequestFrequency.builder()
+                                .periodicity(goal.getFrequency().getPeriodicity())
+                                .timesPerPeriod(goal.getFrequency().getTimesPerPeriod())
+                                .build()
+                        : null)
+                .difficulty(fromValue(GoalRequest.DifficultyEnum.values(), GoalRequest.DifficultyEnum::getValue,
+                        goal.getDifficulty()))
+                .reward(goal.getReward() != null
+                        ? GoalRequestReward.builder()
+                                .points(goal.getReward().getPoints())
+                                .badge(goal.getReward().getBadge())
+                                .build()
+                        : null)
+                .status(fromValue(GoalRequest.StatusEnum.values(), GoalRequest.StatusEnum::getValue, goal.getStatus()))
+                .notifications(goal.getNotifications())
+                .recurring(goal.getRecurring())
                 .build();
     }
 
@@ -45,36 +112,138 @@ public class GoalMapper {
             return null;
         }
 
+        return baseResponse(goal.getGoalId(), goal.getUserId(), goal.getTitle(), goal.getStatus(),
+                goal.getCreatedAt(), goal.getProgress(), goal.getReward())
+                .article(toArticleResponse(goal))
+                .build();
+    }
+
+    /**
+     * Resposta sem artigo para uma meta já carregada, sem desserializar os quizzes e recomendações.
+     */
+    public GoalResponse toResponseWithoutArticle(Goal goal) {
+        if (goal == null) {
+            return null;
+        }
+
+        return baseResponse(goal.getGoalId(), goal.getUserId(), goal.getTitle(), goal.getStatus(),
+                goal.getCreatedAt(), goal.getProgress(), goal.getReward())
+                .build();
+    }
+
+    /**
+     * Resposta sem artigo, a partir da projeção que não lê as colunas do artigo.
+     */
+    public GoalResponse toResponseWithoutArticle(GoalRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        return baseResponse(row.goalId(), row.userId(), row.title(), row.status(),
+                row.createdAt(), row.progress(), row.reward())
+                .build();
+    }
+
+    private GoalResponse.GoalResponseBuilder baseResponse(Long goalId, String userId, String title, String status,
+                                                          LocalDateTime createdAt, Progress progress, Reward reward) {
         GoalResponse.GoalResponseBuilder builder = GoalResponse.builder();
         
-        builder.goalId(goal.getGoalId() != null ? goal.getGoalId().toString() : null);
-        builder.userId(goal.getUserId());
-        builder.title(goal.getTitle());
-        builder.status(goal.getStatus());
-        builder.article(toArticleResponse(goal));
+        builder.goalId(goalId != null ? goalId.toString() : null);
+        builder.userId(userId);
+        builder.title(title);
+        builder.status(status);
         
-        if (goal.getCreatedAt() != null) {
-            builder.createdAt(OffsetDateTime.of(goal.getCreatedAt(), ZoneOffset.UTC));
+        if (createdAt != null) {
+            builder.createdAt(OffsetDateTime.of(createdAt, ZoneOffset.UTC));
         }
         
-        builder.progress(toProgressResponse(goal.getProgress()));
-        builder.gamification(toGamificationResponse(goal));
+        builder.progress(toProgressResponse(progress));
+        builder.gamification(toGamificationResponse(reward, userLevelResolver.levelOf(userId)));
         
         // Mensagem de progresso
-        if (goal.getProgress() != null) {
-            int completed = goal.getProgress().getCompleted() != null ? goal.getProgress().getCompleted() : 0;
-            int total = goal.getProgress().getTotal() != null ? goal.getProgress().getTotal() : 0;
-            int points = goal.getReward() != null && goal.getReward().getPoints() != null ? 
-                    goal.getReward().getPoints() : 0;
-            
-            String message = String.format(
-                "Progress updated! You completed %d of %d %s and earned %d points.",
-                completed, total, goal.getProgress().getUnit() != null ? goal.getProgress().getUnit() : "days", points
-            );
-            builder.message(message);
+        if (progress != null) {
+            int completed = progress.getCompleted() != null ? progress.getCompleted() : 0;
+            int total = progress.getTotal() != null ? progress.getTotal() : 0;
+            int points = reward != null && reward.getPoints() != null ? reward.getPoints() : 0;
+            String unit = progress.getUnit() != null ? progress.getUnit() : DEFAULT_UNIT;
+            builder.message(progressMessage(completed, total, unit, points));
+        }
+
+        return builder;
+    }
+
+    public GoalSummaryResponse toSummaryResponse(Goal goal) {
+        if (goal == null) {
+            return null;
         }
 
-        return builder.build();
+        return GoalSummaryResponse.builder()
+                .goalId(goal.getGoalId() != null ? goal.getGoalId().toString() : null)
+                .title(goal.getTitle())
+                .status(goal.getStatus())
+                .progress(toProgressResponse(goal.getProgress()))
+                .points(goal.getReward() != null ? goal.getReward().getPoints() : null)
+                .badge(goal.getReward() != null ? goal.getReward().getBadge() : null)
+                .build();
+    }
+
+    public GoalSummaryResponse toSummaryResponse(GoalSummaryRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        GoalResponseProgress progress = null;
+        if (row.completed() != null || row.total() != null || row.unit() != null) {
+            progress = GoalResponseProgress.builder()
+                    .completed(row.completed())
+                    .total(row.total())
+                    .unit(row.unit())
+                    .build();
+        }
+
+        return GoalSummaryResponse.builder()
+                .goalId(row.goalId() != null ? row.goalId().toString() : null)
+                .title(row.title())
+                .status(row.status())
+                .progress(progress)
+                .points(row.points())
+                .badge(row.badge())
+                .build();
+    }
+
+    /**
+     * Sequências e faltas da meta diária até {@code today}, ou até o {@code endDate} se ela já terminou.
+     */
+    public GoalStreakResponse toStreakResponse(Goal goal, CheckInBitmap checkIns, LocalDate today) {
+        int lastDay = lastDay(goal, today);
+        boolean ended = goal.getEndDate() != null && goal.getEndDate().isBefore(today);
+        // Em uma meta encerrada o último dia já passou: a sequência atual é a que terminou nele
+        int currentStreak = checkIns.currentStreak(ended ? lastDay + 1 : lastDay);
+        int pastDays = ended ? lastDay + 1 : lastDay;
+        int last = checkIns.lastDay();
+
+        return GoalStreakResponse.builder()
+                .goalId(goal.getGoalId())
+                .currentStreak(currentStreak)
+                .longestStreak(checkIns.longestStreak())
+                .checkIns(checkIns.count())
+                .missedDays(Math.max(pastDays, 0) - checkIns.countThrough(pastDays - 1))
+                .lastCheckIn(last >= 0 ? goal.getStartDate().plusDays(last) : null)
+                .build();
+    }
+
+    private static int lastDay(Goal goal, LocalDate today) {
+        LocalDate end = goal.getEndDate() != null && goal.getEndDate().isBefore(today) ? goal.getEndDate() : today;
+        return (int) ChronoUnit.DAYS.between(goal.getStartDate(), end);
+    }
+
+    public BatchProgressResponseItem toBatchProgressResult(Goal goal) {
+        return BatchProgressResponseItem.builder()
+                .goalId(goal.getGoalId())
+                .result(BatchProgressResponseItem.Result.UPDATED)
+                .status(goal.getStatus())
+                .progress(toProgressResponse(goal.getProgress()))
+                .build();
     }
 
     private ArticleResponse toArticleResponse(Goal goal) throws JsonProcessingException {
@@ -82,9 +251,9 @@ public class GoalMapper {
             return null;
         }
 
-        ObjectMapper mapper = new ObjectMapper();
-        var quizzes = mapper.readValue(goal.getArticleResponse().getQuizzesJson(), new TypeReference<List<Quiz>>() {});
-        var recommendations = mapper.readValue(goal.getArticleResponse().getRecommendationsJson(), new TypeReference<List<Recommendation>>() {});
+        List<Quiz> quizzes = QUIZZES_READER.readValue(goal.getArticleResponse().getQuizzesJson());
+        List<Recommendation> recommendations =
+                RECOMMENDATIONS_READER.readValue(goal.getArticleResponse().getRecommendationsJson());
 
         return ArticleResponse.builder()
                 .title(goal.getArticleResponse().getTitle())
@@ -131,24 +300,40 @@ public class GoalMapper {
                 .build();
     }
 
-    private GoalResponseGamification toGamificationResponse(Goal goal) {
-        Integer pointsEarned = null;
-        String badge = null;
-        
-        if (goal.getReward() != null) {
-            pointsEarned = goal.getReward().getPoints();
-            badge = goal.getReward().getBadge();
+    private GoalResponseGamification toGamificationResponse(Reward reward, int userLevel) {
+        if (reward == null || (reward.getPoints() == null && reward.getBadge() == null)) {
+            return userLevel > 0 && userLevel < NO_REWARD_GAMIFICATION.length
+                    ? NO_REWARD_GAMIFICATION[userLevel]
+                    : GoalResponseGamification.builder().userLevel(userLevel).build();
         }
-        
-        // Nível do usuário poderia ser calculado com base no total de pontos
-        // Por enquanto, retornando um valor fixo
+
+        // Nível calculado a partir do total de pontos do ledger (UserPointsCache), sem somar as metas
         return GoalResponseGamification.builder()
-                .pointsEarned(pointsEarned)
-                .badge(badge)
-                .userLevel(1)
+                .pointsEarned(reward.getPoints())
+                .badge(reward.getBadge())
+                .userLevel(userLevel)
                 .build();
     }
 
+    // A concatenação é compilada em um único template (StringConcatFactory): um byte[] e uma String por mensagem,
+    // sem o parse do formato e o boxing dos argumentos de String.format
+    static String progressMessage(int completed, int total, String unit, int points) {
+        return "Progress updated! You completed " + completed + " of " + total + " " + unit
+                + " and earned " + points + " points.";
+    }
+
+    private static <E extends Enum<E>> E fromValue(E[] values, Function<E, String> value, String raw) {
+        if (raw == null) {
+            return null;
+        }
+        for (E candidate : values) {
+            if (value.apply(candidate).equals(raw)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
     private GoalCategory mapCategoria(GoalRequest.CategoryEnum category) {
         if (category == null) {
             return null;
@@ -0,0 +1,13 @@
+package com.fiap.check.health.mapper;
+
+/**
+ * Nível atual do usuário, exibido na gamificação de cada resposta de meta.
+ */
+@FunctionalInterface
+public interface UserLevelResolver {
+
+    /**
+     * Nível 1 quando o usuário não tem pontos ou {@code userId} é nulo.
+     */
+    int levelOf(String userId);
+}
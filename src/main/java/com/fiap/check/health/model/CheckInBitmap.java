@@ -0,0 +1,187 @@
+package com.fiap.check.health.model;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+/**
+ * Histórico de check-ins de uma meta: um bit por dia desde o {@code startDate} (dia 0).
+ * <p>
+ * Persistido como uma coluna binária pequena, no formato de um container do Roaring Bitmap: o mesmo
+ * conjunto é gravado como lista de dias (2 bytes por check-in), como bitmap (1 bit por dia) ou como
+ * sequências (4 bytes por sequência), o que for menor. Metas com poucos check-ins ficam na lista, metas
+ * seguidas à risca viram poucas sequências; o bitmap cobre o caso intermediário.
+ * <p>
+ * As sequências são calculadas com {@link BitSet#nextSetBit}/{@link BitSet#nextClearBit}, que avançam
+ * 64 dias por operação.
+ */
+public final class CheckInBitmap {
+
+    // Dias são gravados como 2 bytes sem sinal, como nos containers do Roaring
+    public static final int MAX_DAYS = 1 << 16;
+
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUNS = 2;
+
+    private final BitSet days;
+
+    private CheckInBitmap(BitSet days) {
+        this.days = days;
+    }
+
+    public static CheckInBitmap empty() {
+        return new CheckInBitmap(new BitSet());
+    }
+
+    public static CheckInBitmap decode(byte[] data) {
+        if (data == null || data.length == 0) {
+            return empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        BitSet days = switch (data[0]) {
+            case ARRAY -> {
+                BitSet set = new BitSet();
+                while (buffer.hasRemaining()) {
+                    set.set(Short.toUnsignedInt(buffer.getShort()));
+                }
+                yield set;
+            }
+            case BITMAP -> BitSet.valueOf(buffer);
+            case RUNS -> {
+                BitSet set = new BitSet();
+                while (buffer.hasRemaining()) {
+                    int start = Short.toUnsignedInt(buffer.getShort());
+                    int length = Short.toUnsignedInt(buffer.getShort()) + 1;
+                    set.set(start, start + length);
+                }
+                yield set;
+            }
+            default -> throw new IllegalArgumentException("Formato de check-ins desconhecido: " + data[0]);
+        };
+        return new CheckInBitmap(days);
+    }
+
+    /**
+     * Forma serializada mais compacta, ou {@code null} quando não há check-ins.
+     */
+    public byte[] encode() {
+        int cardinality = days.cardinality();
+        if (cardinality == 0) {
+            return null;
+        }
+
+        int runs = runCount();
+        int arrayBytes = 2 * cardinality;
+        int bitmapBytes = (days.length() + 7) / 8;
+        int runBytes = 4 * runs;
+
+        if (runBytes <= arrayBytes && runBytes <= bitmapBytes) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + runBytes).put(RUNS);
+            for (int start = days.nextSetBit(0); start >= 0; ) {
+                int end = days.nextClearBit(start);
+                buffer.putShort((short) start).putShort((short) (end - start - 1));
+                start = days.nextSetBit(end);
+            }
+            return buffer.array();
+        }
+        if (arrayBytes <= bitmapBytes) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 + arrayBytes).put(ARRAY);
+            days.stream().forEach(day -> buffer.putShort((short) day));
+            return buffer.array();
+        }
+        byte[] bitmap = days.toByteArray();
+        byte[] data = new byte[1 + bitmap.length];
+        data[0] = BITMAP;
+        System.arraycopy(bitmap, 0, data, 1, bitmap.length);
+        return data;
+    }
+
+    /**
+     * Marca o dia; {@code false} quando ele já tinha check-in.
+     */
+    public boolean checkIn(int day) {
+        if (day < 0 || day >= MAX_DAYS) {
+            throw new IllegalArgumentException("Dia fora do intervalo do histórico: " + day);
+        }
+        if (days.get(day)) {
+            return false;
+        }
+        days.set(day);
+        return true;
+    }
+
+    /**
+     * Histórico com o dia {@code firstDay} como novo dia 0, para quando o {@code startDate} muda;
+     * check-ins anteriores ao novo início são descartados.
+     */
+    public CheckInBitmap rebase(int firstDay) {
+        BitSet rebased = new BitSet();
+        for (int start = days.nextSetBit(Math.max(firstDay, 0)); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            int from = start - firstDay;
+            int to = Math.min(end - firstDay, MAX_DAYS);
+            if (from >= MAX_DAYS) {
+                break;
+            }
+            rebased.set(from, to);
+            start = days.nextSetBit(end);
+        }
+        return new CheckInBitmap(rebased);
+    }
+
+    public boolean isCheckedIn(int day) {
+        return day >= 0 && days.get(day);
+    }
+
+    public int count() {
+        return days.cardinality();
+    }
+
+    /**
+     * Check-ins entre o dia 0 e {@code day}, inclusive.
+     */
+    public int countThrough(int day) {
+        return day < 0 ? 0 : days.get(0, day + 1).cardinality();
+    }
+
+    /**
+     * Último dia com check-in, ou -1.
+     */
+    public int lastDay() {
+        return days.length() - 1;
+    }
+
+    /**
+     * Dias seguidos com check-in terminando em {@code today}; se hoje ainda não houve check-in, a sequência
+     * que terminou ontem continua valendo até o fim do dia.
+     */
+    public int currentStreak(int today) {
+        if (today < 0) {
+            return 0;
+        }
+        int end = days.get(today) ? today : today - 1;
+        if (end < 0 || !days.get(end)) {
+            return 0;
+        }
+        return end - days.previousClearBit(end);
+    }
+
+    public int longestStreak() {
+        int longest = 0;
+        for (int start = days.nextSetBit(0); start >= 0; ) {
+            int end = days.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = days.nextSetBit(end);
+        }
+        return longest;
+    }
+
+    private int runCount() {
+        int runs = 0;
+        for (int start = days.nextSetBit(0); start >= 0; start = days.nextSetBit(days.nextClearBit(start))) {
+            runs++;
+        }
+        return runs;
+    }
+}
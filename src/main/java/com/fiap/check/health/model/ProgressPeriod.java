@@ -0,0 +1,40 @@
+package com.fiap.check.health.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Granularidade dos agregados do histórico de progresso; semanas começam na segunda-feira, como no ranking
+ * semanal.
+ */
+public enum ProgressPeriod {
+
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS);
+
+    private final ChronoUnit unit;
+
+    ProgressPeriod(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Início do bucket que contém {@code date}.
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    /**
+     * Número de buckets de {@code from} até {@code to}, inclusive.
+     */
+    public long buckets(LocalDate from, LocalDate to) {
+        return unit.between(bucketStart(from), bucketStart(to)) + 1;
+    }
+
+    public LocalDate plus(LocalDate bucketStart, long buckets) {
+        return bucketStart.plus(buckets, unit);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fiap.check.health.persistence.entity;
+
+import com.fiap.check.health.analytics.SketchKind;
+import com.fiap.check.health.model.GoalCategory;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Sketch serializado ({@code HyperLogLog} ou {@code TDigest}) de um dia e categoria, gravado por uma
+ * instância. Cada instância regrava só a própria linha; as leituras unem as linhas de todas as instâncias
+ * e dias, e a compactação junta as instâncias de dias encerrados em uma única linha.
+ */
+@Entity
+@Table(name = "analytics_sketches", indexes = {
+        @Index(name = "idx_analytics_sketches_day", columnList = "sketch_day, kind")
+})
+@IdClass(AnalyticsSketch.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsSketch {
+
+    @Id
+    @Column(name = "kind", length = 16)
+    @Enumerated(EnumType.STRING)
+    private SketchKind kind;
+
+    @Id
+    @Column(name = "sketch_day")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "category", length = 16)
+    @Enumerated(EnumType.STRING)
+    private GoalCategory category;
+
+    @Id
+    @Column(name = "instance_id")
+    private String instanceId;
+
+    @Column(name = "sketch", nullable = false, length = 8192)
+    private byte[] data;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private SketchKind kind;
+
+        private LocalDate day;
+
+        private GoalCategory category;
+
+        private String instanceId;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,15 +16,28 @@ import com.fiap.check.health.model.Progress;
 import com.fiap.check.health.model.Reward;
 
 @Entity
-@Table(name = "goals")
+@Table(name = "goals", indexes = {
+        @Index(name = "idx_goals_user", columnList = "user_id, goal_id"),
+        @Index(name = "idx_goals_user_status", columnList = "user_id, status, goal_id"),
+        @Index(name = "idx_goals_user_change", columnList = "user_id, change_seq, goal_id"),
+        @Index(name = "idx_goals_status_end", columnList = "status, end_date, goal_id"),
+        @Index(name = "idx_goals_next_reminder", columnList = "next_reminder_at, goal_id"),
+        @Index(name = "idx_goals_renew_on", columnList = "renew_on, goal_id")
+})
+@EntityListeners({GoalChangeListener.class, GoalReminderListener.class, GoalRenewalListener.class})
+// UPDATE só com as colunas alteradas: edições pequenas não reescrevem as colunas TEXT do artigo
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Goal {
 
+    // Sequência com otimizador pooled: os ids saem de blocos reservados em memória e, ao contrário de IDENTITY,
+    // permitem que os INSERTs da renovação de metas recorrentes sigam em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goal_id_seq")
+    @SequenceGenerator(name = "goal_id_seq", sequenceName = "goal_id_seq", allocationSize = 50)
     @Column(name = "goal_id")
     private Long goalId;
 
@@ -56,7 +70,7 @@ public class Goal {
     @Embedded
     private Reward reward;
 
-    private String status; // ativa, concluída, arquivada
+    private String status; // ativa, concluída, arquivada, expirada
 
     private Boolean notifications;
 
@@ -66,6 +80,33 @@ public class Goal {
     @Embedded
     private Progress progress;
 
+    // Check-ins diários serializados por CheckInBitmap (um bit por dia desde o startDate); nulo sem check-ins
+    @Column(name = "check_ins", length = 8193)
+    private byte[] checkIns;
+
+    // Sequência da última alteração (delta sync); atribuída pelo GoalChangeListener
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    // Instante da última alteração, tomado depois do change_seq; define o horizonte seguro do delta sync
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
+    // Próximo lembrete (notifications ativas); atribuído pelo GoalReminderListener e avançado pelo ReminderScheduler
+    @Column(name = "next_reminder_at")
+    private LocalDateTime nextReminderAt;
+
+    // Ao fim do período, a meta do período seguinte é criada pelo GoalRenewalJob
+    private Boolean recurring;
+
+    // Meta do período seguinte, criada pela renovação
+    @Column(name = "renewed_goal_id")
+    private Long renewedGoalId;
+
+    // Dia em que a renovação fica pendente (dia seguinte ao endDate); atribuído pelo GoalRenewalListener
+    @Column(name = "renew_on")
+    private LocalDate renewOn;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,30 @@
+package com.fiap.check.health.persistence.entity;
+
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca cada inserção e alteração de meta com o {@code change_seq} da transação e o instante da alteração.
+ * O {@code @PreUpdate} só dispara quando há colunas sujas, então leituras não avançam a sequência.
+ */
+@Component
+public class GoalChangeListener {
+
+    private final ObjectProvider<GoalChangeSequence> changeSequence;
+
+    public GoalChangeListener(ObjectProvider<GoalChangeSequence> changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void onChange(Goal goal) {
+        goal.setChangeSeq(changeSequence.getObject().forCurrentTransaction());
+        goal.setChangedAt(LocalDateTime.now());
+    }
+}
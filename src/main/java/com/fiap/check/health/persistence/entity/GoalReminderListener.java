@@ -0,0 +1,29 @@
+package com.fiap.check.health.persistence.entity;
+
+import com.fiap.check.health.reminder.ReminderSchedule;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recalcula o {@code next_reminder_at} a cada inserção e alteração de meta, para que mudanças de frequência,
+ * datas, status ou {@code notifications} valham já no próximo lembrete.
+ */
+@Component
+public class GoalReminderListener {
+
+    private final ObjectProvider<ReminderSchedule> reminderSchedule;
+
+    public GoalReminderListener(ObjectProvider<ReminderSchedule> reminderSchedule) {
+        this.reminderSchedule = reminderSchedule;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void onChange(Goal goal) {
+        goal.setNextReminderAt(reminderSchedule.getObject().next(goal, LocalDateTime.now()));
+    }
+}
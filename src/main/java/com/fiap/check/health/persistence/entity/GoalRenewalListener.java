@@ -0,0 +1,19 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Recalcula o {@code renew_on} a cada inserção e alteração de meta: o dia seguinte ao {@code endDate} enquanto a
+ * meta for recorrente e ainda não tiver sido renovada, e nulo nos demais casos. Só as metas pendentes de
+ * renovação têm valor, por isso a busca pelo índice idx_goals_renew_on não percorre as metas já renovadas.
+ */
+public class GoalRenewalListener {
+
+    @PrePersist
+    @PreUpdate
+    void onChange(Goal goal) {
+        goal.setRenewOn(Boolean.TRUE.equals(goal.getRecurring()) && goal.getEndDate() != null
+                && goal.getRenewedGoalId() == null ? goal.getEndDate().plusDays(1) : null);
+    }
+}
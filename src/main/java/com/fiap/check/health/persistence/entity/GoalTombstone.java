@@ -0,0 +1,39 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de meta excluída, para que o delta sync informe a exclusão aos clientes.
+ * Os ids de metas não são reutilizados, então o goal_id identifica o tombstone.
+ * São removidos após {@code goals.changes.tombstone-retention} (ver {@link GoalTombstoneHorizon}).
+ */
+@Entity
+@Table(name = "goal_tombstones", indexes = {
+        @Index(name = "idx_goal_tombstones_user_change", columnList = "user_id, change_seq, goal_id"),
+        @Index(name = "idx_goal_tombstones_deleted", columnList = "deleted_at, goal_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalTombstone {
+
+    @Id
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
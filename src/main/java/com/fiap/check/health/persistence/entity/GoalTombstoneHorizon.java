@@ -0,0 +1,35 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha única com o maior {@code change_seq} dos {@link GoalTombstone} já removidos pela retenção.
+ * Um cursor do delta sync até esse valor pode ter perdido exclusões e exige a sincronização completa.
+ */
+@Entity
+@Table(name = "goal_tombstone_horizon")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalTombstoneHorizon {
+
+    @Id
+    @Column(name = "id")
+    private Short id;
+
+    @Column(name = "purged_through_seq", nullable = false)
+    private Long purgedThroughSeq;
+
+    @Column(name = "purged_at", nullable = false)
+    private LocalDateTime purgedAt;
+}
@@ -0,0 +1,43 @@
+package com.fiap.check.health.persistence.entity;
+
+import com.fiap.check.health.model.GoalCategory;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lançamento do ledger de pontos: a recompensa de uma meta concluída.
+ * Uma meta pontua uma única vez (goal_id é a chave), mesmo que volte a ser concluída,
+ * e o lançamento permanece quando a meta é excluída.
+ */
+@Entity
+@Table(name = "points_ledger", indexes = {
+        @Index(name = "idx_points_ledger_user", columnList = "user_id, points")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointsLedgerEntry {
+
+    @Id
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "category", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private GoalCategory category;
+
+    @Column(name = "points", nullable = false)
+    private Integer points;
+
+    @Column(name = "awarded_at", nullable = false)
+    private LocalDateTime awardedAt;
+}
@@ -0,0 +1,47 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de um incremento de progresso. A tabela só recebe inserts, na mesma transação da meta, e é
+ * compactada pelo {@code recorded_at}: os registros antigos já estão somados em {@link ProgressRollup} e são
+ * removidos pelo {@code ProgressCompactionJob}. O histórico por meta é lido dos agregados, não desta tabela.
+ */
+@Entity
+@Table(name = "progress_entries", indexes = {
+        @Index(name = "idx_progress_entries_goal", columnList = "goal_id, recorded_at"),
+        @Index(name = "idx_progress_entries_recorded", columnList = "recorded_at, entry_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "increment", nullable = false)
+    private Integer increment;
+
+    // Progress.completed depois do incremento
+    @Column(name = "completed")
+    private Integer completed;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,69 @@
+package com.fiap.check.health.persistence.entity;
+
+import com.fiap.check.health.model.ProgressPeriod;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progresso de uma meta somado por dia ou por semana, atualizado a cada {@link ProgressEntry} na mesma
+ * transação. A chave começa pelo {@code goal_id}: o histórico de uma meta é uma leitura por faixa da chave
+ * primária, independente do volume de registros.
+ */
+@Entity
+@Table(name = "progress_rollups")
+@IdClass(ProgressRollup.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressRollup {
+
+    @Id
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Id
+    @Column(name = "period", length = 8)
+    @Enumerated(EnumType.STRING)
+    private ProgressPeriod period;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    // Soma dos incrementos no bucket
+    @Column(name = "increment", nullable = false)
+    private Long increment;
+
+    @Column(name = "entries", nullable = false)
+    private Integer entries;
+
+    // Progress.completed ao fim do bucket
+    @Column(name = "completed")
+    private Integer completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long goalId;
+
+        private ProgressPeriod period;
+
+        private LocalDate bucketStart;
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Badge conquistado por um usuário; cada badge é concedido uma única vez por usuário.
+ */
+@Entity
+@Table(name = "user_badges")
+@IdClass(UserBadge.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBadge {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Id
+    @Column(name = "badge_id")
+    private String badgeId;
+
+    // Meta cujo evento concedeu o badge
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Column(name = "awarded_at", nullable = false)
+    private LocalDateTime awardedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private String userId;
+
+        private String badgeId;
+    }
+}
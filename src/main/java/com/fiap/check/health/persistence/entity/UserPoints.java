@@ -0,0 +1,31 @@
+package com.fiap.check.health.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Total de pontos por usuário, mantido incrementalmente a partir do {@link PointsLedgerEntry}.
+ */
+@Entity
+@Table(name = "user_points")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPoints {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "points", nullable = false)
+    private Long points;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.model.GoalCategory;
+
+/**
+ * Quantidade de metas de um usuário em uma categoria.
+ */
+public record CategoryCountRow(
+        GoalCategory category,
+        Long count) {
+}
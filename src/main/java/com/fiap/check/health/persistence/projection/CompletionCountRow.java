@@ -0,0 +1,16 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.model.GoalCategory;
+
+/**
+ * Metas criadas em um mês (coorte) e quantas delas estão concluídas, por categoria, tipo e dificuldade.
+ */
+public record CompletionCountRow(
+        GoalCategory category,
+        String type,
+        String difficulty,
+        Integer year,
+        Integer month,
+        Long goals,
+        Long completed) {
+}
@@ -0,0 +1,9 @@
+package com.fiap.check.health.persistence.projection;
+
+/**
+ * Menor e maior goal_id da tabela; ambos nulos quando não há metas.
+ */
+public record GoalIdRangeRow(
+        Long minGoalId,
+        Long maxGoalId) {
+}
@@ -0,0 +1,22 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.model.Reward;
+
+import java.time.LocalDateTime;
+
+/**
+ * Colunas usadas pelo {@code GoalResponse}, exceto as do artigo (texto, quizzes e recomendações),
+ * que dominam o tamanho da linha.
+ */
+public record GoalRow(
+        Long goalId,
+        String userId,
+        String title,
+        String status,
+        LocalDateTime createdAt,
+        Progress progress,
+        Reward reward,
+        Long changeSeq,
+        LocalDateTime changedAt) {
+}
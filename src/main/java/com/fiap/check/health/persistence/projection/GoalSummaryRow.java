@@ -0,0 +1,17 @@
+package com.fiap.check.health.persistence.projection;
+
+/**
+ * Projeção enxuta de uma meta: apenas as colunas exibidas na tela inicial,
+ * sem as colunas de artigo.
+ */
+public record GoalSummaryRow(
+        Long goalId,
+        String userId,
+        String title,
+        String status,
+        Integer completed,
+        Integer total,
+        String unit,
+        Integer points,
+        String badge) {
+}
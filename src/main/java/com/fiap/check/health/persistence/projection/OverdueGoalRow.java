@@ -0,0 +1,12 @@
+package com.fiap.check.health.persistence.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Meta ativa com {@code endDate} vencido; {@code endDate} e {@code goalId} formam o cursor da expiração.
+ */
+public record OverdueGoalRow(
+        Long goalId,
+        String userId,
+        LocalDate endDate) {
+}
@@ -0,0 +1,22 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.model.Frequency;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Colunas de uma meta necessárias para disparar o lembrete e calcular o seguinte, sem o artigo.
+ */
+public record ReminderGoalRow(
+        Long goalId,
+        String userId,
+        String title,
+        String type,
+        String status,
+        Boolean notifications,
+        LocalDate startDate,
+        LocalDate endDate,
+        Frequency frequency,
+        LocalDateTime nextReminderAt) {
+}
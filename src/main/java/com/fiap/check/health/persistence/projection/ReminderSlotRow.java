@@ -0,0 +1,12 @@
+package com.fiap.check.health.persistence.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entrada da roda de lembretes: 16 bytes por meta na janela carregada; {@code nextReminderAt} e
+ * {@code goalId} formam o cursor da carga.
+ */
+public record ReminderSlotRow(
+        Long goalId,
+        LocalDateTime nextReminderAt) {
+}
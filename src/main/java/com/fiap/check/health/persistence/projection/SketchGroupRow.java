@@ -0,0 +1,15 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.analytics.SketchKind;
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.LocalDate;
+
+/**
+ * Sketches de um tipo, dia e categoria gravados por mais de uma instância.
+ */
+public record SketchGroupRow(
+        SketchKind kind,
+        LocalDate day,
+        GoalCategory category) {
+}
@@ -0,0 +1,13 @@
+package com.fiap.check.health.persistence.projection;
+
+import com.fiap.check.health.model.GoalCategory;
+
+/**
+ * Pontos de um usuário em uma categoria: o total e a parte lançada na semana corrente.
+ */
+public record UserCategoryPointsRow(
+        String userId,
+        GoalCategory category,
+        Long points,
+        Long weekPoints) {
+}
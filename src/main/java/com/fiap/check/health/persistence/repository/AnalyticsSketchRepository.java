@@ -0,0 +1,47 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.analytics.SketchKind;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.AnalyticsSketch;
+import com.fiap.check.health.persistence.projection.SketchGroupRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnalyticsSketchRepository extends JpaRepository<AnalyticsSketch, AnalyticsSketch.Key> {
+
+    // A instância regrava o próprio sketch inteiro: repetir a gravação não conta nada duas vezes
+    @Modifying
+    @Query("insert into AnalyticsSketch (kind, day, category, instanceId, data, updatedAt) "
+            + "values (:kind, :day, :category, :instanceId, :data, :updatedAt) "
+            + "on conflict(kind, day, category, instanceId) do update set data = excluded.data, "
+            + "updatedAt = excluded.updatedAt")
+    int upsert(@Param("kind") SketchKind kind, @Param("day") LocalDate day, @Param("category") GoalCategory category,
+               @Param("instanceId") String instanceId, @Param("data") byte[] data,
+               @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Leitura pelo índice idx_analytics_sketches_day
+    @Query("select s from AnalyticsSketch s where s.day between :from and :to")
+    List<AnalyticsSketch> findByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.fiap.check.health.persistence.projection.SketchGroupRow(s.kind, s.day, s.category) "
+            + "from AnalyticsSketch s where s.day < :before "
+            + "group by s.kind, s.day, s.category having count(s) > 1 "
+            + "order by s.day, s.kind, s.category")
+    List<SketchGroupRow> findGroupsToCompact(@Param("before") LocalDate before, Pageable pageable);
+
+    List<AnalyticsSketch> findByKindAndDayAndCategory(SketchKind kind, LocalDate day, GoalCategory category);
+
+    @Modifying
+    @Query("delete from AnalyticsSketch s where s.kind = :kind and s.day = :day and s.category = :category")
+    int deleteGroup(@Param("kind") SketchKind kind, @Param("day") LocalDate day,
+                    @Param("category") GoalCategory category);
+}
@@ -0,0 +1,87 @@
+package com.fiap.check.health.persistence.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Sequência global de alterações de metas ({@code goals.change_seq} e tombstones), base do delta sync.
+ * Todas as metas alteradas em uma mesma transação recebem o mesmo valor (um nextval por transação,
+ * inclusive nos lotes); o cursor desempata pelo goal_id.
+ * <p>
+ * O nextval é tomado na escrita, mas as transações confirmam fora de ordem: uma alteração com valor menor
+ * pode ficar visível depois de outra com valor maior. Cada alteração grava também o instante em que foi
+ * feita (depois do nextval), e as anteriores a {@link #safeHorizon()} não têm mais transação aberta abaixo
+ * delas; só até elas o cursor do delta sync pode avançar.
+ */
+@Component
+public class GoalChangeSequence {
+
+    public static final String NAME = "goal_change_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Resolvido sob demanda: o listener da entidade é criado junto com o EntityManagerFactory
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    // Maior duração de uma transação de escrita de metas somada à diferença de relógio entre as réplicas
+    private final Duration safeHorizon;
+    private volatile String nextValueSql;
+
+    public GoalChangeSequence(JdbcTemplate jdbcTemplate, ObjectProvider<EntityManagerFactory> entityManagerFactory,
+                              @Value("${goals.changes.safe-horizon:30s}") Duration safeHorizon) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.safeHorizon = safeHorizon;
+    }
+
+    /**
+     * Valor da transação corrente; fora de uma transação, um novo valor por chamada.
+     */
+    public long forCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return next();
+        }
+        Long bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound == null) {
+            bound = next();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(GoalChangeSequence.this);
+                }
+            });
+        }
+        return bound;
+    }
+
+    /**
+     * Alterações feitas antes deste instante já foram confirmadas ou desfeitas, assim como todas as de
+     * {@code change_seq} menor.
+     */
+    public LocalDateTime safeHorizon() {
+        return LocalDateTime.now().minus(safeHorizon);
+    }
+
+    private long next() {
+        return jdbcTemplate.queryForObject(nextValueSql(), Long.class);
+    }
+
+    private String nextValueSql() {
+        if (nextValueSql == null) {
+            Dialect dialect = entityManagerFactory.getObject().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect();
+            nextValueSql = dialect.getSequenceSupport().getSequenceNextValString(NAME);
+        }
+        return nextValueSql;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.check.health.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GoalReminderClaim {
+
+    /**
+     * Lembrete a disparar: {@code due} é o {@code next_reminder_at} lido e {@code next} o lembrete seguinte
+     * (nulo quando não há mais lembretes).
+     */
+    record Claim(long goalId, LocalDateTime due, LocalDateTime next) {
+    }
+
+    /**
+     * Avança o {@code next_reminder_at} das metas em um único batch JDBC, só onde ele ainda vale {@code due}.
+     * Retorna, na ordem dos claims, se a linha foi atualizada por esta chamada: outra réplica que disputa o
+     * mesmo lembrete não o dispara de novo.
+     */
+    boolean[] claimReminders(List<Claim> claims);
+}
@@ -0,0 +1,47 @@
+package com.fiap.check.health.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Fragmento do {@link GoalRepository}. Atualização condicional em JDBC, fora do contexto de persistência:
+ * não passa pelos listeners da entidade nem altera o {@code change_seq}, já que o próximo lembrete não
+ * aparece nas respostas.
+ */
+class GoalReminderClaimImpl implements GoalReminderClaim {
+
+    private static final String CLAIM = "update goals set next_reminder_at = ? "
+            + "where goal_id = ? and next_reminder_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    GoalReminderClaimImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] claimReminders(List<Claim> claims) {
+        int[][] counts = jdbcTemplate.batchUpdate(CLAIM, claims, claims.size(), (statement, claim) -> {
+            if (claim.next() != null) {
+                statement.setTimestamp(1, Timestamp.valueOf(claim.next()));
+            } else {
+                statement.setNull(1, Types.TIMESTAMP);
+            }
+            statement.setLong(2, claim.goalId());
+            statement.setTimestamp(3, Timestamp.valueOf(claim.due()));
+        });
+        boolean[] claimed = new boolean[claims.size()];
+        int i = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2) quando o driver não informa a contagem
+                claimed[i++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return claimed;
+    }
+}
@@ -1,21 +1,199 @@
 package com.fiap.check.health.persistence.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fiap.check.health.persistence.entity.Goal;
 import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.projection.CategoryCountRow;
+import com.fiap.check.health.persistence.projection.CompletionCountRow;
+import com.fiap.check.health.persistence.projection.GoalIdRangeRow;
+import com.fiap.check.health.persistence.projection.GoalRow;
+import com.fiap.check.health.persistence.projection.GoalSummaryRow;
+import com.fiap.check.health.persistence.projection.OverdueGoalRow;
+import com.fiap.check.health.persistence.projection.ReminderGoalRow;
+import com.fiap.check.health.persistence.projection.ReminderSlotRow;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface GoalRepository extends JpaRepository<Goal, Long> {
+public interface GoalRepository extends JpaRepository<Goal, Long>, GoalReminderClaim {
 
     // Consultas adicionais podem ser definidas aqui
     // Exemplo: buscar goals por usuário
     List<Goal> findByUserId(String userId);
 
+    // Listagem paginada do dono da meta (índices idx_goals_user / idx_goals_user_status)
+    Page<Goal> findByUserId(String userId, Pageable pageable);
+
+    Page<Goal> findByUserIdAndStatus(String userId, String status, Pageable pageable);
+
+    boolean existsByGoalIdAndUserId(Long goalId, String userId);
+
+    // Leituras sem as colunas do artigo, usadas quando ?fields= não pede "article"
+    @Query("select new com.fiap.check.health.persistence.projection.GoalRow("
+            + "g.goalId, g.userId, g.title, g.status, g.createdAt, g.progress, g.reward, g.changeSeq, g.changedAt) "
+            + "from Goal g where g.goalId = :goalId")
+    Optional<GoalRow> findRowById(@Param("goalId") Long goalId);
+
+    @Query("select new com.fiap.check.health.persistence.projection.GoalRow("
+            + "g.goalId, g.userId, g.title, g.status, g.createdAt, g.progress, g.reward, g.changeSeq, g.changedAt) "
+            + "from Goal g where g.goalId in :goalIds")
+    List<GoalRow> findRowsByGoalIdIn(@Param("goalIds") Collection<Long> goalIds);
+
+    @Query(value = "select new com.fiap.check.health.persistence.projection.GoalRow("
+            + "g.goalId, g.userId, g.title, g.status, g.createdAt, g.progress, g.reward, g.changeSeq, g.changedAt) "
+            + "from Goal g where g.userId = :userId",
+            countQuery = "select count(g) from Goal g where g.userId = :userId")
+    Page<GoalRow> findRowsByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query(value = "select new com.fiap.check.health.persistence.projection.GoalRow("
+            + "g.goalId, g.userId, g.title, g.status, g.createdAt, g.progress, g.reward, g.changeSeq, g.changedAt) "
+            + "from Goal g where g.userId = :userId and g.status = :status",
+            countQuery = "select count(g) from Goal g where g.userId = :userId and g.status = :status")
+    Page<GoalRow> findRowsByUserIdAndStatus(@Param("userId") String userId, @Param("status") String status,
+                                            Pageable pageable);
+
+    // Delta sync: metas alteradas depois do cursor (change_seq, goal_id), pelo índice idx_goals_user_change
+    @Query("select new com.fiap.check.health.persistence.projection.GoalRow("
+            + "g.goalId, g.userId, g.title, g.status, g.createdAt, g.progress, g.reward, g.changeSeq, g.changedAt) "
+            + "from Goal g where g.userId = :userId "
+            + "and (g.changeSeq > :changeSeq or (g.changeSeq = :changeSeq and g.goalId > :goalId)) "
+            + "order by g.changeSeq, g.goalId")
+    List<GoalRow> findRowsChangedAfter(@Param("userId") String userId, @Param("changeSeq") long changeSeq,
+                                       @Param("goalId") long goalId, Pageable pageable);
+
+    @Query("select g from Goal g where g.userId = :userId "
+            + "and (g.changeSeq > :changeSeq or (g.changeSeq = :changeSeq and g.goalId > :goalId)) "
+            + "order by g.changeSeq, g.goalId")
+    List<Goal> findChangedAfter(@Param("userId") String userId, @Param("changeSeq") long changeSeq,
+                                @Param("goalId") long goalId, Pageable pageable);
+
+    // Resumo para a tela inicial: só as colunas exibidas, sem carregar o artigo
+    @Query("select new com.fiap.check.health.persistence.projection.GoalSummaryRow("
+            + "g.goalId, g.userId, g.title, g.status, g.progress.completed, g.progress.total, g.progress.unit, "
+            + "g.reward.points, g.reward.badge) "
+            + "from Goal g where g.userId = :userId order by g.goalId desc")
+    List<GoalSummaryRow> findSummariesByUserId(@Param("userId") String userId);
+
+    // Metas do usuário com o status, por categoria, para as regras de badges
+    @Query("select new com.fiap.check.health.persistence.projection.CategoryCountRow(g.category, count(g)) "
+            + "from Goal g where g.userId = :userId and g.status = :status group by g.category")
+    List<CategoryCountRow> countByCategory(@Param("userId") String userId, @Param("status") String status);
+
+    // Recálculo dos agregados de conclusão: a tabela é lida em faixas de goal_id (chave primária) em paralelo
+    @Query("select new com.fiap.check.health.persistence.projection.GoalIdRangeRow(min(g.goalId), max(g.goalId)) "
+            + "from Goal g")
+    GoalIdRangeRow findGoalIdRange();
+
+    @Query("select new com.fiap.check.health.persistence.projection.CompletionCountRow("
+            + "g.category, g.type, g.difficulty, year(g.createdAt), month(g.createdAt), count(g), "
+            + "sum(case when g.status = :completedStatus then 1 else 0 end)) "
+            + "from Goal g where g.goalId >= :fromGoalId and g.goalId < :toGoalId and g.createdAt is not null "
+            + "group by g.category, g.type, g.difficulty, year(g.createdAt), month(g.createdAt)")
+    List<CompletionCountRow> countCompletionInRange(@Param("fromGoalId") long fromGoalId,
+                                                    @Param("toGoalId") long toGoalId,
+                                                    @Param("completedStatus") String completedStatus);
+
+    // Expiração: próximo bloco de metas ativas vencidas após o cursor (end_date, goal_id), pelo índice
+    // idx_goals_status_end
+    @Query("select new com.fiap.check.health.persistence.projection.OverdueGoalRow(g.goalId, g.userId, g.endDate) "
+            + "from Goal g where g.status = :status and g.endDate < :today "
+            + "and (g.endDate > :endDate or (g.endDate = :endDate and g.goalId > :goalId)) "
+            + "order by g.endDate, g.goalId")
+    List<OverdueGoalRow> findOverdueAfter(@Param("status") String status, @Param("today") LocalDate today,
+                                          @Param("endDate") LocalDate endDate, @Param("goalId") long goalId,
+                                          Pageable pageable);
+
+    // Expiração: metas do bloco alteradas pelo UPDATE da transação atual (o change_seq é o da transação)
+    @Query("select g.goalId from Goal g where g.goalId in :goalIds and g.status = :status "
+            + "and g.changeSeq = :changeSeq")
+    List<Long> findGoalIdsByChange(@Param("goalIds") Collection<Long> goalIds, @Param("status") String status,
+                                   @Param("changeSeq") long changeSeq);
+
+    // Renovação: metas recorrentes com o período encerrado, pelo índice idx_goals_renew_on. As renovadas saem da
+    // consulta (renewed_goal_id); as arquivadas ficam pendentes até voltarem a outro status
+    @Query("select g from Goal g where g.renewOn <= :today and g.renewedGoalId is null "
+            + "and g.status <> :archivedStatus order by g.renewOn, g.goalId")
+    List<Goal> findDueForRenewal(@Param("today") LocalDate today, @Param("archivedStatus") String archivedStatus,
+                                 Pageable pageable);
+
+    // Lembretes: próximo bloco da janela [from, to) após o cursor (next_reminder_at, goal_id), pelo índice
+    // idx_goals_next_reminder, só das partições (goal_id mod partitions) atribuídas a esta réplica
+    @Query("select new com.fiap.check.health.persistence.projection.ReminderSlotRow(g.goalId, g.nextReminderAt) "
+            + "from Goal g where g.nextReminderAt >= :from and g.nextReminderAt < :to "
+            + "and mod(g.goalId, :partitions) in :partitionIds "
+            + "and (g.nextReminderAt > :after or (g.nextReminderAt = :after and g.goalId > :goalId)) "
+            + "order by g.nextReminderAt, g.goalId")
+    List<ReminderSlotRow> findRemindersAfter(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                             @Param("partitions") int partitions,
+                                             @Param("partitionIds") Collection<Integer> partitionIds,
+                                             @Param("after") LocalDateTime after, @Param("goalId") long goalId,
+                                             Pageable pageable);
+
+    @Query("select new com.fiap.check.health.persistence.projection.ReminderGoalRow("
+            + "g.goalId, g.userId, g.title, g.type, g.status, g.notifications, g.startDate, g.endDate, g.frequency, "
+            + "g.nextReminderAt) "
+            + "from Goal g where g.goalId in :goalIds")
+    List<ReminderGoalRow> findReminderRowsByGoalIdIn(@Param("goalIds") Collection<Long> goalIds);
+
+    // Bloqueia a linha para o read-modify-write da meta: o bitmap de check-ins e o progresso são regravados a partir
+    // da cópia lida, e uma escrita concorrente a partir de uma cópia antiga apagaria o check-in
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Goal g where g.goalId = :goalId")
+    Optional<Goal> findByIdForUpdate(@Param("goalId") Long goalId);
+
+    // Idem para um lote, em ordem de goal_id para que lotes concorrentes não entrem em deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select g from Goal g where g.goalId in :goalIds order by g.goalId")
+    List<Goal> findAllByIdForUpdate(@Param("goalIds") Collection<Long> goalIds);
+
+    // Escritas diretas: uma instrução, sem carregar as entidades; o retorno é o número de linhas afetadas.
+    // Não passam pelo GoalChangeListener: exclusões gravam tombstones e as trocas de status recebem o change_seq
+    // e o changed_at
+    @Modifying
+    @Query("delete from Goal g where g.goalId = :goalId")
+    int deleteByGoalId(@Param("goalId") Long goalId);
+
+    @Modifying
+    @Query("delete from Goal g where g.userId = :userId")
+    int deleteAllByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Query("delete from Goal g where g.userId = :userId and g.goalId in :goalIds")
+    int deleteAllByUserIdAndGoalIdIn(@Param("userId") String userId, @Param("goalIds") Collection<Long> goalIds);
+
+    @Modifying
+    @Query("update Goal g set g.status = :status, g.changeSeq = :changeSeq, g.changedAt = :changedAt "
+            + "where g.userId = :userId and g.status <> :status")
+    int updateStatusByUserId(@Param("userId") String userId, @Param("status") String status,
+                             @Param("changeSeq") Long changeSeq, @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying
+    @Query("update Goal g set g.status = :status, g.changeSeq = :changeSeq, g.changedAt = :changedAt "
+            + "where g.userId = :userId and g.goalId in :goalIds and g.status <> :status")
+    int updateStatusByUserIdAndGoalIdIn(@Param("userId") String userId, @Param("goalIds") Collection<Long> goalIds,
+                                        @Param("status") String status, @Param("changeSeq") Long changeSeq,
+                                        @Param("changedAt") LocalDateTime changedAt);
+
+    @Modifying
+    @Query("update Goal g set g.status = :status, g.changeSeq = :changeSeq, g.changedAt = :changedAt "
+            + "where g.goalId in :goalIds and g.status = :previousStatus")
+    int updateStatusByGoalIdIn(@Param("goalIds") Collection<Long> goalIds,
+                               @Param("previousStatus") String previousStatus, @Param("status") String status,
+                               @Param("changeSeq") Long changeSeq, @Param("changedAt") LocalDateTime changedAt);
+
     // Exemplo: buscar goals por status
     List<Goal> findByStatus(String status);
 
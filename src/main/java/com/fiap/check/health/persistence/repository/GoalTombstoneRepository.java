@@ -0,0 +1,63 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.GoalTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GoalTombstoneRepository extends JpaRepository<GoalTombstone, Long> {
+
+    // Tombstones gravados com insert ... select, na mesma instrução que encontra as metas a excluir
+    @Modifying
+    @Query("insert into GoalTombstone (goalId, userId, changeSeq, deletedAt) "
+            + "select g.goalId, g.userId, :changeSeq, :deletedAt from Goal g where g.goalId = :goalId")
+    int insertForGoal(@Param("goalId") Long goalId, @Param("changeSeq") Long changeSeq,
+                      @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("insert into GoalTombstone (goalId, userId, changeSeq, deletedAt) "
+            + "select g.goalId, g.userId, :changeSeq, :deletedAt from Goal g where g.userId = :userId")
+    int insertForUser(@Param("userId") String userId, @Param("changeSeq") Long changeSeq,
+                      @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("insert into GoalTombstone (goalId, userId, changeSeq, deletedAt) "
+            + "select g.goalId, g.userId, :changeSeq, :deletedAt from Goal g "
+            + "where g.userId = :userId and g.goalId in :goalIds")
+    int insertForUserAndGoalIds(@Param("userId") String userId, @Param("goalIds") Collection<Long> goalIds,
+                                @Param("changeSeq") Long changeSeq, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Delta sync: exclusões depois do cursor (change_seq, goal_id), pelo índice idx_goal_tombstones_user_change
+    @Query("select t from GoalTombstone t where t.userId = :userId "
+            + "and (t.changeSeq > :changeSeq or (t.changeSeq = :changeSeq and t.goalId > :goalId)) "
+            + "order by t.changeSeq, t.goalId")
+    List<GoalTombstone> findChangedAfter(@Param("userId") String userId, @Param("changeSeq") long changeSeq,
+                                         @Param("goalId") long goalId, Pageable pageable);
+
+    // Retenção: bloco mais antigo anterior ao corte, pelo índice idx_goal_tombstones_deleted
+    @Query("select t from GoalTombstone t where t.deletedAt < :before order by t.deletedAt, t.goalId")
+    List<GoalTombstone> findDeletedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from GoalTombstone t where t.goalId in :goalIds")
+    int deleteByGoalIdIn(@Param("goalIds") Collection<Long> goalIds);
+
+    // Só avança: gravado na mesma transação que remove os tombstones até changeSeq
+    @Modifying
+    @Query("insert into GoalTombstoneHorizon (id, purgedThroughSeq, purgedAt) values (1, :changeSeq, :purgedAt) "
+            + "on conflict(id) do update set purgedThroughSeq = greatest(purgedThroughSeq, excluded.purgedThroughSeq), "
+            + "purgedAt = excluded.purgedAt")
+    int raisePurgedThrough(@Param("changeSeq") long changeSeq, @Param("purgedAt") LocalDateTime purgedAt);
+
+    @Query("select h.purgedThroughSeq from GoalTombstoneHorizon h where h.id = 1")
+    Optional<Long> findPurgedThroughSeq();
+}
@@ -0,0 +1,36 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // Primeira execução do job: 0 quando a linha já existe
+    @Modifying
+    @Query("insert into JobLease (name, owner, lockedUntil) values (:name, :owner, :lockedUntil) "
+            + "on conflict do nothing")
+    int insertIfAbsent(@Param("name") String name, @Param("owner") String owner,
+                       @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // Assume a lease vencida (ou já própria); a condição no WHERE torna a disputa entre instâncias atômica
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.lockedUntil = :lockedUntil "
+            + "where l.name = :name and (l.lockedUntil < :now or l.owner = :owner)")
+    int takeOver(@Param("name") String name, @Param("owner") String owner,
+                 @Param("lockedUntil") LocalDateTime lockedUntil, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update JobLease l set l.lockedUntil = :lockedUntil where l.name = :name and l.owner = :owner")
+    int extend(@Param("name") String name, @Param("owner") String owner,
+               @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // Leases vigentes com o prefixo: membros vivos de um grupo de réplicas
+    long countByNameStartingWithAndLockedUntilAfter(String prefix, LocalDateTime now);
+}
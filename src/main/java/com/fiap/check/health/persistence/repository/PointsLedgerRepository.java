@@ -0,0 +1,47 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.PointsLedgerEntry;
+import com.fiap.check.health.persistence.projection.UserCategoryPointsRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface PointsLedgerRepository extends JpaRepository<PointsLedgerEntry, Long> {
+
+    // 0 quando a meta já pontuou: a chave do ledger torna a premiação idempotente
+    @Modifying
+    @Query("insert into PointsLedgerEntry (goalId, userId, category, points, awardedAt) "
+            + "values (:goalId, :userId, :category, :points, :awardedAt) on conflict do nothing")
+    int insertIfAbsent(@Param("goalId") Long goalId, @Param("userId") String userId,
+                       @Param("category") GoalCategory category, @Param("points") Integer points,
+                       @Param("awardedAt") LocalDateTime awardedAt);
+
+    // Keyset dos usuários com lançamentos, em blocos para a reconciliação
+    @Query("select distinct l.userId from PointsLedgerEntry l where l.userId > :after order by l.userId")
+    List<String> findUserIdsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Total por usuário e categoria, e a parte lançada a partir de {@code weekStart}, dos lançamentos
+     * anteriores a {@code before}. Lido em streaming (fetch size) para montar os rankings sem carregar
+     * o resultado inteiro; deve ser consumido dentro de uma transação e fechado.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.fiap.check.health.persistence.projection.UserCategoryPointsRow("
+            + "l.userId, l.category, sum(l.points), "
+            + "sum(case when l.awardedAt >= :weekStart then l.points else 0 end)) "
+            + "from PointsLedgerEntry l where l.awardedAt < :before group by l.userId, l.category")
+    Stream<UserCategoryPointsRow> streamPointsByUserAndCategory(@Param("weekStart") LocalDateTime weekStart,
+                                                                @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,13 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+
+import java.util.List;
+
+public interface ProgressEntryBatchInsert {
+
+    /**
+     * Grava os registros em um único batch JDBC, sem carregá-los no contexto de persistência.
+     */
+    void insertAll(List<ProgressEntry> entries);
+}
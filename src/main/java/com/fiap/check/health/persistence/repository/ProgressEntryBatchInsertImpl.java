@@ -0,0 +1,39 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Fragmento do {@link ProgressEntryRepository}. Com {@code IDENTITY} o Hibernate insere uma linha por vez
+ * para ler cada id gerado; os registros não precisam do id, então o lote sai como batch JDBC.
+ */
+class ProgressEntryBatchInsertImpl implements ProgressEntryBatchInsert {
+
+    private static final String INSERT = "insert into progress_entries (goal_id, user_id, increment, completed, "
+            + "recorded_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ProgressEntryBatchInsertImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ProgressEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (statement, entry) -> {
+            statement.setLong(1, entry.getGoalId());
+            statement.setString(2, entry.getUserId());
+            statement.setInt(3, entry.getIncrement());
+            if (entry.getCompleted() != null) {
+                statement.setInt(4, entry.getCompleted());
+            } else {
+                statement.setNull(4, Types.INTEGER);
+            }
+            statement.setTimestamp(5, Timestamp.valueOf(entry.getRecordedAt()));
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProgressEntryRepository extends JpaRepository<ProgressEntry, Long>, ProgressEntryBatchInsert {
+
+    // Compactação: bloco mais antigo anterior ao corte, pelo índice idx_progress_entries_recorded
+    @Query("select e.entryId from ProgressEntry e where e.recordedAt < :before order by e.recordedAt, e.entryId")
+    List<Long> findIdsRecordedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ProgressEntry e where e.entryId in :entryIds")
+    int deleteByEntryIdIn(@Param("entryIds") Collection<Long> entryIds);
+
+    // Exclusão de metas, pelo índice idx_progress_entries_goal, na transação do DELETE das metas
+    @Modifying
+    @Query("delete from ProgressEntry e where e.goalId = :goalId")
+    int deleteByGoalId(@Param("goalId") Long goalId);
+
+    // Antes do DELETE das metas: os ids saem da própria tabela goals, restritos ao dono
+    @Modifying
+    @Query("delete from ProgressEntry e where e.goalId in (select g.goalId from Goal g where g.userId = :userId)")
+    int deleteByGoalOwner(@Param("userId") String userId);
+
+    @Modifying
+    @Query("delete from ProgressEntry e where e.goalId in "
+            + "(select g.goalId from Goal g where g.userId = :userId and g.goalId in :goalIds)")
+    int deleteByGoalOwnerAndGoalIdIn(@Param("userId") String userId, @Param("goalIds") Collection<Long> goalIds);
+}
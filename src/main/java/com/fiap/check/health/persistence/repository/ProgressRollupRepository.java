@@ -0,0 +1,50 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.persistence.entity.ProgressRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProgressRollupRepository extends JpaRepository<ProgressRollup, ProgressRollup.Key> {
+
+    // Upsert incremental na mesma transação do progresso
+    @Modifying
+    @Query("insert into ProgressRollup (goalId, period, bucketStart, userId, increment, entries, completed, updatedAt) "
+            + "values (:goalId, :period, :bucketStart, :userId, :increment, :entries, :completed, :updatedAt) "
+            + "on conflict(goalId, period, bucketStart) do update set increment = increment + excluded.increment, "
+            + "entries = entries + excluded.entries, completed = excluded.completed, updatedAt = excluded.updatedAt")
+    int addEntries(@Param("goalId") Long goalId, @Param("period") ProgressPeriod period,
+                   @Param("bucketStart") LocalDate bucketStart, @Param("userId") String userId,
+                   @Param("increment") long increment, @Param("entries") int entries,
+                   @Param("completed") Integer completed, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Histórico de uma meta: faixa da chave primária (goal_id, period, bucket_start)
+    @Query("select r from ProgressRollup r where r.goalId = :goalId and r.period = :period "
+            + "and r.bucketStart between :from and :to order by r.bucketStart")
+    List<ProgressRollup> findHistory(@Param("goalId") Long goalId, @Param("period") ProgressPeriod period,
+                                     @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Exclusão de metas: pelo prefixo goal_id da chave primária, na transação do DELETE das metas
+    @Modifying
+    @Query("delete from ProgressRollup r where r.goalId = :goalId")
+    int deleteByGoalId(@Param("goalId") Long goalId);
+
+    // Antes do DELETE das metas: os ids saem da própria tabela goals, restritos ao dono
+    @Modifying
+    @Query("delete from ProgressRollup r where r.goalId in (select g.goalId from Goal g where g.userId = :userId)")
+    int deleteByGoalOwner(@Param("userId") String userId);
+
+    @Modifying
+    @Query("delete from ProgressRollup r where r.goalId in "
+            + "(select g.goalId from Goal g where g.userId = :userId and g.goalId in :goalIds)")
+    int deleteByGoalOwnerAndGoalIdIn(@Param("userId") String userId, @Param("goalIds") Collection<Long> goalIds);
+}
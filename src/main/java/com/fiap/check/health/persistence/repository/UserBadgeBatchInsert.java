@@ -0,0 +1,14 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.UserBadge;
+
+import java.util.List;
+
+public interface UserBadgeBatchInsert {
+
+    /**
+     * Grava os badges em um único batch JDBC, ignorando os que o usuário já tem. Retorna o número de
+     * linhas inseridas.
+     */
+    int insertAllIfAbsent(List<UserBadge> badges);
+}
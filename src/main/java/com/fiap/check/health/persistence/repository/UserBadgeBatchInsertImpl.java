@@ -0,0 +1,51 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.UserBadge;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Fragmento do {@link UserBadgeRepository}. O {@code on conflict} do HQL só é emulado no H2 para uma linha,
+ * então o lote usa um insert condicional ({@code where not exists}), válido em H2 e PostgreSQL, enviado
+ * como batch JDBC. Os casts tipam os parâmetros da lista de select no PostgreSQL.
+ */
+class UserBadgeBatchInsertImpl implements UserBadgeBatchInsert {
+
+    private static final String INSERT = "insert into user_badges (user_id, badge_id, goal_id, awarded_at) "
+            + "select cast(? as varchar(255)), cast(? as varchar(255)), cast(? as bigint), cast(? as timestamp) "
+            + "where not exists (select 1 from user_badges where user_id = ? and badge_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    UserBadgeBatchInsertImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAllIfAbsent(List<UserBadge> badges) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT, badges, badges.size(), (statement, badge) -> {
+            statement.setString(1, badge.getUserId());
+            statement.setString(2, badge.getBadgeId());
+            if (badge.getGoalId() != null) {
+                statement.setLong(3, badge.getGoalId());
+            } else {
+                statement.setNull(3, Types.BIGINT);
+            }
+            statement.setTimestamp(4, Timestamp.valueOf(badge.getAwardedAt()));
+            statement.setString(5, badge.getUserId());
+            statement.setString(6, badge.getBadgeId());
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2) quando o driver não informa a contagem
+                inserted += count > 0 ? count : count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+            }
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.UserBadge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public interface UserBadgeRepository extends JpaRepository<UserBadge, UserBadge.Key>, UserBadgeBatchInsert {
+
+    @Query("select b.badgeId from UserBadge b where b.userId = :userId")
+    Set<String> findBadgeIdsByUserId(@Param("userId") String userId);
+
+    List<UserBadge> findByUserIdOrderByAwardedAtDesc(String userId);
+
+    // Uma linha por vez, sem falhar se outra instância já concedeu o badge
+    @Modifying
+    @Query("insert into UserBadge (userId, badgeId, goalId, awardedAt) "
+            + "values (:userId, :badgeId, :goalId, :awardedAt) on conflict do nothing")
+    int insertIfAbsent(@Param("userId") String userId, @Param("badgeId") String badgeId,
+                       @Param("goalId") Long goalId, @Param("awardedAt") LocalDateTime awardedAt);
+}
@@ -0,0 +1,50 @@
+package com.fiap.check.health.persistence.repository;
+
+import com.fiap.check.health.persistence.entity.UserPoints;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserPointsRepository extends JpaRepository<UserPoints, String> {
+
+    @Query("select p.points from UserPoints p where p.userId = :userId")
+    Optional<Long> findPointsByUserId(@Param("userId") String userId);
+
+    // Upsert incremental na mesma transação da conclusão da meta
+    @Modifying
+    @Query("insert into UserPoints (userId, points, updatedAt) values (:userId, :points, :updatedAt) "
+            + "on conflict(userId) do update set points = points + excluded.points, updatedAt = excluded.updatedAt")
+    int addPoints(@Param("userId") String userId, @Param("points") long points,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Reconciliação: trava as linhas do bloco em ordem de user_id antes do recálculo. Sem a trava, sob READ
+    // COMMITTED o UPDATE abaixo soma o ledger com um snapshot anterior a um addPoints concorrente e sobrescreve
+    // o total já incrementado; com ela, o addPoints em andamento termina antes e os seguintes somam sobre o recálculo
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p.userId from UserPoints p where p.userId in :userIds order by p.userId")
+    List<String> lockByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // Reconciliação: reescreve os totais do bloco de usuários a partir do ledger
+    @Modifying
+    @Query("update UserPoints p set p.points = coalesce((select sum(l.points) from PointsLedgerEntry l "
+            + "where l.userId = p.userId), 0), p.updatedAt = :updatedAt where p.userId in :userIds")
+    int rebuildFromLedger(@Param("userIds") Collection<String> userIds, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Reconciliação: usuários com lançamentos no ledger e ainda sem total
+    @Modifying
+    @Query("insert into UserPoints (userId, points, updatedAt) "
+            + "select l.userId, sum(l.points), :updatedAt from PointsLedgerEntry l where l.userId in :userIds "
+            + "and not exists (select 1 from UserPoints p where p.userId = l.userId) group by l.userId")
+    int insertMissingFromLedger(@Param("userIds") Collection<String> userIds,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,53 @@
+package com.fiap.check.health.reminder;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * Horários dos lembretes ({@code goals.reminders}) e o funcionamento do {@link ReminderScheduler}.
+ */
+@Data
+@ConfigurationProperties(prefix = "goals.reminders")
+public class ReminderProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Intervalo do dia em que os lembretes diários são distribuídos; semanais e mensais saem no início dele.
+     */
+    private LocalTime dayStart = LocalTime.of(8, 0);
+
+    private LocalTime dayEnd = LocalTime.of(20, 0);
+
+    /**
+     * Resolução do timing wheel e intervalo entre as rodadas de disparo.
+     */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /**
+     * Quanto à frente os lembretes são carregados do banco; a janela avança em fatias deste tamanho.
+     */
+    private Duration window = Duration.ofMinutes(15);
+
+    /**
+     * Lembretes disparados por consulta, claim e envio ao Kafka.
+     */
+    private int batchSize = 500;
+
+    private int loadPageSize = 1000;
+
+    /**
+     * Partições ({@code goal_id mod partitions}) divididas entre as réplicas; não deve mudar com réplicas no ar.
+     */
+    private int partitions = 16;
+
+    private Duration rebalanceInterval = Duration.ofSeconds(30);
+
+    /**
+     * Validade das leases de membro e de partição; bem maior que {@code rebalance-interval}.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(2);
+}
@@ -0,0 +1,130 @@
+package com.fiap.check.health.reminder;
+
+import com.fiap.check.health.model.Frequency;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.ReminderGoalRow;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Horários dos lembretes de uma meta a partir da {@code Frequency}: {@code timesPerPeriod} lembretes por
+ * período ({@code periodicity}, ou o {@code type} da meta quando ausente), entre {@code startDate} e
+ * {@code endDate}.
+ * <ul>
+ *     <li>{@code daily}: distribuídos entre {@code goals.reminders.day-start} e {@code day-end};</li>
+ *     <li>{@code weekly} e {@code monthly}: distribuídos pelos dias do período, às {@code day-start}. Os
+ *     períodos começam no {@code startDate}.</li>
+ * </ul>
+ */
+@Component
+@EnableConfigurationProperties(ReminderProperties.class)
+public class ReminderSchedule {
+
+    static final String DAILY = "daily";
+    static final String WEEKLY = "weekly";
+    static final String MONTHLY = "monthly";
+
+    private final LocalTime dayStart;
+    private final long daySpanSeconds;
+
+    public ReminderSchedule(ReminderProperties properties) {
+        if (!properties.getDayEnd().isAfter(properties.getDayStart())) {
+            throw new IllegalArgumentException("goals.reminders.day-end deve ser posterior a day-start");
+        }
+        this.dayStart = properties.getDayStart();
+        this.daySpanSeconds = Duration.between(dayStart, properties.getDayEnd()).toSeconds();
+    }
+
+    /**
+     * Próximo lembrete da meta depois de {@code after}, ou {@code null} se a meta não tem lembretes.
+     */
+    public LocalDateTime next(Goal goal, LocalDateTime after) {
+        return next(goal.getStatus(), goal.getNotifications(), goal.getType(), goal.getFrequency(),
+                goal.getStartDate(), goal.getEndDate(), after);
+    }
+
+    public LocalDateTime next(ReminderGoalRow goal, LocalDateTime after) {
+        return next(goal.status(), goal.notifications(), goal.type(), goal.frequency(), goal.startDate(),
+                goal.endDate(), after);
+    }
+
+    private LocalDateTime next(String status, Boolean notifications, String type, Frequency frequency,
+                               LocalDate startDate, LocalDate endDate, LocalDateTime after) {
+        if (!Boolean.TRUE.equals(notifications) || !"active".equals(status)) {
+            return null;
+        }
+        String periodicity = frequency != null && frequency.getPeriodicity() != null
+                ? frequency.getPeriodicity() : type;
+        Integer times = frequency != null ? frequency.getTimesPerPeriod() : null;
+        return next(startDate, endDate, periodicity, times, after);
+    }
+
+    LocalDateTime next(LocalDate startDate, LocalDate endDate, String periodicity, Integer timesPerPeriod,
+                              LocalDateTime after) {
+        if (startDate == null || periodicity == null) {
+            return null;
+        }
+        int times = timesPerPeriod != null ? Math.max(timesPerPeriod, 1) : 1;
+        LocalDate afterDate = after.toLocalDate();
+        long period = afterDate.isBefore(startDate) ? 0 : switch (periodicity) {
+            case DAILY -> ChronoUnit.DAYS.between(startDate, afterDate);
+            case WEEKLY -> ChronoUnit.WEEKS.between(startDate, afterDate);
+            case MONTHLY -> ChronoUnit.MONTHS.between(startDate, afterDate);
+            default -> -1;
+        };
+        if (period < 0) {
+            return null;
+        }
+
+        // O período de after pode não ter mais horários: basta olhar o seguinte
+        for (long p = period; p <= period + 1; p++) {
+            LocalDate periodStart = periodStart(startDate, periodicity, p);
+            if (endDate != null && periodStart.isAfter(endDate)) {
+                return null;
+            }
+            LocalDateTime next = nextInPeriod(periodStart, periodStart(startDate, periodicity, p + 1), periodicity,
+                    times, after);
+            if (next != null) {
+                return endDate == null || !next.toLocalDate().isAfter(endDate) ? next : null;
+            }
+        }
+        return null;
+    }
+
+    private LocalDateTime nextInPeriod(LocalDate periodStart, LocalDate periodEnd, String periodicity, int times,
+                                       LocalDateTime after) {
+        if (DAILY.equals(periodicity)) {
+            LocalDateTime first = periodStart.atTime(dayStart);
+            for (int i = 0; i < Math.min(times, 24); i++) {
+                LocalDateTime slot = first.plusSeconds(daySpanSeconds * i / Math.min(times, 24));
+                if (slot.isAfter(after)) {
+                    return slot;
+                }
+            }
+            return null;
+        }
+        long days = ChronoUnit.DAYS.between(periodStart, periodEnd);
+        int slots = (int) Math.min(times, days);
+        for (int i = 0; i < slots; i++) {
+            LocalDateTime slot = periodStart.plusDays(days * i / slots).atTime(dayStart);
+            if (slot.isAfter(after)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate periodStart(LocalDate startDate, String periodicity, long period) {
+        return switch (periodicity) {
+            case WEEKLY -> startDate.plusWeeks(period);
+            case MONTHLY -> startDate.plusMonths(period);
+            default -> startDate.plusDays(period);
+        };
+    }
+}
@@ -0,0 +1,314 @@
+package com.fiap.check.health.reminder;
+
+import com.fiap.check.health.dto.event.GoalReminderEvent;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.ReminderGoalRow;
+import com.fiap.check.health.persistence.projection.ReminderSlotRow;
+import com.fiap.check.health.persistence.repository.GoalReminderClaim.Claim;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispara os lembretes das metas com {@code notifications} ativas no tópico {@code goal.reminder}.
+ * <p>
+ * O próximo lembrete de cada meta fica em {@code goals.next_reminder_at}. Só a janela seguinte
+ * ({@code goals.reminders.window}) é mantida em memória, em um {@link TimingWheel} (16 bytes por lembrete),
+ * carregada pelo índice {@code idx_goals_next_reminder} e avançada em fatias conforme o tempo passa; metas
+ * alteradas nesta instância entram na roda após o commit. A cada tick os lembretes vencidos são disparados em
+ * lotes: uma consulta, um batch de claims que avança o {@code next_reminder_at} e um envio ao Kafka. Entradas
+ * antigas da roda (meta alterada depois da carga) são descartadas por não baterem com o valor no banco.
+ * <p>
+ * As metas são divididas em {@code goals.reminders.partitions} partições ({@code goal_id mod partitions}).
+ * Cada réplica mantém uma lease de membro e leases das partições que processa, em {@code job_leases}, e a
+ * cada {@code rebalance-interval} acerta a sua parte para {@code ceil(partições / membros)}: libera o excesso
+ * e assume partições livres ou de réplicas que caíram, carregando a janela só delas. A primeira carga e a das
+ * partições assumidas não têm limite inferior: um lembrete atrasado por qualquer tempo de parada é disparado
+ * uma vez, e não os que venceram no intervalo. O claim condicional impede o disparo duplicado enquanto duas
+ * réplicas ainda disputam uma partição.
+ */
+@Slf4j
+@Component
+public class ReminderScheduler {
+
+    static final String MEMBER_PREFIX = "reminder-member:";
+    static final String PARTITION_PREFIX = "reminder-partition:";
+    // Carga sem limite inferior: anterior a qualquer next_reminder_at
+    static final LocalDateTime EARLIEST = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 3;
+
+    private final GoalRepository goalRepository;
+    private final ReminderSchedule reminderSchedule;
+    private final GoalEventPublisher goalEventPublisher;
+    private final JobLock jobLock;
+    private final ReminderProperties properties;
+    private final Set<Integer> ownedPartitions = ConcurrentHashMap.newKeySet();
+    // Roda criada no primeiro tick; protegida por this (tick e listener de alterações)
+    private TimingWheel wheel;
+    // Fim (exclusivo) da janela carregada; nulo antes da primeira carga
+    private volatile LocalDateTime loadedUntil;
+    private LocalDateTime nextRebalance = LocalDateTime.MIN;
+    private ScheduledExecutorService executor;
+
+    public ReminderScheduler(GoalRepository goalRepository,
+                             ReminderSchedule reminderSchedule,
+                             GoalEventPublisher goalEventPublisher,
+                             JobLock jobLock,
+                             ReminderProperties properties) {
+        long horizon = properties.getTick().toMillis() * WHEEL_SIZE * WHEEL_SIZE * (WHEEL_SIZE - 1);
+        if (properties.getWindow().plus(properties.getWindow()).toMillis() >= horizon) {
+            throw new IllegalArgumentException("goals.reminders.window excede o alcance do timing wheel");
+        }
+        this.goalRepository = goalRepository;
+        this.reminderSchedule = reminderSchedule;
+        this.goalEventPublisher = goalEventPublisher;
+        this.jobLock = jobLock;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Lembretes de metas desabilitados (goals.reminders.enabled)");
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("goal-reminders-"));
+        long tick = properties.getTick().toMillis();
+        executor.scheduleWithFixedDelay(this::run, 0, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        // As partições ficam livres para as outras réplicas sem esperar o vencimento das leases
+        try {
+            ownedPartitions.forEach(partition -> jobLock.release(PARTITION_PREFIX + partition));
+            jobLock.release(MEMBER_PREFIX + jobLock.owner());
+        } catch (RuntimeException e) {
+            log.warn("Erro ao liberar as leases dos lembretes", e);
+        }
+    }
+
+    private void run() {
+        try {
+            tick(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // Uma exceção cancelaria o agendamento; o próximo tick tenta de novo
+            log.error("Erro no disparo de lembretes", e);
+        }
+    }
+
+    /**
+     * Uma rodada: rebalanceia se for a hora, avança a janela carregada e dispara os lembretes vencidos.
+     * Retorna o número de lembretes publicados.
+     */
+    int tick(LocalDateTime now) {
+        if (!now.isBefore(nextRebalance)) {
+            rebalance(now);
+            nextRebalance = now.plus(properties.getRebalanceInterval());
+        }
+        synchronized (this) {
+            if (wheel == null) {
+                wheel = new TimingWheel(properties.getTick().toMillis(), WHEEL_SIZE, WHEEL_LEVELS, millis(now));
+            }
+        }
+        if (loadedUntil == null) {
+            // Primeira carga sem limite inferior: os lembretes que venceram com a instância parada disparam uma
+            // vez e o claim os remarca a partir de agora
+            loadedUntil = now;
+            load(EARLIEST, now, Set.copyOf(ownedPartitions));
+        }
+        LocalDateTime windowEnd = now.plus(properties.getWindow());
+        while (loadedUntil.isBefore(windowEnd)) {
+            LocalDateTime from = loadedUntil;
+            // Avança antes da consulta: o que for commitado durante a carga entra pelo listener
+            loadedUntil = from.plus(properties.getWindow());
+            load(from, loadedUntil, Set.copyOf(ownedPartitions));
+        }
+
+        Map<Long, Long> due = new LinkedHashMap<>();
+        synchronized (this) {
+            wheel.advance(millis(now), (goalId, deadline) -> due.merge(goalId, deadline, Math::max));
+        }
+        int published = 0;
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(due.entrySet());
+        for (int from = 0; from < entries.size(); from += properties.getBatchSize()) {
+            published += fire(entries.subList(from, Math.min(from + properties.getBatchSize(), entries.size())),
+                    now);
+        }
+        return published;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        Goal goal = event.goal();
+        LocalDateTime until = loadedUntil;
+        if (goal == null || goal.getNextReminderAt() == null || until == null
+                || !goal.getNextReminderAt().isBefore(until) || !owns(goal.getGoalId())) {
+            return;
+        }
+        schedule(goal.getGoalId(), goal.getNextReminderAt());
+    }
+
+    Set<Integer> ownedPartitions() {
+        return Set.copyOf(ownedPartitions);
+    }
+
+    private void rebalance(LocalDateTime now) {
+        Duration lease = properties.getLeaseDuration();
+        int partitions = properties.getPartitions();
+        jobLock.tryAcquire(MEMBER_PREFIX + jobLock.owner(), lease);
+        long members = Math.max(1, jobLock.countHeld(MEMBER_PREFIX));
+        int share = (int) ((partitions + members - 1) / members);
+
+        ownedPartitions.removeIf(partition -> !jobLock.renew(PARTITION_PREFIX + partition, lease));
+        // Libera as maiores partições que passaram da parte desta réplica
+        ownedPartitions.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(Math.max(0, ownedPartitions.size() - share))
+                .toList()
+                .forEach(partition -> {
+                    jobLock.release(PARTITION_PREFIX + partition);
+                    ownedPartitions.remove(partition);
+                });
+
+        Set<Integer> acquired = new TreeSet<>();
+        for (int partition = 0; partition < partitions && ownedPartitions.size() + acquired.size() < share;
+             partition++) {
+            if (!ownedPartitions.contains(partition) && jobLock.tryAcquire(PARTITION_PREFIX + partition, lease)) {
+                acquired.add(partition);
+            }
+        }
+        if (acquired.isEmpty()) {
+            return;
+        }
+        ownedPartitions.addAll(acquired);
+        log.info("Partições de lembretes assumidas: {} (membros: {}, parte: {})", acquired, members, share);
+        LocalDateTime until = loadedUntil;
+        if (until != null) {
+            load(EARLIEST, until, acquired);
+        }
+    }
+
+    /**
+     * Carrega na roda os lembretes de [from, to) das partições, em páginas pelo cursor
+     * (next_reminder_at, goal_id).
+     */
+    private void load(LocalDateTime from, LocalDateTime to, Collection<Integer> partitions) {
+        if (partitions.isEmpty() || !from.isBefore(to)) {
+            return;
+        }
+        PageRequest page = PageRequest.of(0, properties.getLoadPageSize());
+        LocalDateTime after = from;
+        long afterGoalId = 0L;
+        List<ReminderSlotRow> rows;
+        do {
+            rows = goalRepository.findRemindersAfter(from, to, properties.getPartitions(), partitions, after,
+                    afterGoalId, page);
+            synchronized (this) {
+                rows.forEach(row -> wheel.add(row.goalId(), millis(row.nextReminderAt())));
+            }
+            if (!rows.isEmpty()) {
+                ReminderSlotRow last = rows.get(rows.size() - 1);
+                after = last.nextReminderAt();
+                afterGoalId = last.goalId();
+            }
+        } while (rows.size() == page.getPageSize());
+    }
+
+    /**
+     * Dispara um lote de lembretes vencidos (goalId → prazo na roda).
+     */
+    private int fire(List<Map.Entry<Long, Long>> due, LocalDateTime now) {
+        Map<Long, Long> deadlines = new LinkedHashMap<>();
+        due.forEach(entry -> deadlines.put(entry.getKey(), entry.getValue()));
+
+        List<Claim> claims = new ArrayList<>();
+        List<ReminderGoalRow> claimed = new ArrayList<>();
+        for (ReminderGoalRow row : goalRepository.findReminderRowsByGoalIdIn(deadlines.keySet())) {
+            // Entrada antiga (lembrete remarcado) ou partição que passou para outra réplica
+            if (row.nextReminderAt() == null || millis(row.nextReminderAt()) != deadlines.get(row.goalId())
+                    || !owns(row.goalId())) {
+                continue;
+            }
+            // Um lembrete atrasado (instância parada) não gera os que venceram no intervalo
+            claims.add(new Claim(row.goalId(), row.nextReminderAt(), reminderSchedule.next(row, now)));
+            claimed.add(row);
+        }
+        if (claims.isEmpty()) {
+            return 0;
+        }
+
+        boolean[] won = goalRepository.claimReminders(claims);
+        List<GoalReminderEvent> reminders = new ArrayList<>();
+        LocalDateTime until = loadedUntil;
+        for (int i = 0; i < claims.size(); i++) {
+            Claim claim = claims.get(i);
+            ReminderGoalRow row = claimed.get(i);
+            if (!won[i]) {
+                continue;
+            }
+            if (claim.next() != null && claim.next().isBefore(until)) {
+                schedule(claim.goalId(), claim.next());
+            }
+            // Meta que deixou de ter lembretes (concluída, expirada, sem notifications): só limpa o agendamento
+            if (Boolean.TRUE.equals(row.notifications()) && "active".equals(row.status())) {
+                reminders.add(GoalReminderEvent.builder()
+                        .goalId(row.goalId())
+                        .userId(row.userId())
+                        .title(row.title())
+                        .scheduledAt(claim.due())
+                        .nextReminderAt(claim.next())
+                        .build());
+            }
+        }
+        if (!reminders.isEmpty()) {
+            goalEventPublisher.publishReminders(reminders);
+        }
+        return reminders.size();
+    }
+
+    private synchronized void schedule(long goalId, LocalDateTime at) {
+        if (wheel != null) {
+            wheel.add(goalId, millis(at));
+        }
+    }
+
+    private boolean owns(long goalId) {
+        return ownedPartitions.contains((int) Math.floorMod(goalId, (long) properties.getPartitions()));
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,170 @@
+package com.fiap.check.health.reminder;
+
+import java.util.Arrays;
+
+/**
+ * Timing wheel hierárquico (como o do Kafka) para lembretes: o nível 0 tem {@code wheelSize} slots de
+ * {@code tickMillis}; cada nível seguinte tem slots {@code wheelSize} vezes maiores. Inserir e disparar são
+ * O(1) por entrada; as entradas de um slot de nível alto descem de nível quando o slot é alcançado.
+ * <p>
+ * Cada entrada são dois {@code long} (id e prazo) no array do seu slot, sem objeto por entrada: 16 bytes
+ * por lembrete agendado. Não é thread-safe.
+ */
+public final class TimingWheel {
+
+    /**
+     * Recebe as entradas vencidas em {@link #advance}.
+     */
+    @FunctionalInterface
+    public interface ExpiredSink {
+        void expired(long id, long deadlineMillis);
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    // [nível][slot]
+    private final Bucket[][] buckets;
+    private final long[] levelTick;
+    // Entradas inseridas com o prazo já vencido; as demais disparam no fim do tick do prazo
+    private final Bucket due = new Bucket();
+    private long currentTime;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Configuração inválida do timing wheel");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.buckets = new Bucket[levels][wheelSize];
+        this.levelTick = new long[levels];
+        long tick = tickMillis;
+        for (int level = 0; level < levels; level++) {
+            levelTick[level] = tick;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = new Bucket();
+            }
+            tick = Math.multiplyExact(tick, wheelSize);
+        }
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+    }
+
+    /**
+     * Agenda a entrada; {@code false} quando o prazo passa do último nível ({@link #horizon()}).
+     */
+    public boolean add(long id, long deadlineMillis) {
+        if (deadlineMillis < currentTime) {
+            due.add(id, deadlineMillis);
+            size++;
+            return true;
+        }
+        for (int level = 0; level < buckets.length; level++) {
+            long tick = levelTick[level];
+            long slot = Math.floorDiv(deadlineMillis, tick);
+            if (slot - Math.floorDiv(currentTime, tick) < wheelSize) {
+                buckets[level][(int) Math.floorMod(slot, (long) wheelSize)].add(id, deadlineMillis);
+                size++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Avança até {@code nowMillis}, entregando as entradas vencidas; retorna quantas foram entregues.
+     */
+    public int advance(long nowMillis, ExpiredSink sink) {
+        int expired = drain(due, sink);
+        while (currentTime + tickMillis <= nowMillis) {
+            expired += drain(buckets[0][slot(0, currentTime)], sink);
+            currentTime += tickMillis;
+            // Do maior para o menor nível: o slot alcançado desce para os níveis de baixo
+            for (int level = buckets.length - 1; level > 0; level--) {
+                if (Math.floorMod(currentTime, levelTick[level]) == 0) {
+                    cascade(buckets[level][slot(level, currentTime)]);
+                }
+            }
+            expired += drain(due, sink);
+        }
+        return expired;
+    }
+
+    /**
+     * Prazo máximo aceito por {@link #add} a partir do tempo atual.
+     */
+    public long horizon() {
+        int top = buckets.length - 1;
+        return (Math.floorDiv(currentTime, levelTick[top]) + wheelSize) * levelTick[top];
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(int level, long time) {
+        return (int) Math.floorMod(Math.floorDiv(time, levelTick[level]), (long) wheelSize);
+    }
+
+    private void cascade(Bucket bucket) {
+        int count = bucket.count;
+        long[] entries = bucket.entries;
+        bucket.reset();
+        size -= count;
+        for (int i = 0; i < count; i++) {
+            add(entries[2 * i], entries[2 * i + 1]);
+        }
+        bucket.release(entries);
+    }
+
+    private int drain(Bucket bucket, ExpiredSink sink) {
+        int count = bucket.count;
+        if (count == 0) {
+            return 0;
+        }
+        long[] entries = bucket.entries;
+        bucket.reset();
+        size -= count;
+        for (int i = 0; i < count; i++) {
+            sink.expired(entries[2 * i], entries[2 * i + 1]);
+        }
+        bucket.release(entries);
+        return count;
+    }
+
+    /**
+     * Slot: pares (id, prazo) em um array que cresce em dobro.
+     */
+    private static final class Bucket {
+
+        private static final long[] EMPTY = new long[0];
+
+        private long[] entries = EMPTY;
+        private int count;
+
+        void add(long id, long deadlineMillis) {
+            if (2 * count == entries.length) {
+                entries = Arrays.copyOf(entries, Math.max(8, entries.length * 2));
+            }
+            entries[2 * count] = id;
+            entries[2 * count + 1] = deadlineMillis;
+            count++;
+        }
+
+        // Esvazia antes de percorrer: o cascade pode reinserir no próprio slot
+        void reset() {
+            entries = EMPTY;
+            count = 0;
+        }
+
+        // Devolve o array para reuso se o slot continuou vazio; arrays grandes são descartados
+        void release(long[] previous) {
+            if (count == 0 && previous.length <= 1024) {
+                entries = previous;
+            }
+        }
+    }
+}
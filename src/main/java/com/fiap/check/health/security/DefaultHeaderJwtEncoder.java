@@ -0,0 +1,31 @@
+package com.fiap.check.health.security;
+
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+/**
+ * Preenche o header JWS (alg + kid da chave ativa) quando o chamador não informa um.
+ * Sem isso o {@code NimbusJwtEncoder} assume RS256 e não encontra chaves EC.
+ */
+public class DefaultHeaderJwtEncoder implements JwtEncoder {
+
+    private final JwtEncoder delegate;
+    private final JwsHeader defaultHeader;
+
+    public DefaultHeaderJwtEncoder(JwtEncoder delegate, SignatureAlgorithm algorithm, String keyId) {
+        this.delegate = delegate;
+        this.defaultHeader = JwsHeader.with(algorithm).keyId(keyId).build();
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        if (parameters.getJwsHeader() != null) {
+            return delegate.encode(parameters);
+        }
+        return delegate.encode(JwtEncoderParameters.from(defaultHeader, parameters.getClaims()));
+    }
+}
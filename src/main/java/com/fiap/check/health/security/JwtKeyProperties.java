@@ -0,0 +1,41 @@
+package com.fiap.check.health.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Algoritmo e identificação das chaves de assinatura JWT.
+ * As chaves ativas continuam em {@code jwt.public.key} / {@code jwt.private.key};
+ * {@code jwt.rollover} lista chaves anteriores aceitas apenas na verificação,
+ * para que tokens emitidos antes de uma troca de chave continuem válidos até expirar.
+ */
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtKeyProperties {
+
+    /**
+     * Algoritmo da chave ativa: RS256 ou ES256.
+     */
+    private String algorithm = "RS256";
+
+    /**
+     * Identificador (kid) da chave ativa, enviado no header dos tokens emitidos.
+     */
+    private String keyId = "app";
+
+    private List<RolloverKey> rollover = new ArrayList<>();
+
+    @Data
+    public static class RolloverKey {
+
+        private String keyId;
+
+        private String algorithm = "RS256";
+
+        private Resource publicKey;
+    }
+}
@@ -0,0 +1,138 @@
+package com.fiap.check.health.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura de chaves PEM (X.509 / PKCS#8) e conversão para JWK conforme o algoritmo configurado.
+ */
+public final class JwtKeys {
+
+    private JwtKeys() {
+    }
+
+    /**
+     * Algoritmos suportados para emissão e verificação.
+     * EdDSA não está disponível: o {@code SignatureAlgorithm} do Spring Security não o declara
+     * e a verificação Ed25519 do Nimbus depende do Tink.
+     */
+    public static SignatureAlgorithm algorithm(String name) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.from(name);
+        if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Algoritmo JWT não suportado: " + name);
+        }
+        return algorithm;
+    }
+
+    public static PublicKey readPublicKey(Resource resource, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Chave pública inválida para " + algorithm + ": " + resource, e);
+        }
+    }
+
+    public static PrivateKey readPrivateKey(Resource resource, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(readPem(resource)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Chave privada inválida para " + algorithm + ": " + resource, e);
+        }
+    }
+
+    /**
+     * Monta o JWK de assinatura. {@code privateKey} pode ser nulo para chaves apenas de verificação.
+     */
+    public static JWK toJwk(SignatureAlgorithm algorithm, String keyId, PublicKey publicKey, PrivateKey privateKey) {
+        if (algorithm == SignatureAlgorithm.ES256) {
+            ECKey.Builder builder = new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey)
+                    .keyID(keyId)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.ES256);
+            if (privateKey != null) {
+                builder.privateKey((ECPrivateKey) privateKey);
+            }
+            return builder.build();
+        }
+
+        RSAKey.Builder builder = new RSAKey.Builder((RSAPublicKey) publicKey)
+                .keyID(keyId)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256);
+        if (privateKey != null) {
+            builder.privateKey((RSAPrivateKey) privateKey);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Decoder que aceita qualquer uma das chaves informadas. O kid do header do token
+     * seleciona a chave; tokens sem kid são testados contra todas as chaves do mesmo tipo.
+     */
+    public static JwtDecoder newDecoder(List<JWK> verificationKeys) {
+        Set<JWSAlgorithm> algorithms = verificationKeys.stream()
+                .map(jwk -> JWSAlgorithm.parse(jwk.getAlgorithm().getName()))
+                .collect(Collectors.toSet());
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms,
+                new ImmutableJWKSet<>(new JWKSet(verificationKeys))));
+        // As claims são validadas pelos validators do Spring Security, como no NimbusJwtDecoder padrão
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    /**
+     * Encoder que assina apenas com a chave ativa.
+     */
+    public static JwtEncoder newEncoder(JWK signingKey, SignatureAlgorithm algorithm) {
+        JwtEncoder nimbusEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+        return new DefaultHeaderJwtEncoder(nimbusEncoder, algorithm, signingKey.getKeyID());
+    }
+
+    private static KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == SignatureAlgorithm.ES256 ? "EC" : "RSA");
+    }
+
+    private static byte[] readPem(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            String pem = new String(in.readAllBytes(), StandardCharsets.US_ASCII);
+            String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(base64);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível ler a chave " + resource, e);
+        }
+    }
+}
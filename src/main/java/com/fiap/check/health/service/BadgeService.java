@@ -0,0 +1,13 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.api.model.BadgeResponse;
+
+import java.util.List;
+
+public interface BadgeService {
+
+    /**
+     * Badges do usuário, do mais recente para o mais antigo.
+     */
+    List<BadgeResponse> listBadges(String userId);
+}
@@ -0,0 +1,24 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.analytics.CompletionAggregates;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+public interface CompletionAnalyticsService {
+
+    /**
+     * Taxas de conclusão das metas criadas de {@code from} a {@code to}, por mês e pelas dimensões de
+     * {@code groupBy}; os filtros nulos não restringem. Meses nulos: os últimos 12 meses.
+     */
+    CompletionAnalyticsResponse getCompletion(Set<CompletionAggregates.Dimension> groupBy, YearMonth from,
+                                              YearMonth to, GoalCategory category, String type, String difficulty);
+
+    /**
+     * Recalcula os agregados em memória a partir da tabela de metas, corrigindo o que os incrementos não
+     * acompanham (edições, exclusões, alterações em lote e expiração).
+     */
+    void recompute();
+}
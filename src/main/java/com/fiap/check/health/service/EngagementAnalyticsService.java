@@ -0,0 +1,21 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.model.GoalCategory;
+
+import java.time.LocalDate;
+
+public interface EngagementAnalyticsService {
+
+    /**
+     * Usuários ativos e percentis do tempo até a conclusão entre {@code from} e {@code to}, inclusive, unindo
+     * os sketches de todas as instâncias; {@code category} nula considera todas as categorias.
+     */
+    EngagementAnalyticsResponse getEngagement(LocalDate from, LocalDate to, GoalCategory category);
+
+    /**
+     * Une em uma única linha os sketches gravados por várias instâncias nos dias anteriores a {@code before}
+     * e retorna quantos grupos foram compactados; 0 quando outra réplica já está executando a compactação.
+     */
+    int compact(LocalDate before);
+}
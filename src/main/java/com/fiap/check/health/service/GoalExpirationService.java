@@ -0,0 +1,12 @@
+package com.fiap.check.health.service;
+
+import java.time.LocalDate;
+
+public interface GoalExpirationService {
+
+    /**
+     * Passa para {@code expired} as metas ativas com {@code endDate} anterior a {@code today} e retorna quantas
+     * foram expiradas; 0 quando outra réplica já está executando a expiração.
+     */
+    int expireOverdueGoals(LocalDate today);
+}
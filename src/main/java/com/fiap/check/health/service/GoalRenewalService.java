@@ -0,0 +1,12 @@
+package com.fiap.check.health.service;
+
+import java.time.LocalDate;
+
+public interface GoalRenewalService {
+
+    /**
+     * Cria a meta do período seguinte para cada meta recorrente cujo {@code endDate} é anterior a {@code today} e
+     * retorna quantas foram renovadas; 0 quando outra réplica já está executando a renovação.
+     */
+    int renewDueGoals(LocalDate today);
+}
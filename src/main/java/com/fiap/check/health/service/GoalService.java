@@ -1,10 +1,24 @@
 package com.fiap.check.health.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
 
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,12 +27,37 @@ public interface GoalService {
     GoalResponse createGoal(GoalRequest goalRequest) throws JsonProcessingException;
     
     List<GoalResponse> listGoals() throws JsonProcessingException;
+
+    Page<GoalResponse> listGoalsByUser(String userId, String status, int page, int size, GoalFields fields);
+
+    List<GoalSummaryResponse> listGoalSummaries(String userId);
     
-    Optional<GoalResponse> findById(Long goalId);
+    Optional<GoalResponse> findById(Long goalId, GoalFields fields);
     
     GoalResponse updateGoal(Long goalId, GoalRequest goalRequest);
     
     void deleteGoal(Long goalId);
     
     GoalResponse updateProgress(Long goalId, ProgressRequest progressRequest);
+
+    /**
+     * Alterações e exclusões do usuário depois de {@code since}; lança {@code SyncCursorExpiredException} quando
+     * exclusões posteriores ao cursor já saíram da retenção.
+     */
+    GoalChangesResponse listChanges(String userId, ChangeCursor since, int limit, GoalFields fields);
+
+    GoalLookupResponse findByIds(String userId, List<Long> goalIds, GoalFields fields);
+
+    GoalResponse patchGoal(Long goalId, JsonNode mergePatch);
+
+    BulkGoalResponse bulkChange(String userId, BulkGoalRequest bulkGoalRequest);
+
+    BatchProgressResponse updateProgressBatch(String userId, BatchProgressRequest batchProgressRequest);
+
+    /**
+     * Registra o check-in da meta diária do usuário no dia; repetir o mesmo dia não altera nada.
+     */
+    GoalStreakResponse checkIn(String userId, Long goalId, LocalDate date);
+
+    GoalStreakResponse getStreak(String userId, Long goalId);
 }
\ No newline at end of file
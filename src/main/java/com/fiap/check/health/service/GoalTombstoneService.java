@@ -0,0 +1,13 @@
+package com.fiap.check.health.service;
+
+import java.time.LocalDateTime;
+
+public interface GoalTombstoneService {
+
+    /**
+     * Remove os tombstones de exclusões anteriores a {@code before} e retorna quantos foram removidos; 0 quando
+     * outra réplica já está executando a remoção. Os cursores do delta sync até o maior {@code change_seq}
+     * removido passam a exigir a sincronização completa.
+     */
+    int purge(LocalDateTime before);
+}
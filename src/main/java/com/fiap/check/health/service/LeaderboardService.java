@@ -0,0 +1,18 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.model.GoalCategory;
+
+public interface LeaderboardService {
+
+    /**
+     * Os {@code limit} primeiros do período, geral ou de uma categoria, e a posição do próprio usuário.
+     */
+    LeaderboardResponse getLeaderboard(String userId, LeaderboardResponse.PeriodEnum period, GoalCategory category,
+                                       int limit);
+
+    /**
+     * Remonta os rankings em memória a partir do ledger de pontos.
+     */
+    void rebuild();
+}
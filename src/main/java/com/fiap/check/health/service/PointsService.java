@@ -0,0 +1,17 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.persistence.entity.Goal;
+
+public interface PointsService {
+
+    /**
+     * Lança a recompensa da meta cujo progresso atingiu o total no ledger e soma ao total do usuário, na
+     * transação corrente. Uma meta pontua uma única vez.
+     */
+    void award(Goal goal);
+
+    /**
+     * Recalcula os totais de todos os usuários a partir do ledger; retorna o número de usuários reescritos.
+     */
+    int reconcile();
+}
@@ -0,0 +1,40 @@
+package com.fiap.check.health.service;
+
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProgressHistoryService {
+
+    /**
+     * Grava os registros de progresso e soma-os nos agregados diário e semanal, na transação corrente.
+     */
+    void record(List<ProgressEntry> entries);
+
+    /**
+     * Histórico da meta do usuário entre {@code from} e {@code to}, inclusive, lido dos agregados.
+     */
+    ProgressHistoryResponse getHistory(String userId, Long goalId, ProgressPeriod period, LocalDate from, LocalDate to);
+
+    /**
+     * Remove os registros e agregados da meta excluída, na transação corrente.
+     */
+    void deleteForGoal(Long goalId);
+
+    /**
+     * Remove os registros e agregados das metas do usuário ({@code goalIds} nulo: todas), na transação corrente;
+     * deve rodar antes do {@code DELETE} das metas, de onde os ids são lidos.
+     */
+    void deleteForUser(String userId, Collection<Long> goalIds);
+
+    /**
+     * Remove os registros anteriores a {@code before}, já somados nos agregados, e retorna quantos foram
+     * removidos; 0 quando outra réplica já está executando a compactação.
+     */
+    int compact(LocalDateTime before);
+}
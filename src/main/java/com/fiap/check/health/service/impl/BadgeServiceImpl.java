@@ -0,0 +1,157 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.BadgeResponse;
+import com.fiap.check.health.badge.BadgeAwardWriter;
+import com.fiap.check.health.badge.BadgeEngine;
+import com.fiap.check.health.badge.BadgeFacts;
+import com.fiap.check.health.badge.BadgeMetric;
+import com.fiap.check.health.badge.BadgeRule;
+import com.fiap.check.health.badge.BadgeTrigger;
+import com.fiap.check.health.cache.UserPointsCache;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalCheckedInEvent;
+import com.fiap.check.health.model.CheckInBitmap;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.UserBadge;
+import com.fiap.check.health.persistence.projection.CategoryCountRow;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.UserBadgeRepository;
+import com.fiap.check.health.service.BadgeService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Concede badges a partir dos eventos das metas, após o commit: progresso, conclusão e check-in.
+ * <p>
+ * Cada evento passa ao {@link BadgeEngine} apenas os dados do usuário que as regras do seu grupo pedirem,
+ * consultados uma vez por evento; as concessões seguem para o {@link BadgeAwardWriter}, que as grava em lote.
+ */
+@Service
+public class BadgeServiceImpl implements BadgeService {
+
+    private static final String COMPLETED_STATUS = "completed";
+
+    private final BadgeEngine badgeEngine;
+    private final BadgeAwardWriter badgeAwardWriter;
+    private final GoalRepository goalRepository;
+    private final UserBadgeRepository userBadgeRepository;
+    private final UserPointsCache userPointsCache;
+
+    public BadgeServiceImpl(BadgeEngine badgeEngine, BadgeAwardWriter badgeAwardWriter,
+                            GoalRepository goalRepository, UserBadgeRepository userBadgeRepository,
+                            UserPointsCache userPointsCache) {
+        this.badgeEngine = badgeEngine;
+        this.badgeAwardWriter = badgeAwardWriter;
+        this.goalRepository = goalRepository;
+        this.userBadgeRepository = userBadgeRepository;
+        this.userPointsCache = userPointsCache;
+    }
+
+    @Override
+    public List<BadgeResponse> listBadges(String userId) {
+        return userBadgeRepository.findByUserIdOrderByAwardedAtDesc(userId).stream()
+                .map(badge -> {
+                    BadgeRule rule = badgeEngine.rule(badge.getBadgeId());
+                    return BadgeResponse.builder()
+                            .badgeId(badge.getBadgeId())
+                            .name(rule != null ? rule.name() : badge.getBadgeId())
+                            .goalId(badge.getGoalId())
+                            .awardedAt(badge.getAwardedAt())
+                            .build();
+                })
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        BadgeTrigger trigger = switch (event.type()) {
+            case PROGRESS -> BadgeTrigger.PROGRESS;
+            case COMPLETED -> BadgeTrigger.COMPLETED;
+            default -> null;
+        };
+        if (trigger != null && event.userId() != null) {
+            evaluate(trigger, event.goal());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalCheckedIn(GoalCheckedInEvent event) {
+        if (event.goal().getUserId() != null) {
+            evaluate(BadgeTrigger.CHECK_IN, event.goal());
+        }
+    }
+
+    int evaluate(BadgeTrigger trigger, Goal goal) {
+        LocalDateTime now = LocalDateTime.now();
+        return badgeEngine.evaluate(trigger, goal.getCategory(), new Facts(goal, now.toLocalDate()),
+                rule -> badgeAwardWriter.add(new UserBadge(goal.getUserId(), rule.id(), goal.getGoalId(), now)));
+    }
+
+    /**
+     * Dados do usuário do evento, carregados na primeira regra que os pede.
+     */
+    private final class Facts implements BadgeFacts {
+
+        private final Goal goal;
+        private final LocalDate today;
+        // [0 = todas as categorias, 1 + ordinal da categoria]
+        private long[] completedGoals;
+        private int currentStreak = -1;
+        private Set<String> owned;
+
+        private Facts(Goal goal, LocalDate today) {
+            this.goal = goal;
+            this.today = today;
+        }
+
+        @Override
+        public long value(BadgeMetric metric, GoalCategory category) {
+            return switch (metric) {
+                case COMPLETED_GOALS -> completedGoals()[category != null ? category.ordinal() + 1 : 0];
+                case CURRENT_STREAK -> currentStreak();
+                case POINTS -> userPointsCache.points(goal.getUserId());
+            };
+        }
+
+        @Override
+        public boolean owns(String badgeId) {
+            if (owned == null) {
+                owned = userBadgeRepository.findBadgeIdsByUserId(goal.getUserId());
+            }
+            return owned.contains(badgeId) || badgeAwardWriter.isPending(goal.getUserId(), badgeId);
+        }
+
+        private long[] completedGoals() {
+            if (completedGoals == null) {
+                long[] counts = new long[GoalCategory.values().length + 1];
+                for (CategoryCountRow row : goalRepository.countByCategory(goal.getUserId(), COMPLETED_STATUS)) {
+                    counts[0] += row.count();
+                    if (row.category() != null) {
+                        counts[row.category().ordinal() + 1] = row.count();
+                    }
+                }
+                completedGoals = counts;
+            }
+            return completedGoals;
+        }
+
+        private int currentStreak() {
+            if (currentStreak < 0) {
+                currentStreak = 0;
+                if (goal.getCheckIns() != null && goal.getStartDate() != null) {
+                    long day = ChronoUnit.DAYS.between(goal.getStartDate(), today);
+                    currentStreak = CheckInBitmap.decode(goal.getCheckIns())
+                            .currentStreak((int) Math.min(day, Integer.MAX_VALUE));
+                }
+            }
+            return currentStreak;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.analytics.CompletionAggregates;
+import com.fiap.check.health.analytics.CompletionAggregates.Cell;
+import com.fiap.check.health.analytics.CompletionAggregates.Dimension;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.api.model.CompletionAnalyticsRow;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.CompletionCountRow;
+import com.fiap.check.health.persistence.projection.GoalIdRangeRow;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.CompletionAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Taxas de conclusão servidas de {@link CompletionAggregates} em memória; nenhuma consulta do painel chega
+ * ao banco.
+ * <p>
+ * Os agregados são incrementados a cada {@link GoalChangedEvent} após o commit: criação (+1 meta na coorte)
+ * e conclusão (+1 concluída), esta vinda de atualização de progresso ou de edição. O que os eventos não
+ * acompanham (edição de categoria, tipo ou dificuldade, exclusões, alterações em lote e expiração) é corrigido
+ * pelo recálculo completo na subida e no cron {@code goals.analytics.recompute.cron}, que lê a tabela em
+ * faixas de goal_id em paralelo e troca os agregados de uma vez.
+ * <p>
+ * Durante o recálculo os eventos continuam indo para os agregados atuais e, se a faixa da meta já começou a
+ * ser lida (ou está fora das faixas), também para os recalculados; as faixas ainda não lidas verão a
+ * alteração na própria consulta.
+ */
+@Slf4j
+@Service
+public class CompletionAnalyticsServiceImpl implements CompletionAnalyticsService {
+
+    static final String COMPLETED_STATUS = "completed";
+    static final int DEFAULT_MONTHS = 12;
+
+    private final GoalRepository goalRepository;
+    private final long chunkSize;
+    private final int parallelism;
+    private final int maxMonths;
+    // Serializa os incrementos com o início e a troca do recálculo; as leituras não passam por ele
+    private final Object writeLock = new Object();
+    private final Object recomputeLock = new Object();
+    private volatile CompletionAggregates aggregates = new CompletionAggregates();
+    private volatile LocalDateTime recomputedAt;
+    private Rebuild rebuild;
+
+    public CompletionAnalyticsServiceImpl(GoalRepository goalRepository,
+                                          @Value("${goals.analytics.recompute.chunk-size:50000}") long chunkSize,
+                                          @Value("${goals.analytics.recompute.parallelism:4}") int parallelism,
+                                          @Value("${goals.analytics.max-months:120}") int maxMonths) {
+        this.goalRepository = goalRepository;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxMonths = maxMonths;
+    }
+
+    @Override
+    public CompletionAnalyticsResponse getCompletion(Set<Dimension> groupBy, YearMonth from, YearMonth to,
+                                                     GoalCategory category, String type, String difficulty) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("from deve ser anterior ou igual a to");
+        }
+        if (ChronoUnit.MONTHS.between(start, end) >= maxMonths) {
+            throw new InvalidRequestException("Intervalo maior que " + maxMonths + " meses");
+        }
+
+        Set<Dimension> dimensions = EnumSet.noneOf(Dimension.class);
+        dimensions.addAll(groupBy);
+        Predicate<Cell> filter = cell -> (category == null || category == cell.category())
+                && (type == null || type.equalsIgnoreCase(cell.type()))
+                && (difficulty == null || difficulty.equalsIgnoreCase(cell.difficulty()));
+
+        return CompletionAnalyticsResponse.builder()
+                .from(start)
+                .to(end)
+                .groupBy(List.copyOf(dimensions))
+                .recomputedAt(recomputedAt)
+                .rows(aggregates.query(start, end, dimensions, filter).stream()
+                        .map(CompletionAnalyticsServiceImpl::toRow)
+                        .toList())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        Goal goal = event.goal();
+        if (goal == null || goal.getCreatedAt() == null) {
+            return;
+        }
+        long completed = COMPLETED_STATUS.equals(goal.getStatus()) ? 1 : 0;
+        switch (event.type()) {
+            case CREATED -> add(goal, 1, completed);
+            case COMPLETED -> add(goal, 0, 1);
+            default -> {
+                // Progresso sem conclusão e edições não mudam os contadores
+            }
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void recompute() {
+        synchronized (recomputeLock) {
+            long start = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            GoalIdRangeRow range = goalRepository.findGoalIdRange();
+            Rebuild rebuilt = range.minGoalId() != null
+                    ? new Rebuild(range.minGoalId(), range.maxGoalId(), chunkSize)
+                    : new Rebuild(0, -1, chunkSize);
+            synchronized (writeLock) {
+                rebuild = rebuilt;
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                    new CustomizableThreadFactory("analytics-recompute-"));
+            try {
+                IntStream.range(0, rebuilt.chunks())
+                        .mapToObj(chunk -> CompletableFuture.runAsync(() -> scan(rebuilt, chunk), executor))
+                        .toList()
+                        .forEach(CompletableFuture::join);
+            } catch (RuntimeException e) {
+                // Mantém os agregados atuais
+                synchronized (writeLock) {
+                    rebuild = null;
+                }
+                throw e;
+            } finally {
+                executor.shutdown();
+            }
+
+            synchronized (writeLock) {
+                aggregates = rebuilt.aggregates;
+                recomputedAt = now;
+                rebuild = null;
+            }
+            log.info("Agregados de conclusão recalculados: {} células de {} faixas de metas em {} ms",
+                    rebuilt.aggregates.cellCount(), rebuilt.chunks(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void scan(Rebuild rebuilt, int chunk) {
+        long fromGoalId = rebuilt.minGoalId + chunk * chunkSize;
+        // Marcada antes da consulta: um evento que chegue depois disso não é perdido pela troca
+        rebuilt.started.set(chunk, 1);
+        for (CompletionCountRow row : goalRepository.countCompletionInRange(fromGoalId, fromGoalId + chunkSize,
+                COMPLETED_STATUS)) {
+            rebuilt.aggregates.add(new Cell(YearMonth.of(row.year(), row.month()), row.category(), row.type(),
+                    row.difficulty()), row.goals(), row.completed());
+        }
+    }
+
+    private void add(Goal goal, long goals, long completed) {
+        Cell cell = new Cell(YearMonth.from(goal.getCreatedAt()), goal.getCategory(), goal.getType(),
+                goal.getDifficulty());
+        synchronized (writeLock) {
+            aggregates.add(cell, goals, completed);
+            if (rebuild != null && rebuild.misses(goal.getGoalId())) {
+                rebuild.aggregates.add(cell, goals, completed);
+            }
+        }
+    }
+
+    private static CompletionAnalyticsRow toRow(CompletionAggregates.Row row) {
+        Cell cell = row.cell();
+        return CompletionAnalyticsRow.builder()
+                .month(cell.month())
+                .category(cell.category())
+                .type(cell.type())
+                .difficulty(cell.difficulty())
+                .goals(row.goals())
+                .completed(row.completed())
+                .completionRate(row.goals() > 0 ? (double) row.completed() / row.goals() : null)
+                .build();
+    }
+
+    /**
+     * Recálculo em andamento: faixas de {@code chunkSize} goal_ids a partir de {@code minGoalId}.
+     */
+    private static final class Rebuild {
+
+        private final CompletionAggregates aggregates = new CompletionAggregates();
+        private final long minGoalId;
+        private final long maxGoalId;
+        private final long chunkSize;
+        private final AtomicIntegerArray started;
+
+        private Rebuild(long minGoalId, long maxGoalId, long chunkSize) {
+            this.minGoalId = minGoalId;
+            this.maxGoalId = maxGoalId;
+            this.chunkSize = chunkSize;
+            this.started = new AtomicIntegerArray(
+                    maxGoalId < minGoalId ? 0 : Math.toIntExact((maxGoalId - minGoalId) / chunkSize + 1));
+        }
+
+        private int chunks() {
+            return started.length();
+        }
+
+        /**
+         * {@code true} quando a consulta da faixa da meta já começou ou a meta está fora das faixas.
+         */
+        private boolean misses(Long goalId) {
+            if (goalId == null || goalId < minGoalId || goalId > maxGoalId) {
+                return true;
+            }
+            return started.get((int) ((goalId - minGoalId) / chunkSize)) == 1;
+        }
+    }
+}
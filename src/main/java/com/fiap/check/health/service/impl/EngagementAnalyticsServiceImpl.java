@@ -0,0 +1,221 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.analytics.EngagementSketchWriter;
+import com.fiap.check.health.analytics.HyperLogLog;
+import com.fiap.check.health.analytics.SketchKind;
+import com.fiap.check.health.analytics.TDigest;
+import com.fiap.check.health.api.model.CategoryEngagement;
+import com.fiap.check.health.api.model.DailyActiveUsers;
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.AnalyticsSketch;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.SketchGroupRow;
+import com.fiap.check.health.persistence.repository.AnalyticsSketchRepository;
+import com.fiap.check.health.service.EngagementAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Usuários ativos por dia ({@link HyperLogLog}) e tempo até a conclusão ({@link TDigest}) por categoria,
+ * calculados de sketches em vez de contagens sobre os dados brutos.
+ * <p>
+ * Cada progresso ou conclusão, após o commit, atualiza os sketches em memória do {@link EngagementSketchWriter},
+ * que os grava periodicamente. As consultas leem os sketches do intervalo em {@code analytics_sketches} e os
+ * unem: por dia, por categoria e no total, sem contar duas vezes o mesmo usuário em réplicas ou dias
+ * diferentes.
+ */
+@Slf4j
+@Service
+public class EngagementAnalyticsServiceImpl implements EngagementAnalyticsService {
+
+    static final String JOB_NAME = "sketch-compaction";
+    // Instância das linhas resultantes da compactação
+    static final String MERGED_INSTANCE = "merged";
+    static final int DEFAULT_DAYS = 30;
+
+    private final AnalyticsSketchRepository analyticsSketchRepository;
+    private final EngagementSketchWriter engagementSketchWriter;
+    private final JobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxDays;
+    private final Duration leaseDuration;
+
+    public EngagementAnalyticsServiceImpl(AnalyticsSketchRepository analyticsSketchRepository,
+                                          EngagementSketchWriter engagementSketchWriter,
+                                          JobLock jobLock,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${goals.analytics.sketches.compaction.chunk-size:100}") int chunkSize,
+                                          @Value("${goals.analytics.sketches.max-days:366}") int maxDays,
+                                          @Value("${goals.analytics.sketches.compaction.lease-duration:5m}")
+                                          Duration leaseDuration) {
+        this.analyticsSketchRepository = analyticsSketchRepository;
+        this.engagementSketchWriter = engagementSketchWriter;
+        this.jobLock = jobLock;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxDays = maxDays;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        Goal goal = event.goal();
+        if (goal == null || (event.type() != GoalChangedEvent.ChangeType.PROGRESS
+                && event.type() != GoalChangedEvent.ChangeType.COMPLETED)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        engagementSketchWriter.recordActivity(now.toLocalDate(), goal.getCategory(), goal.getUserId());
+        if (event.type() == GoalChangedEvent.ChangeType.COMPLETED && goal.getCreatedAt() != null) {
+            engagementSketchWriter.recordCompletion(now.toLocalDate(), goal.getCategory(),
+                    Duration.between(goal.getCreatedAt(), now).toMillis() / 1000.0);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EngagementAnalyticsResponse getEngagement(LocalDate from, LocalDate to, GoalCategory category) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("from deve ser anterior ou igual a to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new InvalidRequestException("Intervalo maior que " + maxDays + " dias");
+        }
+
+        Map<LocalDate, HyperLogLog> usersByDay = new TreeMap<>();
+        Map<GoalCategory, HyperLogLog> usersByCategory = new EnumMap<>(GoalCategory.class);
+        Map<GoalCategory, TDigest> timesByCategory = new EnumMap<>(GoalCategory.class);
+        HyperLogLog users = new HyperLogLog();
+        TDigest times = new TDigest();
+        for (AnalyticsSketch sketch : analyticsSketchRepository.findByDayBetween(start, end)) {
+            if (category != null && sketch.getCategory() != category) {
+                continue;
+            }
+            if (sketch.getKind() == SketchKind.ACTIVE_USERS) {
+                HyperLogLog sketchUsers = HyperLogLog.decode(sketch.getData());
+                usersByDay.computeIfAbsent(sketch.getDay(), day -> new HyperLogLog()).merge(sketchUsers);
+                usersByCategory.computeIfAbsent(sketch.getCategory(), key -> new HyperLogLog()).merge(sketchUsers);
+                users.merge(sketchUsers);
+            } else {
+                TDigest sketchTimes = TDigest.decode(sketch.getData());
+                timesByCategory.computeIfAbsent(sketch.getCategory(), key -> new TDigest()).merge(sketchTimes);
+                times.merge(sketchTimes);
+            }
+        }
+
+        List<DailyActiveUsers> daily = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            HyperLogLog dayUsers = usersByDay.get(day);
+            daily.add(DailyActiveUsers.builder()
+                    .day(day)
+                    .activeUsers(dayUsers != null ? dayUsers.cardinality() : 0L)
+                    .build());
+        }
+        List<CategoryEngagement> categories = new ArrayList<>();
+        for (GoalCategory goalCategory : GoalCategory.values()) {
+            HyperLogLog categoryUsers = usersByCategory.get(goalCategory);
+            TDigest categoryTimes = timesByCategory.get(goalCategory);
+            if (categoryUsers != null || categoryTimes != null) {
+                categories.add(engagement(goalCategory, categoryUsers, categoryTimes));
+            }
+        }
+        return EngagementAnalyticsResponse.builder()
+                .from(start)
+                .to(end)
+                .category(category)
+                .dailyActiveUsers(daily)
+                .total(engagement(null, users, times))
+                .categories(categories)
+                .build();
+    }
+
+    @Override
+    public int compact(LocalDate before) {
+        if (!jobLock.tryAcquire(JOB_NAME, leaseDuration)) {
+            log.info("Compactação dos sketches de engajamento em execução em outra instância");
+            return 0;
+        }
+        try {
+            int compacted = 0;
+            long renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            PageRequest page = PageRequest.of(0, chunkSize);
+            while (true) {
+                // Grupos já compactados têm uma única linha e saem da próxima consulta
+                List<SketchGroupRow> groups = analyticsSketchRepository.findGroupsToCompact(before, page);
+                for (SketchGroupRow group : groups) {
+                    transactionTemplate.executeWithoutResult(status -> compactGroup(group));
+                }
+                compacted += groups.size();
+                if (groups.size() < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() >= renewAt) {
+                    if (!jobLock.renew(JOB_NAME, leaseDuration)) {
+                        log.warn("Lease da compactação dos sketches perdida; execução interrompida");
+                        break;
+                    }
+                    renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+                }
+            }
+            return compacted;
+        } finally {
+            jobLock.release(JOB_NAME);
+        }
+    }
+
+    private void compactGroup(SketchGroupRow group) {
+        List<AnalyticsSketch> sketches = analyticsSketchRepository.findByKindAndDayAndCategory(group.kind(),
+                group.day(), group.category());
+        byte[] merged;
+        if (group.kind() == SketchKind.ACTIVE_USERS) {
+            HyperLogLog users = new HyperLogLog();
+            sketches.forEach(sketch -> users.merge(HyperLogLog.decode(sketch.getData())));
+            merged = users.encode();
+        } else {
+            TDigest times = new TDigest();
+            sketches.forEach(sketch -> times.merge(TDigest.decode(sketch.getData())));
+            merged = times.encode();
+        }
+        analyticsSketchRepository.deleteGroup(group.kind(), group.day(), group.category());
+        analyticsSketchRepository.upsert(group.kind(), group.day(), group.category(), MERGED_INSTANCE, merged,
+                LocalDateTime.now());
+    }
+
+    private static CategoryEngagement engagement(GoalCategory category, HyperLogLog users, TDigest times) {
+        long completions = times != null ? times.count() : 0;
+        return CategoryEngagement.builder()
+                .category(category)
+                .activeUsers(users != null ? users.cardinality() : 0L)
+                .completions(completions)
+                .completionHoursP50(completions > 0 ? hours(times.quantile(0.5)) : null)
+                .completionHoursP95(completions > 0 ? hours(times.quantile(0.95)) : null)
+                .build();
+    }
+
+    // Horas com uma casa decimal
+    private static double hours(double seconds) {
+        return Math.round(seconds / 360.0) / 10.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Progresso inicial de uma meta, a partir do tipo e das datas; usado na criação e na renovação de metas
+ * recorrentes.
+ */
+final class GoalDefaults {
+
+    private GoalDefaults() {
+    }
+
+    static Progress initialProgress(Goal goal) {
+        // Calcular total baseado no tipo e datas
+        return Progress.builder()
+                .completed(0)
+                .total(calculateDefaultTotal(goal))
+                .unit(getDefaultUnit(goal.getType()))
+                .build();
+    }
+
+    static int calculateDefaultTotal(Goal goal) {
+        if (goal.getStartDate() != null && goal.getEndDate() != null) {
+            long daysDifference = ChronoUnit.DAYS.between(goal.getStartDate(), goal.getEndDate());
+            
+            return switch (goal.getType() != null ? goal.getType() : "daily") {
+                case "daily" -> (int) daysDifference + 1; // +1 para incluir o dia final
+                case "weekly" -> (int) ((daysDifference / 7) + 1);
+                case "monthly" -> {
+                    long monthsDifference = ChronoUnit.MONTHS.between(goal.getStartDate(), goal.getEndDate());
+                    yield (int) monthsDifference + 1;
+                }
+                case "single" -> 1;
+                default -> 30; // valor padrão de 30 dias
+            };
+        }
+        // Valores padrão se as datas não estiverem definidas
+        return switch (goal.getType() != null ? goal.getType() : "daily") {
+            case "daily" -> 30;
+            case "weekly" -> 4;
+            case "monthly" -> 1;
+            case "single" -> 1;
+            default -> 30;
+        };
+    }
+    
+    static String getDefaultUnit(String type) {
+        return switch (type != null ? type : "daily") {
+            case "daily" -> "days";
+            case "weekly" -> "weeks";
+            case "monthly" -> "months";
+            case "single" -> "goal";
+            default -> "days";
+        };
+    }
+}
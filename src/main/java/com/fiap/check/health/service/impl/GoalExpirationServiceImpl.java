@@ -0,0 +1,197 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.dto.event.GoalStatusChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.projection.OverdueGoalRow;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.GoalExpirationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Expira as metas vencidas em blocos, cada um em uma transação curta: lê o próximo bloco pelo cursor
+ * (end_date, goal_id) e o atualiza com um único UPDATE, sem manter locks entre blocos.
+ * <p>
+ * O tamanho do bloco se ajusta ao orçamento de tempo ({@code goals.expiration.chunk-budget}): cai pela
+ * metade quando um bloco estoura o orçamento e dobra quando fica abaixo da metade dele. O timeout da
+ * transação limita um bloco que trave. Só uma réplica executa por vez ({@link JobLock}).
+ * <p>
+ * Cada bloco gera, após o commit, um {@link GoalsExpiredEvent} interno (caches e stream SSE) e um
+ * goal.status-changed por usuário no Kafka, ambos só com as metas que o UPDATE de fato expirou.
+ */
+@Slf4j
+@Service
+public class GoalExpirationServiceImpl implements GoalExpirationService {
+
+    static final String JOB_NAME = "goal-expiration";
+    static final String ACTIVE_STATUS = "active";
+    static final String EXPIRED_STATUS = "expired";
+
+    // Cursor inicial: anterior a qualquer end_date
+    private static final LocalDate FIRST_END_DATE = LocalDate.of(1, 1, 1);
+
+    private final GoalRepository goalRepository;
+    private final GoalChangeSequence goalChangeSequence;
+    private final GoalEventPublisher goalEventPublisher;
+    private final JobLock jobLock;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long chunkBudgetNanos;
+    private final Duration leaseDuration;
+    private int chunkSize;
+
+    public GoalExpirationServiceImpl(GoalRepository goalRepository,
+                                     GoalChangeSequence goalChangeSequence,
+                                     GoalEventPublisher goalEventPublisher,
+                                     JobLock jobLock,
+                                     ApplicationEventPublisher applicationEventPublisher,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${goals.expiration.chunk-size:1000}") int chunkSize,
+                                     @Value("${goals.expiration.min-chunk-size:100}") int minChunkSize,
+                                     @Value("${goals.expiration.max-chunk-size:5000}") int maxChunkSize,
+                                     @Value("${goals.expiration.chunk-budget:500ms}") Duration chunkBudget,
+                                     @Value("${goals.expiration.chunk-timeout:10s}") Duration chunkTimeout,
+                                     @Value("${goals.expiration.lease-duration:5m}") Duration leaseDuration) {
+        this.goalRepository = goalRepository;
+        this.goalChangeSequence = goalChangeSequence;
+        this.goalEventPublisher = goalEventPublisher;
+        this.jobLock = jobLock;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setTimeout((int) Math.max(1, chunkTimeout.toSeconds()));
+        this.chunkSize = chunkSize;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.chunkBudgetNanos = chunkBudget.toNanos();
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public int expireOverdueGoals(LocalDate today) {
+        if (!jobLock.tryAcquire(JOB_NAME, leaseDuration)) {
+            log.info("Expiração de metas em execução em outra instância");
+            return 0;
+        }
+        try {
+            return expireChunks(today);
+        } finally {
+            jobLock.release(JOB_NAME);
+        }
+    }
+
+    private int expireChunks(LocalDate today) {
+        int expired = 0;
+        int chunks = 0;
+        OverdueGoalRow cursor = new OverdueGoalRow(0L, null, FIRST_END_DATE);
+        long renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+
+        while (true) {
+            int size = chunkSize;
+            OverdueGoalRow after = cursor;
+            long start = System.nanoTime();
+            Chunk chunk = chunkTransaction.execute(status -> expireChunk(today, after, size));
+            long elapsed = System.nanoTime() - start;
+            if (chunk == null || chunk.last() == null) {
+                break;
+            }
+            expired += chunk.expired();
+            chunks++;
+            // Após o commit: os consumidores já leem as metas como expired
+            publishStatusChanges(chunk);
+            cursor = chunk.last();
+            chunkSize = nextChunkSize(size, elapsed);
+            if (chunk.rows() < size) {
+                break;
+            }
+
+            if (System.nanoTime() >= renewAt) {
+                if (!jobLock.renew(JOB_NAME, leaseDuration)) {
+                    log.warn("Lease da expiração de metas perdida após {} blocos; execução interrompida", chunks);
+                    break;
+                }
+                renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            }
+        }
+        log.debug("Expiração de metas: {} metas em {} blocos (próximo bloco: {})", expired, chunks, chunkSize);
+        return expired;
+    }
+
+    private Chunk expireChunk(LocalDate today, OverdueGoalRow after, int size) {
+        List<OverdueGoalRow> rows = goalRepository.findOverdueAfter(ACTIVE_STATUS, today, after.endDate(),
+                after.goalId(), PageRequest.of(0, size));
+        if (rows.isEmpty()) {
+            return new Chunk(0, 0, null, Map.of(), null);
+        }
+
+        List<Long> goalIds = new ArrayList<>(rows.size());
+        Map<String, List<Long>> goalIdsByUser = new HashMap<>();
+        for (OverdueGoalRow row : rows) {
+            goalIds.add(row.goalId());
+            goalIdsByUser.computeIfAbsent(row.userId(), userId -> new ArrayList<>()).add(row.goalId());
+        }
+        // status = active no WHERE: metas concluídas ou editadas desde a leitura não são expiradas
+        long changeSeq = goalChangeSequence.forCurrentTransaction();
+        LocalDateTime changedAt = LocalDateTime.now();
+        int expired = goalRepository.updateStatusByGoalIdIn(goalIds, ACTIVE_STATUS, EXPIRED_STATUS, changeSeq,
+                changedAt);
+        if (expired < goalIds.size()) {
+            Set<Long> updated = new HashSet<>(goalRepository.findGoalIdsByChange(goalIds, EXPIRED_STATUS, changeSeq));
+            goalIdsByUser.values().forEach(ids -> ids.retainAll(updated));
+            goalIdsByUser.values().removeIf(List::isEmpty);
+        }
+        if (!goalIdsByUser.isEmpty()) {
+            // Um evento por bloco, entregue após o commit
+            applicationEventPublisher.publishEvent(new GoalsExpiredEvent(goalIdsByUser));
+        }
+        return new Chunk(rows.size(), expired, rows.get(rows.size() - 1), goalIdsByUser, changedAt);
+    }
+
+    private void publishStatusChanges(Chunk chunk) {
+        if (chunk.goalIdsByUser().isEmpty()) {
+            return;
+        }
+        List<GoalStatusChangedEvent> changes = new ArrayList<>(chunk.goalIdsByUser().size());
+        chunk.goalIdsByUser().forEach((userId, goalIds) -> changes.add(GoalStatusChangedEvent.builder()
+                .userId(userId)
+                .goalIds(goalIds)
+                .previousStatus(ACTIVE_STATUS)
+                .status(EXPIRED_STATUS)
+                .changedAt(chunk.changedAt())
+                .build()));
+        goalEventPublisher.publishStatusChanges(changes);
+    }
+
+    private int nextChunkSize(int size, long elapsedNanos) {
+        if (elapsedNanos > chunkBudgetNanos) {
+            return Math.max(minChunkSize, size / 2);
+        }
+        if (elapsedNanos < chunkBudgetNanos / 2) {
+            return Math.min(maxChunkSize, size * 2);
+        }
+        return size;
+    }
+
+    private record Chunk(int rows, int expired, OverdueGoalRow last, Map<String, List<Long>> goalIdsByUser,
+                         LocalDateTime changedAt) {
+    }
+}
@@ -0,0 +1,216 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.Frequency;
+import com.fiap.check.health.model.Reward;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.service.GoalRenewalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renova as metas recorrentes cujo período terminou: cria a meta do período seguinte, com o progresso
+ * inicial de {@link GoalDefaults}, e liga a anterior a ela ({@code renewed_goal_id}).
+ * <p>
+ * As metas vencidas são lidas em blocos pelo índice de {@code renew_on}, cada bloco em uma transação curta:
+ * os ids vêm do gerador pooled da sequência, os INSERTs e os UPDATEs saem em lotes JDBC e, após o commit, os
+ * goal.created do bloco vão juntos para o produtor Kafka. Para que a virada de uma coorte grande (as metas
+ * semanais na madrugada de segunda) não dispute conexões e locks com as requisições, a execução é limitada a
+ * {@code goals.renewal.max-per-second} metas e a {@code goals.renewal.run-budget}; o que sobrar fica para a
+ * próxima execução. Só uma réplica executa por vez ({@link JobLock}).
+ */
+@Slf4j
+@Service
+public class GoalRenewalServiceImpl implements GoalRenewalService {
+
+    static final String JOB_NAME = "goal-renewal";
+    static final String ACTIVE_STATUS = "active";
+    static final String ARCHIVED_STATUS = "archived";
+    static final String MONTHLY_TYPE = "monthly";
+
+    private final GoalRepository goalRepository;
+    private final GoalEventPublisher goalEventPublisher;
+    private final JobLock jobLock;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int maxPerSecond;
+    private final Duration runBudget;
+    private final Duration leaseDuration;
+
+    public GoalRenewalServiceImpl(GoalRepository goalRepository,
+                                  GoalEventPublisher goalEventPublisher,
+                                  JobLock jobLock,
+                                  ApplicationEventPublisher applicationEventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${goals.renewal.chunk-size:500}") int chunkSize,
+                                  @Value("${goals.renewal.max-per-second:2000}") int maxPerSecond,
+                                  @Value("${goals.renewal.run-budget:4m}") Duration runBudget,
+                                  @Value("${goals.renewal.chunk-timeout:10s}") Duration chunkTimeout,
+                                  @Value("${goals.renewal.lease-duration:5m}") Duration leaseDuration) {
+        this.goalRepository = goalRepository;
+        this.goalEventPublisher = goalEventPublisher;
+        this.jobLock = jobLock;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setTimeout((int) Math.max(1, chunkTimeout.toSeconds()));
+        this.chunkSize = chunkSize;
+        this.maxPerSecond = maxPerSecond;
+        this.runBudget = runBudget;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public int renewDueGoals(LocalDate today) {
+        if (!jobLock.tryAcquire(JOB_NAME, leaseDuration)) {
+            log.info("Renovação de metas recorrentes em execução em outra instância");
+            return 0;
+        }
+        try {
+            return renewChunks(today);
+        } finally {
+            jobLock.release(JOB_NAME);
+        }
+    }
+
+    private int renewChunks(LocalDate today) {
+        int renewed = 0;
+        int chunks = 0;
+        long start = System.nanoTime();
+        long deadline = start + runBudget.toNanos();
+        long renewAt = start + leaseDuration.toNanos() / 2;
+
+        while (true) {
+            List<Goal> created = chunkTransaction.execute(status -> renewChunk(today));
+            if (created == null || created.isEmpty()) {
+                break;
+            }
+            // Após o commit: as metas já existem quando os consumidores recebem o goal.created
+            goalEventPublisher.publishGoalsCreated(created);
+            renewed += created.size();
+            chunks++;
+            if (created.size() < chunkSize) {
+                break;
+            }
+
+            if (!pace(start, renewed)) {
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.info("Renovação de metas recorrentes interrompida pelo orçamento após {} metas; "
+                        + "as restantes ficam para a próxima execução", renewed);
+                break;
+            }
+            if (System.nanoTime() >= renewAt) {
+                if (!jobLock.renew(JOB_NAME, leaseDuration)) {
+                    log.warn("Lease da renovação de metas perdida após {} blocos; execução interrompida", chunks);
+                    break;
+                }
+                renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            }
+        }
+        log.debug("Renovação de metas recorrentes: {} metas em {} blocos", renewed, chunks);
+        return renewed;
+    }
+
+    private List<Goal> renewChunk(LocalDate today) {
+        List<Goal> due = goalRepository.findDueForRenewal(today, ARCHIVED_STATUS, PageRequest.of(0, chunkSize));
+        List<Goal> created = new ArrayList<>(due.size());
+        for (Goal goal : due) {
+            created.add(nextGoal(goal, today));
+        }
+        // O id de cada meta é atribuído já no persist, sem ida ao banco por linha
+        goalRepository.saveAll(created);
+        for (int i = 0; i < due.size(); i++) {
+            // Metas gerenciadas: o UPDATE de renewed_goal_id sai no flush do commit (o listener zera o renew_on)
+            due.get(i).setRenewedGoalId(created.get(i).getGoalId());
+        }
+        created.forEach(goal -> applicationEventPublisher.publishEvent(GoalChangedEvent.of(ChangeType.CREATED, goal)));
+        return created;
+    }
+
+    /**
+     * Espera o necessário para que a média desde {@code start} não passe de {@code maxPerSecond} metas;
+     * {@code false} se a thread foi interrompida.
+     */
+    private boolean pace(long start, int renewed) {
+        long ahead = renewed * TimeUnit.SECONDS.toNanos(1) / maxPerSecond - (System.nanoTime() - start);
+        if (ahead <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ahead);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Meta do primeiro período seguinte que ainda não terminou em {@code today}; períodos inteiros perdidos
+     * (meta reativada depois de arquivada, job parado) são pulados. Os períodos têm a duração do original:
+     * em meses nas metas mensais e em dias nas demais.
+     */
+    static Goal nextGoal(Goal goal, LocalDate today) {
+        LocalDate end = goal.getEndDate();
+        LocalDate start = goal.getStartDate() != null && !goal.getStartDate().isAfter(end)
+                ? goal.getStartDate() : end;
+        long months = MONTHLY_TYPE.equals(goal.getType()) ? ChronoUnit.MONTHS.between(start, end.plusDays(1)) : 0;
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+
+        long period = 1;
+        while (periodStart(start, months, days, period + 1).isBefore(today.plusDays(1))) {
+            period++;
+        }
+        Goal next = Goal.builder()
+                .userId(goal.getUserId())
+                .title(goal.getTitle())
+                .description(goal.getDescription())
+                .category(goal.getCategory())
+                .type(goal.getType())
+                .startDate(periodStart(start, months, days, period))
+                .endDate(periodStart(start, months, days, period + 1).minusDays(1))
+                .frequency(goal.getFrequency() != null
+                        ? Frequency.builder()
+                                .periodicity(goal.getFrequency().getPeriodicity())
+                                .timesPerPeriod(goal.getFrequency().getTimesPerPeriod())
+                                .build()
+                        : null)
+                .difficulty(goal.getDifficulty())
+                .reward(goal.getReward() != null
+                        ? Reward.builder()
+                                .points(goal.getReward().getPoints())
+                                .badge(goal.getReward().getBadge())
+                                .build()
+                        : null)
+                .status(ACTIVE_STATUS)
+                .notifications(goal.getNotifications())
+                .recurring(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        next.setProgress(GoalDefaults.initialProgress(next));
+        return next;
+    }
+
+    private static LocalDate periodStart(LocalDate start, long months, long days, long period) {
+        return months > 0 ? start.plusMonths(months * period) : start.plusDays(days * period);
+    }
+}
@@ -1,36 +1,118 @@
 package com.fiap.check.health.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.JsonMergePatch;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressRequestItem;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BatchProgressResponseItem;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.cache.GoalReadCoalescer;
+import com.fiap.check.health.cache.GoalReadCoalescer.GoalKey;
+import com.fiap.check.health.cache.GoalReadCoalescer.UserGoalsKey;
+import com.fiap.check.health.cache.UserGoalSummaryCache;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.GoalCheckedInEvent;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
 import com.fiap.check.health.event.publisher.GoalEventPublisher;
 import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.exception.SyncCursorExpiredException;
 import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.CheckInBitmap;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.GoalTombstone;
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+import com.fiap.check.health.persistence.projection.GoalRow;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
 import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.GoalTombstoneRepository;
 import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.PointsService;
+import com.fiap.check.health.service.ProgressHistoryService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class GoalServiceImpl implements GoalService {
 
+    private static final String ARCHIVED_STATUS = "archived";
+    private static final String COMPLETED_STATUS = "completed";
+    private static final String DAILY_TYPE = "daily";
+
+    private static final Comparator<ChangeEntry> CHANGE_ORDER = Comparator
+            .comparingLong((ChangeEntry entry) -> entry.cursor().changeSeq())
+            .thenComparingLong(entry -> entry.cursor().goalId());
+
     private final GoalRepository goalRepository;
+    private final GoalTombstoneRepository goalTombstoneRepository;
+    private final GoalChangeSequence goalChangeSequence;
     private final GoalMapper goalMapper;
+    private final PointsService pointsService;
+    private final ProgressHistoryService progressHistoryService;
     private final GoalEventPublisher goalEventPublisher;
+    private final GoalReadCoalescer goalReadCoalescer;
+    private final UserGoalSummaryCache userGoalSummaryCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
-    public GoalServiceImpl(GoalRepository goalRepository, GoalMapper goalMapper, GoalEventPublisher goalEventPublisher) {
+    public GoalServiceImpl(GoalRepository goalRepository, GoalTombstoneRepository goalTombstoneRepository,
+                           GoalChangeSequence goalChangeSequence, GoalMapper goalMapper,
+                           PointsService pointsService, ProgressHistoryService progressHistoryService,
+                           GoalEventPublisher goalEventPublisher,
+                           GoalReadCoalescer goalReadCoalescer, UserGoalSummaryCache userGoalSummaryCache,
+                           ApplicationEventPublisher applicationEventPublisher, ObjectMapper objectMapper,
+                           Validator validator) {
         this.goalRepository = goalRepository;
+        this.goalTombstoneRepository = goalTombstoneRepository;
+        this.goalChangeSequence = goalChangeSequence;
         this.goalMapper = goalMapper;
+        this.pointsService = pointsService;
+        this.progressHistoryService = progressHistoryService;
         this.goalEventPublisher = goalEventPublisher;
+        this.goalReadCoalescer = goalReadCoalescer;
+        this.userGoalSummaryCache = userGoalSummaryCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
     }
 
     @Override
@@ -42,16 +124,11 @@ public class GoalServiceImpl implements GoalService {
         
         // Inicializar progresso padrão se não estiver definido
         if (goal.getProgress() == null) {
-            // Calcular total baseado no tipo e datas
-            int total = calculateDefaultTotal(goal);
-            goal.setProgress(com.fiap.check.health.model.Progress.builder()
-                    .completed(0)
-                    .total(total)
-                    .unit(getDefaultUnit(goal.getType()))
-                    .build());
+            goal.setProgress(GoalDefaults.initialProgress(goal));
         }
         
         Goal savedGoal = goalRepository.save(goal);
+        applicationEventPublisher.publishEvent(GoalChangedEvent.of(ChangeType.CREATED, savedGoal));
         
         // Publica evento de goal criado no Kafka
         try {
@@ -81,37 +158,67 @@ public class GoalServiceImpl implements GoalService {
                 .collect(Collectors.toList());
     }
 
+    // Leituras coalescidas não abrem transação própria: as threads que aguardam o leader
+    // não devem segurar conexões do pool enquanto esperam o resultado compartilhado.
     @Override
-    @Transactional(readOnly = true)
-    public Optional<GoalResponse> findById(Long goalId) {
-        return goalRepository.findById(goalId)
+    public Page<GoalResponse> listGoalsByUser(String userId, String status, int page, int size, GoalFields fields) {
+        boolean withArticle = fields.includesArticle();
+        UserGoalsKey key = new UserGoalsKey(userId, status, page, size, withArticle);
+        return goalReadCoalescer.listByUser(key, () -> {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "goalId"));
+            if (!withArticle) {
+                // Sem artigo: a projeção não lê as colunas do artigo nem faz o parse dos quizzes
+                return (status != null
+                        ? goalRepository.findRowsByUserIdAndStatus(userId, status, pageable)
+                        : goalRepository.findRowsByUserId(userId, pageable))
+                        .map(goalMapper::toResponseWithoutArticle);
+            }
+            Page<Goal> goals = status != null
+                    ? goalRepository.findByUserIdAndStatus(userId, status, pageable)
+                    : goalRepository.findByUserId(userId, pageable);
+            return goals.map(goal -> {
+                try {
+                    return goalMapper.toResponse(goal);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("Erro ao mapear Goal para GoalResponse", e);
+                }
+            });
+        });
+    }
+
+    @Override
+    public List<GoalSummaryResponse> listGoalSummaries(String userId) {
+        return userGoalSummaryCache.get(userId, id -> goalRepository.findSummariesByUserId(id)
+                .stream()
+                .map(goalMapper::toSummaryResponse)
+                .toList());
+    }
+
+    @Override
+    public Optional<GoalResponse> findById(Long goalId, GoalFields fields) {
+        if (!fields.includesArticle()) {
+            return goalReadCoalescer.findById(new GoalKey(goalId, false),
+                    () -> goalRepository.findRowById(goalId).map(goalMapper::toResponseWithoutArticle));
+        }
+        return goalReadCoalescer.findById(new GoalKey(goalId, true), () -> goalRepository.findById(goalId)
                 .map(goal -> {
                     try {
                         return goalMapper.toResponse(goal);
                     } catch (JsonProcessingException e) {
                         throw new RuntimeException("Erro ao converter Goal para GoalResponse", e);
                     }
-                });
+                }));
     }
 
     @Override
     @Transactional
     public GoalResponse updateGoal(Long goalId, GoalRequest goalRequest) {
-        return goalRepository.findById(goalId)
+        return goalRepository.findByIdForUpdate(goalId)
                 .map(goal -> {
-                    Goal updatedGoal = goalMapper.toEntity(goalRequest);
-                    goal.setTitle(updatedGoal.getTitle());
-                    goal.setDescription(updatedGoal.getDescription());
-                    goal.setCategory(updatedGoal.getCategory());
-                    goal.setType(updatedGoal.getType());
-                    goal.setStartDate(updatedGoal.getStartDate());
-                    goal.setEndDate(updatedGoal.getEndDate());
-                    goal.setFrequency(updatedGoal.getFrequency());
-                    goal.setDifficulty(updatedGoal.getDifficulty());
-                    goal.setReward(updatedGoal.getReward());
-                    goal.setStatus(updatedGoal.getStatus());
-                    goal.setNotifications(updatedGoal.getNotifications());
+                    String previousStatus = goal.getStatus();
+                    copyEditableFields(goal, goalMapper.toEntity(goalRequest));
                     Goal savedGoal = goalRepository.save(goal);
+                    publishChange(previousStatus, savedGoal, ChangeType.UPDATED);
                     try {
                         return goalMapper.toResponse(savedGoal);
                     } catch (JsonProcessingException e) {
@@ -124,26 +231,28 @@ public class GoalServiceImpl implements GoalService {
     @Override
     @Transactional
     public void deleteGoal(Long goalId) {
-        if (!goalRepository.existsById(goalId)) {
+        // Instruções diretas, sem carregar a meta: o tombstone do delta sync é gravado com insert ... select
+        // e a contagem de linhas dele substitui o existsById no 404
+        if (goalTombstoneRepository.insertForGoal(goalId, goalChangeSequence.forCurrentTransaction(),
+                LocalDateTime.now()) == 0) {
             throw new GoalNotFoundException(goalId);
         }
-        goalRepository.deleteById(goalId);
+        progressHistoryService.deleteForGoal(goalId);
+        goalRepository.deleteByGoalId(goalId);
+        applicationEventPublisher.publishEvent(GoalChangedEvent.deleted(goalId, null));
     }
 
     @Override
     @Transactional
     public GoalResponse updateProgress(Long goalId, ProgressRequest progressRequest) {
-        return goalRepository.findById(goalId)
+        return goalRepository.findByIdForUpdate(goalId)
                 .map(goal -> {
-                    if (goal.getProgress() != null) {
-                        int completed = goal.getProgress().getCompleted() + progressRequest.getIncrement();
-                        goal.getProgress().setCompleted(completed);
-                        // lógica de gamificação: pontos extras, badges, etc.
-                        if (completed >= goal.getProgress().getTotal()) {
-                            goal.setStatus("completed");
-                        }
-                    }
+                    String previousStatus = goal.getStatus();
+                    applyIncrement(goal, progressRequest.getIncrement());
                     Goal savedGoal = goalRepository.save(goal);
+                    progressHistoryService.record(List.of(progressEntry(savedGoal, progressRequest.getIncrement(),
+                            LocalDateTime.now())));
+                    publishChange(previousStatus, savedGoal, ChangeType.PROGRESS);
                     try {
                         return goalMapper.toResponse(savedGoal);
                     } catch (JsonProcessingException e) {
@@ -153,38 +262,374 @@ public class GoalServiceImpl implements GoalService {
                 .orElseThrow(() -> new GoalNotFoundException(goalId));
     }
     
-    private int calculateDefaultTotal(Goal goal) {
-        if (goal.getStartDate() != null && goal.getEndDate() != null) {
-            long daysDifference = java.time.temporal.ChronoUnit.DAYS.between(goal.getStartDate(), goal.getEndDate());
-            
-            return switch (goal.getType() != null ? goal.getType() : "daily") {
-                case "daily" -> (int) daysDifference + 1; // +1 para incluir o dia final
-                case "weekly" -> (int) ((daysDifference / 7) + 1);
-                case "monthly" -> {
-                    long monthsDifference = java.time.temporal.ChronoUnit.MONTHS.between(goal.getStartDate(), goal.getEndDate());
-                    yield (int) monthsDifference + 1;
+    @Override
+    public GoalLookupResponse findByIds(String userId, List<Long> goalIds, GoalFields fields) {
+        List<Long> distinctIds = goalIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // Uma única consulta IN para todos os ids; metas de outros usuários contam como inexistentes
+        Map<Long, GoalResponse> found = new HashMap<>();
+        if (fields.includesArticle()) {
+            goalRepository.findAllById(distinctIds).stream()
+                    .filter(goal -> Objects.equals(goal.getUserId(), userId))
+                    .forEach(goal -> {
+                        try {
+                            found.put(goal.getGoalId(), goalMapper.toResponse(goal));
+                        } catch (JsonProcessingException e) {
+                            throw new RuntimeException("Erro ao converter Goal para GoalResponse", e);
+                        }
+                    });
+        } else {
+            goalRepository.findRowsByGoalIdIn(distinctIds).stream()
+                    .filter(row -> Objects.equals(row.userId(), userId))
+                    .forEach(row -> found.put(row.goalId(), goalMapper.toResponseWithoutArticle(row)));
+        }
+
+        List<GoalResponse> goals = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long goalId : distinctIds) {
+            GoalResponse response = found.get(goalId);
+            if (response != null) {
+                goals.add(response);
+            } else {
+                missing.add(goalId);
+            }
+        }
+        return GoalLookupResponse.builder()
+                .goals(goals)
+                .missing(missing)
+                .build();
+    }
+
+    @Override
+    public GoalChangesResponse listChanges(String userId, ChangeCursor since, int limit, GoalFields fields) {
+        ChangeCursor from = since != null ? since : ChangeCursor.START;
+        // Tomado antes das consultas: o que for confirmado depois delas não pode estar abaixo do horizonte
+        LocalDateTime horizon = goalChangeSequence.safeHorizon();
+        // Uma linha além do limite em cada fonte indica se há mais alterações
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<ChangeEntry> entries = new ArrayList<>();
+        if (fields.includesArticle()) {
+            for (Goal goal : goalRepository.findChangedAfter(userId, from.changeSeq(), from.goalId(), window)) {
+                try {
+                    entries.add(new ChangeEntry(new ChangeCursor(goal.getChangeSeq(), goal.getGoalId()),
+                            goal.getChangedAt(), goalMapper.toResponse(goal)));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("Erro ao converter Goal para GoalResponse", e);
                 }
-                case "single" -> 1;
-                default -> 30; // valor padrão de 30 dias
-            };
-        }
-        // Valores padrão se as datas não estiverem definidas
-        return switch (goal.getType() != null ? goal.getType() : "daily") {
-            case "daily" -> 30;
-            case "weekly" -> 4;
-            case "monthly" -> 1;
-            case "single" -> 1;
-            default -> 30;
-        };
+            }
+        } else {
+            for (GoalRow row : goalRepository.findRowsChangedAfter(userId, from.changeSeq(), from.goalId(), window)) {
+                entries.add(new ChangeEntry(new ChangeCursor(row.changeSeq(), row.goalId()), row.changedAt(),
+                        goalMapper.toResponseWithoutArticle(row)));
+            }
+        }
+        // Na sincronização completa o cliente ainda não tem metas a remover
+        if (since != null) {
+            for (GoalTombstone tombstone : goalTombstoneRepository.findChangedAfter(userId, from.changeSeq(),
+                    from.goalId(), window)) {
+                entries.add(new ChangeEntry(new ChangeCursor(tombstone.getChangeSeq(), tombstone.getGoalId()),
+                        tombstone.getDeletedAt(), null));
+            }
+            // Lido depois dos tombstones: uma remoção confirmada antes daquela consulta já elevou o horizonte
+            Optional<Long> purgedThrough = goalTombstoneRepository.findPurgedThroughSeq();
+            if (purgedThrough.isPresent() && since.changeSeq() <= purgedThrough.get()) {
+                throw new SyncCursorExpiredException(since.toString());
+            }
+        }
+
+        entries.sort(CHANGE_ORDER);
+        boolean hasMore = entries.size() > limit;
+        List<ChangeEntry> page = hasMore ? entries.subList(0, limit) : entries;
+
+        // Uma transação ainda aberta pode ter change_seq menor que as alterações recentes e confirmar depois
+        // delas; o cursor só avança até a última alteração anterior ao horizonte, e as seguintes são entregues
+        // de novo na próxima chamada (ao menos uma vez; o cliente aplica por goal_id)
+        int settled = page.size();
+        while (settled > 0 && !page.get(settled - 1).settledBefore(horizon)) {
+            settled--;
+        }
+        ChangeCursor cursor = settled > 0 ? page.get(settled - 1).cursor() : from;
+        // As alterações além da página são ainda mais recentes: o cliente volta na próxima sincronização
+        hasMore = hasMore && settled == page.size();
+
+        List<GoalResponse> goals = new ArrayList<>(page.size());
+        List<Long> deleted = new ArrayList<>();
+        for (ChangeEntry entry : page) {
+            if (entry.goal() != null) {
+                goals.add(entry.goal());
+            } else {
+                deleted.add(entry.cursor().goalId());
+            }
+        }
+        return GoalChangesResponse.builder()
+                .goals(goals)
+                .deleted(deleted)
+                .cursor(cursor.toString())
+                .hasMore(hasMore)
+                .build();
     }
-    
-    private String getDefaultUnit(String type) {
-        return switch (type != null ? type : "daily") {
-            case "daily" -> "days";
-            case "weekly" -> "weeks";
-            case "monthly" -> "months";
-            case "single" -> "goal";
-            default -> "days";
+
+    @Override
+    @Transactional
+    public BatchProgressResponse updateProgressBatch(String userId, BatchProgressRequest batchProgressRequest) {
+        List<BatchProgressRequestItem> items = batchProgressRequest.getItems();
+
+        // Uma única consulta IN, com lock, para todas as metas do lote; metas de outros usuários contam como
+        // inexistentes
+        Set<Long> goalIds = items.stream()
+                .map(BatchProgressRequestItem::getGoalId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Goal> goals = goalRepository.findAllByIdForUpdate(goalIds).stream()
+                .filter(goal -> Objects.equals(goal.getUserId(), userId))
+                .collect(Collectors.toMap(Goal::getGoalId, Function.identity()));
+
+        List<BatchProgressResponseItem> results = new ArrayList<>(items.size());
+        List<ProgressEntry> entries = new ArrayList<>(items.size());
+        LocalDateTime now = LocalDateTime.now();
+        // Status de cada meta antes do lote, para identificar as que foram concluídas por ele
+        Map<Goal, String> previousStatus = new IdentityHashMap<>();
+        for (BatchProgressRequestItem item : items) {
+            if (item.getGoalId() == null || item.getIncrement() == null) {
+                results.add(BatchProgressResponseItem.builder()
+                        .goalId(item.getGoalId())
+                        .result(BatchProgressResponseItem.Result.INVALID)
+                        .error("goal_id e increment são obrigatórios")
+                        .build());
+                continue;
+            }
+            Goal goal = goals.get(item.getGoalId());
+            if (goal == null) {
+                results.add(BatchProgressResponseItem.builder()
+                        .goalId(item.getGoalId())
+                        .result(BatchProgressResponseItem.Result.NOT_FOUND)
+                        .error("Goal não encontrado com ID: " + item.getGoalId())
+                        .build());
+                continue;
+            }
+            previousStatus.putIfAbsent(goal, goal.getStatus());
+            applyIncrement(goal, item.getIncrement());
+            entries.add(progressEntry(goal, item.getIncrement(), now));
+            results.add(goalMapper.toBatchProgressResult(goal));
+        }
+
+        // As metas estão gerenciadas: no flush do commit os UPDATEs saem juntos em um lote JDBC
+        // (hibernate.jdbc.batch_size / order_updates)
+        goalRepository.saveAll(previousStatus.keySet());
+        progressHistoryService.record(entries);
+        previousStatus.forEach((goal, status) -> publishChange(status, goal, ChangeType.PROGRESS));
+
+        int updated = (int) results.stream()
+                .filter(result -> result.getResult() == BatchProgressResponseItem.Result.UPDATED)
+                .count();
+        return BatchProgressResponse.builder()
+                .updated(updated)
+                .failed(results.size() - updated)
+                .results(results)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public GoalResponse patchGoal(Long goalId, JsonNode mergePatch) {
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new InvalidRequestException("O merge patch deve ser um objeto JSON");
+        }
+        Goal goal = goalRepository.findByIdForUpdate(goalId).orElseThrow(() -> new GoalNotFoundException(goalId));
+
+        // O patch é aplicado sobre a meta no formato da requisição e o resultado passa pelas mesmas validações do PUT
+        GoalRequest patched;
+        try {
+            JsonNode current = objectMapper.valueToTree(goalMapper.toRequest(goal));
+            patched = objectMapper.treeToValue(JsonMergePatch.apply(current, mergePatch), GoalRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Merge patch inválido: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<GoalRequest>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new InvalidRequestException("Merge patch inválido: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        // Só os atributos alterados ficam sujos; com @DynamicUpdate o UPDATE escreve apenas essas colunas
+        String previousStatus = goal.getStatus();
+        copyEditableFields(goal, goalMapper.toEntity(patched));
+        Goal savedGoal = goalRepository.save(goal);
+        publishChange(previousStatus, savedGoal, ChangeType.UPDATED);
+        try {
+            return goalMapper.toResponse(savedGoal);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public BulkGoalResponse bulkChange(String userId, BulkGoalRequest bulkGoalRequest) {
+        List<Long> goalIds = bulkGoalRequest.getGoalIds() == null ? null : bulkGoalRequest.getGoalIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (goalIds != null && goalIds.isEmpty()) {
+            return BulkGoalResponse.builder().action(bulkGoalRequest.getAction()).affected(0).build();
+        }
+
+        // Instruções set-based restritas ao dono; ids de outros usuários são ignorados.
+        // A exclusão grava os tombstones do delta sync e remove o histórico de progresso na mesma transação
+        // (insert ... select e deletes que leem os ids das metas antes do delete delas)
+        long changeSeq = goalChangeSequence.forCurrentTransaction();
+        LocalDateTime now = LocalDateTime.now();
+        int affected = switch (bulkGoalRequest.getAction()) {
+            case DELETE -> {
+                progressHistoryService.deleteForUser(userId, goalIds);
+                if (goalIds == null) {
+                    goalTombstoneRepository.insertForUser(userId, changeSeq, now);
+                    yield goalRepository.deleteAllByUserId(userId);
+                }
+                goalTombstoneRepository.insertForUserAndGoalIds(userId, goalIds, changeSeq, now);
+                yield goalRepository.deleteAllByUserIdAndGoalIdIn(userId, goalIds);
+            }
+            case ARCHIVE -> goalIds == null
+                    ? goalRepository.updateStatusByUserId(userId, ARCHIVED_STATUS, changeSeq, now)
+                    : goalRepository.updateStatusByUserIdAndGoalIdIn(userId, goalIds, ARCHIVED_STATUS, changeSeq,
+                            now);
         };
+        log.info("{} em massa de metas do usuário {}: {} afetadas", bulkGoalRequest.getAction(), userId, affected);
+
+        if (affected > 0) {
+            applicationEventPublisher.publishEvent(new GoalsBulkChangedEvent(userId, goalIds));
+        }
+        return BulkGoalResponse.builder()
+                .action(bulkGoalRequest.getAction())
+                .affected(affected)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public GoalStreakResponse checkIn(String userId, Long goalId, LocalDate date) {
+        // Meta de outro usuário responde 404, como em findByIds
+        Goal goal = goalRepository.findByIdForUpdate(goalId)
+                .filter(found -> Objects.equals(found.getUserId(), userId))
+                .orElseThrow(() -> new GoalNotFoundException(goalId));
+        if (!DAILY_TYPE.equals(goal.getType())) {
+            throw new InvalidRequestException("Check-ins só se aplicam a metas diárias");
+        }
+        LocalDate today = LocalDate.now();
+        if (!isWithinGoal(goal, date) || date.isAfter(today)) {
+            throw new InvalidRequestException("Data fora do período da meta: " + date);
+        }
+
+        CheckInBitmap checkIns = CheckInBitmap.decode(goal.getCheckIns());
+        if (checkIns.checkIn(checkInDay(goal, date))) {
+            goal.setCheckIns(checkIns.encode());
+            goalRepository.save(goal);
+            applicationEventPublisher.publishEvent(new GoalCheckedInEvent(goal, date));
+        }
+        return goalMapper.toStreakResponse(goal, checkIns, today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GoalStreakResponse getStreak(String userId, Long goalId) {
+        Goal goal = goalRepository.findById(goalId)
+                .filter(found -> Objects.equals(found.getUserId(), userId))
+                .orElseThrow(() -> new GoalNotFoundException(goalId));
+        return goalMapper.toStreakResponse(goal, CheckInBitmap.decode(goal.getCheckIns()), LocalDate.now());
+    }
+
+    private void copyEditableFields(Goal goal, Goal changes) {
+        goal.setTitle(changes.getTitle());
+        goal.setDescription(changes.getDescription());
+        goal.setCategory(changes.getCategory());
+        goal.setType(changes.getType());
+        if (goal.getCheckIns() != null && goal.getStartDate() != null && changes.getStartDate() != null
+                && !goal.getStartDate().equals(changes.getStartDate())) {
+            // Os bits contam dias a partir do startDate: um novo início desloca o histórico
+            int firstDay = (int) ChronoUnit.DAYS.between(goal.getStartDate(), changes.getStartDate());
+            goal.setCheckIns(CheckInBitmap.decode(goal.getCheckIns()).rebase(firstDay).encode());
+        }
+        goal.setStartDate(changes.getStartDate());
+        goal.setEndDate(changes.getEndDate());
+        goal.setFrequency(changes.getFrequency());
+        goal.setDifficulty(changes.getDifficulty());
+        goal.setReward(changes.getReward());
+        goal.setStatus(changes.getStatus());
+        goal.setNotifications(changes.getNotifications());
+        goal.setRecurring(changes.getRecurring());
+    }
+
+    private void applyIncrement(Goal goal, int increment) {
+        // Progresso em meta diária vale como check-in do dia
+        LocalDate today = LocalDate.now();
+        if (increment > 0 && DAILY_TYPE.equals(goal.getType()) && isWithinGoal(goal, today)) {
+            CheckInBitmap checkIns = CheckInBitmap.decode(goal.getCheckIns());
+            if (checkIns.checkIn(checkInDay(goal, today))) {
+                goal.setCheckIns(checkIns.encode());
+            }
+        }
+        if (goal.getProgress() != null) {
+            int previous = goal.getProgress().getCompleted();
+            int completed = previous + increment;
+            goal.getProgress().setCompleted(completed);
+            // Badges são avaliados pelo BadgeServiceImpl após o commit
+            if (completed >= goal.getProgress().getTotal()) {
+                goal.setStatus(COMPLETED_STATUS);
+                // Só o progresso que atinge o total pontua; mudar o status por PUT/PATCH não lança pontos,
+                // e o ledger (chave goal_id) impede que a mesma meta pontue de novo
+                if (previous < goal.getProgress().getTotal()) {
+                    pointsService.award(goal);
+                }
+            }
+        }
+    }
+
+    private static ProgressEntry progressEntry(Goal goal, int increment, LocalDateTime recordedAt) {
+        return ProgressEntry.builder()
+                .goalId(goal.getGoalId())
+                .userId(goal.getUserId())
+                .increment(increment)
+                .completed(goal.getProgress() != null ? goal.getProgress().getCompleted() : null)
+                .recordedAt(recordedAt)
+                .build();
+    }
+
+    private static boolean isWithinGoal(Goal goal, LocalDate date) {
+        return goal.getStartDate() != null && !date.isBefore(goal.getStartDate())
+                && (goal.getEndDate() == null || !date.isAfter(goal.getEndDate()))
+                && checkInDay(goal, date) < CheckInBitmap.MAX_DAYS;
+    }
+
+    private static int checkInDay(Goal goal, LocalDate date) {
+        return (int) Math.min(ChronoUnit.DAYS.between(goal.getStartDate(), date), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Publica a alteração como {@code otherwise}, ou como {@link ChangeType#COMPLETED} quando a meta acabou de
+     * ser concluída.
+     */
+    private void publishChange(String previousStatus, Goal goal, ChangeType otherwise) {
+        ChangeType type = otherwise;
+        if (!COMPLETED_STATUS.equals(previousStatus) && COMPLETED_STATUS.equals(goal.getStatus())) {
+            type = ChangeType.COMPLETED;
+        }
+        applicationEventPublisher.publishEvent(GoalChangedEvent.of(type, goal));
+    }
+
+    /**
+     * Alteração no delta sync; {@code goal} nulo representa uma exclusão.
+     */
+    private record ChangeEntry(ChangeCursor cursor, LocalDateTime changedAt, GoalResponse goal) {
+
+        // Linhas gravadas antes da coluna changed_at não têm o instante e são antigas
+        boolean settledBefore(LocalDateTime horizon) {
+            return changedAt == null || changedAt.isBefore(horizon);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.entity.GoalTombstone;
+import com.fiap.check.health.persistence.repository.GoalTombstoneRepository;
+import com.fiap.check.health.service.GoalTombstoneService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Retenção de {@code goal_tombstones}: cada bloco removido eleva, na mesma transação, o horizonte de
+ * {@code goal_tombstone_horizon}, que o delta sync compara com o cursor recebido.
+ */
+@Slf4j
+@Service
+public class GoalTombstoneServiceImpl implements GoalTombstoneService {
+
+    static final String JOB_NAME = "tombstone-purge";
+
+    private final GoalTombstoneRepository goalTombstoneRepository;
+    private final JobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+
+    public GoalTombstoneServiceImpl(GoalTombstoneRepository goalTombstoneRepository,
+                                    JobLock jobLock,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${goals.changes.tombstone-purge.chunk-size:5000}") int chunkSize,
+                                    @Value("${goals.changes.tombstone-purge.lease-duration:5m}")
+                                    Duration leaseDuration) {
+        this.goalTombstoneRepository = goalTombstoneRepository;
+        this.jobLock = jobLock;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public int purge(LocalDateTime before) {
+        if (!jobLock.tryAcquire(JOB_NAME, leaseDuration)) {
+            log.info("Remoção de tombstones em execução em outra instância");
+            return 0;
+        }
+        try {
+            int deleted = 0;
+            long renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            PageRequest page = PageRequest.of(0, chunkSize);
+            while (true) {
+                // Blocos em transações curtas, sempre os mais antigos: os removidos saem da próxima consulta
+                Integer chunk = transactionTemplate.execute(status -> purgeChunk(before, page));
+                if (chunk == null || chunk == 0) {
+                    break;
+                }
+                deleted += chunk;
+                if (chunk < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() >= renewAt) {
+                    if (!jobLock.renew(JOB_NAME, leaseDuration)) {
+                        log.warn("Lease da remoção de tombstones perdida; execução interrompida");
+                        break;
+                    }
+                    renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+                }
+            }
+            return deleted;
+        } finally {
+            jobLock.release(JOB_NAME);
+        }
+    }
+
+    private int purgeChunk(LocalDateTime before, PageRequest page) {
+        List<GoalTombstone> tombstones = goalTombstoneRepository.findDeletedBefore(before, page);
+        if (tombstones.isEmpty()) {
+            return 0;
+        }
+        // O horizonte é confirmado junto com a remoção: nenhum delta sync vê o bloco removido sem vê-lo
+        long purgedThrough = tombstones.stream().mapToLong(GoalTombstone::getChangeSeq).max().orElseThrow();
+        goalTombstoneRepository.raisePurgedThrough(purgedThrough, LocalDateTime.now());
+        return goalTombstoneRepository.deleteByGoalIdIn(
+                tombstones.stream().map(GoalTombstone::getGoalId).toList());
+    }
+}
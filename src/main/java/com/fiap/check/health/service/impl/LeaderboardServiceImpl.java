@@ -0,0 +1,187 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.LeaderboardEntry;
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.leaderboard.Leaderboard;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.projection.UserCategoryPointsRow;
+import com.fiap.check.health.persistence.repository.PointsLedgerRepository;
+import com.fiap.check.health.service.LeaderboardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Rankings de pontos em memória (geral e por categoria, desde sempre e na semana corrente), atualizados
+ * a cada {@link PointsAwardedEvent} após o commit; nenhuma leitura soma pontos no banco.
+ * <p>
+ * Na subida da aplicação, e a cada {@code goals.leaderboard.rebuild-interval} ({@code LeaderboardRebuildJob}),
+ * os rankings são montados em uma única passada, em streaming, pelos totais do ledger. Lançamentos que
+ * chegam durante a montagem ficam pendentes e são aplicados depois, exceto os que a consulta já contou
+ * (anteriores ao corte).
+ * <p>
+ * Os eventos só chegam dos lançamentos desta instância: os pontos lançados em outras réplicas aparecem no
+ * ranking na próxima remontagem, ou seja, com defasagem de até {@code rebuild-interval} mais a duração dela.
+ */
+@Slf4j
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final PointsLedgerRepository pointsLedgerRepository;
+    // Serializa os lançamentos com a troca dos rankings; as leituras não passam por ele
+    private final Object writeLock = new Object();
+    private volatile Boards allTime = new Boards(null);
+    private volatile Boards week = new Boards(weekStart(LocalDateTime.now()));
+    private List<PointsAwardedEvent> pending;
+
+    public LeaderboardServiceImpl(PointsLedgerRepository pointsLedgerRepository) {
+        this.pointsLedgerRepository = pointsLedgerRepository;
+    }
+
+    @Override
+    public LeaderboardResponse getLeaderboard(String userId, LeaderboardResponse.PeriodEnum period,
+                                              GoalCategory category, int limit) {
+        Boards boards = period == LeaderboardResponse.PeriodEnum.WEEK ? currentWeek(LocalDateTime.now()) : allTime;
+        Leaderboard board = boards.get(category);
+
+        return LeaderboardResponse.builder()
+                .period(period)
+                .category(category)
+                .totalUsers(board.size())
+                .entries(board.top(limit).stream().map(LeaderboardServiceImpl::toEntry).toList())
+                .me(board.entryOf(userId).map(LeaderboardServiceImpl::toEntry).orElse(null))
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPointsAwarded(PointsAwardedEvent event) {
+        synchronized (writeLock) {
+            if (pending != null) {
+                pending.add(event);
+                return;
+            }
+            apply(event);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime before = LocalDateTime.now();
+        Boards rebuiltAllTime = new Boards(null);
+        Boards rebuiltWeek = new Boards(weekStart(before));
+        synchronized (writeLock) {
+            pending = new ArrayList<>();
+        }
+
+        try (Stream<UserCategoryPointsRow> rows =
+                     pointsLedgerRepository.streamPointsByUserAndCategory(rebuiltWeek.since, before)) {
+            rows.forEach(row -> {
+                rebuiltAllTime.add(row.category(), row.userId(), row.points());
+                if (row.weekPoints() > 0) {
+                    rebuiltWeek.add(row.category(), row.userId(), row.weekPoints());
+                }
+            });
+        } catch (RuntimeException e) {
+            // Mantém os rankings atuais e não perde o que chegou durante a tentativa
+            finishRebuild(allTime, week, null);
+            throw e;
+        }
+        finishRebuild(rebuiltAllTime, rebuiltWeek, before);
+        log.info("Rankings montados a partir do ledger: {} usuários em {} ms", rebuiltAllTime.overall.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void finishRebuild(Boards rebuiltAllTime, Boards rebuiltWeek, LocalDateTime countedBefore) {
+        synchronized (writeLock) {
+            allTime = rebuiltAllTime;
+            week = rebuiltWeek;
+            List<PointsAwardedEvent> buffered = pending;
+            pending = null;
+            buffered.stream()
+                    .filter(event -> countedBefore == null || !event.awardedAt().isBefore(countedBefore))
+                    .forEach(this::apply);
+        }
+    }
+
+    private void apply(PointsAwardedEvent event) {
+        allTime.add(event.category(), event.userId(), event.points());
+        Boards current = currentWeek(event.awardedAt());
+        // Lançamento da semana anterior que só chegou depois da virada
+        if (!event.awardedAt().isBefore(current.since)) {
+            current.add(event.category(), event.userId(), event.points());
+        }
+    }
+
+    /**
+     * Ranking semanal vigente em {@code now}; na virada da semana começa vazio.
+     */
+    private Boards currentWeek(LocalDateTime now) {
+        LocalDateTime start = weekStart(now);
+        Boards current = week;
+        if (!current.since.isBefore(start)) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (week.since.isBefore(start)) {
+                week = new Boards(start);
+            }
+            return week;
+        }
+    }
+
+    static LocalDateTime weekStart(LocalDateTime now) {
+        return now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+    }
+
+    private static LeaderboardEntry toEntry(Leaderboard.Entry entry) {
+        return LeaderboardEntry.builder()
+                .rank(entry.rank())
+                .userId(entry.userId())
+                .points(entry.points())
+                .build();
+    }
+
+    /**
+     * Rankings de um período: o geral e um por categoria. {@code since} é o início do período (nulo: desde sempre).
+     */
+    private static final class Boards {
+
+        private final LocalDateTime since;
+        private final Leaderboard overall = new Leaderboard();
+        private final Map<GoalCategory, Leaderboard> byCategory = new EnumMap<>(GoalCategory.class);
+
+        private Boards(LocalDateTime since) {
+            this.since = since;
+            for (GoalCategory category : GoalCategory.values()) {
+                byCategory.put(category, new Leaderboard());
+            }
+        }
+
+        private void add(GoalCategory category, String userId, long points) {
+            overall.add(userId, points);
+            if (category != null) {
+                byCategory.get(category).add(userId, points);
+            }
+        }
+
+        private Leaderboard get(GoalCategory category) {
+            return category != null ? byCategory.get(category) : overall;
+        }
+    }
+}
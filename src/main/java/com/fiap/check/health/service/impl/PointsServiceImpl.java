@@ -0,0 +1,134 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.cache.UserPointsCache;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.PointsLedgerRepository;
+import com.fiap.check.health.persistence.repository.UserPointsRepository;
+import com.fiap.check.health.service.PointsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+public class PointsServiceImpl implements PointsService {
+
+    static final String RECONCILIATION_JOB_NAME = "points-reconciliation";
+
+    private final PointsLedgerRepository pointsLedgerRepository;
+    private final UserPointsRepository userPointsRepository;
+    private final UserPointsCache userPointsCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JobLock jobLock;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration leaseDuration;
+
+    public PointsServiceImpl(PointsLedgerRepository pointsLedgerRepository,
+                             UserPointsRepository userPointsRepository,
+                             UserPointsCache userPointsCache,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             JobLock jobLock,
+                             @Value("${goals.points.reconciliation.chunk-size:500}") int chunkSize,
+                             @Value("${goals.points.reconciliation.parallelism:4}") int parallelism,
+                             @Value("${goals.points.reconciliation.lease-duration:30m}") Duration leaseDuration) {
+        this.pointsLedgerRepository = pointsLedgerRepository;
+        this.userPointsRepository = userPointsRepository;
+        this.userPointsCache = userPointsCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.jobLock = jobLock;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    @Transactional
+    public void award(Goal goal) {
+        Integer points = goal.getReward() != null ? goal.getReward().getPoints() : null;
+        if (points == null || points <= 0) {
+            return;
+        }
+
+        // O lançamento é a trava de idempotência: se a meta já pontuou, o total não muda
+        LocalDateTime now = LocalDateTime.now();
+        if (pointsLedgerRepository.insertIfAbsent(goal.getGoalId(), goal.getUserId(), goal.getCategory(), points,
+                now) == 0) {
+            return;
+        }
+        userPointsRepository.addPoints(goal.getUserId(), points, now);
+        applicationEventPublisher.publishEvent(
+                new PointsAwardedEvent(goal.getUserId(), goal.getGoalId(), goal.getCategory(), points, now));
+    }
+
+    @Override
+    public int reconcile() {
+        // Só uma réplica reescreve os totais por vez
+        if (!jobLock.tryAcquire(RECONCILIATION_JOB_NAME, leaseDuration)) {
+            log.info("Reconciliação de pontos em execução em outra instância");
+            return 0;
+        }
+        try {
+            return reconcileChunks();
+        } finally {
+            jobLock.release(RECONCILIATION_JOB_NAME);
+        }
+    }
+
+    private int reconcileChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("points-reconciliation-"));
+        try {
+            // Os blocos de usuários (keyset por user_id) são reescritos em paralelo enquanto o próximo é lido
+            List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+            PageRequest page = PageRequest.of(0, chunkSize);
+            List<String> chunk = pointsLedgerRepository.findUserIdsAfter("", page);
+            long renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            while (!chunk.isEmpty()) {
+                List<String> userIds = chunk;
+                chunks.add(CompletableFuture.supplyAsync(() -> reconcileChunk(userIds, now), executor));
+                chunk = pointsLedgerRepository.findUserIdsAfter(userIds.get(userIds.size() - 1), page);
+                if (System.nanoTime() >= renewAt) {
+                    if (!jobLock.renew(RECONCILIATION_JOB_NAME, leaseDuration)) {
+                        log.warn("Lease da reconciliação de pontos perdida após {} blocos; execução interrompida",
+                                chunks.size());
+                        break;
+                    }
+                    renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+                }
+            }
+            return chunks.stream().mapToInt(CompletableFuture::join).sum();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int reconcileChunk(List<String> userIds, LocalDateTime now) {
+        Integer rewritten = transactionTemplate.execute(status -> {
+            userPointsRepository.lockByUserIds(userIds);
+            return userPointsRepository.rebuildFromLedger(userIds, now)
+                    + userPointsRepository.insertMissingFromLedger(userIds, now);
+        });
+        userPointsCache.invalidate(userIds);
+        return rewritten != null ? rewritten : 0;
+    }
+}
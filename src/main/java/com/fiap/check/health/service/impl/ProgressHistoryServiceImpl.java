@@ -0,0 +1,211 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.ProgressHistoryBucket;
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
+import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+import com.fiap.check.health.persistence.entity.ProgressRollup;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEntryRepository;
+import com.fiap.check.health.persistence.repository.ProgressRollupRepository;
+import com.fiap.check.health.service.ProgressHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Histórico de progresso: cada incremento vira um {@link ProgressEntry} e é somado nos agregados diário e
+ * semanal ({@link ProgressRollup}) na mesma transação, com um upsert por meta e bucket. As leituras de
+ * histórico usam só os agregados; os registros servem de trilha recente e são compactados após
+ * {@code goals.progress-history.retention}.
+ */
+@Slf4j
+@Service
+public class ProgressHistoryServiceImpl implements ProgressHistoryService {
+
+    static final String JOB_NAME = "progress-compaction";
+
+    // Ordem fixa dos upserts: lotes concorrentes travam as linhas de agregado na mesma ordem
+    private static final Comparator<ProgressRollup.Key> KEY_ORDER = Comparator
+            .comparing(ProgressRollup.Key::getGoalId)
+            .thenComparing(ProgressRollup.Key::getPeriod)
+            .thenComparing(ProgressRollup.Key::getBucketStart);
+
+    private final ProgressEntryRepository progressEntryRepository;
+    private final ProgressRollupRepository progressRollupRepository;
+    private final GoalRepository goalRepository;
+    private final JobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxBuckets;
+    private final Duration leaseDuration;
+
+    public ProgressHistoryServiceImpl(ProgressEntryRepository progressEntryRepository,
+                                      ProgressRollupRepository progressRollupRepository,
+                                      GoalRepository goalRepository,
+                                      JobLock jobLock,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${goals.progress-history.compaction.chunk-size:5000}") int chunkSize,
+                                      @Value("${goals.progress-history.max-buckets:366}") int maxBuckets,
+                                      @Value("${goals.progress-history.compaction.lease-duration:5m}")
+                                      Duration leaseDuration) {
+        this.progressEntryRepository = progressEntryRepository;
+        this.progressRollupRepository = progressRollupRepository;
+        this.goalRepository = goalRepository;
+        this.jobLock = jobLock;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxBuckets = maxBuckets;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    @Transactional
+    public void record(List<ProgressEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        progressEntryRepository.insertAll(entries);
+
+        // Um upsert por meta e bucket, mesmo quando o lote tem vários incrementos da mesma meta
+        Map<ProgressRollup.Key, ProgressRollup> rollups = new TreeMap<>(KEY_ORDER);
+        for (ProgressEntry entry : entries) {
+            for (ProgressPeriod period : ProgressPeriod.values()) {
+                LocalDate bucketStart = period.bucketStart(entry.getRecordedAt().toLocalDate());
+                rollups.merge(new ProgressRollup.Key(entry.getGoalId(), period, bucketStart), rollup(entry, period),
+                        ProgressHistoryServiceImpl::merge);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        rollups.values().forEach(rollup -> progressRollupRepository.addEntries(rollup.getGoalId(),
+                rollup.getPeriod(), rollup.getBucketStart(), rollup.getUserId(), rollup.getIncrement(),
+                rollup.getEntries(), rollup.getCompleted(), now));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProgressHistoryResponse getHistory(String userId, Long goalId, ProgressPeriod period,
+                                              LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        // Sem from: os últimos 30 dias ou as últimas 12 semanas
+        LocalDate start = from != null ? from
+                : period.plus(period.bucketStart(end), period == ProgressPeriod.DAY ? -29 : -11);
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("from deve ser anterior ou igual a to");
+        }
+        if (period.buckets(start, end) > maxBuckets) {
+            throw new InvalidRequestException("Intervalo maior que " + maxBuckets + " buckets");
+        }
+        if (!goalRepository.existsByGoalIdAndUserId(goalId, userId)) {
+            throw new GoalNotFoundException(goalId);
+        }
+
+        List<ProgressHistoryBucket> buckets = progressRollupRepository
+                .findHistory(goalId, period, period.bucketStart(start), end).stream()
+                .map(rollup -> ProgressHistoryBucket.builder()
+                        .bucketStart(rollup.getBucketStart())
+                        .increment(rollup.getIncrement())
+                        .entries(rollup.getEntries())
+                        .completed(rollup.getCompleted())
+                        .build())
+                .toList();
+        return ProgressHistoryResponse.builder()
+                .goalId(goalId)
+                .period(period)
+                .from(start)
+                .to(end)
+                .buckets(buckets)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void deleteForGoal(Long goalId) {
+        progressEntryRepository.deleteByGoalId(goalId);
+        progressRollupRepository.deleteByGoalId(goalId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteForUser(String userId, Collection<Long> goalIds) {
+        if (goalIds == null) {
+            progressEntryRepository.deleteByGoalOwner(userId);
+            progressRollupRepository.deleteByGoalOwner(userId);
+        } else {
+            progressEntryRepository.deleteByGoalOwnerAndGoalIdIn(userId, goalIds);
+            progressRollupRepository.deleteByGoalOwnerAndGoalIdIn(userId, goalIds);
+        }
+    }
+
+    @Override
+    public int compact(LocalDateTime before) {
+        if (!jobLock.tryAcquire(JOB_NAME, leaseDuration)) {
+            log.info("Compactação do histórico de progresso em execução em outra instância");
+            return 0;
+        }
+        try {
+            int deleted = 0;
+            long renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+            PageRequest page = PageRequest.of(0, chunkSize);
+            while (true) {
+                // Blocos em transações curtas, sempre os mais antigos: os removidos saem da próxima consulta
+                Integer chunk = transactionTemplate.execute(status -> {
+                    List<Long> entryIds = progressEntryRepository.findIdsRecordedBefore(before, page);
+                    return entryIds.isEmpty() ? 0 : progressEntryRepository.deleteByEntryIdIn(entryIds);
+                });
+                if (chunk == null || chunk == 0) {
+                    break;
+                }
+                deleted += chunk;
+                if (chunk < chunkSize) {
+                    break;
+                }
+                if (System.nanoTime() >= renewAt) {
+                    if (!jobLock.renew(JOB_NAME, leaseDuration)) {
+                        log.warn("Lease da compactação do histórico perdida; execução interrompida");
+                        break;
+                    }
+                    renewAt = System.nanoTime() + leaseDuration.toNanos() / 2;
+                }
+            }
+            return deleted;
+        } finally {
+            jobLock.release(JOB_NAME);
+        }
+    }
+
+    private static ProgressRollup rollup(ProgressEntry entry, ProgressPeriod period) {
+        return ProgressRollup.builder()
+                .goalId(entry.getGoalId())
+                .period(period)
+                .bucketStart(period.bucketStart(entry.getRecordedAt().toLocalDate()))
+                .userId(entry.getUserId())
+                .increment((long) entry.getIncrement())
+                .entries(1)
+                .completed(entry.getCompleted())
+                .build();
+    }
+
+    // Os registros chegam em ordem: o completed do bucket é o do último
+    private static ProgressRollup merge(ProgressRollup current, ProgressRollup next) {
+        current.setIncrement(current.getIncrement() + next.getIncrement());
+        current.setEntries(current.getEntries() + next.getEntries());
+        current.setCompleted(next.getCompleted());
+        return current;
+    }
+}
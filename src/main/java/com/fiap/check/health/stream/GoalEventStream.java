@@ -0,0 +1,436 @@
+package com.fiap.check.health.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.exception.SyncCursorExpiredException;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
+import com.fiap.check.health.service.GoalService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream SSE ({@code GET /goals/stream}) das alterações nas metas do usuário autenticado:
+ * {@code progress}, {@code completed}, {@code article}, quando o artigo gerado pela IA é gravado pelo
+ * {@code GoalEventConsumer}, e {@code expired}, com os ids das metas expiradas em um bloco da expiração.
+ * <p>
+ * O fan-out após o commit não bloqueia quem escreveu a meta: cada evento é serializado uma única vez
+ * e apenas enfileirado na fila limitada de cada conexão; os envios saem de um pool próprio, com no
+ * máximo um envio em andamento por conexão. A escrita bloqueante no socket roda em um pool de escrita
+ * limitado ({@code goals.stream.writer-threads}) e é aguardada, incluindo a espera por uma thread, por no
+ * máximo {@code goals.stream.send-timeout}: um cliente travado não segura os envios das demais conexões.
+ * Uma conexão cuja fila enche ou cujo envio excede o limite (cliente lento) é encerrada e o cliente
+ * reconecta com {@code Last-Event-ID}. Cada usuário mantém no máximo
+ * {@code goals.stream.max-connections-per-user} conexões; uma nova encerra a mais antiga.
+ * <p>
+ * Os ids são cursores do delta sync ({@link ChangeCursor}) contidos pelo horizonte seguro, como em
+ * {@code GET /goals/changes}: as sequências são commitadas fora de ordem, então os eventos ao vivo saem
+ * sem id e o heartbeat leva o cursor do último evento da conexão anterior a
+ * {@link GoalChangeSequence#safeHorizon()}. Na reconexão as alterações posteriores ao {@code Last-Event-ID}
+ * são enviadas em um único evento {@code changes}, no formato de {@code GET /goals/changes}; se ainda houver
+ * mais ({@code has_more}), o cliente continua por aquele endpoint. Um {@code Last-Event-ID} anterior às
+ * exclusões retidas recebe o evento {@code resync}, que exige a sincronização completa.
+ */
+@Slf4j
+@Component
+public class GoalEventStream {
+
+    static final String PROGRESS = "progress";
+    static final String COMPLETED = "completed";
+    static final String ARTICLE = "article";
+    static final String EXPIRED = "expired";
+    static final String CHANGES = "changes";
+    static final String RESYNC = "resync";
+
+    private static final Comparator<ChangeCursor> CURSOR_ORDER =
+            Comparator.comparingLong(ChangeCursor::changeSeq).thenComparingLong(ChangeCursor::goalId);
+
+    private final Map<String, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final GoalMapper goalMapper;
+    private final GoalService goalService;
+    private final GoalChangeSequence goalChangeSequence;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final int maxConnectionsPerUser;
+    private final int queueCapacity;
+    private final int replayLimit;
+    private final Set<DataWithMediaType> connected;
+    private final Set<DataWithMediaType> ping;
+    private final ExecutorService sender;
+    private final ExecutorService writer;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter droppedQueueFull;
+    private final Counter droppedSendTimeout;
+    private final Counter droppedConnectionLimit;
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    public GoalEventStream(GoalMapper goalMapper,
+                           GoalService goalService,
+                           GoalChangeSequence goalChangeSequence,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${goals.stream.timeout:30m}") Duration timeout,
+                           @Value("${goals.stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+                           @Value("${goals.stream.reconnect-time:3s}") Duration reconnectTime,
+                           @Value("${goals.stream.queue-capacity:64}") int queueCapacity,
+                           @Value("${goals.stream.replay-limit:100}") int replayLimit,
+                           @Value("${goals.stream.sender-threads:4}") int senderThreads,
+                           @Value("${goals.stream.writer-threads:32}") int writerThreads,
+                           @Value("${goals.stream.send-timeout:5s}") Duration sendTimeout,
+                           @Value("${goals.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.goalMapper = goalMapper;
+        this.goalService = goalService;
+        this.goalChangeSequence = goalChangeSequence;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.queueCapacity = queueCapacity;
+        this.replayLimit = replayLimit;
+        // O primeiro envio confirma a conexão e informa ao cliente o intervalo de reconexão
+        this.connected = SseEmitter.event().reconnectTime(reconnectTime.toMillis()).comment("connected").build();
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("goal-stream-"));
+        // Uma escrita em andamento por conexão; a de um cliente travado prende uma thread até o container desistir
+        ThreadPoolExecutor writerPool = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("goal-stream-write-"));
+        writerPool.allowCoreThreadTimeOut(true);
+        this.writer = writerPool;
+
+        this.ping = SseEmitter.event().comment("heartbeat").build();
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("goal-stream-heartbeat-"));
+        this.heartbeat.scheduleAtFixedRate(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        this.droppedQueueFull = dropped(meterRegistry, "queue-full");
+        this.droppedSendTimeout = dropped(meterRegistry, "send-timeout");
+        this.droppedConnectionLimit = dropped(meterRegistry, "connection-limit");
+        meterRegistry.gauge("goals.stream.connections", subscribersByUser,
+                map -> map.values().stream().mapToInt(Set::size).sum());
+    }
+
+    /**
+     * Abre a conexão do usuário. Com {@code lastEventId} as alterações posteriores a ele são enviadas
+     * antes dos eventos ao vivo.
+     */
+    public SseEmitter subscribe(String userId, ChangeCursor lastEventId) {
+        return subscribe(userId, lastEventId, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(String userId, ChangeCursor lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+        // O cliente reconecta com o Last-Event-ID; encerrar evita o 503 do timeout assíncrono
+        emitter.onTimeout(emitter::complete);
+
+        // Registrado antes do replay: o que for commitado durante a consulta chega como evento ao vivo
+        List<Subscriber> evicted = new ArrayList<>(1);
+        subscribersByUser.compute(userId, (key, subscribers) -> {
+            Set<Subscriber> current = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            while (current.size() > maxConnectionsPerUser) {
+                Subscriber oldest = current.stream().min(Comparator.comparingLong(Subscriber::openedAt)).orElseThrow();
+                current.remove(oldest);
+                evicted.add(oldest);
+            }
+            return current;
+        });
+        // Encerradas fora do compute: o close desregistra pelo mesmo mapa
+        evicted.forEach(oldest -> {
+            droppedConnectionLimit.increment();
+            oldest.close();
+        });
+        subscriber.offer(connected);
+        if (lastEventId != null) {
+            GoalChangesResponse changes;
+            try {
+                changes = goalService.listChanges(userId, lastEventId, replayLimit, GoalFields.ALL);
+            } catch (SyncCursorExpiredException e) {
+                // O id vazio apaga o Last-Event-ID no cliente, que refaz a sincronização completa por
+                // GET /goals/changes; os eventos ao vivo seguem nesta conexão
+                subscriber.offer(event(RESYNC, "", Map.of("message", e.getMessage())));
+                return emitter;
+            }
+            subscriber.settle(lastEventId);
+            if (!changes.getGoals().isEmpty() || !changes.getDeleted().isEmpty()) {
+                subscriber.offer(event(CHANGES, changes.getCursor(), changes));
+                subscriber.settle(ChangeCursor.parse(changes.getCursor()));
+            }
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalChanged(GoalChangedEvent event) {
+        if (event.userId() == null || !subscribersByUser.containsKey(event.userId())) {
+            return;
+        }
+        Set<DataWithMediaType> message = switch (event.type()) {
+            case PROGRESS -> event(PROGRESS, null, goalMapper.toResponseWithoutArticle(event.goal()));
+            case COMPLETED -> event(COMPLETED, null, goalMapper.toResponseWithoutArticle(event.goal()));
+            case ARTICLE -> event(ARTICLE, null, articleResponse(event.goal()));
+            default -> null;
+        };
+        if (message == null) {
+            return;
+        }
+        Goal goal = event.goal();
+        PendingCursor cursor = goal.getChangeSeq() != null
+                ? new PendingCursor(new ChangeCursor(goal.getChangeSeq(), goal.getGoalId()),
+                        goal.getChangedAt() != null ? goal.getChangedAt() : LocalDateTime.now())
+                : null;
+        Set<Subscriber> subscribers = subscribersByUser.get(event.userId());
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(message, cursor));
+        }
+    }
+
+    /**
+     * Sem id: a expiração não passa pelas entidades e o cursor continua o do último evento; na reconexão as
+     * metas expiradas vêm no {@code changes}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalsExpired(GoalsExpiredEvent event) {
+        event.goalIdsByUser().forEach((userId, goalIds) -> {
+            if (subscribersByUser.containsKey(userId)) {
+                publish(userId, event(EXPIRED, null, Map.of("goal_ids", goalIds)));
+            }
+        });
+    }
+
+    private void publish(String userId, Set<DataWithMediaType> message) {
+        Set<Subscriber> subscribers = subscribersByUser.get(userId);
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(message));
+        }
+    }
+
+    /**
+     * Mantém a conexão aberta em proxies com timeout de inatividade, detecta clientes que sumiram e leva o
+     * cursor já seguro de cada conexão.
+     */
+    void heartbeat() {
+        LocalDateTime horizon = goalChangeSequence.safeHorizon();
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(subscriber ->
+                subscriber.offer(subscriber.heartbeat(horizon))));
+    }
+
+    int connections(String userId) {
+        Set<Subscriber> subscribers = subscribersByUser.get(userId);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        subscribersByUser.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        sender.shutdown();
+        writer.shutdownNow();
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("goals.stream.dropped")
+                .description("Conexões SSE encerradas pelo servidor")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByUser.computeIfPresent(subscriber.userId, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * Evento pronto para envio; o JSON é gerado uma vez e compartilhado por todas as conexões do usuário.
+     */
+    private Set<DataWithMediaType> event(String name, String id, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar o evento " + name, e);
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (id != null) {
+            builder.id(id);
+        }
+        return builder.name(name).data(json, MediaType.APPLICATION_JSON).build();
+    }
+
+    private GoalResponse articleResponse(Goal goal) {
+        try {
+            return goalMapper.toResponse(goal);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao converter Goal para GoalResponse", e);
+        }
+    }
+
+    /**
+     * Cursor de um evento ao vivo já enviado, com o instante da alteração para compará-lo ao horizonte seguro.
+     */
+    private record PendingCursor(ChangeCursor cursor, LocalDateTime changedAt) {
+    }
+
+    /**
+     * Uma conexão: fila limitada e no máximo um envio em andamento por vez ({@code draining}).
+     */
+    private final class Subscriber {
+
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final long openedAt = connectionSequence.incrementAndGet();
+        // Cursores dos eventos ao vivo ainda não levados pelo heartbeat e o último levado; protegidos por this
+        private final List<PendingCursor> pending = new ArrayList<>();
+        private ChangeCursor settled;
+
+        private Subscriber(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        long openedAt() {
+            return openedAt;
+        }
+
+        void offer(Set<DataWithMediaType> message, PendingCursor cursor) {
+            if (cursor != null) {
+                synchronized (this) {
+                    pending.add(cursor);
+                }
+            }
+            offer(message);
+        }
+
+        synchronized void settle(ChangeCursor cursor) {
+            if (cursor != null && (settled == null || CURSOR_ORDER.compare(cursor, settled) > 0)) {
+                settled = cursor;
+            }
+        }
+
+        /**
+         * Heartbeat com o id do maior cursor cujos eventos e os de cursor menor já estão antes do horizonte;
+         * sem id enquanto nada novo assentou.
+         */
+        synchronized Set<DataWithMediaType> heartbeat(LocalDateTime horizon) {
+            pending.sort(Comparator.comparing(PendingCursor::cursor, CURSOR_ORDER));
+            int count = 0;
+            while (count < pending.size() && pending.get(count).changedAt().isBefore(horizon)) {
+                count++;
+            }
+            if (count == 0) {
+                return ping;
+            }
+            ChangeCursor previous = settled;
+            settle(pending.get(count - 1).cursor());
+            pending.subList(0, count).clear();
+            return settled == previous ? ping : SseEmitter.event().id(settled.toString()).comment("heartbeat").build();
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                droppedQueueFull.increment();
+                log.debug("Fila SSE cheia para o usuário {}; conexão encerrada", userId);
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> message;
+                while ((message = queue.poll()) != null) {
+                    if (!send(message)) {
+                        close();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        /**
+         * Escreve a mensagem no pool de escrita e aguarda até {@code sendTimeout}; {@code false} se o cliente
+         * desconectou, o emitter já foi concluído ou o envio excedeu o limite.
+         */
+        private boolean send(Set<DataWithMediaType> message) {
+            Future<?> write = writer.submit(() -> {
+                emitter.send(message);
+                return null;
+            });
+            try {
+                write.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                write.cancel(true);
+                droppedSendTimeout.increment();
+                log.debug("Envio SSE para o usuário {} excedeu {}; conexão encerrada", userId, sendTimeout);
+                return false;
+            } catch (ExecutionException e) {
+                // Cliente desconectado ou emitter já concluído
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                unregister(this);
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.fiap.check.health.web;
+
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.cache.GoalResponseBodyCache;
+import com.fiap.check.health.cache.GoalResponseBodyCache.CachedBody;
+import com.fiap.check.health.cache.GoalResponseBodyCache.Read;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serve {@code GET /goals/{id}} (JSON completo, sem {@code ?fields=}) a partir do
+ * {@link GoalResponseBodyCache}, enviando a variante gzip pré-comprimida quando o cliente aceita.
+ * Roda depois da cadeia do Spring Security, então só requisições autenticadas chegam aqui.
+ * Como a resposta já sai com {@code Content-Encoding}, o Tomcat não comprime de novo.
+ */
+@Component
+public class PrecompressedGoalResponseFilter extends OncePerRequestFilter {
+
+    private static final Pattern GOAL_BY_ID = Pattern.compile("^/goals/(\\d{1,18})$");
+
+    private final GoalResponseBodyCache bodyCache;
+
+    public PrecompressedGoalResponseFilter(GoalResponseBodyCache bodyCache) {
+        this.bodyCache = bodyCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getParameter(GoalFields.PARAM) != null
+                || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT))
+                || !GOAL_BY_ID.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Matcher matcher = GOAL_BY_ID.matcher(request.getRequestURI());
+        if (!matcher.matches()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Long goalId = Long.valueOf(matcher.group(1));
+
+        CachedBody cached = bodyCache.get(goalId);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        long requestedAt = bodyCache.generation();
+        // Descarta o registro deixado por uma leitura anterior desta thread que não passou por aqui
+        bodyCache.takeRead();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        // Uma leitura agrupada recebe o corpo do leader, carregado a partir de uma geração talvez anterior
+        Read read = bodyCache.takeRead();
+        long loadedAt = read != null ? Math.min(requestedAt, read.loadedAt()) : requestedAt;
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+            bodyCache.put(goalId, read != null ? read.userId() : null, wrapper.getContentAsByteArray(), loadedAt);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response, CachedBody cached)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        byte[] body = cached.identity();
+        if (cached.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = cached.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // Só JSON é guardado; pedidos de CBOR/Smile seguem o caminho normal
+    static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        if (accept.contains("cbor") || accept.contains("smile")) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.getQualityValue() > 0
+                            && mediaType.includes(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
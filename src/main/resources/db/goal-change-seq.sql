@@ -0,0 +1,2 @@
+-- Sequência do delta sync (goals.change_seq e goal_tombstones.change_seq); não pertence a nenhuma entidade
+create sequence if not exists goal_change_seq start with 1 increment by 1;
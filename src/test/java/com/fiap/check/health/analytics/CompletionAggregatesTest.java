@@ -0,0 +1,74 @@
+package com.fiap.check.health.analytics;
+
+import com.fiap.check.health.analytics.CompletionAggregates.Cell;
+import com.fiap.check.health.analytics.CompletionAggregates.Dimension;
+import com.fiap.check.health.analytics.CompletionAggregates.Row;
+import com.fiap.check.health.model.GoalCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompletionAggregates Tests")
+class CompletionAggregatesTest {
+
+    private static final YearMonth JAN = YearMonth.of(2026, 1);
+    private static final YearMonth FEB = YearMonth.of(2026, 2);
+    private static final YearMonth MAR = YearMonth.of(2026, 3);
+
+    private CompletionAggregates aggregates;
+
+    @BeforeEach
+    void setUp() {
+        aggregates = new CompletionAggregates();
+        aggregates.add(new Cell(JAN, GoalCategory.SONO, "daily", "easy"), 10, 4);
+        aggregates.add(new Cell(JAN, GoalCategory.SONO, "weekly", "hard"), 5, 1);
+        aggregates.add(new Cell(JAN, GoalCategory.NUTRICAO, "daily", "easy"), 8, 8);
+        aggregates.add(new Cell(FEB, GoalCategory.SONO, "daily", "easy"), 3, 0);
+        aggregates.add(new Cell(MAR, GoalCategory.SONO, "daily", "easy"), 7, 2);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por mês e pelas dimensões pedidas, em ordem")
+    void shouldGroupByRequestedDimensions() {
+        assertThat(aggregates.query(JAN, FEB, EnumSet.of(Dimension.CATEGORY), cell -> true)).containsExactly(
+                new Row(new Cell(JAN, GoalCategory.NUTRICAO, null, null), 8, 8),
+                new Row(new Cell(JAN, GoalCategory.SONO, null, null), 15, 5),
+                new Row(new Cell(FEB, GoalCategory.SONO, null, null), 3, 0));
+        assertThat(aggregates.query(JAN, MAR, EnumSet.noneOf(Dimension.class), cell -> true)).containsExactly(
+                new Row(new Cell(JAN, null, null, null), 23, 13),
+                new Row(new Cell(FEB, null, null, null), 3, 0),
+                new Row(new Cell(MAR, null, null, null), 7, 2));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o filtro antes de agrupar")
+    void shouldFilterBeforeGrouping() {
+        assertThat(aggregates.query(JAN, JAN, EnumSet.of(Dimension.DIFFICULTY),
+                cell -> cell.category() == GoalCategory.SONO)).containsExactly(
+                new Row(new Cell(JAN, null, null, "easy"), 10, 4),
+                new Row(new Cell(JAN, null, null, "hard"), 5, 1));
+        assertThat(aggregates.query(YearMonth.of(2025, 1), YearMonth.of(2025, 12), EnumSet.allOf(Dimension.class),
+                cell -> true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve somar incrementos concorrentes na mesma célula")
+    void shouldAddConcurrently() {
+        // Given
+        Cell cell = new Cell(MAR, GoalCategory.BEM_ESTAR, "single", "medium");
+
+        // When
+        IntStream.range(0, 10_000).parallel().forEach(i -> aggregates.add(cell, 1, i % 2));
+
+        // Then
+        assertThat(aggregates.query(MAR, MAR, EnumSet.allOf(Dimension.class),
+                c -> c.category() == GoalCategory.BEM_ESTAR)).containsExactly(new Row(cell, 10_000, 5_000));
+        assertThat(aggregates.cellCount()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.check.health.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog Tests")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Deve estimar a quantidade de valores distintos, ignorando repetições")
+    void shouldEstimateDistinctValues() {
+        // Given
+        HyperLogLog small = new HyperLogLog();
+        HyperLogLog large = new HyperLogLog();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            small.add("user" + (i % 10));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            large.add("user" + i);
+        }
+
+        // Then
+        assertThat(small.cardinality()).isEqualTo(10);
+        assertThat((double) large.cardinality()).isCloseTo(100_000, within(5_000.0));
+    }
+
+    @Test
+    @DisplayName("Deve unir sketches sem contar duas vezes os valores em comum")
+    void shouldMergeWithoutDoubleCounting() {
+        // Given: 20.000 usuários em cada réplica, 10.000 em comum
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            first.add("user" + i);
+            second.add("user" + (i + 10_000));
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertThat((double) first.cardinality()).isCloseTo(30_000, within(1_500.0));
+        assertThatThrownBy(() -> first.merge(new HyperLogLog(10))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no formato mais compacto e ler de volta a mesma estimativa")
+    void shouldEncodeInSmallestFormat() {
+        // Given
+        HyperLogLog sparse = new HyperLogLog();
+        HyperLogLog dense = new HyperLogLog();
+        for (int i = 0; i < 50_000; i++) {
+            dense.add("user" + i);
+            if (i < 20) {
+                sparse.add("user" + i);
+            }
+        }
+
+        // When
+        byte[] sparseData = sparse.encode();
+        byte[] denseData = dense.encode();
+
+        // Then: 3 bytes por registrador preenchido ou 1 byte por registrador
+        assertThat(sparseData).hasSize(2 + 3 * 20);
+        assertThat(denseData).hasSize(2 + 4096);
+        assertThat(HyperLogLog.decode(sparseData).cardinality()).isEqualTo(sparse.cardinality());
+        assertThat(HyperLogLog.decode(denseData).cardinality()).isEqualTo(dense.cardinality());
+        assertThat(HyperLogLog.decode(new HyperLogLog().encode()).cardinality()).isZero();
+    }
+}
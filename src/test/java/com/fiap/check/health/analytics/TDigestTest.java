@@ -0,0 +1,74 @@
+package com.fiap.check.health.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TDigest Tests")
+class TDigestTest {
+
+    @Test
+    @DisplayName("Deve estimar percentis com poucos centróides")
+    void shouldEstimateQuantiles() {
+        // Given: 1 a 100.000 em ordem aleatória
+        TDigest digest = new TDigest();
+        Random random = new Random(42);
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            int j = random.nextInt(i + 1);
+            values[i] = values[j];
+            values[j] = i + 1;
+        }
+
+        // When
+        for (int value : values) {
+            digest.add(value);
+        }
+
+        // Then
+        assertThat(digest.count()).isEqualTo(100_000);
+        assertThat(digest.quantile(0.5)).isCloseTo(50_000, within(1_000.0));
+        assertThat(digest.quantile(0.95)).isCloseTo(95_000, within(500.0));
+        assertThat(digest.quantile(0.99)).isCloseTo(99_000, within(200.0));
+        assertThat(digest.quantile(0)).isEqualTo(1);
+        assertThat(digest.quantile(1)).isEqualTo(100_000);
+        // Média, peso e cabeçalho: poucos KB independente do número de valores
+        assertThat(digest.encode().length).isLessThan(4096);
+    }
+
+    @Test
+    @DisplayName("Deve unir digests de réplicas e dias diferentes")
+    void shouldMergeDigests() {
+        // Given: valores pares em um digest e ímpares no outro
+        TDigest even = new TDigest();
+        TDigest odd = new TDigest();
+        for (int i = 1; i <= 20_000; i++) {
+            (i % 2 == 0 ? even : odd).add(i);
+        }
+
+        // When
+        TDigest merged = TDigest.decode(even.encode());
+        merged.merge(TDigest.decode(odd.encode()));
+
+        // Then
+        assertThat(merged.count()).isEqualTo(20_000);
+        assertThat(merged.quantile(0.5)).isCloseTo(10_000, within(200.0));
+        assertThat(merged.quantile(0.95)).isCloseTo(19_000, within(100.0));
+    }
+
+    @Test
+    @DisplayName("Deve tratar digests vazios e com um único valor")
+    void shouldHandleEmptyAndSingleValue() {
+        // Given
+        TDigest single = new TDigest();
+        single.add(7.5);
+
+        // Then
+        assertThat(TDigest.decode(new TDigest().encode()).quantile(0.5)).isNaN();
+        assertThat(TDigest.decode(single.encode()).quantile(0.95)).isEqualTo(7.5);
+    }
+}
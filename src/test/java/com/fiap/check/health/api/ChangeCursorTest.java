@@ -0,0 +1,40 @@
+package com.fiap.check.health.api;
+
+import com.fiap.check.health.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChangeCursor Tests")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Deve ler e escrever o cursor no formato change_seq.goal_id")
+    void shouldRoundTripCursor() {
+        // When
+        ChangeCursor cursor = ChangeCursor.parse("42.7");
+
+        // Then
+        assertThat(cursor).isEqualTo(new ChangeCursor(42, 7));
+        assertThat(cursor).hasToString("42.7");
+    }
+
+    @Test
+    @DisplayName("Deve tratar o parâmetro ausente como sincronização completa")
+    void shouldReturnNullWhenParameterIsMissing() {
+        assertThat(ChangeCursor.parse(null)).isNull();
+        assertThat(ChangeCursor.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursores malformados")
+    void shouldRejectMalformedCursors() {
+        assertThatThrownBy(() -> ChangeCursor.parse("42")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeCursor.parse("abc.1")).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ChangeCursor.parse("-1.1"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("-1.1");
+    }
+}
@@ -0,0 +1,39 @@
+package com.fiap.check.health.api;
+
+import com.fiap.check.health.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GoalFields Tests")
+class GoalFieldsTest {
+
+    @Test
+    @DisplayName("Deve considerar todos os campos quando o parâmetro não for informado")
+    void shouldIncludeEverythingWhenParameterIsMissing() {
+        assertThat(GoalFields.parse(null).includesAll()).isTrue();
+        assertThat(GoalFields.parse(" ").includesArticle()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve ler a lista de campos ignorando espaços")
+    void shouldParseCommaSeparatedFields() {
+        // When
+        GoalFields fields = GoalFields.parse("goal_id, title ,status,progress");
+
+        // Then
+        assertThat(fields.names()).containsExactlyInAnyOrder("goal_id", "title", "status", "progress");
+        assertThat(fields.includesArticle()).isFalse();
+        assertThat(fields.includesAll()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campos desconhecidos")
+    void shouldRejectUnknownFields() {
+        assertThatThrownBy(() -> GoalFields.parse("goal_id,quizzes"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("quizzes");
+    }
+}
@@ -0,0 +1,44 @@
+package com.fiap.check.health.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonMergePatch Tests")
+class JsonMergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve alterar só as propriedades presentes e remover as nulas")
+    void shouldReplacePresentPropertiesAndRemoveNulls() throws Exception {
+        // Given
+        JsonNode target = objectMapper.readTree("{\"title\":\"a\",\"notifications\":true,\"difficulty\":\"easy\"}");
+        JsonNode patch = objectMapper.readTree("{\"notifications\":false,\"difficulty\":null}");
+
+        // When
+        JsonNode result = JsonMergePatch.apply(target, patch);
+
+        // Then
+        assertThat(result).isEqualTo(objectMapper.readTree("{\"title\":\"a\",\"notifications\":false}"));
+        assertThat(target.get("notifications").booleanValue()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve mesclar objetos aninhados e substituir valores que não são objetos")
+    void shouldMergeNestedObjects() throws Exception {
+        // Given
+        JsonNode target = objectMapper.readTree("{\"reward\":{\"points\":10,\"badge\":\"walker\"},\"tags\":[1,2]}");
+        JsonNode patch = objectMapper.readTree("{\"reward\":{\"points\":50},\"tags\":[3],\"frequency\":{\"periodicity\":\"daily\",\"x\":null}}");
+
+        // When
+        JsonNode result = JsonMergePatch.apply(target, patch);
+
+        // Then
+        assertThat(result).isEqualTo(objectMapper.readTree(
+                "{\"reward\":{\"points\":50,\"badge\":\"walker\"},\"tags\":[3],\"frequency\":{\"periodicity\":\"daily\"}}"));
+    }
+}
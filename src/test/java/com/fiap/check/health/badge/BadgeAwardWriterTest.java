@@ -0,0 +1,101 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.persistence.entity.UserBadge;
+import com.fiap.check.health.persistence.repository.UserBadgeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeAwardWriter Tests")
+class BadgeAwardWriterTest {
+
+    @Mock
+    private UserBadgeRepository userBadgeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BadgeAwardWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        BadgeProperties properties = new BadgeProperties();
+        properties.setBatchSize(100);
+        properties.setMaxPending(3);
+        // Sem ciclos automáticos durante o teste: os flushes são chamados explicitamente
+        properties.setFlushInterval(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new BadgeAwardWriter(userBadgeRepository, transactionTemplate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar as concessões acima do limite enquanto as gravações falham")
+    void shouldDropAwardsAboveMaxPendingWhileWritesFail() {
+        // Given: banco fora do ar
+        when(transactionTemplate.execute(ArgumentMatchers.<TransactionCallback<Integer>>any()))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            writer.add(badge("user" + i, "first-goal"));
+            writer.flush();
+        }
+
+        // Then: as três primeiras continuam pendentes, as demais foram descartadas
+        assertThat(writer.pendingCount()).isEqualTo(3);
+        assertThat(writer.isPending("user3", "first-goal")).isTrue();
+        assertThat(writer.isPending("user4", "first-goal")).isFalse();
+        assertThat(meterRegistry.counter("badges.awards.dropped").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("badges.awards.pending").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve voltar a aceitar concessões depois que as pendentes forem gravadas")
+    void shouldAcceptAwardsAgainAfterFlush() {
+        // Given
+        when(transactionTemplate.execute(ArgumentMatchers.<TransactionCallback<Integer>>any())).thenReturn(3);
+        for (int i = 1; i <= 3; i++) {
+            writer.add(badge("user" + i, "first-goal"));
+        }
+        assertThat(writer.add(badge("user4", "first-goal"))).isFalse();
+
+        // When
+        writer.flush();
+
+        // Then
+        assertThat(writer.pendingCount()).isZero();
+        assertThat(writer.add(badge("user4", "first-goal"))).isTrue();
+        assertThat(meterRegistry.counter("badges.awards.dropped").count()).isEqualTo(1);
+    }
+
+    private static UserBadge badge(String userId, String badgeId) {
+        return UserBadge.builder()
+                .userId(userId)
+                .badgeId(badgeId)
+                .goalId(1L)
+                .awardedAt(LocalDateTime.now())
+                .build();
+    }
+}
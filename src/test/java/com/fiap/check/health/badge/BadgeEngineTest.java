@@ -0,0 +1,164 @@
+package com.fiap.check.health.badge;
+
+import com.fiap.check.health.model.GoalCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BadgeEngine Tests")
+class BadgeEngineTest {
+
+    @Test
+    @DisplayName("Deve avaliar só as regras do evento e da categoria da meta")
+    void shouldEvaluateOnlyIndexedRules() {
+        // Given
+        BadgeEngine engine = new BadgeEngine(properties(
+                rule("first-goal", BadgeMetric.COMPLETED_GOALS, null, 1),
+                rule("sono-5", BadgeMetric.COMPLETED_GOALS, GoalCategory.SONO, 5),
+                rule("streak-7", BadgeMetric.CURRENT_STREAK, null, 7),
+                rule("points-100", BadgeMetric.POINTS, null, 100)));
+        FixedFacts facts = new FixedFacts(Set.of());
+        facts.values.put(BadgeMetric.COMPLETED_GOALS, 5L);
+        facts.values.put(BadgeMetric.CURRENT_STREAK, 7L);
+        facts.values.put(BadgeMetric.POINTS, 100L);
+        List<String> awarded = new ArrayList<>();
+
+        // When / Then
+        engine.evaluate(BadgeTrigger.CHECK_IN, GoalCategory.SONO, facts, rule -> awarded.add(rule.id()));
+        assertThat(awarded).containsExactly("streak-7");
+
+        awarded.clear();
+        engine.evaluate(BadgeTrigger.COMPLETED, GoalCategory.NUTRICAO, facts, rule -> awarded.add(rule.id()));
+        assertThat(awarded).containsExactlyInAnyOrder("first-goal", "streak-7", "points-100");
+
+        awarded.clear();
+        engine.evaluate(BadgeTrigger.COMPLETED, GoalCategory.SONO, facts, rule -> awarded.add(rule.id()));
+        assertThat(awarded).containsExactlyInAnyOrder("first-goal", "sono-5", "streak-7", "points-100");
+    }
+
+    @Test
+    @DisplayName("Não deve conceder badges que o usuário já tem nem consultar métricas sem regras")
+    void shouldSkipOwnedBadges() {
+        // Given
+        BadgeEngine engine = new BadgeEngine(properties(
+                rule("first-goal", BadgeMetric.COMPLETED_GOALS, null, 1),
+                rule("goals-10", BadgeMetric.COMPLETED_GOALS, null, 10)));
+        FixedFacts facts = new FixedFacts(Set.of("first-goal"));
+        facts.values.put(BadgeMetric.COMPLETED_GOALS, 3L);
+        List<String> awarded = new ArrayList<>();
+
+        // When
+        int count = engine.evaluate(BadgeTrigger.COMPLETED, GoalCategory.SONO, facts, rule -> awarded.add(rule.id()));
+        engine.evaluate(BadgeTrigger.PROGRESS, GoalCategory.SONO, facts, rule -> awarded.add(rule.id()));
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(awarded).isEmpty();
+        assertThat(facts.reads).containsOnly(BadgeMetric.COMPLETED_GOALS);
+    }
+
+    @Test
+    @DisplayName("Deve conceder o mesmo que uma varredura completa de milhares de regras")
+    void shouldMatchFullScan() {
+        // Given
+        Random random = new Random(7);
+        BadgeMetric[] metrics = BadgeMetric.values();
+        GoalCategory[] categories = GoalCategory.values();
+        List<BadgeProperties.Rule> configured = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            GoalCategory category = random.nextInt(4) == 0 ? null : categories[random.nextInt(categories.length)];
+            configured.add(rule("rule-" + i, metrics[random.nextInt(metrics.length)], category,
+                    1 + random.nextInt(50)));
+        }
+        BadgeEngine engine = new BadgeEngine(properties(configured.toArray(BadgeProperties.Rule[]::new)));
+
+        for (int round = 0; round < 200; round++) {
+            Set<String> owned = new HashSet<>();
+            for (int i = 0; i < 300; i++) {
+                owned.add("rule-" + random.nextInt(3000));
+            }
+            FixedFacts facts = new FixedFacts(owned);
+            for (BadgeMetric metric : metrics) {
+                facts.values.put(metric, (long) random.nextInt(50));
+            }
+            BadgeTrigger trigger = BadgeTrigger.values()[random.nextInt(BadgeTrigger.values().length)];
+            GoalCategory category = categories[random.nextInt(categories.length)];
+            Set<String> awarded = new HashSet<>();
+
+            // When
+            engine.evaluate(trigger, category, facts, rule -> awarded.add(rule.id()));
+
+            // Then
+            Set<String> expected = new HashSet<>();
+            for (BadgeProperties.Rule rule : configured) {
+                if (rule.getMetric().triggers().contains(trigger)
+                        && (rule.getCategory() == null || rule.getCategory() == category)
+                        && facts.value(rule.getMetric(), rule.getCategory()) >= rule.getThreshold()
+                        && !owned.contains(rule.getId())) {
+                    expected.add(rule.getId());
+                }
+            }
+            assertThat(awarded).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar regras duplicadas ou sem métrica")
+    void shouldRejectInvalidRules() {
+        assertThatThrownBy(() -> new BadgeEngine(properties(
+                rule("a", BadgeMetric.POINTS, null, 1), rule("a", BadgeMetric.POINTS, null, 2))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new BadgeEngine(properties(rule("a", null, null, 1))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static BadgeProperties properties(BadgeProperties.Rule... rules) {
+        BadgeProperties properties = new BadgeProperties();
+        properties.setRules(List.of(rules));
+        return properties;
+    }
+
+    private static BadgeProperties.Rule rule(String id, BadgeMetric metric, GoalCategory category, long threshold) {
+        BadgeProperties.Rule rule = new BadgeProperties.Rule();
+        rule.setId(id);
+        rule.setMetric(metric);
+        rule.setCategory(category);
+        rule.setThreshold(threshold);
+        return rule;
+    }
+
+    /**
+     * Mesmo valor por métrica em qualquer categoria; registra as métricas consultadas.
+     */
+    private static final class FixedFacts implements BadgeFacts {
+
+        private final Map<BadgeMetric, Long> values = new EnumMap<>(BadgeMetric.class);
+        private final Set<BadgeMetric> reads = new HashSet<>();
+        private final Set<String> owned;
+
+        private FixedFacts(Set<String> owned) {
+            this.owned = owned;
+        }
+
+        @Override
+        public long value(BadgeMetric metric, GoalCategory category) {
+            reads.add(metric);
+            return values.getOrDefault(metric, 0L);
+        }
+
+        @Override
+        public boolean owns(String badgeId) {
+            return owned.contains(badgeId);
+        }
+    }
+}
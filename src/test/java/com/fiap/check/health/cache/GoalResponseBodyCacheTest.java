@@ -0,0 +1,150 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.cache.GoalResponseBodyCache.CachedBody;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.model.GoalCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GoalResponseBodyCache Tests")
+class GoalResponseBodyCacheTest {
+
+    private GoalResponseBodyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GoalResponseBodyCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ofMinutes(10),
+                9, DataSize.ofBytes(256));
+    }
+
+    @Test
+    @DisplayName("Deve guardar a variante gzip de corpos acima do limite")
+    void shouldStoreGzipVariantForLargeBodies() throws Exception {
+        // Given
+        byte[] body = ("{\"article\":\"" + "Caminhar faz bem. ".repeat(100) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        cache.put(1L, "user123", body, cache.generation());
+        CachedBody cached = cache.get(1L);
+
+        // Then
+        assertThat(cached.gzip()).isNotNull();
+        assertThat(cached.gzip().length).isLessThan(body.length / 5);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(cached.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve comprimir corpos abaixo do limite")
+    void shouldNotCompressSmallBodies() {
+        // When
+        cache.put(1L, "user123", "{\"goal_id\":\"1\"}".getBytes(StandardCharsets.UTF_8), cache.generation());
+
+        // Then
+        assertThat(cache.get(1L).gzip()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve remover o corpo quando a meta for alterada")
+    void shouldInvalidateOnGoalChange() {
+        // Given
+        cache.put(1L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+
+        // When
+        cache.onGoalChanged(GoalChangedEvent.deleted(1L, "user123"));
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve remover os corpos afetados por uma alteração em massa")
+    void shouldInvalidateOnBulkChange() {
+        // Given
+        cache.put(1L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(2L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(3L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+
+        // When
+        cache.onGoalsBulkChanged(new GoalsBulkChangedEvent("user123", List.of(1L, 2L)));
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+
+        // When: sem a lista de ids todas as entradas são descartadas
+        cache.onGoalsBulkChanged(new GoalsBulkChangedEvent("user123", null));
+
+        // Then
+        assertThat(cache.get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve remover os corpos das metas expiradas em um bloco")
+    void shouldInvalidateOnExpiration() {
+        // Given
+        cache.put(1L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(2L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(3L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+
+        // When
+        cache.onGoalsExpired(new GoalsExpiredEvent(Map.of("user1", List.of(1L), "user2", List.of(2L))));
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve remover os corpos do usuário que recebeu pontos, cujo nível mudou")
+    void shouldInvalidateUserBodiesOnPointsAwarded() {
+        // Given
+        cache.put(1L, "user123", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(2L, "user456", "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        cache.put(3L, null, "{}".getBytes(StandardCharsets.UTF_8), cache.generation());
+        long loadedAt = cache.generation();
+
+        // When
+        cache.onPointsAwarded(new PointsAwardedEvent("user123", 1L, GoalCategory.SONO, 50, LocalDateTime.now()));
+        cache.put(4L, "user123", "{}".getBytes(StandardCharsets.UTF_8), loadedAt);
+
+        // Then: corpos sem dono conhecido também saem, e um carregamento anterior ao lançamento não é gravado
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+        assertThat(cache.get(3L)).isNull();
+        assertThat(cache.get(4L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve descartar carregamentos iniciados antes de uma alteração")
+    void shouldDiscardLoadsThatRacedWithAWrite() {
+        // Given
+        long loadedAt = cache.generation();
+        cache.onGoalChanged(GoalChangedEvent.deleted(2L, "user123"));
+
+        // When
+        cache.put(1L, "user123", "{}".getBytes(StandardCharsets.UTF_8), loadedAt);
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+    }
+}
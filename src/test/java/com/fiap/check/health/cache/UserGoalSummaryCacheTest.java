@@ -0,0 +1,154 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.api.model.GoalSummaryResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserGoalSummaryCache Tests")
+class UserGoalSummaryCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserGoalSummaryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserGoalSummaryCache(new GoalMapper(userId -> 1), meterRegistry, 10, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve carregar a lista uma vez e servir as leituras seguintes do cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        cache.get("user123", this::load);
+        List<GoalSummaryResponse> result = cache.get("user123", this::load);
+
+        // Then
+        assertThat(result).extracting(GoalSummaryResponse::getGoalId).containsExactly("2", "1");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserGoalSummaryCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar somente o item alterado sem recarregar a lista")
+    void shouldPatchChangedEntryInPlace() {
+        // Given
+        cache.get("user123", this::load);
+
+        // When
+        cache.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(1L, "Beber água", 7)));
+        List<GoalSummaryResponse> result = cache.get("user123", this::load);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(result).extracting(GoalSummaryResponse::getGoalId).containsExactly("2", "1");
+        assertThat(result.get(1).getProgress().getCompleted()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Deve incluir metas novas no início e remover metas excluídas")
+    void shouldPrependCreatedAndDropDeletedGoals() {
+        // Given
+        cache.get("user123", this::load);
+
+        // When
+        cache.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(3L, "Dormir 8h", 0)));
+        cache.onGoalChanged(GoalChangedEvent.deleted(1L, null));
+
+        // Then
+        assertThat(cache.get("user123", this::load))
+                .extracting(GoalSummaryResponse::getGoalId)
+                .containsExactly("3", "2");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o resumo do usuário após uma alteração em massa")
+    void shouldReloadAfterBulkChange() {
+        // Given
+        cache.get("user123", this::load);
+
+        // When
+        cache.onGoalsBulkChanged(new GoalsBulkChangedEvent("user123", null));
+        cache.get("user123", this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar alterações de usuários que não estão em cache")
+    void shouldIgnoreChangesForUncachedUsers() {
+        // When
+        cache.onGoalChanged(GoalChangedEvent.of(ChangeType.UPDATED, goal(1L, "Beber água", 1)));
+
+        // Then
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(cache.indexedGoals()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve indexar o dono apenas das metas de listas em cache")
+    void shouldIndexOwnersOnlyForCachedLists() {
+        // Given
+        cache.get("user123", this::load);
+
+        // When: metas de usuários fora do cache não entram no índice reverso
+        for (long goalId = 100; goalId < 1_100; goalId++) {
+            Goal goal = goal(goalId, "Meta", 0);
+            goal.setUserId("other" + goalId);
+            cache.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal));
+        }
+        cache.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(3L, "Dormir 8h", 0)));
+
+        // Then
+        assertThat(cache.indexedGoals()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o cache pelo número total de resumos")
+    void shouldBoundCacheByListWeight() {
+        // When: cada lista pesa 3 (2 resumos + 1) e o limite é 10
+        for (int i = 0; i < 5; i++) {
+            cache.get("user" + i, this::load);
+        }
+
+        // Then
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(3);
+    }
+
+    private List<GoalSummaryResponse> load(String userId) {
+        loads.incrementAndGet();
+        GoalMapper mapper = new GoalMapper(id -> 1);
+        return List.of(
+                mapper.toSummaryResponse(goal(2L, "Caminhar", 3)),
+                mapper.toSummaryResponse(goal(1L, "Beber água", 5)));
+    }
+
+    private static Goal goal(Long goalId, String title, int completed) {
+        return Goal.builder()
+                .goalId(goalId)
+                .userId("user123")
+                .title(title)
+                .status("active")
+                .progress(Progress.builder().completed(completed).total(30).unit("days").build())
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.fiap.check.health.cache;
+
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.repository.UserPointsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserPointsCache Tests")
+class UserPointsCacheTest {
+
+    private UserPointsRepository userPointsRepository;
+    private UserPointsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userPointsRepository = mock(UserPointsRepository.class);
+        cache = new UserPointsCache(userPointsRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), 100);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o total uma vez e recarregá-lo após pontos lançados")
+    void shouldLoadOnceAndReloadAfterAwardedPoints() {
+        // Given
+        when(userPointsRepository.findPointsByUserId("user123")).thenReturn(Optional.of(180L))
+                .thenReturn(Optional.of(230L));
+        assertThat(cache.levelOf("user123")).isEqualTo(2);
+        assertThat(cache.levelOf("user123")).isEqualTo(2);
+
+        // When
+        cache.onPointsAwarded(new PointsAwardedEvent("user123", 1L, GoalCategory.SONO, 50, LocalDateTime.now()));
+
+        // Then
+        assertThat(cache.points("user123")).isEqualTo(230);
+        assertThat(cache.levelOf("user123")).isEqualTo(3);
+        verify(userPointsRepository, times(2)).findPointsByUserId("user123");
+    }
+
+    @Test
+    @DisplayName("Não deve somar de novo os pontos já presentes no total carregado após o commit")
+    void shouldNotCountAwardTwiceWhenLoadedAfterCommit() {
+        // Given: a leitura roda entre o commit e o listener e já vê o total com o lançamento
+        when(userPointsRepository.findPointsByUserId("user123")).thenReturn(Optional.of(90L));
+        cache.points("user123");
+
+        // When
+        cache.onPointsAwarded(new PointsAwardedEvent("user123", 1L, GoalCategory.SONO, 50, LocalDateTime.now()));
+
+        // Then
+        assertThat(cache.points("user123")).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("Não deve criar entrada para usuários fora do cache ao receber pontos")
+    void shouldIgnoreAwardsForUsersNotCached() {
+        // Given
+        when(userPointsRepository.findPointsByUserId("user123")).thenReturn(Optional.of(40L));
+
+        // When
+        cache.onPointsAwarded(new PointsAwardedEvent("user123", 1L, GoalCategory.SONO, 50, LocalDateTime.now()));
+
+        // Then
+        assertThat(cache.points("user123")).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do banco os usuários reconciliados")
+    void shouldReloadInvalidatedUsers() {
+        // Given
+        when(userPointsRepository.findPointsByUserId("user123")).thenReturn(Optional.of(10L))
+                .thenReturn(Optional.of(300L));
+        cache.points("user123");
+
+        // When
+        cache.invalidate(List.of("user123"));
+
+        // Then
+        assertThat(cache.points("user123")).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Deve começar no nível 1 e subir um nível a cada faixa de pontos")
+    void shouldComputeLevelFromPoints() {
+        assertThat(UserPointsCache.level(0, 100)).isEqualTo(1);
+        assertThat(UserPointsCache.level(99, 100)).isEqualTo(1);
+        assertThat(UserPointsCache.level(100, 100)).isEqualTo(2);
+        assertThat(UserPointsCache.level(-5, 100)).isEqualTo(1);
+        assertThat(cache.levelOf(null)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fiap.check.health.config;
+
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalResponseProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Config Tests")
+class ConfigTest {
+
+    private final Config config = new Config();
+
+    @Test
+    @DisplayName("Deve serializar e ler GoalResponse em CBOR")
+    void shouldRoundTripGoalResponseAsCbor() throws Exception {
+        assertRoundTrip(config.cborHttpMessageConverter(), new MediaType("application", "cbor"));
+    }
+
+    @Test
+    @DisplayName("Deve serializar e ler GoalResponse em Smile")
+    void shouldRoundTripGoalResponseAsSmile() throws Exception {
+        assertRoundTrip(config.smileHttpMessageConverter(), new MediaType("application", "x-jackson-smile"));
+    }
+
+    private static void assertRoundTrip(AbstractJackson2HttpMessageConverter converter, MediaType mediaType)
+            throws Exception {
+        // Given
+        GoalResponse goal = GoalResponse.builder()
+                .goalId("1")
+                .userId("user123")
+                .title("Meta Teste")
+                .status("active")
+                .createdAt(OffsetDateTime.of(2026, 2, 9, 14, 30, 0, 0, ZoneOffset.UTC))
+                .progress(GoalResponseProgress.builder().completed(5).total(30).unit("days").build())
+                .build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // When
+        converter.write(goal, mediaType, output);
+        Object read = converter.read(GoalResponse.class, new MockHttpInputMessage(output.getBodyAsBytes()));
+
+        // Then
+        assertThat(output.getHeaders().getContentType()).isEqualTo(mediaType);
+        assertThat(read).isEqualTo(goal);
+    }
+}
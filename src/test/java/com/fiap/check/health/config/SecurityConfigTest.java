@@ -0,0 +1,86 @@
+package com.fiap.check.health.config;
+
+import com.fiap.check.health.cache.GoalResponseBodyCache;
+import com.fiap.check.health.controller.GoalController;
+import com.fiap.check.health.exception.JwtAccessDeniedHandler;
+import com.fiap.check.health.exception.JwtAuthenticationEntryPoint;
+import com.fiap.check.health.service.BadgeService;
+import com.fiap.check.health.service.CompletionAnalyticsService;
+import com.fiap.check.health.service.EngagementAnalyticsService;
+import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.LeaderboardService;
+import com.fiap.check.health.service.ProgressHistoryService;
+import com.fiap.check.health.stream.GoalEventStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(GoalController.class)
+@Import({SecurityConfig.class, JwtAuthenticationEntryPoint.class, JwtAccessDeniedHandler.class,
+        SecurityConfigTest.Metrics.class})
+@TestPropertySource(properties = {"spring.cloud.config.enabled=false", "spring.config.import=",
+        "eureka.client.enabled=false"})
+@DisplayName("SecurityConfig Tests")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GoalService goalService;
+
+    @MockitoBean
+    private GoalEventStream goalEventStream;
+
+    @MockitoBean
+    private LeaderboardService leaderboardService;
+
+    @MockitoBean
+    private BadgeService badgeService;
+
+    @MockitoBean
+    private ProgressHistoryService progressHistoryService;
+
+    @MockitoBean
+    private CompletionAnalyticsService completionAnalyticsService;
+
+    @MockitoBean
+    private EngagementAnalyticsService engagementAnalyticsService;
+
+    @MockitoBean
+    private GoalResponseBodyCache goalResponseBodyCache;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/goals", "/leaderboard", "/badges", "/analytics/completion", "/analytics/engagement"})
+    @DisplayName("Deve responder 401 às requisições anônimas dos endpoints que leem o usuário do token")
+    void shouldRejectAnonymousRequests(String path) throws Exception {
+        mockMvc.perform(get(path))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(goalService, leaderboardService, badgeService, completionAnalyticsService,
+                engagementAnalyticsService);
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -1,11 +1,40 @@
 package com.fiap.check.health.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fiap.check.health.analytics.CompletionAggregates.Dimension;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.BadgeResponse;
+import com.fiap.check.health.api.model.GoalLookupRequest;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressRequestItem;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
 import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.service.BadgeService;
+import com.fiap.check.health.service.CompletionAnalyticsService;
+import com.fiap.check.health.service.EngagementAnalyticsService;
 import com.fiap.check.health.service.GoalService;
+import com.fiap.check.health.service.LeaderboardService;
+import com.fiap.check.health.service.ProgressHistoryService;
+import com.fiap.check.health.stream.GoalEventStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,14 +44,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,7 +66,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +80,24 @@ class GoalControllerTest {
     @Mock
     private GoalService goalService;
 
+    @Mock
+    private GoalEventStream goalEventStream;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private BadgeService badgeService;
+
+    @Mock
+    private ProgressHistoryService progressHistoryService;
+
+    @Mock
+    private CompletionAnalyticsService completionAnalyticsService;
+
+    @Mock
+    private EngagementAnalyticsService engagementAnalyticsService;
+
     @InjectMocks
     private GoalController goalController;
 
@@ -97,14 +155,196 @@ class GoalControllerTest {
     @DisplayName("GET /goals Tests")
     class ListGoalsTests {
 
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve listar as metas do usuário do token")
+        void shouldListGoalsOfTokenSubject() throws JsonProcessingException {
+            // Given
+            when(goalService.listGoalsByUser("user123", null, 0, 20, GoalFields.ALL))
+                    .thenReturn(new PageImpl<>(List.of(goalResponse), PageRequest.of(0, 20), 1));
+
+            // When
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet(jwt, null, 0, 20, null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).hasSize(1);
+            assertThat(response.getBody().get(0).getUserId()).isEqualTo("user123");
+            assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("1");
+            verify(goalService, never()).listGoals();
+        }
+
+        @Test
+        @DisplayName("Deve retornar lista vazia quando o usuário não tem metas")
+        void shouldReturnEmptyListWhenUserHasNoGoals() {
+            // Given
+            when(goalService.listGoalsByUser("user123", "active", 0, 20, GoalFields.ALL)).thenReturn(Page.empty());
+
+            // When
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet(jwt, "active", 0, 20, null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEmpty();
+            assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("0");
+        }
+
+        @Test
+        @DisplayName("Deve limitar o tamanho da página")
+        void shouldClampPageSize() {
+            // Given
+            when(goalService.listGoalsByUser("user123", null, 0, GoalController.MAX_PAGE_SIZE, GoalFields.ALL)).thenReturn(Page.empty());
+
+            // When
+            goalController.goalsGet(jwt, null, -1, 10_000, null);
+
+            // Then
+            verify(goalService).listGoalsByUser("user123", null, 0, GoalController.MAX_PAGE_SIZE, GoalFields.ALL);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /goals?ids= and POST /goals/lookup Tests")
+    class LookupGoalsTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve buscar as metas pelos ids da query string na ordem informada")
+        void shouldLookupGoalsFromQueryString() {
+            // Given
+            GoalLookupResponse lookup = GoalLookupResponse.builder().goals(List.of(goalResponse)).missing(List.of(7L)).build();
+            when(goalService.findByIds(eq("user123"), eq(List.of(7L, 1L)), any(GoalFields.class))).thenReturn(lookup);
+
+            // When
+            ResponseEntity<GoalLookupResponse> response = goalController.goalsGetByIds(jwt, "7, 1,", null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(lookup);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar ids inválidos ou acima do limite")
+        void shouldRejectInvalidOrTooManyIds() {
+            String tooMany = String.join(",", Collections.nCopies(GoalController.MAX_QUERY_IDS + 1, "1"));
+
+            assertThatThrownBy(() -> goalController.goalsGetByIds(jwt, "1,abc", null))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("abc");
+            assertThatThrownBy(() -> goalController.goalsGetByIds(jwt, " , ", null))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalController.goalsGetByIds(jwt, tooMany, null))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("POST /goals/lookup");
+            verifyNoInteractions(goalService);
+        }
+
+        @Test
+        @DisplayName("Deve buscar as metas pelos ids do corpo")
+        void shouldLookupGoalsFromBody() {
+            // Given
+            GoalLookupResponse lookup = GoalLookupResponse.builder().goals(List.of()).missing(List.of(5L)).build();
+            when(goalService.findByIds(eq("user123"), eq(List.of(5L)), any(GoalFields.class))).thenReturn(lookup);
+
+            // When
+            ResponseEntity<GoalLookupResponse> response = goalController.goalsLookupPost(jwt,
+                    GoalLookupRequest.builder().ids(List.of(5L)).build(), "goal_id");
+
+            // Then
+            assertThat(response.getBody()).isSameAs(lookup);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /goals/changes Tests")
+    class ListChangesTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve repassar o cursor e limitar o tamanho da página")
+        void shouldParseCursorAndClampLimit() {
+            // Given
+            GoalChangesResponse changes = GoalChangesResponse.builder()
+                    .goals(List.of(goalResponse)).deleted(List.of()).cursor("9.1").hasMore(false).build();
+            when(goalService.listChanges(eq("user123"), eq(new ChangeCursor(8, 3)), eq(100), any(GoalFields.class)))
+                    .thenReturn(changes);
+
+            // When
+            ResponseEntity<GoalChangesResponse> response = goalController.goalsChangesGet(jwt, "8.3", 5000, null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(changes);
+        }
+
+        @Test
+        @DisplayName("Deve abrir o stream SSE a partir do Last-Event-ID")
+        void shouldSubscribeFromLastEventId() {
+            // Given
+            SseEmitter emitter = new SseEmitter();
+            when(goalEventStream.subscribe("user123", new ChangeCursor(8, 3))).thenReturn(emitter);
+
+            // When & Then
+            assertThat(goalController.goalsStreamGet(jwt, "8.3")).isSameAs(emitter);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar cursor inválido")
+        void shouldRejectInvalidCursor() {
+            assertThatThrownBy(() -> goalController.goalsChangesGet(jwt, "latest", 100, null))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(goalService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /goals/summary Tests")
+    class ListGoalSummariesTests {
+
+        @Test
+        @DisplayName("Deve retornar os resumos das metas do usuário do token")
+        void shouldReturnSummariesOfTokenSubject() {
+            // Given
+            Jwt jwt = Jwt.withTokenValue("token")
+                    .header("alg", "RS256")
+                    .subject("user123")
+                    .build();
+            GoalSummaryResponse summary = GoalSummaryResponse.builder().goalId("1").title("Meta Teste").build();
+            when(goalService.listGoalSummaries("user123")).thenReturn(List.of(summary));
+
+            // When
+            ResponseEntity<List<GoalSummaryResponse>> response = goalController.goalsSummaryGet(jwt);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).containsExactly(summary);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /goals/all Tests")
+    class ListAllGoalsTests {
+
         @Test
-        @DisplayName("Deve retornar lista de metas com sucesso")
+        @DisplayName("Deve retornar lista de metas de todos os usuários")
         void shouldReturnListOfGoalsSuccessfully() throws JsonProcessingException {
             // Given
             when(goalService.listGoals()).thenReturn(Collections.singletonList(goalResponse));
 
             // When
-            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet();
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsAllGet();
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -120,7 +360,7 @@ class GoalControllerTest {
             when(goalService.listGoals()).thenReturn(Collections.emptyList());
 
             // When
-            ResponseEntity<List<GoalResponse>> response = goalController.goalsGet();
+            ResponseEntity<List<GoalResponse>> response = goalController.goalsAllGet();
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -137,10 +377,10 @@ class GoalControllerTest {
         @DisplayName("Deve encontrar meta por ID com sucesso")
         void shouldFindGoalByIdSuccessfully() {
             // Given
-            when(goalService.findById(1L)).thenReturn(Optional.of(goalResponse));
+            when(goalService.findById(1L, GoalFields.ALL)).thenReturn(Optional.of(goalResponse));
 
             // When
-            ResponseEntity<GoalResponse> response = goalController.goalsGoalIdGet("1");
+            ResponseEntity<GoalResponse> response = goalController.goalsGoalIdGet("1", null);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -153,10 +393,10 @@ class GoalControllerTest {
         @DisplayName("Deve retornar 404 quando meta não for encontrada")
         void shouldReturn404WhenGoalNotFound() {
             // Given
-            when(goalService.findById(999L)).thenReturn(Optional.empty());
+            when(goalService.findById(999L, GoalFields.ALL)).thenReturn(Optional.empty());
 
             // When
-            ResponseEntity<GoalResponse> response = goalController.goalsGoalIdGet("999");
+            ResponseEntity<GoalResponse> response = goalController.goalsGoalIdGet("999", null);
 
             // Then
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -228,6 +468,72 @@ class GoalControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /goals/bulk Tests")
+    class BulkGoalsTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve usar o usuário do token quando user_id não for informado")
+        void shouldDefaultToTokenSubject() {
+            // Given
+            BulkGoalRequest request = BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.ARCHIVE)
+                    .goalIds(List.of(1L, 2L))
+                    .build();
+            BulkGoalResponse bulkResponse = BulkGoalResponse.builder()
+                    .action(BulkGoalRequest.ActionEnum.ARCHIVE)
+                    .affected(2)
+                    .build();
+            when(goalService.bulkChange("user123", request)).thenReturn(bulkResponse);
+
+            // When
+            ResponseEntity<BulkGoalResponse> response = goalController.goalsBulkPost(jwt, request);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(bulkResponse);
+        }
+
+        @Test
+        @DisplayName("Deve exigir user_id explícito para afetar todas as metas")
+        void shouldRequireExplicitUserIdForWholeAccount() {
+            // Given
+            BulkGoalRequest request = BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.DELETE)
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> goalController.goalsBulkPost(jwt, request))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(goalService);
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /goals/{goalId} Tests")
+    class PatchGoalTests {
+
+        @Test
+        @DisplayName("Deve aplicar o merge patch na meta")
+        void shouldApplyMergePatch() {
+            // Given
+            JsonNode patch = JsonNodeFactory.instance.objectNode().put("notifications", false);
+            when(goalService.patchGoal(1L, patch)).thenReturn(goalResponse);
+
+            // When
+            ResponseEntity<GoalResponse> response = goalController.goalsGoalIdPatch("1", patch);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(goalResponse);
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /goals/{goalId}/progress Tests")
     class UpdateProgressTests {
@@ -261,4 +567,241 @@ class GoalControllerTest {
                     .hasMessageContaining("Goal não encontrado com ID: 999");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("PATCH /goals/progress:batch Tests")
+    class UpdateProgressBatchTests {
+
+        @Test
+        @DisplayName("Deve aplicar o lote para o usuário do token")
+        void shouldApplyBatchForTokenSubject() {
+            // Given
+            Jwt jwt = Jwt.withTokenValue("token")
+                    .header("alg", "RS256")
+                    .subject("user123")
+                    .build();
+            BatchProgressRequest request = BatchProgressRequest.builder()
+                    .items(List.of(BatchProgressRequestItem.builder().goalId(1L).increment(1).build()))
+                    .build();
+            BatchProgressResponse batchResponse = BatchProgressResponse.builder()
+                    .updated(1)
+                    .failed(0)
+                    .results(List.of())
+                    .build();
+            when(goalService.updateProgressBatch("user123", request)).thenReturn(batchResponse);
+
+            // When
+            ResponseEntity<BatchProgressResponse> response = goalController.goalsProgressBatchPatch(jwt, request);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(batchResponse);
+        }
+    }
+
+    @Nested
+    @DisplayName("Check-in Tests")
+    class CheckInTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve registrar o check-in do dia informado")
+        void shouldCheckInOnDate() {
+            // Given
+            GoalStreakResponse streak = GoalStreakResponse.builder().goalId(1L).currentStreak(3).build();
+            when(goalService.checkIn("user123", 1L, LocalDate.of(2026, 2, 10))).thenReturn(streak);
+
+            // When
+            ResponseEntity<GoalStreakResponse> response =
+                    goalController.goalsGoalIdCheckInsDatePut(jwt, "1", "2026-02-10");
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(streak);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar data em formato inválido")
+        void shouldRejectInvalidDate() {
+            assertThatThrownBy(() -> goalController.goalsGoalIdCheckInsDatePut(jwt, "1", "10/02/2026"))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(goalService);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /leaderboard Tests")
+    class LeaderboardTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve consultar o ranking do período e categoria informados, limitando o tamanho")
+        void shouldParsePeriodAndCategory() {
+            // Given
+            LeaderboardResponse leaderboard = LeaderboardResponse.builder()
+                    .period(LeaderboardResponse.PeriodEnum.WEEK).category(GoalCategory.SONO).build();
+            when(leaderboardService.getLeaderboard("user123", LeaderboardResponse.PeriodEnum.WEEK, GoalCategory.SONO,
+                    100)).thenReturn(leaderboard);
+
+            // When
+            ResponseEntity<LeaderboardResponse> response = goalController.leaderboardGet(jwt, "week", "sono", 500);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(leaderboard);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar período ou categoria desconhecidos")
+        void shouldRejectUnknownPeriodOrCategory() {
+            assertThatThrownBy(() -> goalController.leaderboardGet(jwt, "month", null, 10))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalController.leaderboardGet(jwt, "ALL_TIME", "CORRIDA", 10))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(leaderboardService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Badges Tests")
+    class BadgesTests {
+
+        @Test
+        @DisplayName("Deve listar os badges do usuário autenticado")
+        void shouldListCallerBadges() {
+            // Given
+            Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("user123").build();
+            List<BadgeResponse> badges = List.of(BadgeResponse.builder().badgeId("first-goal").build());
+            when(badgeService.listBadges("user123")).thenReturn(badges);
+
+            // When
+            ResponseEntity<List<BadgeResponse>> response = goalController.badgesGet(jwt);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(badges);
+        }
+    }
+
+    @Nested
+    @DisplayName("Progress History Tests")
+    class ProgressHistoryTests {
+
+        private final Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .build();
+
+        @Test
+        @DisplayName("Deve repassar período e datas do histórico de progresso")
+        void shouldGetProgressHistory() {
+            // Given
+            ProgressHistoryResponse history = ProgressHistoryResponse.builder().goalId(1L).build();
+            when(progressHistoryService.getHistory("user123", 1L, ProgressPeriod.WEEK, LocalDate.of(2026, 1, 5), null))
+                    .thenReturn(history);
+
+            // When
+            ResponseEntity<ProgressHistoryResponse> response =
+                    goalController.goalsGoalIdProgressHistoryGet(jwt, "1", "week", "2026-01-05", null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(history);
+        }
+
+        @Test
+        @DisplayName("Deve recusar período ou data inválidos")
+        void shouldRejectInvalidPeriodOrDate() {
+            assertThatThrownBy(() -> goalController.goalsGoalIdProgressHistoryGet(jwt, "1", "MONTH", null, null))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalController.goalsGoalIdProgressHistoryGet(jwt, "1", "DAY", "05/01/2026", null))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(progressHistoryService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Completion Analytics Tests")
+    class CompletionAnalyticsTests {
+
+        @Test
+        @DisplayName("Deve repassar dimensões, meses e filtros da análise de conclusão")
+        void shouldGetCompletionAnalytics() {
+            // Given
+            CompletionAnalyticsResponse analytics = CompletionAnalyticsResponse.builder().build();
+            when(completionAnalyticsService.getCompletion(EnumSet.of(Dimension.CATEGORY, Dimension.DIFFICULTY),
+                    YearMonth.of(2026, 1), null, GoalCategory.SONO, "weekly", null)).thenReturn(analytics);
+
+            // When
+            ResponseEntity<CompletionAnalyticsResponse> response = goalController.analyticsCompletionGet(
+                    "difficulty, category", "2026-01", null, "sono", "weekly", null);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(analytics);
+        }
+
+        @Test
+        @DisplayName("Deve aceitar group_by vazio para os totais do mês")
+        void shouldAcceptEmptyGroupBy() {
+            // Given
+            CompletionAnalyticsResponse analytics = CompletionAnalyticsResponse.builder().build();
+            when(completionAnalyticsService.getCompletion(EnumSet.noneOf(Dimension.class), null, null, null, null,
+                    null)).thenReturn(analytics);
+
+            // When / Then
+            assertThat(goalController.analyticsCompletionGet("", null, null, null, null, null).getBody())
+                    .isSameAs(analytics);
+        }
+
+        @Test
+        @DisplayName("Deve recusar dimensão ou mês inválidos")
+        void shouldRejectInvalidDimensionOrMonth() {
+            assertThatThrownBy(() -> goalController.analyticsCompletionGet("status", null, null, null, null, null))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalController.analyticsCompletionGet("type", "2026-13", null, null, null,
+                    null)).isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(completionAnalyticsService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Engagement Analytics Tests")
+    class EngagementAnalyticsTests {
+
+        @Test
+        @DisplayName("Deve repassar o intervalo e a categoria da análise de engajamento")
+        void shouldGetEngagementAnalytics() {
+            // Given
+            EngagementAnalyticsResponse analytics = EngagementAnalyticsResponse.builder().build();
+            when(engagementAnalyticsService.getEngagement(LocalDate.of(2026, 2, 1), null, GoalCategory.SONO))
+                    .thenReturn(analytics);
+
+            // When
+            ResponseEntity<EngagementAnalyticsResponse> response = goalController.analyticsEngagementGet(
+                    "2026-02-01", null, "sono");
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isSameAs(analytics);
+        }
+
+        @Test
+        @DisplayName("Deve recusar data ou categoria inválidas")
+        void shouldRejectInvalidDateOrCategory() {
+            assertThatThrownBy(() -> goalController.analyticsEngagementGet("2026-02-30", null, null))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalController.analyticsEngagementGet(null, null, "lazer"))
+                    .isInstanceOf(InvalidRequestException.class);
+            verifyNoInteractions(engagementAnalyticsService);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fiap.check.health.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalResponseProgress;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.dto.ArticleResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GoalFieldsResponseBodyAdvice Tests")
+class GoalFieldsResponseBodyAdviceTest {
+
+    private final ObjectMapper objectMapper = new Config().objectMapper();
+    private final GoalFieldsResponseBodyAdvice advice = new GoalFieldsResponseBodyAdvice();
+
+    private GoalResponse goalResponse;
+
+    @BeforeEach
+    void setUp() {
+        goalResponse = GoalResponse.builder()
+                .goalId("1")
+                .userId("user123")
+                .title("Meta Teste")
+                .status("active")
+                .progress(GoalResponseProgress.builder().completed(5).total(30).unit("days").build())
+                .message("Progress updated!")
+                .article(ArticleResponse.builder().title("Artigo").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve escrever apenas os campos pedidos em fields")
+    void shouldWriteOnlyRequestedFields() throws Exception {
+        // When
+        String json = write(List.of(goalResponse), "goal_id,title,status,progress");
+
+        // Then
+        assertThat(objectMapper.readTree(json).get(0).fieldNames())
+                .toIterable()
+                .containsExactly("goal_id", "title", "status", "progress");
+    }
+
+    @Test
+    @DisplayName("Deve escrever a resposta completa sem o parâmetro fields")
+    void shouldWriteFullResponseWithoutFieldsParameter() throws Exception {
+        // When
+        String json = write(goalResponse, null);
+
+        // Then
+        assertThat(objectMapper.readTree(json).has("article")).isTrue();
+        assertThat(objectMapper.readTree(json).has("message")).isTrue();
+    }
+
+    private String write(Object body, String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/goals");
+        if (fields != null) {
+            request.setParameter("fields", fields);
+        }
+        Object container = advice.beforeBodyWrite(body, null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+
+        MappingJacksonValue value = (MappingJacksonValue) container;
+        return value.getFilters() != null
+                ? objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue())
+                : objectMapper.writeValueAsString(value.getValue());
+    }
+}
@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -416,4 +417,33 @@ class GoalEventPublisherTest {
             }));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes do Lote de goal.created")
+    class GoalsCreatedBatchTests {
+
+        @Test
+        @DisplayName("Deve enviar um goal.created por meta e seguir o lote quando uma serialização falha")
+        void shouldSendOneEventPerGoalAndSkipSerializationFailures() throws Exception {
+            // Given
+            Goal other = Goal.builder()
+                    .goalId(2L)
+                    .userId("user456")
+                    .category(GoalCategory.SONO)
+                    .title("Dormir 8 horas")
+                    .build();
+            when(objectMapper.writeValueAsString(any(GoalCreatedEvent.class)))
+                    .thenThrow(new JsonProcessingException("Invalid character") {})
+                    .thenReturn("{\"goalId\":2}");
+            when(kafkaTemplate.send("goal.created", "{\"goalId\":2}")).thenReturn(failedFuture);
+
+            // When
+            goalEventPublisher.publishGoalsCreated(List.of(validGoal, other));
+
+            // Then: a falha do envio assíncrono só é registrada
+            verify(objectMapper, times(2)).writeValueAsString(any(GoalCreatedEvent.class));
+            verify(kafkaTemplate).send("goal.created", "{\"goalId\":2}");
+            verifyNoMoreInteractions(kafkaTemplate);
+        }
+    }
+}
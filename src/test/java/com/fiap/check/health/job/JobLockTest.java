@@ -0,0 +1,78 @@
+package com.fiap.check.health.job;
+
+import com.fiap.check.health.persistence.repository.JobLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobLock Tests")
+class JobLockTest {
+
+    @Mock
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private JobLock jobLock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jobLock = new JobLock(jobLeaseRepository, transactionTemplate);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deve criar a lease na primeira execução do job")
+    void shouldAcquireNewLease() {
+        // Given
+        when(jobLeaseRepository.insertIfAbsent(eq("job"), anyString(), any(LocalDateTime.class))).thenReturn(1);
+
+        // When / Then
+        assertThat(jobLock.tryAcquire("job", Duration.ofMinutes(5))).isTrue();
+        verify(jobLeaseRepository, never()).takeOver(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve assumir a lease vencida e recusar a lease válida de outra instância")
+    void shouldTakeOverOnlyExpiredLease() {
+        // Given
+        when(jobLeaseRepository.insertIfAbsent(eq("job"), anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(jobLeaseRepository.takeOver(eq("job"), anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1, 0);
+
+        // When / Then
+        assertThat(jobLock.tryAcquire("job", Duration.ofMinutes(5))).isTrue();
+        assertThat(jobLock.tryAcquire("job", Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve informar quando a renovação falha porque a lease mudou de dono")
+    void shouldReportLostLease() {
+        // Given
+        when(jobLeaseRepository.extend(eq("job"), anyString(), any(LocalDateTime.class))).thenReturn(1, 0);
+
+        // When / Then
+        assertThat(jobLock.renew("job", Duration.ofMinutes(5))).isTrue();
+        assertThat(jobLock.renew("job", Duration.ofMinutes(5))).isFalse();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fiap.check.health.leaderboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Leaderboard Tests")
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("Deve ordenar por pontos e desempatar por user_id")
+    void shouldRankByPointsThenUserId() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add("carol", 30);
+        leaderboard.add("alice", 50);
+        leaderboard.add("bob", 50);
+        leaderboard.add("carol", 40);
+
+        // When
+        List<Leaderboard.Entry> top = leaderboard.top(10);
+
+        // Then
+        assertThat(top).containsExactly(
+                new Leaderboard.Entry(1, "carol", 70),
+                new Leaderboard.Entry(2, "alice", 50),
+                new Leaderboard.Entry(3, "bob", 50));
+        assertThat(leaderboard.entryOf("bob")).contains(new Leaderboard.Entry(3, "bob", 50));
+        assertThat(leaderboard.entryOf("dave")).isEmpty();
+        assertThat(leaderboard.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve manter posições iguais às de uma ordenação completa após muitos lançamentos")
+    void shouldMatchFullSortAfterManyUpdates() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard();
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            String userId = "user" + random.nextInt(500);
+            long points = 1 + random.nextInt(100);
+            leaderboard.add(userId, points);
+            expected.merge(userId, points, Long::sum);
+        }
+
+        // When
+        List<Map.Entry<String, Long>> sorted = expected.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+
+        // Then
+        List<Leaderboard.Entry> top = leaderboard.top(20);
+        for (int rank = 1; rank <= sorted.size(); rank++) {
+            Map.Entry<String, Long> user = sorted.get(rank - 1);
+            assertThat(leaderboard.entryOf(user.getKey()))
+                    .contains(new Leaderboard.Entry(rank, user.getKey(), user.getValue()));
+            if (rank <= top.size()) {
+                assertThat(top.get(rank - 1).userId()).isEqualTo(user.getKey());
+            }
+        }
+        assertThat(top).hasSize(20);
+    }
+}
@@ -5,6 +5,8 @@ import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalRequestFrequency;
 import com.fiap.check.health.api.model.GoalRequestReward;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.model.CheckInBitmap;
 import com.fiap.check.health.model.GoalCategory;
 import com.fiap.check.health.persistence.entity.Goal;
 
@@ -27,7 +29,7 @@ class GoalMapperTest {
 
     @BeforeEach
     void setUp() {
-        goalMapper = new GoalMapper();
+        goalMapper = new GoalMapper(userId -> 1);
         
         // Preparar o GoalRequest mock com todos os campos
         GoalRequestFrequency frequency = GoalRequestFrequency.builder()
@@ -83,6 +85,23 @@ class GoalMapperTest {
         assertThat(result.getNotifications()).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve converter a meta de volta para GoalRequest sem perder campos")
+    void shouldConvertEntityBackToRequest() {
+        // Given
+        goalRequest.setCategory(GoalRequest.CategoryEnum.SAUDE_FISICA);
+        goalRequest.setType(GoalRequest.TypeEnum.DAILY);
+        goalRequest.setDifficulty(GoalRequest.DifficultyEnum.medium);
+        goalRequest.setStatus(GoalRequest.StatusEnum.active);
+
+        // When
+        GoalRequest result = goalMapper.toRequest(goalMapper.toEntity(goalRequest));
+
+        // Then
+        assertThat(result).isEqualTo(goalRequest);
+        assertThat(goalMapper.toRequest(null)).isNull();
+    }
+
     @Test
     @DisplayName("Deve retornar null quando GoalRequest for null")
     void shouldReturnNullWhenGoalRequestIsNull() {
@@ -491,4 +510,77 @@ class GoalMapperTest {
         assertThat(result).isNotNull();
         assertThat(result.getCreatedAt()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve gerar a mesma mensagem de progresso do formato original")
+    void shouldKeepProgressMessageFormat() {
+        // When
+        String message = GoalMapper.progressMessage(15, 30, "days", 50);
+
+        // Then
+        assertThat(message).isEqualTo(String.format(
+                "Progress updated! You completed %d of %d %s and earned %d points.", 15, 30, "days", 50));
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a gamificação padrão para metas sem recompensa")
+    void shouldShareGamificationForGoalsWithoutReward() throws JsonProcessingException {
+        // Given
+        Goal first = Goal.builder().goalId(11L).status("active").build();
+        Goal second = Goal.builder().goalId(12L).status("active").build();
+
+        // When
+        GoalResponse firstResponse = goalMapper.toResponse(first);
+        GoalResponse secondResponse = goalMapper.toResponse(second);
+
+        // Then
+        assertThat(firstResponse.getGamification()).isSameAs(secondResponse.getGamification());
+        assertThat(firstResponse.getGamification().getUserLevel()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve exibir o nível do usuário calculado a partir dos pontos")
+    void shouldUseResolvedUserLevel() throws JsonProcessingException {
+        // Given
+        GoalMapper leveledMapper = new GoalMapper(userId -> "user123".equals(userId) ? 7 : 1);
+        Goal withReward = Goal.builder().goalId(13L).userId("user123").status("active")
+                .reward(com.fiap.check.health.model.Reward.builder().points(50).build())
+                .build();
+        Goal withoutReward = Goal.builder().goalId(14L).userId("user123").status("active").build();
+
+        // When
+        GoalResponse rewarded = leveledMapper.toResponse(withReward);
+        GoalResponse plain = leveledMapper.toResponse(withoutReward);
+
+        // Then
+        assertThat(rewarded.getGamification().getUserLevel()).isEqualTo(7);
+        assertThat(plain.getGamification().getUserLevel()).isEqualTo(7);
+        assertThat(plain.getGamification().getPointsEarned()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve calcular sequências e faltas até hoje ou até o fim da meta")
+    void shouldMapStreaks() {
+        // Given: check-ins nos dias 0, 1, 3 e 4 de uma meta iniciada há 5 dias
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        CheckInBitmap checkIns = CheckInBitmap.empty();
+        for (int day : new int[] {0, 1, 3, 4}) {
+            checkIns.checkIn(day);
+        }
+        Goal running = Goal.builder().goalId(1L).startDate(today.minusDays(5)).endDate(today.plusDays(10)).build();
+        Goal ended = Goal.builder().goalId(2L).startDate(today.minusDays(10)).endDate(today.minusDays(6)).build();
+
+        // When
+        GoalStreakResponse runningStreak = goalMapper.toStreakResponse(running, checkIns, today);
+        GoalStreakResponse endedStreak = goalMapper.toStreakResponse(ended, checkIns, today);
+
+        // Then: hoje (dia 5) ainda não conta como falta
+        assertThat(runningStreak.getCurrentStreak()).isEqualTo(2);
+        assertThat(runningStreak.getLongestStreak()).isEqualTo(2);
+        assertThat(runningStreak.getCheckIns()).isEqualTo(4);
+        assertThat(runningStreak.getMissedDays()).isEqualTo(1);
+        assertThat(runningStreak.getLastCheckIn()).isEqualTo(today.minusDays(1));
+        assertThat(endedStreak.getCurrentStreak()).isEqualTo(2);
+        assertThat(endedStreak.getMissedDays()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fiap.check.health.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CheckInBitmap Tests")
+class CheckInBitmapTest {
+
+    @Test
+    @DisplayName("Deve registrar cada dia uma única vez")
+    void shouldCheckInIdempotently() {
+        CheckInBitmap checkIns = CheckInBitmap.empty();
+
+        assertThat(checkIns.checkIn(3)).isTrue();
+        assertThat(checkIns.checkIn(3)).isFalse();
+        assertThat(checkIns.count()).isEqualTo(1);
+        assertThat(checkIns.isCheckedIn(3)).isTrue();
+        assertThat(checkIns.isCheckedIn(2)).isFalse();
+        assertThatThrownBy(() -> checkIns.checkIn(CheckInBitmap.MAX_DAYS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve calcular a sequência atual e a maior sequência")
+    void shouldComputeStreaks() {
+        // Given: dias 0-4, 10-11 e 13
+        CheckInBitmap checkIns = CheckInBitmap.empty();
+        for (int day : new int[] {0, 1, 2, 3, 4, 10, 11, 13}) {
+            checkIns.checkIn(day);
+        }
+
+        // Then
+        assertThat(checkIns.longestStreak()).isEqualTo(5);
+        assertThat(checkIns.currentStreak(13)).isEqualTo(1);
+        // Sem check-in hoje, a sequência de ontem continua valendo
+        assertThat(checkIns.currentStreak(12)).isEqualTo(2);
+        assertThat(checkIns.currentStreak(15)).isZero();
+        assertThat(checkIns.countThrough(4)).isEqualTo(5);
+        assertThat(checkIns.lastDay()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no formato mais compacto e ler de volta o mesmo histórico")
+    void shouldEncodeInSmallestContainer() {
+        // Given
+        CheckInBitmap sparse = CheckInBitmap.empty();
+        sparse.checkIn(700);
+        CheckInBitmap streak = CheckInBitmap.empty();
+        for (int day = 0; day < 365; day++) {
+            streak.checkIn(day);
+        }
+        CheckInBitmap alternating = CheckInBitmap.empty();
+        for (int day = 0; day < 365; day += 2) {
+            alternating.checkIn(day);
+        }
+
+        // When
+        byte[] sparseData = sparse.encode();
+        byte[] streakData = streak.encode();
+        byte[] alternatingData = alternating.encode();
+
+        // Then: lista de dias, uma sequência e bitmap, respectivamente
+        assertThat(sparseData).hasSize(3);
+        assertThat(streakData).hasSize(5);
+        assertThat(alternatingData).hasSize(1 + 46);
+        assertThat(CheckInBitmap.decode(sparseData).isCheckedIn(700)).isTrue();
+        assertThat(CheckInBitmap.decode(streakData).longestStreak()).isEqualTo(365);
+        assertThat(CheckInBitmap.decode(alternatingData).count()).isEqualTo(183);
+        assertThat(CheckInBitmap.empty().encode()).isNull();
+        assertThat(CheckInBitmap.decode(null).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve deslocar o histórico quando o início da meta muda")
+    void shouldRebaseToNewStart() {
+        // Given
+        CheckInBitmap checkIns = CheckInBitmap.empty();
+        for (int day : new int[] {1, 5, 6, 7}) {
+            checkIns.checkIn(day);
+        }
+
+        // When
+        CheckInBitmap later = checkIns.rebase(5);
+        CheckInBitmap earlier = checkIns.rebase(-2);
+
+        // Then
+        assertThat(later.count()).isEqualTo(3);
+        assertThat(later.longestStreak()).isEqualTo(3);
+        assertThat(later.isCheckedIn(0)).isTrue();
+        assertThat(earlier.isCheckedIn(3)).isTrue();
+        assertThat(earlier.isCheckedIn(9)).isTrue();
+        assertThat(earlier.count()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,90 @@
+package com.fiap.check.health.reminder;
+
+import com.fiap.check.health.model.Frequency;
+import com.fiap.check.health.persistence.entity.Goal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReminderSchedule Tests")
+class ReminderScheduleTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 2, 2);
+
+    private final ReminderSchedule schedule = new ReminderSchedule(new ReminderProperties());
+
+    @Test
+    @DisplayName("Deve distribuir os lembretes diários entre day-start e day-end")
+    void shouldSpreadDailyReminders() {
+        // 3 por dia entre 08:00 e 20:00: 08:00, 12:00 e 16:00
+        assertThat(schedule.next(START, null, "daily", 3, START.atTime(7, 0))).isEqualTo(START.atTime(8, 0));
+        assertThat(schedule.next(START, null, "daily", 3, START.atTime(8, 0))).isEqualTo(START.atTime(12, 0));
+        assertThat(schedule.next(START, null, "daily", 3, START.atTime(16, 0)))
+                .isEqualTo(START.plusDays(1).atTime(8, 0));
+        // Antes do início, o primeiro lembrete é o do startDate
+        assertThat(schedule.next(START, null, "daily", 1, START.minusDays(10).atStartOfDay()))
+                .isEqualTo(START.atTime(8, 0));
+    }
+
+    @Test
+    @DisplayName("Deve distribuir os lembretes semanais e mensais pelos dias do período")
+    void shouldSpreadWeeklyAndMonthlyReminders() {
+        // 2 por semana: dias 0 e 3 de cada semana a partir do startDate
+        assertThat(schedule.next(START, null, "weekly", 2, START.atTime(9, 0)))
+                .isEqualTo(START.plusDays(3).atTime(8, 0));
+        assertThat(schedule.next(START, null, "weekly", 2, START.plusDays(3).atTime(9, 0)))
+                .isEqualTo(START.plusDays(7).atTime(8, 0));
+        // 1 por mês, no dia do startDate
+        assertThat(schedule.next(START, null, "monthly", 1, START.atTime(9, 0)))
+                .isEqualTo(START.plusMonths(1).atTime(8, 0));
+    }
+
+    @Test
+    @DisplayName("Deve parar no endDate e ignorar metas sem notificações ou inativas")
+    void shouldStopAtEndDateAndSkipGoalsWithoutReminders() {
+        assertThat(schedule.next(START, START, "daily", 1, START.atTime(9, 0))).isNull();
+        assertThat(schedule.next(START, null, "single", 1, START.atTime(7, 0))).isNull();
+
+        Goal goal = Goal.builder()
+                .type("weekly")
+                .status("active")
+                .notifications(true)
+                .startDate(START)
+                .frequency(new Frequency("daily", 1))
+                .build();
+        // A periodicidade da frequência prevalece sobre o type
+        assertThat(schedule.next(goal, START.atTime(9, 0))).isEqualTo(START.plusDays(1).atTime(8, 0));
+
+        goal.setNotifications(false);
+        assertThat(schedule.next(goal, START.atTime(9, 0))).isNull();
+        goal.setNotifications(true);
+        goal.setStatus("completed");
+        assertThat(schedule.next(goal, START.atTime(9, 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve recusar day-end anterior a day-start")
+    void shouldRejectInvalidDay() {
+        ReminderProperties properties = new ReminderProperties();
+        properties.setDayEnd(LocalTime.of(7, 0));
+
+        assertThatThrownBy(() -> new ReminderSchedule(properties)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Deve retornar sempre um horário posterior ao informado")
+    void shouldAlwaysMoveForward() {
+        LocalDateTime after = START.atStartOfDay();
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime next = schedule.next(START, null, "monthly", 5, after);
+            assertThat(next).isAfter(after);
+            after = next;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.fiap.check.health.reminder;
+
+import com.fiap.check.health.dto.event.GoalReminderEvent;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.Frequency;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.ReminderGoalRow;
+import com.fiap.check.health.persistence.projection.ReminderSlotRow;
+import com.fiap.check.health.persistence.repository.GoalReminderClaim.Claim;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReminderScheduler Tests")
+class ReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 2, 2, 8, 0, 30);
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 2, 2, 8, 0);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalEventPublisher goalEventPublisher;
+
+    @Mock
+    private JobLock jobLock;
+
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReminderProperties properties = new ReminderProperties();
+        properties.setPartitions(4);
+        properties.setRebalanceInterval(Duration.ofHours(1));
+        scheduler = new ReminderScheduler(goalRepository, new ReminderSchedule(properties), goalEventPublisher,
+                jobLock, properties);
+        when(jobLock.owner()).thenReturn("me");
+        when(jobLock.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Deve carregar a janela, disparar o lembrete vencido e avançar o next_reminder_at")
+    void shouldFireDueReminder() {
+        // Given: um lembrete de 08:00 ainda dentro da tolerância
+        when(jobLock.countHeld(ReminderScheduler.MEMBER_PREFIX)).thenReturn(1L);
+        when(goalRepository.findRemindersAfter(any(), any(), eq(4), anyCollection(), any(), anyLong(), any()))
+                .thenReturn(List.of(new ReminderSlotRow(5L, DUE)))
+                .thenReturn(List.of());
+        when(goalRepository.findReminderRowsByGoalIdIn(anyCollection())).thenReturn(List.of(row(5L, DUE)));
+        when(goalRepository.claimReminders(anyList())).thenReturn(new boolean[] {true});
+
+        // When
+        int published = scheduler.tick(NOW);
+
+        // Then: 3 lembretes por dia, o próximo às 12:00
+        assertThat(published).isEqualTo(1);
+        assertThat(scheduler.ownedPartitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+        verify(goalRepository).claimReminders(List.of(new Claim(5L, DUE, DUE.withHour(12))));
+        ArgumentCaptor<List<GoalReminderEvent>> captor = ArgumentCaptor.captor();
+        verify(goalEventPublisher).publishReminders(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(event -> {
+            assertThat(event.getGoalId()).isEqualTo(5L);
+            assertThat(event.getUserId()).isEqualTo("user123");
+            assertThat(event.getScheduledAt()).isEqualTo(DUE);
+            assertThat(event.getNextReminderAt()).isEqualTo(DUE.withHour(12));
+        });
+    }
+
+    @Test
+    @DisplayName("Não deve disparar entrada remarcada nem lembrete já disparado por outra réplica")
+    void shouldSkipStaleAndLostClaims() {
+        // Given: a meta 5 foi remarcada depois da carga; a 6 foi disparada por outra réplica
+        when(jobLock.countHeld(ReminderScheduler.MEMBER_PREFIX)).thenReturn(1L);
+        when(goalRepository.findRemindersAfter(any(), any(), eq(4), anyCollection(), any(), anyLong(), any()))
+                .thenReturn(List.of(new ReminderSlotRow(5L, DUE), new ReminderSlotRow(6L, DUE)))
+                .thenReturn(List.of());
+        when(goalRepository.findReminderRowsByGoalIdIn(anyCollection()))
+                .thenReturn(List.of(row(5L, DUE.withHour(9)), row(6L, DUE)));
+        when(goalRepository.claimReminders(anyList())).thenReturn(new boolean[] {false});
+
+        // When
+        int published = scheduler.tick(NOW);
+
+        // Then
+        assertThat(published).isZero();
+        verify(goalRepository).claimReminders(List.of(new Claim(6L, DUE, DUE.withHour(12))));
+        verify(goalEventPublisher, never()).publishReminders(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve assumir só a sua parte das partições e agendar metas alteradas dentro da janela")
+    void shouldTakeShareOfPartitionsAndScheduleChangedGoals() {
+        // Given: duas réplicas vivas, 4 partições
+        when(jobLock.countHeld(ReminderScheduler.MEMBER_PREFIX)).thenReturn(2L);
+        when(goalRepository.findRemindersAfter(any(), any(), eq(4), anyCollection(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+        scheduler.tick(NOW.minusSeconds(10));
+        assertThat(scheduler.ownedPartitions()).containsExactlyInAnyOrder(0, 1);
+
+        // When: meta da partição 1 remarcada para agora; a da partição 2 pertence à outra réplica
+        Goal owned = Goal.builder().goalId(5L).nextReminderAt(DUE).build();
+        Goal foreign = Goal.builder().goalId(6L).nextReminderAt(DUE).build();
+        scheduler.onGoalChanged(GoalChangedEvent.of(GoalChangedEvent.ChangeType.UPDATED, owned));
+        scheduler.onGoalChanged(GoalChangedEvent.of(GoalChangedEvent.ChangeType.UPDATED, foreign));
+        when(goalRepository.findReminderRowsByGoalIdIn(anyCollection())).thenReturn(List.of(row(5L, DUE)));
+        when(goalRepository.claimReminders(anyList())).thenReturn(new boolean[] {true});
+
+        // Then
+        assertThat(scheduler.tick(NOW)).isEqualTo(1);
+        verify(jobLock, never()).tryAcquire(eq(ReminderScheduler.PARTITION_PREFIX + 2), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Deve disparar uma vez o lembrete atrasado por uma parada longa e remarcá-lo a partir de agora")
+    void shouldFireReminderOverdueSinceOutage() {
+        // Given: lembrete de dois dias atrás, muito além de uma janela
+        LocalDateTime overdue = DUE.minusDays(2);
+        when(jobLock.countHeld(ReminderScheduler.MEMBER_PREFIX)).thenReturn(1L);
+        when(goalRepository.findRemindersAfter(eq(ReminderScheduler.EARLIEST), eq(NOW), eq(4), anyCollection(),
+                any(), anyLong(), any())).thenReturn(List.of(new ReminderSlotRow(5L, overdue)));
+        when(goalRepository.findRemindersAfter(eq(NOW), any(), eq(4), anyCollection(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+        when(goalRepository.findReminderRowsByGoalIdIn(anyCollection())).thenReturn(List.of(row(5L, overdue)));
+        when(goalRepository.claimReminders(anyList())).thenReturn(new boolean[] {true});
+
+        // When
+        int published = scheduler.tick(NOW);
+
+        // Then: os lembretes perdidos no intervalo não são disparados; o próximo é o de hoje às 12:00
+        assertThat(published).isEqualTo(1);
+        verify(goalRepository).claimReminders(List.of(new Claim(5L, overdue, DUE.withHour(12))));
+    }
+
+    @Test
+    @DisplayName("Deve carregar sem limite inferior as partições assumidas no rebalanceamento")
+    void shouldLoadAcquiredPartitionsWithoutLowerBound() {
+        // Given: a outra réplica caiu depois da primeira carga
+        when(jobLock.countHeld(ReminderScheduler.MEMBER_PREFIX)).thenReturn(2L, 1L);
+        when(jobLock.renew(anyString(), any(Duration.class))).thenReturn(true);
+        when(goalRepository.findRemindersAfter(any(), any(), eq(4), anyCollection(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+        scheduler.tick(NOW);
+
+        // When
+        scheduler.tick(NOW.plusHours(1));
+
+        // Then
+        assertThat(scheduler.ownedPartitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+        verify(goalRepository).findRemindersAfter(eq(ReminderScheduler.EARLIEST), eq(NOW.plusMinutes(15)), eq(4),
+                eq(Set.of(2, 3)), any(), anyLong(), any());
+    }
+
+    private static ReminderGoalRow row(long goalId, LocalDateTime nextReminderAt) {
+        return new ReminderGoalRow(goalId, "user123", "Beber água", "daily", "active", true,
+                LocalDate.of(2026, 2, 1), null, new Frequency("daily", 3), nextReminderAt);
+    }
+}
@@ -0,0 +1,74 @@
+package com.fiap.check.health.reminder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("Deve disparar cada entrada uma única vez, no primeiro avanço após o prazo")
+    void shouldFireEachEntryOnceAfterDeadline() {
+        // Given: prazos aleatórios cobrindo os três níveis (tick 10 ms, 8 slots)
+        TimingWheel wheel = new TimingWheel(10, 8, 3, 1_000);
+        Random random = new Random(42);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 0; id < 2_000; id++) {
+            long deadline = 1_000 + random.nextInt(4_000);
+            assertThat(wheel.add(id, deadline)).isTrue();
+            deadlines.put(id, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(2_000);
+
+        // When: avanços de tamanhos variados
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = 1_000; now <= 5_100; now += 1 + random.nextInt(37)) {
+            long current = now;
+            wheel.advance(now, (id, deadline) -> {
+                assertThat(deadline).isEqualTo(deadlines.get(id));
+                assertThat(firedAt.put(id, current)).isNull();
+            });
+        }
+
+        // Then: nunca antes do prazo e no máximo um tick (mais o passo do avanço) depois
+        assertThat(firedAt).hasSize(2_000);
+        firedAt.forEach((id, at) -> assertThat(at - deadlines.get(id)).isBetween(0L, 10L + 37L));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve disparar no próximo avanço as entradas adicionadas com prazo vencido")
+    void shouldFireOverdueEntriesImmediately() {
+        TimingWheel wheel = new TimingWheel(10, 8, 2, 1_000);
+        wheel.advance(1_500, (id, deadline) -> { });
+        wheel.add(1, 900);
+        wheel.add(2, 1_505);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(1_500, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L);
+
+        wheel.advance(1_510, (id, deadline) -> fired.add(id));
+        assertThat(fired).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve recusar prazos além do alcance do último nível")
+    void shouldRejectDeadlinesBeyondHorizon() {
+        TimingWheel wheel = new TimingWheel(10, 8, 2, 0);
+
+        assertThat(wheel.horizon()).isEqualTo(640);
+        assertThat(wheel.add(1, 639)).isTrue();
+        assertThat(wheel.add(2, 640)).isFalse();
+        assertThatThrownBy(() -> new TimingWheel(0, 8, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fiap.check.health.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtDecoder Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-08T10:30:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofSeconds(30), new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token apenas uma vez enquanto estiver válido")
+    void shouldVerifyTokenOnlyOnce() {
+        // Given
+        Jwt jwt = jwtExpiringAt(NOW.plusSeconds(600));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        // When
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+
+        // Then
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar tokens que expiram dentro da margem de segurança")
+    void shouldNotCacheTokensAboutToExpire() {
+        // Given
+        Jwt jwt = jwtExpiringAt(NOW.plusSeconds(10));
+        when(delegate.decode("token-b")).thenReturn(jwt);
+
+        // When
+        decoder.decode("token-b");
+        decoder.decode("token-b");
+
+        // Then
+        verify(delegate, times(2)).decode("token-b");
+        assertThat(decoder.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar tokens sem exp")
+    void shouldNotCacheTokensWithoutExpiration() {
+        // Given
+        Jwt jwt = Jwt.withTokenValue("token-c").header("alg", "RS256").subject("user123").build();
+        when(delegate.decode("token-c")).thenReturn(jwt);
+
+        // When
+        decoder.decode("token-c");
+        decoder.decode("token-c");
+
+        // Then
+        verify(delegate, times(2)).decode("token-c");
+    }
+
+    @Test
+    @DisplayName("Deve propagar falhas de verificação sem armazenar o token")
+    void shouldPropagateVerificationFailures() {
+        // Given
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("invalid signature"));
+
+        // When & Then
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("forged");
+    }
+
+    private static Jwt jwtExpiringAt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user123")
+                .issuedAt(NOW.minusSeconds(60))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.fiap.check.health.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtKeys Tests")
+class JwtKeysTest {
+
+    @Test
+    @DisplayName("Deve emitir e verificar tokens ES256 com o kid da chave ativa")
+    void shouldIssueAndVerifyEs256Tokens() throws Exception {
+        // Given
+        KeyPair keyPair = ecKeyPair();
+        JWK jwk = JwtKeys.toJwk(SignatureAlgorithm.ES256, "ec-1", keyPair.getPublic(), keyPair.getPrivate());
+        JwtEncoder encoder = JwtKeys.newEncoder(jwk, SignatureAlgorithm.ES256);
+        JwtDecoder decoder = JwtKeys.newDecoder(List.of(jwk.toPublicJWK()));
+
+        // When
+        Jwt issued = encoder.encode(JwtEncoderParameters.from(claims()));
+        Jwt decoded = decoder.decode(issued.getTokenValue());
+
+        // Then
+        assertThat(issued.getHeaders().get("alg")).hasToString("ES256");
+        assertThat(issued.getHeaders()).containsEntry("kid", "ec-1");
+        assertThat(decoded.getSubject()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens da chave anterior durante a troca de chaves")
+    void shouldAcceptTokensSignedWithRolloverKey() throws Exception {
+        // Given
+        KeyPair previousPair = rsaKeyPair();
+        KeyPair activePair = ecKeyPair();
+        JWK previous = JwtKeys.toJwk(SignatureAlgorithm.RS256, "rsa-0", previousPair.getPublic(), previousPair.getPrivate());
+        JWK active = JwtKeys.toJwk(SignatureAlgorithm.ES256, "ec-1", activePair.getPublic(), activePair.getPrivate());
+        String oldToken = JwtKeys.newEncoder(previous, SignatureAlgorithm.RS256)
+                .encode(JwtEncoderParameters.from(claims())).getTokenValue();
+
+        // When
+        JwtDecoder decoder = JwtKeys.newDecoder(List.of(active.toPublicJWK(), previous.toPublicJWK()));
+
+        // Then
+        assertThat(decoder.decode(oldToken).getSubject()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tokens assinados por chaves desconhecidas")
+    void shouldRejectTokensFromUnknownKeys() throws Exception {
+        // Given
+        KeyPair trusted = ecKeyPair();
+        KeyPair attacker = ecKeyPair();
+        JWK attackerJwk = JwtKeys.toJwk(SignatureAlgorithm.ES256, "ec-1", attacker.getPublic(), attacker.getPrivate());
+        JWK trustedJwk = JwtKeys.toJwk(SignatureAlgorithm.ES256, "ec-1", trusted.getPublic(), null);
+        String forged = JwtKeys.newEncoder(attackerJwk, SignatureAlgorithm.ES256)
+                .encode(JwtEncoderParameters.from(claims())).getTokenValue();
+
+        // When & Then
+        assertThatThrownBy(() -> JwtKeys.newDecoder(List.of(trustedJwk)).decode(forged))
+                .isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Deve ler as chaves RSA PEM da aplicação")
+    void shouldReadApplicationRsaKeys() {
+        // When
+        JWK jwk = JwtKeys.toJwk(SignatureAlgorithm.RS256, "app",
+                JwtKeys.readPublicKey(new ClassPathResource("app.pub"), SignatureAlgorithm.RS256),
+                JwtKeys.readPrivateKey(new ClassPathResource("app.key"), SignatureAlgorithm.RS256));
+
+        // Then
+        assertThat(jwk.isPrivate()).isTrue();
+        assertThat(jwk.getKeyID()).isEqualTo("app");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar algoritmos não suportados")
+    void shouldRejectUnsupportedAlgorithms() {
+        assertThatThrownBy(() -> JwtKeys.algorithm("PS256")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JwtClaimsSet claims() {
+        Instant now = Instant.now();
+        return JwtClaimsSet.builder()
+                .subject("user123")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .build();
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static KeyPair rsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,158 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.BadgeResponse;
+import com.fiap.check.health.badge.BadgeAwardWriter;
+import com.fiap.check.health.badge.BadgeEngine;
+import com.fiap.check.health.badge.BadgeMetric;
+import com.fiap.check.health.badge.BadgeProperties;
+import com.fiap.check.health.cache.UserPointsCache;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalCheckedInEvent;
+import com.fiap.check.health.model.CheckInBitmap;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.UserBadge;
+import com.fiap.check.health.persistence.projection.CategoryCountRow;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.UserBadgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeService Implementation Tests")
+class BadgeServiceImplTest {
+
+    @Mock
+    private BadgeAwardWriter badgeAwardWriter;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private UserBadgeRepository userBadgeRepository;
+
+    @Mock
+    private UserPointsCache userPointsCache;
+
+    private BadgeServiceImpl badgeService;
+
+    @BeforeEach
+    void setUp() {
+        BadgeProperties properties = new BadgeProperties();
+        properties.setRules(List.of(
+                rule("first-goal", BadgeMetric.COMPLETED_GOALS, null, 1),
+                rule("sono-5", BadgeMetric.COMPLETED_GOALS, GoalCategory.SONO, 5),
+                rule("streak-3", BadgeMetric.CURRENT_STREAK, null, 3),
+                rule("points-100", BadgeMetric.POINTS, null, 100)));
+        badgeService = new BadgeServiceImpl(new BadgeEngine(properties), badgeAwardWriter, goalRepository,
+                userBadgeRepository, userPointsCache);
+    }
+
+    @Test
+    @DisplayName("Deve conceder os badges de conclusão atingidos que o usuário ainda não tem")
+    void shouldAwardOnCompletion() {
+        // Given
+        Goal goal = goal(null);
+        when(goalRepository.countByCategory("user123", "completed")).thenReturn(List.of(
+                new CategoryCountRow(GoalCategory.SONO, 5L), new CategoryCountRow(GoalCategory.NUTRICAO, 2L)));
+        when(userPointsCache.points("user123")).thenReturn(80L);
+        when(userBadgeRepository.findBadgeIdsByUserId("user123")).thenReturn(Set.of("first-goal"));
+
+        // When
+        badgeService.onGoalChanged(GoalChangedEvent.of(GoalChangedEvent.ChangeType.COMPLETED, goal));
+
+        // Then
+        ArgumentCaptor<UserBadge> awarded = ArgumentCaptor.forClass(UserBadge.class);
+        verify(badgeAwardWriter).add(awarded.capture());
+        assertThat(awarded.getValue().getBadgeId()).isEqualTo("sono-5");
+        assertThat(awarded.getValue().getUserId()).isEqualTo("user123");
+        assertThat(awarded.getValue().getGoalId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve avaliar a sequência no check-in sem consultar metas concluídas nem pontos")
+    void shouldAwardStreakOnCheckIn() {
+        // Given
+        CheckInBitmap checkIns = CheckInBitmap.empty();
+        checkIns.checkIn(7);
+        checkIns.checkIn(8);
+        checkIns.checkIn(9);
+        Goal goal = goal(checkIns.encode());
+        when(userBadgeRepository.findBadgeIdsByUserId("user123")).thenReturn(Set.of());
+        when(badgeAwardWriter.isPending(anyString(), anyString())).thenReturn(false);
+
+        // When
+        badgeService.onGoalCheckedIn(new GoalCheckedInEvent(goal, LocalDate.now()));
+
+        // Then
+        ArgumentCaptor<UserBadge> awarded = ArgumentCaptor.forClass(UserBadge.class);
+        verify(badgeAwardWriter, times(1)).add(awarded.capture());
+        assertThat(awarded.getValue().getBadgeId()).isEqualTo("streak-3");
+        verifyNoInteractions(goalRepository, userPointsCache);
+    }
+
+    @Test
+    @DisplayName("Não deve avaliar regras em eventos que não alteram métricas")
+    void shouldIgnoreOtherEvents() {
+        // When
+        badgeService.onGoalChanged(GoalChangedEvent.of(GoalChangedEvent.ChangeType.UPDATED, goal(null)));
+        badgeService.onGoalChanged(GoalChangedEvent.deleted(1L, "user123"));
+
+        // Then
+        verifyNoInteractions(badgeAwardWriter, goalRepository, userBadgeRepository, userPointsCache);
+    }
+
+    @Test
+    @DisplayName("Deve listar os badges com o nome da regra")
+    void shouldListBadges() {
+        // Given
+        LocalDateTime awardedAt = LocalDateTime.of(2026, 2, 10, 8, 0);
+        when(userBadgeRepository.findByUserIdOrderByAwardedAtDesc("user123")).thenReturn(List.of(
+                new UserBadge("user123", "first-goal", 1L, awardedAt),
+                new UserBadge("user123", "removed-rule", 2L, awardedAt)));
+
+        // When
+        List<BadgeResponse> badges = badgeService.listBadges("user123");
+
+        // Then
+        assertThat(badges).extracting(BadgeResponse::getName).containsExactly("first-goal", "removed-rule");
+        assertThat(badges.get(0).getGoalId()).isEqualTo(1L);
+    }
+
+    private static Goal goal(byte[] checkIns) {
+        return Goal.builder()
+                .goalId(1L)
+                .userId("user123")
+                .category(GoalCategory.SONO)
+                .type("daily")
+                .startDate(LocalDate.now().minusDays(9))
+                .checkIns(checkIns)
+                .build();
+    }
+
+    private static BadgeProperties.Rule rule(String id, BadgeMetric metric, GoalCategory category, long threshold) {
+        BadgeProperties.Rule rule = new BadgeProperties.Rule();
+        rule.setId(id);
+        rule.setMetric(metric);
+        rule.setCategory(category);
+        rule.setThreshold(threshold);
+        return rule;
+    }
+}
@@ -0,0 +1,189 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.analytics.CompletionAggregates.Dimension;
+import com.fiap.check.health.api.model.CompletionAnalyticsResponse;
+import com.fiap.check.health.api.model.CompletionAnalyticsRow;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.CompletionCountRow;
+import com.fiap.check.health.persistence.projection.GoalIdRangeRow;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompletionAnalyticsService Implementation Tests")
+class CompletionAnalyticsServiceImplTest {
+
+    private static final YearMonth JAN = YearMonth.of(2026, 1);
+    private static final YearMonth FEB = YearMonth.of(2026, 2);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    private CompletionAnalyticsServiceImpl completionAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        completionAnalyticsService = new CompletionAnalyticsServiceImpl(goalRepository, 10, 2, 24);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os agregados lendo a tabela em faixas de goal_id")
+    void shouldRecomputeInGoalIdChunks() {
+        // Given: ids de 1 a 25 em faixas de 10
+        when(goalRepository.findGoalIdRange()).thenReturn(new GoalIdRangeRow(1L, 25L));
+        when(goalRepository.countCompletionInRange(anyLong(), anyLong(), eq("completed"))).thenAnswer(inv ->
+                switch ((int) (long) inv.getArgument(0)) {
+                    case 1 -> List.of(row(GoalCategory.SONO, "daily", "easy", JAN, 6, 3),
+                            row(GoalCategory.NUTRICAO, "weekly", "hard", JAN, 2, 2));
+                    case 11 -> List.of(row(GoalCategory.SONO, "weekly", "hard", JAN, 4, 0));
+                    default -> List.of(row(GoalCategory.SONO, "daily", "easy", FEB, 5, 1));
+                });
+
+        // When
+        completionAnalyticsService.recompute();
+
+        // Then
+        verify(goalRepository).countCompletionInRange(21L, 31L, "completed");
+        CompletionAnalyticsResponse response = completionAnalyticsService.getCompletion(
+                Set.of(Dimension.CATEGORY), JAN, FEB, null, null, null);
+        assertThat(response.getGroupBy()).containsExactly(Dimension.CATEGORY);
+        assertThat(response.getRecomputedAt()).isNotNull();
+        assertThat(response.getRows()).containsExactly(
+                row(JAN, GoalCategory.NUTRICAO, null, null, 2, 2, 1.0),
+                row(JAN, GoalCategory.SONO, null, null, 10, 3, 0.3),
+                row(FEB, GoalCategory.SONO, null, null, 5, 1, 0.2));
+        assertThat(completionAnalyticsService.getCompletion(EnumSet.of(Dimension.TYPE, Dimension.DIFFICULTY), JAN,
+                JAN, GoalCategory.SONO, "WEEKLY", null).getRows())
+                .containsExactly(row(JAN, null, "weekly", "hard", 4, 0, 0.0));
+    }
+
+    @Test
+    @DisplayName("Deve somar criações e conclusões após o commit e ignorar as demais alterações")
+    void shouldApplyCreatedAndCompletedEvents() {
+        // Given
+        Goal goal = goal(1L, "active");
+
+        // When
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal));
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(2L, "active")));
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal));
+        goal.setStatus("completed");
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.COMPLETED, goal));
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.UPDATED, goal));
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.deleted(2L, "user123"));
+
+        // Then
+        assertThat(completionAnalyticsService.getCompletion(Set.of(), JAN, JAN, null, null, null).getRows())
+                .containsExactly(row(JAN, null, null, null, 2, 1, 0.5));
+    }
+
+    @Test
+    @DisplayName("Deve levar para os agregados recalculados só os eventos que as faixas já lidas não viram")
+    void shouldApplyEventsReceivedDuringRecompute() {
+        // Given: duas faixas lidas em sequência; os eventos chegam durante a leitura da primeira
+        completionAnalyticsService = new CompletionAnalyticsServiceImpl(goalRepository, 10, 1, 24);
+        when(goalRepository.findGoalIdRange()).thenReturn(new GoalIdRangeRow(1L, 20L));
+        when(goalRepository.countCompletionInRange(anyLong(), anyLong(), eq("completed"))).thenAnswer(inv -> {
+            if ((long) inv.getArgument(0) == 1L) {
+                // Faixa em leitura, faixa ainda não lida (a consulta dela já conta a meta) e meta nova
+                completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(5L, "active")));
+                completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(15L, "active")));
+                completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(21L, "active")));
+                return List.of();
+            }
+            return List.of(row(GoalCategory.SONO, "daily", "easy", JAN, 1, 0));
+        });
+
+        // When
+        completionAnalyticsService.recompute();
+
+        // Then: metas 5, 15 e 21, cada uma contada uma vez
+        assertThat(completionAnalyticsService.getCompletion(Set.of(), JAN, JAN, null, null, null).getRows())
+                .containsExactly(row(JAN, null, null, null, 3, 0, 0.0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a divergência dos incrementos no recálculo")
+    void shouldReplaceAggregatesOnRecompute() {
+        // Given
+        completionAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.CREATED, goal(1L, "active")));
+        when(goalRepository.findGoalIdRange()).thenReturn(new GoalIdRangeRow(null, null));
+
+        // When
+        completionAnalyticsService.recompute();
+
+        // Then
+        assertThat(completionAnalyticsService.getCompletion(Set.of(), JAN, JAN, null, null, null).getRows())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve usar os últimos 12 meses por padrão e recusar intervalos inválidos")
+    void shouldValidateMonthRange() {
+        // When
+        CompletionAnalyticsResponse response = completionAnalyticsService.getCompletion(Set.of(), null, FEB, null,
+                null, null);
+
+        // Then
+        assertThat(response.getFrom()).isEqualTo(YearMonth.of(2025, 3));
+        assertThat(response.getTo()).isEqualTo(FEB);
+        assertThatThrownBy(() -> completionAnalyticsService.getCompletion(Set.of(), FEB, JAN, null, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> completionAnalyticsService.getCompletion(Set.of(), YearMonth.of(2024, 1), FEB,
+                null, null, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static Goal goal(Long goalId, String status) {
+        return Goal.builder()
+                .goalId(goalId)
+                .userId("user123")
+                .category(GoalCategory.SONO)
+                .type("daily")
+                .difficulty("easy")
+                .status(status)
+                .createdAt(LocalDateTime.of(2026, 1, 10, 9, 0))
+                .build();
+    }
+
+    private static CompletionCountRow row(GoalCategory category, String type, String difficulty, YearMonth month,
+                                          long goals, long completed) {
+        return new CompletionCountRow(category, type, difficulty, month.getYear(), month.getMonthValue(), goals,
+                completed);
+    }
+
+    private static CompletionAnalyticsRow row(YearMonth month, GoalCategory category, String type, String difficulty,
+                                              long goals, long completed, double completionRate) {
+        return CompletionAnalyticsRow.builder()
+                .month(month)
+                .category(category)
+                .type(type)
+                .difficulty(difficulty)
+                .goals(goals)
+                .completed(completed)
+                .completionRate(completionRate)
+                .build();
+    }
+}
@@ -0,0 +1,240 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.analytics.EngagementSketchWriter;
+import com.fiap.check.health.analytics.HyperLogLog;
+import com.fiap.check.health.analytics.SketchKind;
+import com.fiap.check.health.analytics.TDigest;
+import com.fiap.check.health.api.model.CategoryEngagement;
+import com.fiap.check.health.api.model.DailyActiveUsers;
+import com.fiap.check.health.api.model.EngagementAnalyticsResponse;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.entity.AnalyticsSketch;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.projection.SketchGroupRow;
+import com.fiap.check.health.persistence.repository.AnalyticsSketchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementAnalyticsService Implementation Tests")
+class EngagementAnalyticsServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 14);
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private AnalyticsSketchRepository analyticsSketchRepository;
+
+    @Mock
+    private EngagementSketchWriter engagementSketchWriter;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private EngagementAnalyticsServiceImpl engagementAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        engagementAnalyticsService = new EngagementAnalyticsServiceImpl(analyticsSketchRepository,
+                engagementSketchWriter, jobLock, transactionTemplate, 2, 60, LEASE);
+    }
+
+    @Test
+    @DisplayName("Deve registrar atividade no progresso e o tempo até a conclusão na conclusão")
+    void shouldRecordProgressAndCompletion() {
+        // Given
+        Goal goal = Goal.builder()
+                .goalId(1L)
+                .userId("user123")
+                .category(GoalCategory.SONO)
+                .createdAt(LocalDateTime.now().minusHours(2))
+                .build();
+
+        // When
+        engagementAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal));
+        engagementAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.COMPLETED, goal));
+        engagementAnalyticsService.onGoalChanged(GoalChangedEvent.of(ChangeType.UPDATED, goal));
+        engagementAnalyticsService.onGoalChanged(GoalChangedEvent.deleted(1L, "user123"));
+
+        // Then
+        LocalDate today = LocalDate.now();
+        verify(engagementSketchWriter, times(2))
+                .recordActivity(today, GoalCategory.SONO, "user123");
+        ArgumentCaptor<Double> seconds = ArgumentCaptor.forClass(Double.class);
+        verify(engagementSketchWriter).recordCompletion(eq(today), eq(GoalCategory.SONO), seconds.capture());
+        assertThat(seconds.getValue()).isCloseTo(7200, within(60.0));
+    }
+
+    @Test
+    @DisplayName("Deve unir os sketches das instâncias por dia, por categoria e no total")
+    void shouldMergeSketchesAcrossInstancesAndDays() {
+        // Given: alice e bob em duas instâncias no dia 14, alice de novo no dia 15
+        when(analyticsSketchRepository.findByDayBetween(DAY, DAY.plusDays(2))).thenReturn(List.of(
+                users(DAY, GoalCategory.SONO, "a", "alice"),
+                users(DAY, GoalCategory.SONO, "b", "bob", "alice"),
+                users(DAY, GoalCategory.NUTRICAO, "a", "carol"),
+                users(DAY.plusDays(1), GoalCategory.SONO, "a", "alice"),
+                completionTimes(DAY, GoalCategory.SONO, "a", 3_600, 7_200),
+                completionTimes(DAY.plusDays(1), GoalCategory.SONO, "b", 10_800)));
+
+        // When
+        EngagementAnalyticsResponse response = engagementAnalyticsService.getEngagement(DAY, DAY.plusDays(2), null);
+
+        // Then
+        assertThat(response.getDailyActiveUsers()).containsExactly(daily(DAY, 3), daily(DAY.plusDays(1), 1),
+                daily(DAY.plusDays(2), 0));
+        assertThat(response.getTotal().getActiveUsers()).isEqualTo(3);
+        assertThat(response.getTotal().getCompletions()).isEqualTo(3);
+        assertThat(response.getTotal().getCompletionHoursP50()).isEqualTo(2.0);
+        assertThat(response.getCategories()).extracting(CategoryEngagement::getCategory,
+                        CategoryEngagement::getActiveUsers, CategoryEngagement::getCompletions)
+                .containsExactly(tuple(GoalCategory.NUTRICAO, 1L, 0L),
+                        tuple(GoalCategory.SONO, 2L, 3L));
+        assertThat(response.getCategories().get(0).getCompletionHoursP95()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve considerar só a categoria pedida")
+    void shouldFilterByCategory() {
+        // Given
+        when(analyticsSketchRepository.findByDayBetween(DAY, DAY)).thenReturn(List.of(
+                users(DAY, GoalCategory.SONO, "a", "alice"),
+                users(DAY, GoalCategory.NUTRICAO, "a", "carol", "dave")));
+
+        // When
+        EngagementAnalyticsResponse response = engagementAnalyticsService.getEngagement(DAY, DAY,
+                GoalCategory.NUTRICAO);
+
+        // Then
+        assertThat(response.getDailyActiveUsers()).containsExactly(daily(DAY, 2));
+        assertThat(response.getCategories()).extracting(CategoryEngagement::getCategory)
+                .containsExactly(GoalCategory.NUTRICAO);
+    }
+
+    @Test
+    @DisplayName("Deve usar os últimos 30 dias por padrão e recusar intervalos inválidos")
+    void shouldValidateDayRange() {
+        // Given
+        when(analyticsSketchRepository.findByDayBetween(DAY.minusDays(29), DAY)).thenReturn(List.of());
+
+        // When
+        EngagementAnalyticsResponse response = engagementAnalyticsService.getEngagement(null, DAY, null);
+
+        // Then
+        assertThat(response.getDailyActiveUsers()).hasSize(30);
+        assertThat(response.getTotal().getActiveUsers()).isZero();
+        assertThatThrownBy(() -> engagementAnalyticsService.getEngagement(DAY, DAY.minusDays(1), null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> engagementAnalyticsService.getEngagement(DAY.minusDays(60), DAY, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Deve compactar em uma linha os sketches de várias instâncias do mesmo dia")
+    void shouldCompactGroups() {
+        // Given
+        when(jobLock.tryAcquire(EngagementAnalyticsServiceImpl.JOB_NAME, LEASE)).thenReturn(true);
+        doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        SketchGroupRow group = new SketchGroupRow(SketchKind.ACTIVE_USERS, DAY, GoalCategory.SONO);
+        when(analyticsSketchRepository.findGroupsToCompact(eq(DAY), any())).thenReturn(List.of(group));
+        when(analyticsSketchRepository.findByKindAndDayAndCategory(SketchKind.ACTIVE_USERS, DAY, GoalCategory.SONO))
+                .thenReturn(List.of(users(DAY, GoalCategory.SONO, "a", "alice"),
+                        users(DAY, GoalCategory.SONO, "b", "alice", "bob")));
+
+        // When
+        int compacted = engagementAnalyticsService.compact(DAY);
+
+        // Then
+        assertThat(compacted).isEqualTo(1);
+        verify(analyticsSketchRepository).deleteGroup(SketchKind.ACTIVE_USERS, DAY, GoalCategory.SONO);
+        ArgumentCaptor<byte[]> merged = ArgumentCaptor.forClass(byte[].class);
+        verify(analyticsSketchRepository).upsert(eq(SketchKind.ACTIVE_USERS), eq(DAY), eq(GoalCategory.SONO),
+                eq(EngagementAnalyticsServiceImpl.MERGED_INSTANCE), merged.capture(), any());
+        assertThat(HyperLogLog.decode(merged.getValue()).cardinality()).isEqualTo(2);
+        verify(jobLock).release(EngagementAnalyticsServiceImpl.JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("Não deve compactar quando outra instância detém a lease")
+    void shouldSkipCompactionWithoutLease() {
+        // Given
+        when(jobLock.tryAcquire(EngagementAnalyticsServiceImpl.JOB_NAME, LEASE)).thenReturn(false);
+
+        // When
+        int compacted = engagementAnalyticsService.compact(DAY);
+
+        // Then
+        assertThat(compacted).isZero();
+        verifyNoInteractions(analyticsSketchRepository);
+        verify(jobLock, never()).release(any());
+    }
+
+    private static AnalyticsSketch users(LocalDate day, GoalCategory category, String instanceId,
+                                         String... userIds) {
+        HyperLogLog users = new HyperLogLog();
+        for (String userId : userIds) {
+            users.add(userId);
+        }
+        return sketch(SketchKind.ACTIVE_USERS, day, category, instanceId, users.encode());
+    }
+
+    private static AnalyticsSketch completionTimes(LocalDate day, GoalCategory category, String instanceId,
+                                                   double... seconds) {
+        TDigest times = new TDigest();
+        for (double value : seconds) {
+            times.add(value);
+        }
+        return sketch(SketchKind.COMPLETION_TIME, day, category, instanceId, times.encode());
+    }
+
+    private static AnalyticsSketch sketch(SketchKind kind, LocalDate day, GoalCategory category, String instanceId,
+                                          byte[] data) {
+        return AnalyticsSketch.builder()
+                .kind(kind)
+                .day(day)
+                .category(category)
+                .instanceId(instanceId)
+                .data(data)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static DailyActiveUsers daily(LocalDate day, long activeUsers) {
+        return DailyActiveUsers.builder().day(day).activeUsers(activeUsers).build();
+    }
+}
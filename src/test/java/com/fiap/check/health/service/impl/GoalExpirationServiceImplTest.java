@@ -0,0 +1,153 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.dto.event.GoalStatusChangedEvent;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.projection.OverdueGoalRow;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalExpirationService Implementation Tests")
+class GoalExpirationServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+    private static final LocalDate FIRST_END_DATE = LocalDate.of(1, 1, 1);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalChangeSequence goalChangeSequence;
+
+    @Mock
+    private GoalEventPublisher goalEventPublisher;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve expirar as metas vencidas em blocos pelo cursor (end_date, goal_id)")
+    void shouldExpireOverdueGoalsInChunks() {
+        // Given
+        GoalExpirationServiceImpl service = service(2, Duration.ofMinutes(1));
+        OverdueGoalRow first = new OverdueGoalRow(3L, "user1", LocalDate.of(2026, 2, 1));
+        OverdueGoalRow second = new OverdueGoalRow(1L, "user1", LocalDate.of(2026, 2, 10));
+        OverdueGoalRow third = new OverdueGoalRow(2L, "user2", LocalDate.of(2026, 2, 10));
+        when(jobLock.tryAcquire(eq("goal-expiration"), any(Duration.class))).thenReturn(true);
+        when(goalChangeSequence.forCurrentTransaction()).thenReturn(7L);
+        when(goalRepository.findOverdueAfter("active", TODAY, FIRST_END_DATE, 0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        // Bloco rápido: o próximo dobra de tamanho
+        when(goalRepository.findOverdueAfter("active", TODAY, second.endDate(), 1L, PageRequest.of(0, 4)))
+                .thenReturn(List.of(third));
+        when(goalRepository.updateStatusByGoalIdIn(eq(List.of(3L, 1L)), eq("active"), eq("expired"), eq(7L),
+                any(LocalDateTime.class))).thenReturn(2);
+        when(goalRepository.updateStatusByGoalIdIn(eq(List.of(2L)), eq("active"), eq("expired"), eq(7L),
+                any(LocalDateTime.class))).thenReturn(0);
+        // A meta 2 foi concluída entre a leitura e o UPDATE
+        when(goalRepository.findGoalIdsByChange(List.of(2L), "expired", 7L)).thenReturn(List.of());
+
+        // When
+        int expired = service.expireOverdueGoals(TODAY);
+
+        // Then
+        assertThat(expired).isEqualTo(2);
+        ArgumentCaptor<GoalsExpiredEvent> events = ArgumentCaptor.forClass(GoalsExpiredEvent.class);
+        verify(applicationEventPublisher).publishEvent(events.capture());
+        assertThat(events.getValue().goalIdsByUser()).isEqualTo(Map.of("user1", List.of(3L, 1L)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<GoalStatusChangedEvent>> changes = ArgumentCaptor.forClass(List.class);
+        verify(goalEventPublisher).publishStatusChanges(changes.capture());
+        assertThat(changes.getValue()).singleElement().satisfies(change -> {
+            assertThat(change.getUserId()).isEqualTo("user1");
+            assertThat(change.getGoalIds()).containsExactly(3L, 1L);
+            assertThat(change.getPreviousStatus()).isEqualTo("active");
+            assertThat(change.getStatus()).isEqualTo("expired");
+        });
+        verify(jobLock).release("goal-expiration");
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o bloco seguinte quando um bloco estoura o orçamento de tempo")
+    void shouldShrinkChunksOverBudget() {
+        // Given
+        GoalExpirationServiceImpl service = service(4, Duration.ZERO);
+        OverdueGoalRow[] rows = new OverdueGoalRow[6];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new OverdueGoalRow(i + 1L, "user1", LocalDate.of(2026, 2, 1));
+        }
+        when(jobLock.tryAcquire(eq("goal-expiration"), any(Duration.class))).thenReturn(true);
+        when(goalRepository.findOverdueAfter(eq("active"), eq(TODAY), any(LocalDate.class), anyLong(),
+                any(Pageable.class)))
+                .thenReturn(List.of(rows[0], rows[1], rows[2], rows[3]))
+                .thenReturn(List.of(rows[4], rows[5]))
+                .thenReturn(List.of());
+        when(goalRepository.updateStatusByGoalIdIn(any(), eq("active"), eq("expired"), any(), any())).thenReturn(4, 2);
+
+        // When
+        int expired = service.expireOverdueGoals(TODAY);
+
+        // Then
+        assertThat(expired).isEqualTo(6);
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        verify(goalRepository, times(3)).findOverdueAfter(eq("active"), eq(TODAY), any(LocalDate.class), anyLong(),
+                pages.capture());
+        assertThat(pages.getAllValues()).extracting(Pageable::getPageSize).containsExactly(4, 2, 2);
+        verify(goalEventPublisher, times(2)).publishStatusChanges(any());
+    }
+
+    @Test
+    @DisplayName("Não deve executar quando outra réplica detém a lease")
+    void shouldSkipWhenLeaseIsHeldElsewhere() {
+        // Given
+        GoalExpirationServiceImpl service = service(100, Duration.ofMinutes(1));
+        when(jobLock.tryAcquire(eq("goal-expiration"), any(Duration.class))).thenReturn(false);
+
+        // When
+        int expired = service.expireOverdueGoals(TODAY);
+
+        // Then
+        assertThat(expired).isZero();
+        verifyNoInteractions(goalRepository, applicationEventPublisher, goalEventPublisher);
+        verify(jobLock, times(0)).release(any());
+    }
+
+    private GoalExpirationServiceImpl service(int chunkSize, Duration chunkBudget) {
+        return new GoalExpirationServiceImpl(goalRepository, goalChangeSequence, goalEventPublisher, jobLock,
+                applicationEventPublisher, transactionManager, chunkSize, 2, 8, chunkBudget, Duration.ofSeconds(10),
+                Duration.ofMinutes(5));
+    }
+}
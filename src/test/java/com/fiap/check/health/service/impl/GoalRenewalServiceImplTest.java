@@ -0,0 +1,173 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.publisher.GoalEventPublisher;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.Frequency;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Reward;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalRenewalService Implementation Tests")
+class GoalRenewalServiceImplTest {
+
+    // Segunda-feira: as metas semanais de segunda a domingo encerraram ontem
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 9);
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private GoalEventPublisher goalEventPublisher;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Deve criar a meta do período seguinte em blocos e publicar os goal.created de cada bloco")
+    void shouldRenewDueGoalsInChunks() {
+        // Given
+        GoalRenewalServiceImpl service = service(2);
+        Goal first = weekly(1L, "user1");
+        Goal second = weekly(2L, "user1");
+        Goal third = weekly(3L, "user2");
+        when(jobLock.tryAcquire(eq("goal-renewal"), any(Duration.class))).thenReturn(true);
+        when(goalRepository.findDueForRenewal(TODAY, "archived", PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        AtomicLong ids = new AtomicLong(100);
+        when(goalRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Goal> goals = invocation.getArgument(0);
+            goals.forEach(goal -> goal.setGoalId(ids.incrementAndGet()));
+            return goals;
+        });
+
+        // When
+        int renewed = service.renewDueGoals(TODAY);
+
+        // Then
+        assertThat(renewed).isEqualTo(3);
+        assertThat(List.of(first, second, third)).extracting(Goal::getRenewedGoalId).containsExactly(101L, 102L, 103L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Goal>> batches = ArgumentCaptor.forClass(List.class);
+        verify(goalEventPublisher, times(2)).publishGoalsCreated(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+
+        Goal next = batches.getAllValues().get(0).get(0);
+        assertThat(next.getUserId()).isEqualTo("user1");
+        assertThat(next.getStartDate()).isEqualTo(TODAY);
+        assertThat(next.getEndDate()).isEqualTo(LocalDate.of(2026, 3, 15));
+        assertThat(next.getStatus()).isEqualTo("active");
+        assertThat(next.getRecurring()).isTrue();
+        assertThat(next.getProgress().getCompleted()).isZero();
+        assertThat(next.getProgress().getTotal()).isEqualTo(1);
+        assertThat(next.getProgress().getUnit()).isEqualTo("weeks");
+        assertThat(next.getReward()).isEqualTo(first.getReward()).isNotSameAs(first.getReward());
+
+        ArgumentCaptor<GoalChangedEvent> events = ArgumentCaptor.forClass(GoalChangedEvent.class);
+        verify(applicationEventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(GoalChangedEvent::type).containsOnly(ChangeType.CREATED);
+        verify(jobLock).release("goal-renewal");
+    }
+
+    @Test
+    @DisplayName("Deve pular os períodos já encerrados e manter a duração em meses das metas mensais")
+    void shouldSkipEndedPeriods() {
+        // Given: semanal encerrada há três semanas e mensal de dois meses encerrada em fevereiro
+        Goal weekly = weekly(1L, "user1");
+        weekly.setStartDate(LocalDate.of(2026, 2, 9));
+        weekly.setEndDate(LocalDate.of(2026, 2, 15));
+        Goal monthly = Goal.builder()
+                .goalId(2L)
+                .userId("user1")
+                .category(GoalCategory.NUTRICAO)
+                .type("monthly")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 2, 28))
+                .recurring(true)
+                .build();
+
+        // When
+        Goal nextWeekly = GoalRenewalServiceImpl.nextGoal(weekly, TODAY);
+        Goal nextMonthly = GoalRenewalServiceImpl.nextGoal(monthly, TODAY);
+
+        // Then
+        assertThat(nextWeekly.getStartDate()).isEqualTo(TODAY);
+        assertThat(nextWeekly.getEndDate()).isEqualTo(LocalDate.of(2026, 3, 15));
+        assertThat(nextMonthly.getStartDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(nextMonthly.getEndDate()).isEqualTo(LocalDate.of(2026, 4, 30));
+        assertThat(nextMonthly.getProgress().getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve executar quando outra réplica detém a lease")
+    void shouldSkipWhenLeaseIsHeldElsewhere() {
+        // Given
+        GoalRenewalServiceImpl service = service(100);
+        when(jobLock.tryAcquire(eq("goal-renewal"), any(Duration.class))).thenReturn(false);
+
+        // When
+        int renewed = service.renewDueGoals(TODAY);
+
+        // Then
+        assertThat(renewed).isZero();
+        verifyNoInteractions(goalRepository, goalEventPublisher);
+    }
+
+    private GoalRenewalServiceImpl service(int chunkSize) {
+        return new GoalRenewalServiceImpl(goalRepository, goalEventPublisher, jobLock, applicationEventPublisher,
+                transactionManager, chunkSize, 1_000_000, Duration.ofMinutes(1), Duration.ofSeconds(10),
+                Duration.ofMinutes(5));
+    }
+
+    private static Goal weekly(Long goalId, String userId) {
+        return Goal.builder()
+                .goalId(goalId)
+                .userId(userId)
+                .title("Dormir 8 horas")
+                .description("Meta semanal de sono")
+                .category(GoalCategory.SONO)
+                .type("weekly")
+                .startDate(LocalDate.of(2026, 3, 2))
+                .endDate(LocalDate.of(2026, 3, 8))
+                .frequency(Frequency.builder().periodicity("daily").timesPerPeriod(1).build())
+                .difficulty("medium")
+                .reward(Reward.builder().points(50).badge("sono").build())
+                .status("completed")
+                .notifications(true)
+                .recurring(true)
+                .build();
+    }
+}
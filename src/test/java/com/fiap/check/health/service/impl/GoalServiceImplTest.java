@@ -1,25 +1,65 @@
 package com.fiap.check.health.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.BatchProgressRequest;
+import com.fiap.check.health.api.model.BatchProgressRequestItem;
+import com.fiap.check.health.api.model.BatchProgressResponse;
+import com.fiap.check.health.api.model.BatchProgressResponseItem;
+import com.fiap.check.health.api.model.BulkGoalRequest;
+import com.fiap.check.health.api.model.BulkGoalResponse;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalLookupResponse;
 import com.fiap.check.health.api.model.GoalRequest;
 import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.api.model.GoalStreakResponse;
+import com.fiap.check.health.api.model.GoalSummaryResponse;
 import com.fiap.check.health.api.model.ProgressRequest;
+import com.fiap.check.health.cache.GoalReadCoalescer;
+import com.fiap.check.health.cache.GoalResponseBodyCache;
+import com.fiap.check.health.cache.UserGoalSummaryCache;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.GoalCheckedInEvent;
+import com.fiap.check.health.event.GoalsBulkChangedEvent;
 import com.fiap.check.health.event.publisher.GoalEventPublisher;
 import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.SyncCursorExpiredException;
+import com.fiap.check.health.exception.InvalidRequestException;
 import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.CheckInBitmap;
 import com.fiap.check.health.model.GoalCategory;
 import com.fiap.check.health.model.Progress;
 import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.entity.GoalTombstone;
+import com.fiap.check.health.persistence.projection.GoalRow;
+import com.fiap.check.health.persistence.projection.GoalSummaryRow;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
 import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.GoalTombstoneRepository;
+import com.fiap.check.health.service.PointsService;
+import com.fiap.check.health.service.ProgressHistoryService;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,11 +67,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,12 +84,40 @@ class GoalServiceImplTest {
     @Mock
     private GoalRepository goalRepository;
 
+    @Mock
+    private GoalTombstoneRepository goalTombstoneRepository;
+
+    @Mock
+    private GoalChangeSequence goalChangeSequence;
+
     @Mock
     private GoalMapper goalMapper;
 
+    @Mock
+    private PointsService pointsService;
+
+    @Mock
+    private ProgressHistoryService progressHistoryService;
+
     @Mock
     private GoalEventPublisher goalEventPublisher;
 
+    @Spy
+    private GoalReadCoalescer goalReadCoalescer = new GoalReadCoalescer(new SimpleMeterRegistry(),
+            mock(GoalResponseBodyCache.class));
+
+    @Mock
+    private UserGoalSummaryCache userGoalSummaryCache;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    private ObjectMapper objectMapper = Config.configure(new ObjectMapper());
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private GoalServiceImpl goalService;
 
@@ -195,6 +266,88 @@ class GoalServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("List Goals By User Tests")
+    class ListGoalsByUserTests {
+
+        @Test
+        @DisplayName("Deve listar metas do usuário via consulta paginada por userId")
+        void shouldListGoalsOfUser() throws JsonProcessingException {
+            // Given
+            when(goalRepository.findByUserId(eq("user123"), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(goalEntity)));
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            Page<GoalResponse> result = goalService.listGoalsByUser("user123", null, 0, 20, GoalFields.ALL);
+
+            // Then
+            assertThat(result.getContent()).containsExactly(goalResponse);
+            verify(goalRepository).findByUserId(eq("user123"), argThat((Pageable pageable) ->
+                    pageable.getPageNumber() == 0 && pageable.getPageSize() == 20));
+            verify(goalRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("Deve filtrar por status no banco quando informado")
+        void shouldPushStatusFilterDownToRepository() {
+            // Given
+            when(goalRepository.findByUserIdAndStatus(eq("user123"), eq("active"), any(Pageable.class)))
+                    .thenReturn(Page.empty());
+
+            // When
+            Page<GoalResponse> result = goalService.listGoalsByUser("user123", "active", 1, 10, GoalFields.ALL);
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(goalRepository, never()).findByUserId(anyString(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Deve listar pela projeção sem artigo quando fields não pede o artigo")
+        void shouldListRowsWithoutArticleWhenNotRequested() {
+            // Given
+            GoalRow row = new GoalRow(1L, "user123", "Exercitar-se diariamente", "active", null,
+                    null, null, null, null);
+            when(goalRepository.findRowsByUserId(eq("user123"), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(row)));
+            when(goalMapper.toResponseWithoutArticle(row)).thenReturn(goalResponse);
+
+            // When
+            Page<GoalResponse> result = goalService.listGoalsByUser("user123", null, 0, 20,
+                    GoalFields.parse("goal_id,title,status,progress"));
+
+            // Then
+            assertThat(result.getContent()).containsExactly(goalResponse);
+            verify(goalRepository, never()).findByUserId(anyString(), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("List Goal Summaries Tests")
+    class ListGoalSummariesTests {
+
+        @Test
+        @DisplayName("Deve carregar os resumos pela projeção quando o cache não tiver o usuário")
+        void shouldLoadSummariesThroughProjectionOnCacheMiss() {
+            // Given
+            GoalSummaryRow row = new GoalSummaryRow(1L, "user123", "Exercitar-se diariamente", "active",
+                    0, 30, "days", 10, null);
+            GoalSummaryResponse summary = GoalSummaryResponse.builder().goalId("1").build();
+            when(userGoalSummaryCache.get(eq("user123"), any())).thenAnswer(invocation ->
+                    invocation.<Function<String, List<GoalSummaryResponse>>>getArgument(1).apply("user123"));
+            when(goalRepository.findSummariesByUserId("user123")).thenReturn(List.of(row));
+            when(goalMapper.toSummaryResponse(row)).thenReturn(summary);
+
+            // When
+            List<GoalSummaryResponse> result = goalService.listGoalSummaries("user123");
+
+            // Then
+            assertThat(result).containsExactly(summary);
+            verify(goalRepository, never()).findByUserId(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("Find By Id Tests")
     class FindByIdTests {
@@ -207,7 +360,7 @@ class GoalServiceImplTest {
             when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
 
             // When
-            Optional<GoalResponse> result = goalService.findById(1L);
+            Optional<GoalResponse> result = goalService.findById(1L, GoalFields.ALL);
 
             // Then
             assertThat(result).isPresent();
@@ -224,13 +377,199 @@ class GoalServiceImplTest {
             when(goalRepository.findById(999L)).thenReturn(Optional.empty());
 
             // When
-            Optional<GoalResponse> result = goalService.findById(999L);
+            Optional<GoalResponse> result = goalService.findById(999L, GoalFields.ALL);
 
             // Then
             assertThat(result).isEmpty();
             verify(goalRepository).findById(999L);
             verify(goalMapper, never()).toResponse(any());
         }
+
+        @Test
+        @DisplayName("Deve usar a projeção sem artigo quando fields não pede o artigo")
+        void shouldSkipArticleWhenNotRequested() throws JsonProcessingException {
+            // Given
+            GoalRow row = new GoalRow(1L, "user123", "Exercitar-se diariamente", "active", null,
+                    null, null, null, null);
+            when(goalRepository.findRowById(1L)).thenReturn(Optional.of(row));
+            when(goalMapper.toResponseWithoutArticle(row)).thenReturn(goalResponse);
+
+            // When
+            Optional<GoalResponse> result = goalService.findById(1L, GoalFields.parse("goal_id,title,status"));
+
+            // Then
+            assertThat(result).contains(goalResponse);
+            verify(goalRepository, never()).findById(anyLong());
+            verify(goalMapper, never()).toResponse(any(Goal.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Find By Ids Tests")
+    class FindByIdsTests {
+
+        @Test
+        @DisplayName("Deve buscar as metas com uma consulta, na ordem pedida, reportando as ausentes")
+        void shouldFetchGoalsInRequestedOrderAndReportMissing() {
+            // Given
+            GoalRow first = new GoalRow(1L, "user123", "Meta 1", "active", LocalDateTime.now(), null, null, null, null);
+            GoalRow second = new GoalRow(2L, "user123", "Meta 2", "active", LocalDateTime.now(),
+                    null, null, null, null);
+            GoalRow foreign = new GoalRow(3L, "someoneElse", "Meta 3", "active", LocalDateTime.now(),
+                    null, null, null, null);
+            when(goalRepository.findRowsByGoalIdIn(List.of(2L, 999L, 1L, 3L))).thenReturn(List.of(first, second, foreign));
+            when(goalMapper.toResponseWithoutArticle(any(GoalRow.class))).thenAnswer(invocation ->
+                    GoalResponse.builder().goalId(((GoalRow) invocation.getArgument(0)).goalId().toString()).build());
+
+            // When
+            GoalLookupResponse result = goalService.findByIds("user123", List.of(2L, 999L, 1L, 2L, 3L),
+                    GoalFields.parse("goal_id,title"));
+
+            // Then
+            assertThat(result.getGoals()).extracting(GoalResponse::getGoalId).containsExactly("2", "1");
+            assertThat(result.getMissing()).containsExactly(999L, 3L);
+            verify(goalRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Deve carregar as entidades completas quando o artigo é pedido")
+        void shouldLoadFullGoalsWhenArticleIsRequested() throws JsonProcessingException {
+            // Given
+            when(goalRepository.findAllById(List.of(1L))).thenReturn(List.of(goalEntity));
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            GoalLookupResponse result = goalService.findByIds("user123", List.of(1L), GoalFields.ALL);
+
+            // Then
+            assertThat(result.getGoals()).containsExactly(goalResponse);
+            assertThat(result.getMissing()).isEmpty();
+            verify(goalRepository, never()).findRowsByGoalIdIn(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("List Changes Tests")
+    class ListChangesTests {
+
+        @Test
+        @DisplayName("Deve intercalar metas e exclusões na ordem do cursor e indicar que há mais alterações")
+        void shouldMergeGoalsAndTombstonesInCursorOrder() {
+            // Given
+            GoalRow first = new GoalRow(3L, "user123", "Meta 3", "active", LocalDateTime.now(), null, null, 5L, null);
+            GoalRow second = new GoalRow(1L, "user123", "Meta 1", "active", LocalDateTime.now(), null, null, 7L, null);
+            GoalRow third = new GoalRow(2L, "user123", "Meta 2", "active", LocalDateTime.now(), null, null, 9L, null);
+            GoalTombstone deleted = GoalTombstone.builder().goalId(8L).userId("user123").changeSeq(5L).build();
+            when(goalChangeSequence.safeHorizon()).thenReturn(LocalDateTime.now());
+            when(goalRepository.findRowsChangedAfter(eq("user123"), eq(4L), eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(first, second, third));
+            when(goalTombstoneRepository.findChangedAfter(eq("user123"), eq(4L), eq(10L), any(Pageable.class)))
+                    .thenReturn(List.of(deleted));
+            when(goalMapper.toResponseWithoutArticle(any(GoalRow.class))).thenAnswer(invocation ->
+                    GoalResponse.builder().goalId(((GoalRow) invocation.getArgument(0)).goalId().toString()).build());
+
+            // When
+            GoalChangesResponse result = goalService.listChanges("user123", new ChangeCursor(4L, 10L), 3,
+                    GoalFields.parse("goal_id,title"));
+
+            // Then
+            assertThat(result.getGoals()).extracting(GoalResponse::getGoalId).containsExactly("3", "1");
+            assertThat(result.getDeleted()).containsExactly(8L);
+            assertThat(result.getCursor()).isEqualTo("7.1");
+            assertThat(result.getHasMore()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve fazer a sincronização completa sem consultar exclusões")
+        void shouldReturnAllGoalsOnFullSync() throws JsonProcessingException {
+            // Given
+            goalEntity.setChangeSeq(12L);
+            when(goalChangeSequence.safeHorizon()).thenReturn(LocalDateTime.now());
+            when(goalRepository.findChangedAfter(eq("user123"), eq(0L), eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of(goalEntity));
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            GoalChangesResponse result = goalService.listChanges("user123", null, 100, GoalFields.ALL);
+
+            // Then
+            assertThat(result.getGoals()).containsExactly(goalResponse);
+            assertThat(result.getDeleted()).isEmpty();
+            assertThat(result.getCursor()).isEqualTo("12.1");
+            assertThat(result.getHasMore()).isFalse();
+            verifyNoInteractions(goalTombstoneRepository);
+        }
+
+        @Test
+        @DisplayName("Deve devolver o mesmo cursor quando não há alterações")
+        void shouldKeepCursorWhenNothingChanged() {
+            // Given
+            when(goalChangeSequence.safeHorizon()).thenReturn(LocalDateTime.now());
+            when(goalRepository.findRowsChangedAfter(eq("user123"), eq(7L), eq(1L), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(goalTombstoneRepository.findChangedAfter(eq("user123"), eq(7L), eq(1L), any(Pageable.class)))
+                    .thenReturn(List.of());
+
+            // When
+            GoalChangesResponse result = goalService.listChanges("user123", new ChangeCursor(7L, 1L), 100,
+                    GoalFields.parse("goal_id"));
+
+            // Then
+            assertThat(result.getGoals()).isEmpty();
+            assertThat(result.getCursor()).isEqualTo("7.1");
+            assertThat(result.getHasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve exigir a sincronização completa quando o cursor é anterior às exclusões retidas")
+        void shouldRejectCursorOlderThanRetainedTombstones() {
+            // Given: os tombstones até o change_seq 7 já foram removidos
+            when(goalChangeSequence.safeHorizon()).thenReturn(LocalDateTime.now());
+            when(goalRepository.findRowsChangedAfter(eq("user123"), anyLong(), anyLong(), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(goalTombstoneRepository.findChangedAfter(eq("user123"), anyLong(), anyLong(), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(goalTombstoneRepository.findPurgedThroughSeq()).thenReturn(Optional.of(7L));
+
+            // When & Then
+            assertThatThrownBy(() -> goalService.listChanges("user123", new ChangeCursor(7L, 1L), 100,
+                    GoalFields.parse("goal_id")))
+                    .isInstanceOf(SyncCursorExpiredException.class)
+                    .hasMessageContaining("7.1");
+            assertThat(goalService.listChanges("user123", new ChangeCursor(8L, 1L), 100, GoalFields.parse("goal_id"))
+                    .getCursor()).isEqualTo("8.1");
+        }
+
+        @Test
+        @DisplayName("Não deve avançar o cursor além das alterações feitas depois do horizonte seguro")
+        void shouldNotAdvanceCursorPastRecentChanges() {
+            // Given: a alteração 9 foi feita depois do horizonte; uma transação com change_seq 8 pode estar aberta
+            LocalDateTime horizon = LocalDateTime.now().minusSeconds(30);
+            GoalRow settled = new GoalRow(1L, "user123", "Meta 1", "active", null, null, null, 7L,
+                    horizon.minusSeconds(5));
+            GoalRow recent = new GoalRow(2L, "user123", "Meta 2", "active", null, null, null, 9L,
+                    horizon.plusSeconds(20));
+            when(goalChangeSequence.safeHorizon()).thenReturn(horizon);
+            when(goalRepository.findRowsChangedAfter(eq("user123"), eq(4L), eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of(settled, recent));
+            when(goalTombstoneRepository.findChangedAfter(eq("user123"), eq(4L), eq(0L), any(Pageable.class)))
+                    .thenReturn(List.of());
+            when(goalMapper.toResponseWithoutArticle(any(GoalRow.class))).thenAnswer(invocation ->
+                    GoalResponse.builder().goalId(((GoalRow) invocation.getArgument(0)).goalId().toString()).build());
+
+            // When: a página cheia teria hasMore
+            GoalChangesResponse result = goalService.listChanges("user123", new ChangeCursor(4L, 0L), 1,
+                    GoalFields.parse("goal_id"));
+            GoalChangesResponse next = goalService.listChanges("user123", new ChangeCursor(4L, 0L), 2,
+                    GoalFields.parse("goal_id"));
+
+            // Then: a alteração recente é entregue, mas o cursor para na 7 e ela volta na próxima chamada
+            assertThat(result.getCursor()).isEqualTo("7.1");
+            assertThat(result.getHasMore()).isTrue();
+            assertThat(next.getGoals()).extracting(GoalResponse::getGoalId).containsExactly("1", "2");
+            assertThat(next.getCursor()).isEqualTo("7.1");
+            assertThat(next.getHasMore()).isFalse();
+        }
     }
 
     @Nested
@@ -246,7 +585,7 @@ class GoalServiceImplTest {
                     .description("Nova descrição")
                     .build();
             
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
             when(goalMapper.toEntity(goalRequest)).thenReturn(updatedGoalEntity);
             when(goalRepository.save(any(Goal.class))).thenReturn(goalEntity);
             when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
@@ -258,29 +597,119 @@ class GoalServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.getUserId()).isEqualTo("user123");
             
-            verify(goalRepository).findById(1L);
+            verify(goalRepository).findByIdForUpdate(1L);
             verify(goalMapper).toEntity(goalRequest);
             verify(goalRepository).save(goalEntity);
             verify(goalMapper).toResponse(goalEntity);
         }
 
+        @Test
+        @DisplayName("Não deve lançar pontos quando a meta é marcada como concluída pelo PUT")
+        void shouldNotAwardPointsWhenStatusIsSetToCompleted() throws JsonProcessingException {
+            // Given
+            Goal changes = Goal.builder()
+                    .title(goalEntity.getTitle())
+                    .status("completed")
+                    .build();
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalMapper.toEntity(goalRequest)).thenReturn(changes);
+            when(goalRepository.save(any(Goal.class))).thenReturn(goalEntity);
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            goalService.updateGoal(1L, goalRequest);
+
+            // Then
+            assertThat(goalEntity.getStatus()).isEqualTo("completed");
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.of(ChangeType.COMPLETED, goalEntity));
+            verifyNoInteractions(pointsService);
+        }
+
         @Test
         @DisplayName("Deve lançar exceção ao tentar atualizar meta inexistente")
         void shouldThrowExceptionWhenUpdatingNonExistentGoal() {
             // Given
-            when(goalRepository.findById(999L)).thenReturn(Optional.empty());
+            when(goalRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> goalService.updateGoal(999L, goalRequest))
                     .isInstanceOf(GoalNotFoundException.class)
                     .hasMessageContaining("Goal não encontrado com ID: 999");
             
-            verify(goalRepository).findById(999L);
+            verify(goalRepository).findByIdForUpdate(999L);
             verify(goalMapper, never()).toEntity(any());
             verify(goalRepository, never()).save(any());
         }
     }
 
+    @Nested
+    @DisplayName("Patch Goal Tests")
+    class PatchGoalTests {
+
+        private final GoalMapper realMapper = new GoalMapper(userId -> 1);
+
+        @BeforeEach
+        void setUpGoal() {
+            goalEntity.setDescription("Fazer 30 minutos de exercícios por dia");
+            goalEntity.setDifficulty("easy");
+            lenient().when(goalMapper.toRequest(any(Goal.class)))
+                    .thenAnswer(invocation -> realMapper.toRequest(invocation.getArgument(0)));
+            lenient().when(goalMapper.toEntity(any(GoalRequest.class)))
+                    .thenAnswer(invocation -> realMapper.toEntity(invocation.getArgument(0)));
+        }
+
+        @Test
+        @DisplayName("Deve alterar apenas as propriedades enviadas no merge patch")
+        void shouldChangeOnlyPatchedProperties() throws Exception {
+            // Given
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalRepository.save(goalEntity)).thenReturn(goalEntity);
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            GoalResponse result = goalService.patchGoal(1L,
+                    objectMapper.readTree("{\"notifications\":false,\"difficulty\":null}"));
+
+            // Then
+            assertThat(result).isSameAs(goalResponse);
+            assertThat(goalEntity.getNotifications()).isFalse();
+            assertThat(goalEntity.getDifficulty()).isNull();
+            assertThat(goalEntity.getTitle()).isEqualTo("Exercitar-se diariamente");
+            assertThat(goalEntity.getType()).isEqualTo("daily");
+            assertThat(goalEntity.getStartDate()).isEqualTo(LocalDate.now());
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.of(ChangeType.UPDATED, goalEntity));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar patch que deixa a meta inválida sem alterá-la")
+        void shouldRejectPatchThatInvalidatesGoal() throws Exception {
+            // Given
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+
+            // When & Then
+            assertThatThrownBy(() -> goalService.patchGoal(1L, objectMapper.readTree("{\"title\":null}")))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("title");
+            assertThatThrownBy(() -> goalService.patchGoal(1L, objectMapper.readTree("{\"unknown\":1}")))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThat(goalEntity.getTitle()).isEqualTo("Exercitar-se diariamente");
+            verify(goalRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar patch que não é um objeto e meta inexistente")
+        void shouldRejectNonObjectPatchAndMissingGoal() throws Exception {
+            // Given
+            when(goalRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> goalService.patchGoal(1L, objectMapper.readTree("[1]")))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalService.patchGoal(999L, objectMapper.readTree("{}")))
+                    .isInstanceOf(GoalNotFoundException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Delete Goal Tests")
     class DeleteGoalTests {
@@ -289,29 +718,118 @@ class GoalServiceImplTest {
         @DisplayName("Deve deletar meta com sucesso")
         void shouldDeleteGoalSuccessfully() {
             // Given
-            when(goalRepository.existsById(1L)).thenReturn(true);
+            when(goalChangeSequence.forCurrentTransaction()).thenReturn(42L);
+            when(goalTombstoneRepository.insertForGoal(eq(1L), eq(42L), any(LocalDateTime.class))).thenReturn(1);
 
             // When
             goalService.deleteGoal(1L);
 
             // Then
-            verify(goalRepository).existsById(1L);
-            verify(goalRepository).deleteById(1L);
+            verify(goalRepository).deleteByGoalId(1L);
+            verify(progressHistoryService).deleteForGoal(1L);
+            verify(goalRepository, never()).existsById(anyLong());
+            verify(goalRepository, never()).findById(anyLong());
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.deleted(1L, null));
         }
 
         @Test
         @DisplayName("Deve lançar exceção ao tentar deletar meta inexistente")
         void shouldThrowExceptionWhenDeletingNonExistentGoal() {
             // Given
-            when(goalRepository.existsById(999L)).thenReturn(false);
+            when(goalChangeSequence.forCurrentTransaction()).thenReturn(42L);
+            when(goalTombstoneRepository.insertForGoal(eq(999L), eq(42L), any(LocalDateTime.class))).thenReturn(0);
 
             // When & Then
             assertThatThrownBy(() -> goalService.deleteGoal(999L))
                     .isInstanceOf(GoalNotFoundException.class)
                     .hasMessageContaining("Goal não encontrado com ID: 999");
             
-            verify(goalRepository).existsById(999L);
-            verify(goalRepository, never()).deleteById(anyLong());
+            verify(goalRepository, never()).deleteByGoalId(anyLong());
+            verifyNoInteractions(applicationEventPublisher, progressHistoryService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Change Tests")
+    class BulkChangeTests {
+
+        @Test
+        @DisplayName("Deve excluir todas as metas do usuário com uma instrução")
+        void shouldDeleteAllGoalsOfUser() {
+            // Given
+            when(goalChangeSequence.forCurrentTransaction()).thenReturn(42L);
+            when(goalRepository.deleteAllByUserId("user123")).thenReturn(340);
+
+            // When
+            BulkGoalResponse result = goalService.bulkChange("user123", BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.DELETE)
+                    .userId("user123")
+                    .build());
+
+            // Then
+            assertThat(result.getAffected()).isEqualTo(340);
+            verify(goalTombstoneRepository).insertForUser(eq("user123"), eq(42L), any(LocalDateTime.class));
+            // O histórico é removido antes das metas, de onde os ids são lidos
+            InOrder inOrder = inOrder(progressHistoryService, goalRepository);
+            inOrder.verify(progressHistoryService).deleteForUser("user123", null);
+            inOrder.verify(goalRepository).deleteAllByUserId("user123");
+            verify(applicationEventPublisher).publishEvent(new GoalsBulkChangedEvent("user123", null));
+            verify(goalRepository, never()).findByUserId(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve excluir as metas informadas do usuário junto com o histórico de progresso")
+        void shouldDeleteSelectedGoalsWithProgressHistory() {
+            // Given
+            when(goalChangeSequence.forCurrentTransaction()).thenReturn(42L);
+            when(goalRepository.deleteAllByUserIdAndGoalIdIn("user123", List.of(1L, 2L))).thenReturn(2);
+
+            // When
+            BulkGoalResponse result = goalService.bulkChange("user123", BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.DELETE)
+                    .goalIds(List.of(1L, 2L))
+                    .build());
+
+            // Then
+            assertThat(result.getAffected()).isEqualTo(2);
+            InOrder inOrder = inOrder(progressHistoryService, goalRepository);
+            inOrder.verify(progressHistoryService).deleteForUser("user123", List.of(1L, 2L));
+            inOrder.verify(goalRepository).deleteAllByUserIdAndGoalIdIn("user123", List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("Deve arquivar apenas os ids informados do usuário")
+        void shouldArchiveSelectedGoals() {
+            // Given
+            when(goalChangeSequence.forCurrentTransaction()).thenReturn(42L);
+            when(goalRepository.updateStatusByUserIdAndGoalIdIn(eq("user123"), eq(List.of(1L, 2L)), eq("archived"),
+                    eq(42L), any(LocalDateTime.class)))
+                    .thenReturn(2);
+
+            // When
+            BulkGoalResponse result = goalService.bulkChange("user123", BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.ARCHIVE)
+                    .goalIds(Arrays.asList(1L, 2L, 1L, null))
+                    .build());
+
+            // Then
+            assertThat(result.getAction()).isEqualTo(BulkGoalRequest.ActionEnum.ARCHIVE);
+            assertThat(result.getAffected()).isEqualTo(2);
+            verify(applicationEventPublisher).publishEvent(new GoalsBulkChangedEvent("user123", List.of(1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("Não deve executar nem publicar nada para uma lista de ids vazia")
+        void shouldSkipEmptyIdList() {
+            // When
+            BulkGoalResponse result = goalService.bulkChange("user123", BulkGoalRequest.builder()
+                    .action(BulkGoalRequest.ActionEnum.DELETE)
+                    .goalIds(List.of())
+                    .build());
+
+            // Then
+            assertThat(result.getAffected()).isZero();
+            verifyNoInteractions(goalRepository, goalChangeSequence, applicationEventPublisher);
         }
     }
 
@@ -338,7 +856,7 @@ class GoalServiceImplTest {
                     .progress(Progress.builder().completed(5).total(30).build())
                     .build();
             
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalWithProgress));
             when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
             when(goalMapper.toResponse(goalWithProgress)).thenReturn(goalResponse);
 
@@ -347,11 +865,15 @@ class GoalServiceImplTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(goalRepository).findById(1L);
+            verify(goalRepository).findByIdForUpdate(1L);
             verify(goalRepository).save(argThat(goal -> 
                 goal.getProgress().getCompleted() == 6
             ));
             verify(goalMapper).toResponse(goalWithProgress);
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.of(ChangeType.PROGRESS, goalWithProgress));
+            verify(progressHistoryService).record(argThat(entries -> entries.size() == 1
+                    && entries.get(0).getIncrement() == 1 && entries.get(0).getCompleted() == 6));
+            verifyNoInteractions(pointsService);
         }
 
         @Test
@@ -373,7 +895,7 @@ class GoalServiceImplTest {
                     .status("active")
                     .build();
             
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalAlmostComplete));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalAlmostComplete));
             when(goalRepository.save(any(Goal.class))).thenReturn(goalAlmostComplete);
             when(goalMapper.toResponse(goalAlmostComplete)).thenReturn(goalResponse);
 
@@ -385,24 +907,239 @@ class GoalServiceImplTest {
                 goal.getProgress().getCompleted() == 30 && 
                 "completed".equals(goal.getStatus())
             ));
+            verify(pointsService).award(goalAlmostComplete);
+            verify(applicationEventPublisher)
+                    .publishEvent(GoalChangedEvent.of(ChangeType.COMPLETED, goalAlmostComplete));
         }
 
         @Test
         @DisplayName("Deve lançar exceção ao tentar atualizar progresso de meta inexistente")
         void shouldThrowExceptionWhenUpdatingProgressOfNonExistentGoal() {
             // Given
-            when(goalRepository.findById(999L)).thenReturn(Optional.empty());
+            when(goalRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> goalService.updateProgress(999L, progressRequest))
                     .isInstanceOf(GoalNotFoundException.class)
                     .hasMessageContaining("Goal não encontrado com ID: 999");
             
-            verify(goalRepository).findById(999L);
+            verify(goalRepository).findByIdForUpdate(999L);
             verify(goalRepository, never()).save(any());
         }
     }
 
+    @Nested
+    @DisplayName("Update Progress Batch Tests")
+    class UpdateProgressBatchTests {
+
+        @Test
+        @DisplayName("Deve aplicar todos os incrementos com uma única consulta e um único saveAll")
+        void shouldApplyAllIncrementsWithSingleLoadAndSave() {
+            // Given
+            Goal other = Goal.builder()
+                    .goalId(2L)
+                    .userId("user123")
+                    .status("active")
+                    .progress(Progress.builder().completed(9).total(10).build())
+                    .build();
+            when(goalRepository.findAllByIdForUpdate(any())).thenReturn(List.of(goalEntity, other));
+            when(goalMapper.toBatchProgressResult(any(Goal.class))).thenAnswer(invocation -> {
+                Goal goal = invocation.getArgument(0);
+                return BatchProgressResponseItem.builder()
+                        .goalId(goal.getGoalId())
+                        .result(BatchProgressResponseItem.Result.UPDATED)
+                        .status(goal.getStatus())
+                        .build();
+            });
+
+            // When
+            BatchProgressResponse result = goalService.updateProgressBatch("user123", batch(
+                    BatchProgressRequestItem.builder().goalId(1L).increment(3).build(),
+                    BatchProgressRequestItem.builder().goalId(2L).increment(1).build()));
+
+            // Then
+            assertThat(result.getUpdated()).isEqualTo(2);
+            assertThat(result.getFailed()).isZero();
+            assertThat(result.getResults()).extracting(BatchProgressResponseItem::getStatus)
+                    .containsExactly("active", "completed");
+            assertThat(goalEntity.getProgress().getCompleted()).isEqualTo(3);
+            assertThat(other.getProgress().getCompleted()).isEqualTo(10);
+            verify(goalRepository).findAllByIdForUpdate(any());
+            verify(goalRepository).saveAll(argThat(goals -> goals.spliterator().getExactSizeIfKnown() == 2));
+            verify(goalRepository, never()).save(any());
+            // Um registro de histórico por item, gravados juntos
+            verify(progressHistoryService).record(argThat(entries -> entries.size() == 2
+                    && entries.get(0).getGoalId() == 1L && entries.get(1).getCompleted() == 10));
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.of(ChangeType.PROGRESS, goalEntity));
+            verify(applicationEventPublisher).publishEvent(GoalChangedEvent.of(ChangeType.COMPLETED, other));
+            verify(pointsService).award(other);
+        }
+
+        @Test
+        @DisplayName("Deve reportar itens inválidos, inexistentes e de outro usuário sem falhar o lote")
+        void shouldReportFailedItemsWithoutFailingTheBatch() {
+            // Given
+            Goal foreign = Goal.builder()
+                    .goalId(3L)
+                    .userId("someoneElse")
+                    .status("active")
+                    .progress(Progress.builder().completed(0).total(10).build())
+                    .build();
+            when(goalRepository.findAllByIdForUpdate(any())).thenReturn(List.of(goalEntity, foreign));
+            when(goalMapper.toBatchProgressResult(goalEntity)).thenReturn(BatchProgressResponseItem.builder()
+                    .goalId(1L)
+                    .result(BatchProgressResponseItem.Result.UPDATED)
+                    .build());
+
+            // When
+            BatchProgressResponse result = goalService.updateProgressBatch("user123", batch(
+                    BatchProgressRequestItem.builder().goalId(999L).increment(1).build(),
+                    BatchProgressRequestItem.builder().goalId(1L).increment(1).build(),
+                    BatchProgressRequestItem.builder().goalId(3L).increment(1).build(),
+                    BatchProgressRequestItem.builder().goalId(1L).build()));
+
+            // Then
+            assertThat(result.getUpdated()).isEqualTo(1);
+            assertThat(result.getFailed()).isEqualTo(3);
+            assertThat(result.getResults()).extracting(BatchProgressResponseItem::getResult).containsExactly(
+                    BatchProgressResponseItem.Result.NOT_FOUND,
+                    BatchProgressResponseItem.Result.UPDATED,
+                    BatchProgressResponseItem.Result.NOT_FOUND,
+                    BatchProgressResponseItem.Result.INVALID);
+            assertThat(foreign.getProgress().getCompleted()).isZero();
+            verify(applicationEventPublisher, times(1)).publishEvent(any(GoalChangedEvent.class));
+        }
+
+        private BatchProgressRequest batch(BatchProgressRequestItem... items) {
+            return BatchProgressRequest.builder().items(Arrays.asList(items)).build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Check-in Tests")
+    class CheckInTests {
+
+        private final GoalStreakResponse streak = GoalStreakResponse.builder().goalId(1L).build();
+
+        @Test
+        @DisplayName("Deve registrar o check-in do dia no bitmap da meta")
+        void shouldRecordCheckIn() {
+            // Given
+            goalEntity.setStartDate(LocalDate.now().minusDays(3));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalMapper.toStreakResponse(eq(goalEntity), any(CheckInBitmap.class), eq(LocalDate.now())))
+                    .thenReturn(streak);
+
+            // When
+            GoalStreakResponse result = goalService.checkIn("user123", 1L, LocalDate.now().minusDays(1));
+
+            // Then
+            assertThat(result).isSameAs(streak);
+            assertThat(CheckInBitmap.decode(goalEntity.getCheckIns()).isCheckedIn(2)).isTrue();
+            verify(goalRepository).save(goalEntity);
+            verify(applicationEventPublisher)
+                    .publishEvent(new GoalCheckedInEvent(goalEntity, LocalDate.now().minusDays(1)));
+        }
+
+        @Test
+        @DisplayName("Não deve regravar a meta ao repetir o check-in do mesmo dia")
+        void shouldNotSaveRepeatedCheckIn() {
+            // Given
+            CheckInBitmap checkIns = CheckInBitmap.empty();
+            checkIns.checkIn(0);
+            goalEntity.setCheckIns(checkIns.encode());
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalMapper.toStreakResponse(eq(goalEntity), any(CheckInBitmap.class), any(LocalDate.class)))
+                    .thenReturn(streak);
+
+            // When
+            goalService.checkIn("user123", 1L, LocalDate.now());
+
+            // Then
+            verify(goalRepository, never()).save(any(Goal.class));
+            verifyNoInteractions(applicationEventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar check-in fora do período, no futuro ou em meta não diária")
+        void shouldRejectInvalidCheckIns() {
+            // Given
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+
+            // When & Then
+            assertThatThrownBy(() -> goalService.checkIn("user123", 1L, LocalDate.now().minusDays(1)))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> goalService.checkIn("user123", 1L, LocalDate.now().plusDays(1)))
+                    .isInstanceOf(InvalidRequestException.class);
+            goalEntity.setType("weekly");
+            assertThatThrownBy(() -> goalService.checkIn("user123", 1L, LocalDate.now()))
+                    .isInstanceOf(InvalidRequestException.class);
+            verify(goalRepository, never()).save(any(Goal.class));
+        }
+
+        @Test
+        @DisplayName("Deve responder 404 ao check-in ou à consulta de streaks de meta de outro usuário")
+        void shouldNotCheckInOnGoalOfAnotherUser() {
+            // Given
+            goalEntity.setStartDate(LocalDate.now().minusDays(3));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalEntity));
+
+            // When & Then
+            assertThatThrownBy(() -> goalService.checkIn("user456", 1L, LocalDate.now()))
+                    .isInstanceOf(GoalNotFoundException.class);
+            assertThatThrownBy(() -> goalService.getStreak("user456", 1L))
+                    .isInstanceOf(GoalNotFoundException.class);
+            assertThat(goalEntity.getCheckIns()).isNull();
+            verify(goalRepository, never()).save(any(Goal.class));
+            verifyNoInteractions(applicationEventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve contar o progresso de uma meta diária como check-in do dia")
+        void shouldCheckInWhenDailyProgressIsRecorded() throws JsonProcessingException {
+            // Given
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalRepository.save(goalEntity)).thenReturn(goalEntity);
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            goalService.updateProgress(1L, progressRequest);
+
+            // Then
+            CheckInBitmap checkIns = CheckInBitmap.decode(goalEntity.getCheckIns());
+            assertThat(checkIns.isCheckedIn(0)).isTrue();
+            assertThat(checkIns.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve deslocar os check-ins quando o início da meta muda")
+        void shouldRebaseCheckInsWhenStartDateChanges() throws JsonProcessingException {
+            // Given
+            CheckInBitmap checkIns = CheckInBitmap.empty();
+            checkIns.checkIn(5);
+            goalEntity.setCheckIns(checkIns.encode());
+            Goal changes = Goal.builder()
+                    .title(goalEntity.getTitle())
+                    .category(goalEntity.getCategory())
+                    .type(goalEntity.getType())
+                    .startDate(goalEntity.getStartDate().plusDays(2))
+                    .endDate(goalEntity.getEndDate())
+                    .status(goalEntity.getStatus())
+                    .build();
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalEntity));
+            when(goalMapper.toEntity(goalRequest)).thenReturn(changes);
+            when(goalRepository.save(goalEntity)).thenReturn(goalEntity);
+            when(goalMapper.toResponse(goalEntity)).thenReturn(goalResponse);
+
+            // When
+            goalService.updateGoal(1L, goalRequest);
+
+            // Then
+            assertThat(CheckInBitmap.decode(goalEntity.getCheckIns()).isCheckedIn(3)).isTrue();
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases and Error Scenarios")
     class EdgeCasesAndErrorScenarios {
@@ -601,7 +1338,7 @@ class GoalServiceImplTest {
                     .increment(1)
                     .build();
 
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalWithProgress));
             when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
             when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
 
@@ -630,7 +1367,7 @@ class GoalServiceImplTest {
                     .increment(5)
                     .build();
 
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithProgress));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalWithProgress));
             when(goalRepository.save(any(Goal.class))).thenReturn(goalWithProgress);
             when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
 
@@ -655,7 +1392,7 @@ class GoalServiceImplTest {
                     .progress(null)
                     .build();
 
-            when(goalRepository.findById(1L)).thenReturn(Optional.of(goalWithoutProgress));
+            when(goalRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(goalWithoutProgress));
             when(goalRepository.save(any(Goal.class))).thenReturn(goalWithoutProgress);
             when(goalMapper.toResponse(any(Goal.class))).thenReturn(goalResponse);
 
@@ -0,0 +1,116 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.persistence.entity.GoalTombstone;
+import com.fiap.check.health.persistence.repository.GoalTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoalTombstoneService Implementation Tests")
+class GoalTombstoneServiceImplTest {
+
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private GoalTombstoneRepository goalTombstoneRepository;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GoalTombstoneServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GoalTombstoneServiceImpl(goalTombstoneRepository, jobLock, transactionTemplate, 2,
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve remover os tombstones antigos em blocos, elevando o horizonte antes de cada remoção")
+    @SuppressWarnings("unchecked")
+    void shouldPurgeOldTombstonesInChunks() {
+        // Given: blocos de 2 tombstones, fora da ordem de change_seq
+        when(jobLock.tryAcquire(eq("tombstone-purge"), any(Duration.class))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(goalTombstoneRepository.findDeletedBefore(BEFORE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(tombstone(1L, 9L), tombstone(2L, 4L)), List.of(tombstone(3L, 12L)));
+        when(goalTombstoneRepository.deleteByGoalIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(goalTombstoneRepository.deleteByGoalIdIn(List.of(3L))).thenReturn(1);
+
+        // When
+        int deleted = service.purge(BEFORE);
+
+        // Then
+        assertThat(deleted).isEqualTo(3);
+        InOrder inOrder = inOrder(goalTombstoneRepository);
+        inOrder.verify(goalTombstoneRepository).raisePurgedThrough(eq(9L), any(LocalDateTime.class));
+        inOrder.verify(goalTombstoneRepository).deleteByGoalIdIn(List.of(1L, 2L));
+        inOrder.verify(goalTombstoneRepository).raisePurgedThrough(eq(12L), any(LocalDateTime.class));
+        inOrder.verify(goalTombstoneRepository).deleteByGoalIdIn(List.of(3L));
+        verify(jobLock).release("tombstone-purge");
+    }
+
+    @Test
+    @DisplayName("Não deve elevar o horizonte quando não há tombstones antigos")
+    @SuppressWarnings("unchecked")
+    void shouldNotRaiseHorizonWithoutOldTombstones() {
+        // Given
+        when(jobLock.tryAcquire(eq("tombstone-purge"), any(Duration.class))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(goalTombstoneRepository.findDeletedBefore(BEFORE, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // When
+        int deleted = service.purge(BEFORE);
+
+        // Then
+        assertThat(deleted).isZero();
+        verify(goalTombstoneRepository, never()).raisePurgedThrough(anyLong(), any());
+        verify(jobLock).release("tombstone-purge");
+    }
+
+    @Test
+    @DisplayName("Não deve remover tombstones quando outra instância detém a lease")
+    void shouldSkipPurgeWithoutLease() {
+        when(jobLock.tryAcquire(eq("tombstone-purge"), any(Duration.class))).thenReturn(false);
+
+        assertThat(service.purge(BEFORE)).isZero();
+        verifyNoInteractions(goalTombstoneRepository, transactionTemplate);
+    }
+
+    private static GoalTombstone tombstone(long goalId, long changeSeq) {
+        return GoalTombstone.builder()
+                .goalId(goalId)
+                .userId("user123")
+                .changeSeq(changeSeq)
+                .deletedAt(BEFORE.minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.LeaderboardEntry;
+import com.fiap.check.health.api.model.LeaderboardResponse;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.persistence.projection.UserCategoryPointsRow;
+import com.fiap.check.health.persistence.repository.PointsLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.fiap.check.health.api.model.LeaderboardResponse.PeriodEnum.ALL_TIME;
+import static com.fiap.check.health.api.model.LeaderboardResponse.PeriodEnum.WEEK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LeaderboardService Implementation Tests")
+class LeaderboardServiceImplTest {
+
+    @Mock
+    private PointsLedgerRepository pointsLedgerRepository;
+
+    private LeaderboardServiceImpl leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardServiceImpl(pointsLedgerRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar os rankings geral, por categoria e semanal a partir do ledger")
+    void shouldRebuildFromLedger() {
+        // Given
+        when(pointsLedgerRepository.streamPointsByUserAndCategory(any(), any())).thenReturn(Stream.of(
+                new UserCategoryPointsRow("alice", GoalCategory.SONO, 100L, 0L),
+                new UserCategoryPointsRow("alice", GoalCategory.NUTRICAO, 20L, 20L),
+                new UserCategoryPointsRow("bob", GoalCategory.SONO, 110L, 30L)));
+
+        // When
+        leaderboardService.rebuild();
+
+        // Then
+        LeaderboardResponse overall = leaderboardService.getLeaderboard("alice", ALL_TIME, null, 10);
+        assertThat(overall.getEntries()).containsExactly(entry(1, "alice", 120), entry(2, "bob", 110));
+        assertThat(overall.getMe()).isEqualTo(entry(1, "alice", 120));
+        assertThat(overall.getTotalUsers()).isEqualTo(2);
+        assertThat(entries(ALL_TIME, GoalCategory.SONO)).containsExactly(entry(1, "bob", 110), entry(2, "alice", 100));
+        assertThat(entries(WEEK, null)).containsExactly(entry(1, "bob", 30), entry(2, "alice", 20));
+        assertThat(entries(WEEK, GoalCategory.SONO)).containsExactly(entry(1, "bob", 30));
+    }
+
+    @Test
+    @DisplayName("Deve reposicionar o usuário a cada lançamento de pontos")
+    void shouldUpdateRankingsOnPointsAwarded() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        leaderboardService.onPointsAwarded(awarded("bob", GoalCategory.SONO, 30, now));
+        leaderboardService.onPointsAwarded(awarded("alice", GoalCategory.SONO, 20, now));
+
+        // When
+        leaderboardService.onPointsAwarded(awarded("alice", GoalCategory.NUTRICAO, 15, now));
+
+        // Then
+        assertThat(entries(ALL_TIME, null)).containsExactly(entry(1, "alice", 35), entry(2, "bob", 30));
+        assertThat(entries(ALL_TIME, GoalCategory.SONO)).containsExactly(entry(1, "bob", 30), entry(2, "alice", 20));
+        assertThat(entries(WEEK, GoalCategory.NUTRICAO)).containsExactly(entry(1, "alice", 15));
+        assertThat(leaderboardService.getLeaderboard("carol", ALL_TIME, null, 1).getMe()).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve somar ao ranking semanal pontos lançados antes do início da semana")
+    void shouldIgnorePreviousWeekInWeeklyRanking() {
+        // Given
+        LocalDateTime lastWeek = LeaderboardServiceImpl.weekStart(LocalDateTime.now()).minusHours(1);
+
+        // When
+        leaderboardService.onPointsAwarded(awarded("alice", GoalCategory.SONO, 20, lastWeek));
+
+        // Then
+        assertThat(entries(ALL_TIME, null)).containsExactly(entry(1, "alice", 20));
+        assertThat(entries(WEEK, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar após a montagem apenas os lançamentos que a consulta não contou")
+    void shouldApplyPointsAwardedDuringRebuild() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UserCategoryPointsRow counted = new UserCategoryPointsRow("alice", GoalCategory.SONO, 50L, 50L);
+        when(pointsLedgerRepository.streamPointsByUserAndCategory(any(), any())).thenReturn(Stream.of(counted)
+                .peek(row -> {
+                    // Já incluído na consulta (anterior ao corte) e posterior ao corte
+                    leaderboardService.onPointsAwarded(awarded("alice", GoalCategory.SONO, 50, now.minusMinutes(1)));
+                    leaderboardService.onPointsAwarded(awarded("bob", GoalCategory.SONO, 10, now.plusMinutes(1)));
+                }));
+
+        // When
+        leaderboardService.rebuild();
+
+        // Then
+        assertThat(entries(ALL_TIME, null)).containsExactly(entry(1, "alice", 50), entry(2, "bob", 10));
+    }
+
+    private List<LeaderboardEntry> entries(LeaderboardResponse.PeriodEnum period, GoalCategory category) {
+        return leaderboardService.getLeaderboard("alice", period, category, 10).getEntries();
+    }
+
+    private static LeaderboardEntry entry(int rank, String userId, long points) {
+        return LeaderboardEntry.builder().rank(rank).userId(userId).points(points).build();
+    }
+
+    private static PointsAwardedEvent awarded(String userId, GoalCategory category, int points,
+                                              LocalDateTime awardedAt) {
+        return new PointsAwardedEvent(userId, 1L, category, points, awardedAt);
+    }
+}
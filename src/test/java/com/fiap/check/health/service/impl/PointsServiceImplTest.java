@@ -0,0 +1,172 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.cache.UserPointsCache;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.GoalCategory;
+import com.fiap.check.health.model.Reward;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.PointsLedgerRepository;
+import com.fiap.check.health.persistence.repository.UserPointsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PointsService Implementation Tests")
+class PointsServiceImplTest {
+
+    @Mock
+    private PointsLedgerRepository pointsLedgerRepository;
+
+    @Mock
+    private UserPointsRepository userPointsRepository;
+
+    @Mock
+    private UserPointsCache userPointsCache;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JobLock jobLock;
+
+    private PointsServiceImpl pointsService;
+
+    @BeforeEach
+    void setUp() {
+        pointsService = new PointsServiceImpl(pointsLedgerRepository, userPointsRepository, userPointsCache,
+                applicationEventPublisher, transactionTemplate, jobLock, 2, 2, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Deve lançar a recompensa no ledger e somar ao total do usuário")
+    void shouldAwardRewardPoints() {
+        // Given
+        Goal goal = goal(50);
+        when(pointsLedgerRepository.insertIfAbsent(eq(1L), eq("user123"), eq(GoalCategory.SONO), eq(50),
+                any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // When
+        pointsService.award(goal);
+
+        // Then
+        verify(userPointsRepository).addPoints(eq("user123"), eq(50L), any(LocalDateTime.class));
+        ArgumentCaptor<PointsAwardedEvent> event = ArgumentCaptor.forClass(PointsAwardedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().category()).isEqualTo(GoalCategory.SONO);
+        assertThat(event.getValue().points()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Não deve pontuar novamente uma meta que já está no ledger")
+    void shouldNotAwardTheSameGoalTwice() {
+        // Given
+        when(pointsLedgerRepository.insertIfAbsent(eq(1L), eq("user123"), eq(GoalCategory.SONO), eq(50),
+                any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // When
+        pointsService.award(goal(50));
+
+        // Then
+        verify(userPointsRepository, never()).addPoints(anyString(), anyLong(), any());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar nada para metas sem pontos")
+    void shouldIgnoreGoalsWithoutPoints() {
+        // When
+        pointsService.award(goal(null));
+
+        // Then
+        verify(pointsLedgerRepository, never()).insertIfAbsent(any(), anyString(), any(), anyInt(), any());
+        verifyNoInteractions(userPointsRepository, applicationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir os totais em blocos de usuários e invalidar o cache de cada bloco")
+    @SuppressWarnings("unchecked")
+    void shouldReconcileInChunks() {
+        // Given
+        when(jobLock.tryAcquire("points-reconciliation", Duration.ofMinutes(30))).thenReturn(true);
+        when(pointsLedgerRepository.findUserIdsAfter(eq(""), any(Pageable.class))).thenReturn(List.of("a", "b"));
+        when(pointsLedgerRepository.findUserIdsAfter(eq("b"), any(Pageable.class))).thenReturn(List.of("c"));
+        when(pointsLedgerRepository.findUserIdsAfter(eq("c"), any(Pageable.class))).thenReturn(List.of());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        // Usuários sem linha em user_points são inseridos em vez de atualizados
+        when(userPointsRepository.rebuildFromLedger(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).contains("c") ? 0 : 2);
+        when(userPointsRepository.insertMissingFromLedger(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).contains("c") ? 1 : 0);
+
+        // When
+        int rewritten = pointsService.reconcile();
+
+        // Then
+        assertThat(rewritten).isEqualTo(3);
+        verify(userPointsCache).invalidate(List.of("a", "b"));
+        verify(userPointsCache).invalidate(List.of("c"));
+        // As linhas de cada bloco são travadas antes do recálculo
+        InOrder inOrder = inOrder(userPointsRepository);
+        inOrder.verify(userPointsRepository).lockByUserIds(List.of("a", "b"));
+        inOrder.verify(userPointsRepository).rebuildFromLedger(eq(List.of("a", "b")), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Não deve reconciliar quando outra réplica detém a lease")
+    void shouldSkipReconciliationWhenLeaseIsHeldElsewhere() {
+        // Given
+        when(jobLock.tryAcquire("points-reconciliation", Duration.ofMinutes(30))).thenReturn(false);
+
+        // When
+        int rewritten = pointsService.reconcile();
+
+        // Then
+        assertThat(rewritten).isZero();
+        verifyNoInteractions(pointsLedgerRepository, userPointsRepository, userPointsCache);
+        verify(jobLock, never()).release(anyString());
+    }
+
+    private static Goal goal(Integer points) {
+        return Goal.builder()
+                .goalId(1L)
+                .userId("user123")
+                .category(GoalCategory.SONO)
+                .status("completed")
+                .reward(Reward.builder().points(points).build())
+                .build();
+    }
+}
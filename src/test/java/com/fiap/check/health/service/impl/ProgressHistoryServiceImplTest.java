@@ -0,0 +1,193 @@
+package com.fiap.check.health.service.impl;
+
+import com.fiap.check.health.api.model.ProgressHistoryBucket;
+import com.fiap.check.health.api.model.ProgressHistoryResponse;
+import com.fiap.check.health.exception.GoalNotFoundException;
+import com.fiap.check.health.exception.InvalidRequestException;
+import com.fiap.check.health.job.JobLock;
+import com.fiap.check.health.model.ProgressPeriod;
+import com.fiap.check.health.persistence.entity.ProgressEntry;
+import com.fiap.check.health.persistence.entity.ProgressRollup;
+import com.fiap.check.health.persistence.repository.GoalRepository;
+import com.fiap.check.health.persistence.repository.ProgressEntryRepository;
+import com.fiap.check.health.persistence.repository.ProgressRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProgressHistoryService Implementation Tests")
+class ProgressHistoryServiceImplTest {
+
+    // Quarta-feira; a semana começa em 2026-02-02
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2026, 2, 4, 10, 0);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 2, 2);
+
+    @Mock
+    private ProgressEntryRepository progressEntryRepository;
+
+    @Mock
+    private ProgressRollupRepository progressRollupRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private JobLock jobLock;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProgressHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProgressHistoryServiceImpl(progressEntryRepository, progressRollupRepository, goalRepository,
+                jobLock, transactionTemplate, 2, 366, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve gravar os registros e somar um upsert por meta e bucket, em ordem de chave")
+    void shouldRecordEntriesAndUpsertRollups() {
+        // Given: dois incrementos da meta 2 no mesmo dia e um da meta 1 no dia seguinte
+        List<ProgressEntry> entries = List.of(
+                entry(2L, 3, 3, WEDNESDAY),
+                entry(2L, 2, 5, WEDNESDAY.plusHours(1)),
+                entry(1L, 1, 1, WEDNESDAY.plusDays(1)));
+
+        // When
+        service.record(entries);
+
+        // Then
+        InOrder order = inOrder(progressEntryRepository, progressRollupRepository);
+        order.verify(progressEntryRepository).insertAll(entries);
+        order.verify(progressRollupRepository).addEntries(eq(1L), eq(ProgressPeriod.DAY),
+                eq(WEDNESDAY.toLocalDate().plusDays(1)), eq("user123"), eq(1L), eq(1), eq(1), any());
+        order.verify(progressRollupRepository).addEntries(eq(1L), eq(ProgressPeriod.WEEK), eq(MONDAY),
+                eq("user123"), eq(1L), eq(1), eq(1), any());
+        order.verify(progressRollupRepository).addEntries(eq(2L), eq(ProgressPeriod.DAY),
+                eq(WEDNESDAY.toLocalDate()), eq("user123"), eq(5L), eq(2), eq(5), any());
+        order.verify(progressRollupRepository).addEntries(eq(2L), eq(ProgressPeriod.WEEK), eq(MONDAY),
+                eq("user123"), eq(5L), eq(2), eq(5), any());
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("Deve ler o histórico dos agregados, com as últimas 12 semanas por padrão")
+    void shouldReadHistoryFromRollups() {
+        // Given
+        LocalDate to = MONDAY.plusDays(3);
+        LocalDate from = MONDAY.minusWeeks(11);
+        when(goalRepository.existsByGoalIdAndUserId(1L, "user123")).thenReturn(true);
+        when(progressRollupRepository.findHistory(1L, ProgressPeriod.WEEK, from, to)).thenReturn(List.of(
+                ProgressRollup.builder().goalId(1L).period(ProgressPeriod.WEEK).bucketStart(MONDAY)
+                        .increment(5L).entries(2).completed(5).build()));
+
+        // When
+        ProgressHistoryResponse history = service.getHistory("user123", 1L, ProgressPeriod.WEEK, null, to);
+
+        // Then
+        assertThat(history.getFrom()).isEqualTo(from);
+        assertThat(history.getTo()).isEqualTo(to);
+        assertThat(history.getBuckets()).extracting(ProgressHistoryBucket::getBucketStart,
+                        ProgressHistoryBucket::getIncrement, ProgressHistoryBucket::getEntries)
+                .containsExactly(tuple(MONDAY, 5L, 2));
+    }
+
+    @Test
+    @DisplayName("Deve recusar intervalos inválidos, metas inexistentes e metas de outro usuário")
+    void shouldRejectInvalidRangesAndUnknownGoals() {
+        assertThatThrownBy(() -> service.getHistory("user123", 1L, ProgressPeriod.DAY, MONDAY, MONDAY.minusDays(1)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> service.getHistory("user123", 1L, ProgressPeriod.DAY, MONDAY, MONDAY.plusDays(366)))
+                .isInstanceOf(InvalidRequestException.class);
+        when(goalRepository.existsByGoalIdAndUserId(9L, "user123")).thenReturn(false);
+        assertThatThrownBy(() -> service.getHistory("user123", 9L, ProgressPeriod.DAY, MONDAY, MONDAY))
+                .isInstanceOf(GoalNotFoundException.class);
+        // Meta de outro usuário responde como inexistente
+        when(goalRepository.existsByGoalIdAndUserId(1L, "user456")).thenReturn(false);
+        assertThatThrownBy(() -> service.getHistory("user456", 1L, ProgressPeriod.DAY, MONDAY, MONDAY))
+                .isInstanceOf(GoalNotFoundException.class);
+        verifyNoInteractions(progressRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remover registros e agregados das metas excluídas")
+    void shouldDeleteHistoryOfDeletedGoals() {
+        // When
+        service.deleteForGoal(1L);
+        service.deleteForUser("user123", List.of(2L, 3L));
+        service.deleteForUser("user456", null);
+
+        // Then
+        verify(progressEntryRepository).deleteByGoalId(1L);
+        verify(progressRollupRepository).deleteByGoalId(1L);
+        verify(progressEntryRepository).deleteByGoalOwnerAndGoalIdIn("user123", List.of(2L, 3L));
+        verify(progressRollupRepository).deleteByGoalOwnerAndGoalIdIn("user123", List.of(2L, 3L));
+        verify(progressEntryRepository).deleteByGoalOwner("user456");
+        verify(progressRollupRepository).deleteByGoalOwner("user456");
+    }
+
+    @Test
+    @DisplayName("Deve compactar os registros antigos em blocos e liberar a lease")
+    @SuppressWarnings("unchecked")
+    void shouldCompactOldEntriesInChunks() {
+        // Given: blocos de 2 registros
+        LocalDateTime before = WEDNESDAY.minusDays(90);
+        when(jobLock.tryAcquire(eq("progress-compaction"), any(Duration.class))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(progressEntryRepository.findIdsRecordedBefore(before, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(progressEntryRepository.deleteByEntryIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(progressEntryRepository.deleteByEntryIdIn(List.of(3L))).thenReturn(1);
+
+        // When
+        int deleted = service.compact(before);
+
+        // Then
+        assertThat(deleted).isEqualTo(3);
+        verify(jobLock).release("progress-compaction");
+    }
+
+    @Test
+    @DisplayName("Não deve compactar quando outra instância detém a lease")
+    void shouldSkipCompactionWithoutLease() {
+        when(jobLock.tryAcquire(eq("progress-compaction"), any(Duration.class))).thenReturn(false);
+
+        assertThat(service.compact(WEDNESDAY)).isZero();
+        verifyNoInteractions(progressEntryRepository, transactionTemplate);
+    }
+
+    private static ProgressEntry entry(long goalId, int increment, int completed, LocalDateTime recordedAt) {
+        return ProgressEntry.builder()
+                .goalId(goalId)
+                .userId("user123")
+                .increment(increment)
+                .completed(completed)
+                .recordedAt(recordedAt)
+                .build();
+    }
+}
@@ -0,0 +1,308 @@
+package com.fiap.check.health.stream;
+
+import com.fiap.check.health.api.ChangeCursor;
+import com.fiap.check.health.api.GoalFields;
+import com.fiap.check.health.api.model.GoalChangesResponse;
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.config.Config;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.GoalChangedEvent.ChangeType;
+import com.fiap.check.health.event.GoalsExpiredEvent;
+import com.fiap.check.health.exception.SyncCursorExpiredException;
+import com.fiap.check.health.mapper.GoalMapper;
+import com.fiap.check.health.model.Progress;
+import com.fiap.check.health.persistence.entity.Goal;
+import com.fiap.check.health.persistence.repository.GoalChangeSequence;
+import com.fiap.check.health.service.GoalService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("GoalEventStream Tests")
+class GoalEventStreamTest {
+
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private GoalService goalService;
+    private GoalChangeSequence goalChangeSequence;
+    private SimpleMeterRegistry meterRegistry;
+    private GoalEventStream stream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        goalService = mock(GoalService.class);
+        goalChangeSequence = mock(GoalChangeSequence.class);
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new GoalEventStream(new GoalMapper(userId -> 1), goalService, goalChangeSequence,
+                Config.configure(new ObjectMapper()), meterRegistry, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                Duration.ofSeconds(3),
+                16, 100, 1, 2, Duration.ofMillis(200), 2);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(stream)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve enviar progresso e conclusão do usuário sem id")
+    void shouldStreamUserEventsWithoutIds() throws Exception {
+        // Given
+        MvcResult result = open("user123", null);
+
+        // When
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(1L, "user123", 10L, 5)));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.UPDATED, goal(1L, "user123", 11L, 5)));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(2L, "someoneElse", 12L, 1)));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.COMPLETED, goal(1L, "user123", 13L, 30)));
+
+        // Then
+        String body = awaitContent(result, "event:completed");
+        assertThat(body).contains("retry:3000", "event:progress\ndata:{", "event:completed\n");
+        assertThat(body).doesNotContain("id:", "event:updated", "\"goal_id\":\"2\"");
+        verifyNoInteractions(goalService);
+    }
+
+    @Test
+    @DisplayName("Deve levar no heartbeat só o cursor anterior ao horizonte seguro, sem pular sequências menores")
+    void shouldSendSettledCursorOnHeartbeat() throws Exception {
+        // Given: a meta 2 (seq 11) ainda está dentro do horizonte; a 1 (seq 12) e a 3 (seq 9) já assentaram
+        MvcResult result = open("user123", null);
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(1L, "user123", 12L, 5)));
+        Goal recent = goal(2L, "user123", 11L, 5);
+        recent.setChangedAt(CHANGED_AT.plusMinutes(1));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, recent));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(3L, "user123", 9L, 5)));
+        when(goalChangeSequence.safeHorizon()).thenReturn(CHANGED_AT.plusSeconds(30));
+
+        // When
+        stream.heartbeat();
+
+        // Then: o cursor para antes da seq 11
+        assertThat(awaitContent(result, ":heartbeat")).contains("id:9.3\n:heartbeat");
+
+        // When: a seq 11 assenta
+        when(goalChangeSequence.safeHorizon()).thenReturn(CHANGED_AT.plusMinutes(2));
+        stream.heartbeat();
+
+        // Then
+        assertThat(awaitContent(result, "id:12.1")).contains("id:12.1\n:heartbeat");
+    }
+
+    @Test
+    @DisplayName("Deve enviar as metas expiradas do usuário em um único evento sem id")
+    void shouldStreamExpiredGoals() throws Exception {
+        // Given
+        MvcResult result = open("user123", null);
+
+        // When
+        stream.onGoalsExpired(new GoalsExpiredEvent(Map.of("user123", List.of(3L, 1L), "someoneElse", List.of(2L))));
+
+        // Then
+        String body = awaitContent(result, "event:expired");
+        assertThat(body).contains("event:expired\ndata:{\"goal_ids\":[3,1]}");
+        assertThat(body).doesNotContain("id:");
+    }
+
+    @Test
+    @DisplayName("Deve reenviar as alterações perdidas após o Last-Event-ID em um único evento")
+    void shouldReplayMissedChangesOnReconnect() throws Exception {
+        // Given
+        GoalChangesResponse changes = GoalChangesResponse.builder()
+                .goals(List.of(GoalResponse.builder().goalId("1").title("Beber água").build()))
+                .deleted(List.of(4L))
+                .cursor("15.1")
+                .hasMore(false)
+                .build();
+        when(goalService.listChanges(eq("user123"), eq(new ChangeCursor(10, 1)), eq(100), any(GoalFields.class)))
+                .thenReturn(changes);
+
+        // When
+        MvcResult result = open("user123", "10.1");
+
+        // Then
+        String body = awaitContent(result, "event:changes");
+        assertThat(body).contains("id:15.1\nevent:changes\n", "\"deleted\":[4]", "\"has_more\":false");
+    }
+
+    @Test
+    @DisplayName("Deve pedir a sincronização completa quando o Last-Event-ID é anterior às exclusões retidas")
+    void shouldRequestFullResyncForExpiredLastEventId() throws Exception {
+        // Given
+        when(goalService.listChanges(eq("user123"), eq(new ChangeCursor(3, 1)), eq(100), any(GoalFields.class)))
+                .thenThrow(new SyncCursorExpiredException("3.1"));
+
+        // When
+        MvcResult result = open("user123", "3.1");
+
+        // Then: o id vazio apaga o Last-Event-ID e a conexão segue aberta
+        String body = awaitContent(result, "event:resync");
+        assertThat(body).contains("id:\nevent:resync\n");
+        assertThat(stream.connections("user123")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar as conexões no desligamento")
+    void shouldCloseConnectionsOnShutdown() throws Exception {
+        // Given
+        open("user123", null);
+        assertThat(stream.connections("user123")).isEqualTo(1);
+
+        // When
+        stream.shutdown();
+
+        // Then
+        assertThat(stream.connections("user123")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a conexão travada sem atrasar os envios das demais")
+    void shouldCloseStalledSubscriberWithoutBlockingOthers() throws Exception {
+        // Given: um único thread de envio e um cliente que não lê o socket
+        CountDownLatch release = new CountDownLatch(1);
+        stream.subscribe("slow", null, new StalledEmitter(release));
+        MvcResult result = open("user123", null);
+
+        // When
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(2L, "slow", 12L, 1)));
+        stream.onGoalChanged(GoalChangedEvent.of(ChangeType.PROGRESS, goal(1L, "user123", 10L, 5)));
+
+        // Then
+        String body = awaitContent(result, "event:progress");
+        release.countDown();
+        assertThat(body).contains("event:progress\n");
+        assertThat(stream.connections("slow")).isZero();
+        assertThat(stream.connections("user123")).isEqualTo(1);
+        assertThat(meterRegistry.get("goals.stream.dropped").tag("reason", "send-timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a conexão mais antiga do usuário acima do limite de conexões")
+    void shouldCloseOldestConnectionAboveLimit() {
+        // Given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter third = new RecordingEmitter();
+        stream.subscribe("user123", null, first);
+        stream.subscribe("user123", null, second);
+
+        // When
+        stream.subscribe("user123", null, third);
+
+        // Then
+        assertThat(stream.connections("user123")).isEqualTo(2);
+        assertThat(first.completed).isTrue();
+        assertThat(second.completed).isFalse();
+        assertThat(third.completed).isFalse();
+        assertThat(meterRegistry.get("goals.stream.dropped").tag("reason", "connection-limit").counter().count())
+                .isEqualTo(1);
+    }
+
+    private MvcResult open(String userId, String lastEventId) throws Exception {
+        var request = get("/stream").header("X-User", userId);
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    // Os envios saem do pool do stream; aguarda o evento esperado chegar à resposta
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    private static Goal goal(Long goalId, String userId, Long changeSeq, int completed) {
+        return Goal.builder()
+                .goalId(goalId)
+                .userId(userId)
+                .title("Meta " + goalId)
+                .status("active")
+                .changeSeq(changeSeq)
+                .changedAt(CHANGED_AT)
+                .progress(Progress.builder().completed(completed).total(30).build())
+                .build();
+    }
+
+    // Cliente que não lê o socket: a escrita fica presa até ser liberada
+    static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+
+        StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> datas) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+
+        private volatile boolean completed;
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final GoalEventStream stream;
+
+        StreamController(GoalEventStream stream) {
+            this.stream = stream;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestHeader("X-User") String userId,
+                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            return stream.subscribe(userId, ChangeCursor.parse(lastEventId));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.fiap.check.health.web;
+
+import com.fiap.check.health.api.model.GoalResponse;
+import com.fiap.check.health.cache.GoalReadCoalescer;
+import com.fiap.check.health.cache.GoalReadCoalescer.GoalKey;
+import com.fiap.check.health.cache.GoalResponseBodyCache;
+import com.fiap.check.health.event.GoalChangedEvent;
+import com.fiap.check.health.event.PointsAwardedEvent;
+import com.fiap.check.health.model.GoalCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrecompressedGoalResponseFilter Tests")
+class PrecompressedGoalResponseFilterTest {
+
+    private static final String BODY = "{\"goal_id\":\"1\",\"article\":\"" + "Caminhar faz bem. ".repeat(200) + "\"}";
+
+    private GoalResponseBodyCache cache;
+    private PrecompressedGoalResponseFilter filter;
+    private AtomicInteger controllerCalls;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GoalResponseBodyCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1),
+                Duration.ofMinutes(10), 9, DataSize.ofKilobytes(2));
+        filter = new PrecompressedGoalResponseFilter(cache);
+        controllerCalls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve servir o corpo pré-comprimido nas leituras seguintes")
+    void shouldServePrecompressedBodyFromCache() throws Exception {
+        // Given
+        MockHttpServletResponse first = get("/goals/1", "gzip, deflate");
+
+        // When
+        MockHttpServletResponse second = get("/goals/1", "gzip, deflate");
+
+        // Then
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(second.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(second.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(second.getContentAsByteArray().length).isLessThan(BODY.length() / 5);
+    }
+
+    @Test
+    @DisplayName("Deve servir o corpo sem compressão para clientes sem gzip")
+    void shouldServeIdentityBodyWithoutAcceptEncoding() throws Exception {
+        // Given
+        get("/goals/1", null);
+
+        // When
+        MockHttpServletResponse response = get("/goals/1", null);
+
+        // Then
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Não deve usar o cache para fields, CBOR ou outras rotas")
+    void shouldBypassCacheForOtherRequests() {
+        // Given
+        MockHttpServletRequest withFields = new MockHttpServletRequest("GET", "/goals/1");
+        withFields.setParameter("fields", "goal_id");
+        MockHttpServletRequest cbor = new MockHttpServletRequest("GET", "/goals/1");
+        cbor.addHeader("Accept", "application/cbor");
+
+        // Then
+        assertThat(filter.shouldNotFilter(withFields)).isTrue();
+        assertThat(filter.shouldNotFilter(cbor)).isTrue();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/goals/summary"))).isTrue();
+        assertThat(filter.shouldNotFilter(new MockHttpServletRequest("PUT", "/goals/1"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o corpo que uma leitura agrupada recebeu de um carregamento anterior à escrita")
+    void shouldNotCacheBodyJoinedFromLoadStartedBeforeWrite() throws Exception {
+        // Given: o leader começa a carregar a meta e fica preso na consulta
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GoalReadCoalescer coalescer = new GoalReadCoalescer(meterRegistry, cache);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServlet controller = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                controllerCalls.incrementAndGet();
+                coalescer.findById(new GoalKey(1L, true), () -> {
+                    loading.countDown();
+                    await(release);
+                    return Optional.empty();
+                });
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        CompletableFuture<Void> leader = CompletableFuture.runAsync(() -> get(controller), requests);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: a meta muda e uma segunda leitura se junta ao carregamento em andamento
+        cache.onGoalChanged(GoalChangedEvent.deleted(1L, "user1"));
+        CompletableFuture<Void> follower = CompletableFuture.runAsync(() -> get(controller), requests);
+        Counter joined = meterRegistry.get("check.health.read.coalescing")
+                .tags("operation", "goal-by-id", "role", "shared")
+                .counter();
+        for (int i = 0; i < 500 && joined.count() < 1; i++) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        CompletableFuture.allOf(leader, follower).get(5, TimeUnit.SECONDS);
+        requests.shutdown();
+
+        // Then: nenhuma das duas respostas foi guardada
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o corpo guardado quando o dono da meta recebe pontos")
+    void shouldDropCachedBodyWhenOwnerIsAwardedPoints() {
+        // Given: a leitura passa pelo coalescer, que registra o dono da meta
+        GoalReadCoalescer coalescer = new GoalReadCoalescer(new SimpleMeterRegistry(), cache);
+        HttpServlet controller = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                controllerCalls.incrementAndGet();
+                coalescer.findById(new GoalKey(1L, true),
+                        () -> Optional.of(GoalResponse.builder().goalId("1").userId("user123").build()));
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        get(controller);
+        assertThat(cache.get(1L).userId()).isEqualTo("user123");
+
+        // When
+        cache.onPointsAwarded(new PointsAwardedEvent("user123", 2L, GoalCategory.SONO, 50, LocalDateTime.now()));
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private void get(HttpServlet controller) {
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/goals/1"), new MockHttpServletResponse(),
+                    new MockFilterChain(controller));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MockHttpServletResponse get(String uri, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                controllerCalls.incrementAndGet();
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+}